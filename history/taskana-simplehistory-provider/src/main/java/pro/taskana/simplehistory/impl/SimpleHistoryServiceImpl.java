@@ -2,11 +2,14 @@ package pro.taskana.simplehistory.impl;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.List;
 
+import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.SystemException;
 import pro.taskana.history.api.TaskanaHistory;
 import pro.taskana.history.api.TaskanaHistoryEvent;
 import pro.taskana.simplehistory.impl.mappings.HistoryEventMapper;
@@ -57,6 +60,33 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
         }
     }
 
+    @Override
+    public void create(List<TaskanaHistoryEvent> events) {
+        try {
+            taskanaHistoryEngine.openConnection();
+            Instant now = Instant.now();
+            SqlSession batchSession = taskanaHistoryEngine.openBatchSession();
+            try {
+                HistoryEventMapper batchMapper = batchSession.getMapper(HistoryEventMapper.class);
+                for (TaskanaHistoryEvent event : events) {
+                    if (event.getCreated() == null) {
+                        event.setCreated(now);
+                    }
+                    batchMapper.insert(event);
+                }
+                batchSession.flushStatements();
+            } finally {
+                batchSession.close();
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Caught exception while creating {} history events", events.size(), e);
+            throw new SystemException("Could not create the history events", e);
+        } finally {
+            taskanaHistoryEngine.returnConnection();
+            LOGGER.debug("exit from create(List<TaskanaHistoryEvent> events). Created {} events.", events.size());
+        }
+    }
+
     public HistoryQuery createHistoryQuery() {
         return new HistoryQueryImpl(taskanaHistoryEngine, historyQueryMapper);
     }
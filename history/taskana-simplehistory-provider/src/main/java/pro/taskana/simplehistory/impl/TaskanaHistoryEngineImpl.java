@@ -4,14 +4,18 @@ import java.sql.SQLException;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
+import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
 import org.apache.ibatis.transaction.TransactionFactory;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
 
 import pro.taskana.configuration.TaskanaEngineConfiguration;
@@ -107,6 +111,20 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
         return this.sessionManager;
     }
 
+    /**
+     * Opens a session with a BATCH executor on the connection of the current session. The statements of the batch
+     * session are sent to the database on flushStatements and are committed together with the current session. The
+     * batch session must be closed before the connection is returned.
+     *
+     * @return the batch session
+     */
+    SqlSession openBatchSession() {
+        Configuration configuration = sessionManager.getConfiguration();
+        Executor executor = configuration.newExecutor(new ManagedTransaction(sessionManager.getConnection(), false),
+            ExecutorType.BATCH);
+        return new DefaultSqlSession(configuration, executor, false);
+    }
+
     /**
      * creates the MyBatis transaction factory.
      *
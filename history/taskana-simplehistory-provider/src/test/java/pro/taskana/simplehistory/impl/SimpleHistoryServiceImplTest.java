@@ -5,6 +5,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -12,6 +14,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionManager;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,6 +30,8 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import acceptance.AbstractAccTest;
 import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.SystemException;
+import pro.taskana.history.api.TaskanaHistoryEvent;
 import pro.taskana.simplehistory.impl.mappings.HistoryEventMapper;
 import pro.taskana.simplehistory.impl.mappings.HistoryQueryMapper;
 
@@ -58,6 +63,9 @@ public class SimpleHistoryServiceImplTest {
     @Mock
     private SqlSessionManager sqlSessionManagerMock;
 
+    @Mock
+    private SqlSession batchSessionMock;
+
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
@@ -105,6 +113,43 @@ public class SimpleHistoryServiceImplTest {
             assertNotNull(expectedWb.getCreated());
         }
 
+        @Test
+        public void testCreateEvents() throws SQLException {
+            HistoryEventImpl firstEvent = AbstractAccTest.createHistoryEvent("wbKey1", "taskId1", "type1",
+                "Some comment", "wbKey2");
+            HistoryEventImpl secondEvent = AbstractAccTest.createHistoryEvent("wbKey1", "taskId2", "type1",
+                "Some comment", "wbKey2");
+            List<TaskanaHistoryEvent> events = new ArrayList<>();
+            events.add(firstEvent);
+            events.add(secondEvent);
+
+            doReturn(batchSessionMock).when(taskanaHistoryEngineMock).openBatchSession();
+            doReturn(historyEventMapperMock).when(batchSessionMock).getMapper(HistoryEventMapper.class);
+
+            cutSpy.create(events);
+            verify(taskanaHistoryEngineMock, times(1)).openConnection();
+            verify(historyEventMapperMock, times(2)).insert(any());
+            verify(batchSessionMock, times(1)).flushStatements();
+            verify(batchSessionMock, times(1)).close();
+            verify(taskanaHistoryEngineMock, times(1)).returnConnection();
+            assertNotNull(firstEvent.getCreated());
+            assertNotNull(secondEvent.getCreated());
+        }
+
+        @Test(expected = SystemException.class)
+        public void testCreateEventsRethrowsSqlException() throws SQLException {
+            List<TaskanaHistoryEvent> events = new ArrayList<>();
+            events.add(AbstractAccTest.createHistoryEvent("wbKey1", "taskId1", "type1", "Some comment", "wbKey2"));
+            doThrow(new SQLException("connection failed")).when(taskanaHistoryEngineMock).openConnection();
+
+            try {
+                cutSpy.create(events);
+            } finally {
+                verify(historyEventMapperMock, never()).insert(any());
+                verify(taskanaHistoryEngineMock, times(1)).returnConnection();
+            }
+        }
+
         @Test
         public void testQueryEvent() throws SQLException {
             List<HistoryEventImpl> returnList = new ArrayList<>();
@@ -0,0 +1,60 @@
+package pro.taskana.benchmarks;
+
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+
+/**
+ * The databases the benchmarks can run against. The in memory H2 database needs no setup. The connection to the
+ * Postgres database defaults to the container that is started by ci/prepare_db.sh POSTGRES_10_4 and can be changed
+ * with the system properties taskana.benchmark.postgres.jdbcUrl, taskana.benchmark.postgres.dbUserName,
+ * taskana.benchmark.postgres.dbPassword and taskana.benchmark.postgres.schemaName.
+ */
+public enum BenchmarkDatabase {
+
+    H2("org.h2.Driver", "jdbc:h2:mem:taskana-benchmark;IGNORECASE=TRUE;LOCK_MODE=0", "sa", "sa", "TASKANA"),
+    POSTGRES("org.postgresql.Driver", "jdbc:postgresql://localhost:50102/postgres", "postgres", "postgres",
+        "taskana");
+
+    private final String jdbcDriver;
+    private final String jdbcUrl;
+    private final String dbUserName;
+    private final String dbPassword;
+    private final String schemaName;
+
+    BenchmarkDatabase(String jdbcDriver, String jdbcUrl, String dbUserName, String dbPassword, String schemaName) {
+        this.jdbcDriver = jdbcDriver;
+        this.jdbcUrl = jdbcUrl;
+        this.dbUserName = dbUserName;
+        this.dbPassword = dbPassword;
+        this.schemaName = schemaName;
+    }
+
+    /**
+     * Returns the database with the given name.
+     *
+     * @param name
+     *            the name of the database, e.g. h2 or postgres
+     * @return the database
+     */
+    public static BenchmarkDatabase of(String name) {
+        return valueOf(name.toUpperCase(Locale.ENGLISH));
+    }
+
+    public DataSource createDataSource() {
+        return new PooledDataSource(Thread.currentThread().getContextClassLoader(), jdbcDriver,
+            getProperty("jdbcUrl", jdbcUrl), getProperty("dbUserName", dbUserName),
+            getProperty("dbPassword", dbPassword));
+    }
+
+    public String getSchemaName() {
+        return getProperty("schemaName", schemaName);
+    }
+
+    private String getProperty(String key, String defaultValue) {
+        return System.getProperty("taskana.benchmark." + name().toLowerCase(Locale.ENGLISH) + "." + key,
+            defaultValue);
+    }
+}
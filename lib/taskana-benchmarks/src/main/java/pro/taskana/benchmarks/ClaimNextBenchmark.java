@@ -0,0 +1,71 @@
+package pro.taskana.benchmarks;
+
+import java.security.PrivilegedActionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.BaseQuery.SortDirection;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+
+/**
+ * Benchmark of claimNext with concurrent claimers, which all ask for the next ready task of the same workbasket. Each
+ * claimed task is released again by cancelClaim, so the claimers keep competing for the first tasks of the workbasket.
+ * The counters report how often a claimer got a task and how often it got none although ready tasks were left. The
+ * number of claimers is changed with the JMH option -t.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class ClaimNextBenchmark {
+
+    @Benchmark
+    public Task claimNextAndCancelClaim(TaskanaEngineState state, ClaimCounters counters)
+        throws PrivilegedActionException {
+        return state.runAs(() -> {
+            TaskService taskService = state.getTaskService();
+            Task task = taskService.claimNext(taskService.createTaskQuery()
+                .workbasketKeyDomainIn(TaskanaEngineState.GROUP_WORKBASKET)
+                .orderByDue(SortDirection.ASCENDING));
+            if (task == null) {
+                counters.noTask++;
+                return null;
+            }
+            counters.claimed++;
+            return taskService.cancelClaim(task.getId());
+        });
+    }
+
+    /**
+     * The outcomes of the claimNext calls of a benchmark thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ClaimCounters {
+
+        public long claimed;
+        public long noTask;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            claimed = 0;
+            noTask = 0;
+        }
+    }
+}
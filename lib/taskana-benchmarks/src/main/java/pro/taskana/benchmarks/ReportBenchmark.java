@@ -0,0 +1,83 @@
+package pro.taskana.benchmarks;
+
+import java.security.PrivilegedActionException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.TaskMonitorService;
+import pro.taskana.impl.report.header.TimeIntervalColumnHeader;
+import pro.taskana.report.ClassificationReport;
+import pro.taskana.report.TaskStatusReport;
+import pro.taskana.report.TimestampReport;
+import pro.taskana.report.WorkbasketReport;
+
+/**
+ * Benchmarks of the report builders of the monitor. The reports cover all tasks of the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportBenchmark {
+
+    private static final List<TimeIntervalColumnHeader> COLUMN_HEADERS = Arrays.asList(
+        new TimeIntervalColumnHeader(Integer.MIN_VALUE, -11),
+        new TimeIntervalColumnHeader(-10, -6),
+        new TimeIntervalColumnHeader(-5, -2),
+        new TimeIntervalColumnHeader(-1),
+        new TimeIntervalColumnHeader(0),
+        new TimeIntervalColumnHeader(1),
+        new TimeIntervalColumnHeader(2, 5),
+        new TimeIntervalColumnHeader(6, 10),
+        new TimeIntervalColumnHeader(11, Integer.MAX_VALUE));
+
+    @Benchmark
+    public WorkbasketReport buildWorkbasketReport(TaskanaEngineState state) throws PrivilegedActionException {
+        return state.runAs(() -> getTaskMonitorService(state).createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport());
+    }
+
+    @Benchmark
+    public WorkbasketReport buildWorkbasketReportInWorkingDays(TaskanaEngineState state)
+        throws PrivilegedActionException {
+        return state.runAs(() -> getTaskMonitorService(state).createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .inWorkingDays()
+            .buildReport());
+    }
+
+    @Benchmark
+    public ClassificationReport buildClassificationReport(TaskanaEngineState state)
+        throws PrivilegedActionException {
+        return state.runAs(() -> getTaskMonitorService(state).createClassificationReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport());
+    }
+
+    @Benchmark
+    public TaskStatusReport buildTaskStatusReport(TaskanaEngineState state) throws PrivilegedActionException {
+        return state.runAs(() -> getTaskMonitorService(state).createTaskStatusReportBuilder().buildReport());
+    }
+
+    @Benchmark
+    public TimestampReport buildTimestampReport(TaskanaEngineState state) throws PrivilegedActionException {
+        return state.runAs(() -> getTaskMonitorService(state).createTimestampReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport());
+    }
+
+    private TaskMonitorService getTaskMonitorService(TaskanaEngineState state) {
+        return state.getTaskanaEngine().getTaskMonitorService();
+    }
+}
@@ -0,0 +1,64 @@
+package pro.taskana.benchmarks;
+
+import java.security.PrivilegedActionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pro.taskana.ClassificationService;
+import pro.taskana.TaskanaEngine;
+
+/**
+ * Benchmarks of the per call overhead of the engine, i.e. the opening and closing of the database session around
+ * each api call, with and without a request scope that keeps one session across the calls of a request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestScopeBenchmark {
+
+    private static final int CALLS_PER_REQUEST = 10;
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS_PER_REQUEST)
+    public void callsWithoutRequestScope(TaskanaEngineState state, Blackhole blackhole)
+        throws PrivilegedActionException {
+        state.runAs(() -> {
+            getClassifications(state.getTaskanaEngine().getClassificationService(), blackhole);
+            return null;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS_PER_REQUEST)
+    public void callsWithinRequestScope(TaskanaEngineState state, Blackhole blackhole)
+        throws PrivilegedActionException {
+        state.runAs(() -> {
+            TaskanaEngine taskanaEngine = state.getTaskanaEngine();
+            taskanaEngine.openRequestScope();
+            try {
+                getClassifications(taskanaEngine.getClassificationService(), blackhole);
+            } finally {
+                taskanaEngine.closeRequestScope();
+            }
+            return null;
+        });
+    }
+
+    private void getClassifications(ClassificationService classificationService, Blackhole blackhole)
+        throws Exception {
+        for (int i = 0; i < CALLS_PER_REQUEST; i++) {
+            blackhole.consume(classificationService.getClassification("L10000", "DOMAIN_A"));
+        }
+    }
+}
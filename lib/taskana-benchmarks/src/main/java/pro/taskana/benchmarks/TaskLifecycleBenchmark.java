@@ -0,0 +1,104 @@
+package pro.taskana.benchmarks;
+
+import java.security.PrivilegedActionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+
+/**
+ * Benchmarks of the life cycle of a task: create, claim and complete. The tasks that are claimed or completed are
+ * prepared before each invocation and are not part of the measured time. Every invocation adds a task to the
+ * database, so the data grows slightly beyond {@link TaskanaEngineState#taskCount} during a run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskLifecycleBenchmark {
+
+    @Benchmark
+    public Task createTask(TaskanaEngineState state, TaskNumber taskNumber) throws PrivilegedActionException {
+        return state.runAs(() -> state.createTask(TaskanaEngineState.GROUP_WORKBASKET, taskNumber.next()));
+    }
+
+    @Benchmark
+    public Task claim(TaskanaEngineState state, ReadyTask readyTask) throws PrivilegedActionException {
+        return state.runAs(() -> state.getTaskService().claim(readyTask.taskId));
+    }
+
+    @Benchmark
+    public Task completeTask(TaskanaEngineState state, ClaimedTask claimedTask) throws PrivilegedActionException {
+        return state.runAs(() -> state.getTaskService().completeTask(claimedTask.taskId));
+    }
+
+    @Benchmark
+    public Task createClaimAndCompleteTask(TaskanaEngineState state, TaskNumber taskNumber)
+        throws PrivilegedActionException {
+        return state.runAs(() -> {
+            TaskService taskService = state.getTaskService();
+            Task task = state.createTask(TaskanaEngineState.GROUP_WORKBASKET, taskNumber.next());
+            taskService.claim(task.getId());
+            return taskService.completeTask(task.getId());
+        });
+    }
+
+    /**
+     * The number of the next task that is created by a benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class TaskNumber {
+
+        private int number;
+
+        int next() {
+            return number++;
+        }
+    }
+
+    /**
+     * A ready task that is created before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class ReadyTask {
+
+        String taskId;
+        private int number;
+
+        @Setup(Level.Invocation)
+        public void createTask(TaskanaEngineState state) throws PrivilegedActionException {
+            taskId = state.runAs(() -> state.createTask(TaskanaEngineState.GROUP_WORKBASKET, number++)).getId();
+        }
+    }
+
+    /**
+     * A task that is created and claimed by the benchmark user before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class ClaimedTask {
+
+        String taskId;
+        private int number;
+
+        @Setup(Level.Invocation)
+        public void createAndClaimTask(TaskanaEngineState state) throws PrivilegedActionException {
+            taskId = state.runAs(() -> {
+                Task task = state.createTask(TaskanaEngineState.GROUP_WORKBASKET, number++);
+                return state.getTaskService().claim(task.getId());
+            }).getId();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package pro.taskana.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.PrivilegedActionException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import pro.taskana.BaseQuery.SortDirection;
+import pro.taskana.TaskQuery;
+import pro.taskana.TaskQueryColumnName;
+import pro.taskana.TaskQueryRow;
+import pro.taskana.TaskState;
+import pro.taskana.TaskSummary;
+
+/**
+ * Benchmarks of the serialization of the task lists, i.e. of the payload of a page of full task summaries, of the
+ * same page as newline delimited JSON like the stream of the tasks and of a projection of the page to a few fields
+ * that are read as columns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPayloadBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Benchmark
+    public byte[] writeTaskSummaries(PayloadState payload) throws IOException {
+        return payload.taskSummaryWriter.writeValueAsBytes(payload.taskSummaries);
+    }
+
+    @Benchmark
+    public byte[] writeTaskSummariesAsNdjson(PayloadState payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SequenceWriter sequenceWriter = payload.ndjsonWriter.writeValues(out)) {
+            for (TaskSummary taskSummary : payload.taskSummaries) {
+                sequenceWriter.write(taskSummary);
+                out.write('\n');
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeProjection(PayloadState payload) throws IOException {
+        return payload.projectionWriter.writeValueAsBytes(payload.projection);
+    }
+
+    /**
+     * A page of the ready tasks of the group workbasket, once as task summaries with their details and once as the
+     * rows of the projected columns.
+     */
+    @State(Scope.Benchmark)
+    public static class PayloadState {
+
+        private static final TaskQueryColumnName[] PROJECTED_COLUMNS = {
+            TaskQueryColumnName.ID, TaskQueryColumnName.NAME, TaskQueryColumnName.DUE, TaskQueryColumnName.STATE,
+            TaskQueryColumnName.PRIORITY};
+
+        private List<TaskSummary> taskSummaries;
+        private List<Map<String, Object>> projection;
+        private ObjectWriter taskSummaryWriter;
+        private ObjectWriter ndjsonWriter;
+        private ObjectWriter projectionWriter;
+
+        @Setup(Level.Trial)
+        public void setup(TaskanaEngineState state) throws PrivilegedActionException {
+            taskSummaries = state.runAs(() -> readyTasksOfGroupWorkbasket(state).listPage(1, PAGE_SIZE));
+            List<TaskQueryRow> rows = state.runAs(
+                () -> readyTasksOfGroupWorkbasket(state).listColumns(0, PAGE_SIZE, PROJECTED_COLUMNS));
+            projection = rows.stream().map(PayloadState::project).collect(Collectors.toList());
+
+            ObjectMapper mapper = new ObjectMapper().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+            taskSummaryWriter = mapper.writerFor(mapper.getTypeFactory()
+                .constructCollectionType(List.class, TaskSummary.class));
+            ndjsonWriter = mapper.writerFor(TaskSummary.class)
+                .withRootValueSeparator((String) null)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            projectionWriter = mapper.writer();
+        }
+
+        private static Map<String, Object> project(TaskQueryRow row) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            for (TaskQueryColumnName column : PROJECTED_COLUMNS) {
+                fields.put(column.name(), row.get(column));
+            }
+            return fields;
+        }
+
+        private static TaskQuery readyTasksOfGroupWorkbasket(TaskanaEngineState state) {
+            return state.getTaskService()
+                .createTaskQuery()
+                .workbasketKeyDomainIn(TaskanaEngineState.GROUP_WORKBASKET)
+                .stateIn(TaskState.READY)
+                .orderByDue(SortDirection.ASCENDING);
+        }
+    }
+}
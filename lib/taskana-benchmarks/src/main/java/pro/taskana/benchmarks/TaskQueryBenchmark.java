@@ -0,0 +1,74 @@
+package pro.taskana.benchmarks;
+
+import java.security.PrivilegedActionException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.BaseQuery.SortDirection;
+import pro.taskana.QueryPage;
+import pro.taskana.TaskQuery;
+import pro.taskana.TaskState;
+import pro.taskana.TaskSummary;
+
+/**
+ * Benchmarks of the task query, which serves the task lists of the workbaskets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskQueryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Benchmark
+    public List<TaskSummary> listPage(TaskanaEngineState state) throws PrivilegedActionException {
+        return state.runAs(() -> readyTasksOfGroupWorkbasket(state).listPage(1, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<TaskSummary> listPageWithLazyDetails(TaskanaEngineState state) throws PrivilegedActionException {
+        return state.runAs(() -> readyTasksOfGroupWorkbasket(state)
+            .withLazyDetails()
+            .listPage(1, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public QueryPage<TaskSummary> listPageWithTotalCount(TaskanaEngineState state)
+        throws PrivilegedActionException {
+        return state.runAs(() -> readyTasksOfGroupWorkbasket(state).listPageWithTotalCount(1, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public QueryPage<TaskSummary> listPageWithoutTotalCount(TaskanaEngineState state)
+        throws PrivilegedActionException {
+        return state.runAs(() -> readyTasksOfGroupWorkbasket(state).listPageWithoutTotalCount(1, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public long count(TaskanaEngineState state) throws PrivilegedActionException {
+        return state.runAs(() -> readyTasksOfGroupWorkbasket(state).count());
+    }
+
+    @Benchmark
+    public List<String> listIds(TaskanaEngineState state) throws PrivilegedActionException {
+        return state.runAs(() -> readyTasksOfGroupWorkbasket(state).listIds());
+    }
+
+    private TaskQuery readyTasksOfGroupWorkbasket(TaskanaEngineState state) {
+        return state.getTaskService()
+            .createTaskQuery()
+            .workbasketKeyDomainIn(TaskanaEngineState.GROUP_WORKBASKET)
+            .stateIn(TaskState.READY)
+            .orderByDue(SortDirection.ASCENDING);
+    }
+}
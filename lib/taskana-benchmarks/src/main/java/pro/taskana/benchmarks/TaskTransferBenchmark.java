@@ -0,0 +1,79 @@
+package pro.taskana.benchmarks;
+
+import java.security.PrivilegedActionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.BulkOperationResults;
+import pro.taskana.KeyDomain;
+import pro.taskana.Task;
+import pro.taskana.exceptions.TaskanaException;
+
+/**
+ * Benchmarks of the transfer of tasks. The tasks are transferred back and forth between the group workbasket and the
+ * personal workbasket of the benchmark user, so the data does not change in size during a run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskTransferBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Benchmark
+    public Task transfer(TaskanaEngineState state, TransferredTasks tasks) throws PrivilegedActionException {
+        KeyDomain destination = tasks.nextDestination();
+        return state.runAs(() -> state.getTaskService()
+            .transfer(tasks.taskIds.get(0), destination.getKey(), destination.getDomain()));
+    }
+
+    @Benchmark
+    public BulkOperationResults<String, TaskanaException> transferTasks(TaskanaEngineState state,
+        TransferredTasks tasks) throws PrivilegedActionException {
+        KeyDomain destination = tasks.nextDestination();
+        return state.runAs(() -> state.getTaskService()
+            .transferTasks(destination.getKey(), destination.getDomain(), tasks.taskIds));
+    }
+
+    /**
+     * Tasks that are created in the group workbasket and are transferred back and forth.
+     */
+    @State(Scope.Thread)
+    public static class TransferredTasks {
+
+        List<String> taskIds;
+        private boolean inGroupWorkbasket;
+
+        @Setup(Level.Trial)
+        public void createTasks(TaskanaEngineState state) throws PrivilegedActionException {
+            taskIds = state.runAs(() -> {
+                List<String> ids = new ArrayList<>();
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    ids.add(state.createTask(TaskanaEngineState.GROUP_WORKBASKET, i).getId());
+                }
+                return ids;
+            });
+            inGroupWorkbasket = true;
+        }
+
+        KeyDomain nextDestination() {
+            inGroupWorkbasket = !inGroupWorkbasket;
+            return inGroupWorkbasket ? TaskanaEngineState.GROUP_WORKBASKET : TaskanaEngineState.PERSONAL_WORKBASKET;
+        }
+    }
+}
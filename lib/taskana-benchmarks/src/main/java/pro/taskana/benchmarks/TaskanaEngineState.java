@@ -0,0 +1,133 @@
+package pro.taskana.benchmarks;
+
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+
+import javax.security.auth.Subject;
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pro.taskana.KeyDomain;
+import pro.taskana.ObjectReference;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.TaskanaException;
+import pro.taskana.impl.util.RandomIdGenerationStrategy;
+import pro.taskana.impl.util.TimeOrderedIdGenerationStrategy;
+import pro.taskana.sampledata.SampleDataGenerator;
+import pro.taskana.security.UserPrincipal;
+
+/**
+ * The taskana engine the benchmarks run against. The database is filled with the sample data of taskana-data and
+ * scaled with {@link #taskCount} additional tasks, which are distributed over the group workbasket and the personal
+ * workbasket of the benchmark user. {@link #idStrategy} selects the strategy of the ids of the created tasks, RANDOM
+ * or TIME_ORDERED.
+ */
+@State(Scope.Benchmark)
+public class TaskanaEngineState {
+
+    public static final String USER_ID = "teamlead_1";
+    public static final KeyDomain GROUP_WORKBASKET = new KeyDomain("GPK_KSC", "DOMAIN_A");
+    public static final KeyDomain PERSONAL_WORKBASKET = new KeyDomain("TEAMLEAD_1", "DOMAIN_A");
+
+    private static final String[] CLASSIFICATION_KEYS = {"L10000", "L11010", "L12010", "T2100"};
+    private static final int DAYS_OF_PLANNED_TASKS = 30;
+    private static final String ID_STRATEGY_RANDOM = "RANDOM";
+    private static final String ID_STRATEGY_TIME_ORDERED = "TIME_ORDERED";
+
+    @Param({"h2"})
+    public String database;
+
+    @Param({"1000", "10000"})
+    public int taskCount;
+
+    @Param({ID_STRATEGY_RANDOM})
+    public String idStrategy;
+
+    private TaskanaEngine taskanaEngine;
+    private Subject subject;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException, PrivilegedActionException {
+        BenchmarkDatabase benchmarkDatabase = BenchmarkDatabase.of(database);
+        DataSource dataSource = benchmarkDatabase.createDataSource();
+        String schemaName = benchmarkDatabase.getSchemaName();
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(dataSource, false, schemaName);
+        configuration.setIdGenerationStrategy(ID_STRATEGY_TIME_ORDERED.equals(idStrategy)
+            ? new TimeOrderedIdGenerationStrategy() : new RandomIdGenerationStrategy());
+        taskanaEngine = configuration.buildTaskanaEngine();
+        taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        new SampleDataGenerator(dataSource, schemaName).generateSampleData();
+
+        subject = new Subject();
+        subject.getPrincipals().add(new UserPrincipal(USER_ID));
+        runAs(() -> {
+            for (int i = 0; i < taskCount; i++) {
+                createTask(i % 2 == 0 ? GROUP_WORKBASKET : PERSONAL_WORKBASKET, i);
+            }
+            return null;
+        });
+    }
+
+    public TaskanaEngine getTaskanaEngine() {
+        return taskanaEngine;
+    }
+
+    public TaskService getTaskService() {
+        return taskanaEngine.getTaskService();
+    }
+
+    /**
+     * Runs an action as the benchmark user. The services of the engine determine the current user from the JAAS
+     * subject, therefore all calls of the services have to be wrapped.
+     *
+     * @param action
+     *            the action
+     * @param <T>
+     *            the type of the result of the action
+     * @return the result of the action
+     * @throws PrivilegedActionException
+     *             if the action throws an exception
+     */
+    public <T> T runAs(PrivilegedExceptionAction<T> action) throws PrivilegedActionException {
+        return Subject.doAs(subject, action);
+    }
+
+    /**
+     * Creates a task in a workbasket. Has to be run as the benchmark user.
+     *
+     * @param workbasket
+     *            the key and domain of the workbasket
+     * @param number
+     *            the number of the task, which determines its classification, its planned date and the value of its
+     *            primary object reference
+     * @return the created task
+     * @throws TaskanaException
+     *             if the task cannot be created
+     */
+    public Task createTask(KeyDomain workbasket, int number) throws TaskanaException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.newTask(workbasket.getKey(), workbasket.getDomain());
+        task.setClassificationKey(CLASSIFICATION_KEYS[number % CLASSIFICATION_KEYS.length]);
+        ObjectReference objectReference = new ObjectReference();
+        objectReference.setCompany("BENCHMARK");
+        objectReference.setSystem("SYSTEM");
+        objectReference.setSystemInstance("INSTANCE");
+        objectReference.setType("TYPE");
+        objectReference.setValue(String.valueOf(number));
+        task.setPrimaryObjRef(objectReference);
+        task.setPlanned(Instant.now().minus(Duration.ofDays(number % DAYS_OF_PLANNED_TASKS)));
+        return taskService.createTask(task);
+    }
+}
@@ -1,5 +1,6 @@
 package pro.taskana;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -65,6 +66,47 @@ public interface BaseQuery<T, U extends Enum<U> & QueryColumnName> {
         return list(offset, limit);
     }
 
+    /**
+     * This method will return the results for page X with a size of Y of the current query together with the total
+     * number of results. Implementations may determine both with a single statement, the default implementation runs
+     * {@link #count()} and {@link #listPage(int, int)}. In case of a TaskQuery, this method can throw a
+     * NotAuthorizedToQueryWorkbasketException.
+     *
+     * @param pageNumber
+     *            current pagination page starting at 1.
+     * @param pageSize
+     *            amount of elements for this page.
+     * @return the results of the page and the total number of results of the query.
+     */
+    default QueryPage<T> listPageWithTotalCount(int pageNumber, int pageSize) {
+        int offset = (pageNumber < 1) ? 0 : ((pageNumber - 1) * pageSize);
+        long totalCount = count();
+        List<T> items = listPage(pageNumber, pageSize);
+        return new QueryPage<>(items, totalCount, offset + items.size() < totalCount);
+    }
+
+    /**
+     * This method will return the results for page X with a size of Y of the current query without counting all
+     * results. Whether there is a next page is determined by reading one more result than requested. In case of a
+     * TaskQuery, this method can throw a NotAuthorizedToQueryWorkbasketException.
+     *
+     * @param pageNumber
+     *            current pagination page starting at 1.
+     * @param pageSize
+     *            amount of elements for this page.
+     * @return the results of the page, the total number of results is {@link QueryPage#TOTAL_COUNT_UNKNOWN}.
+     */
+    default QueryPage<T> listPageWithoutTotalCount(int pageNumber, int pageSize) {
+        int offset = (pageNumber < 1) ? 0 : ((pageNumber - 1) * pageSize);
+        int limit = (pageSize < 0) ? 0 : pageSize;
+        List<T> items = list(offset, limit == Integer.MAX_VALUE ? limit : limit + 1);
+        boolean hasNext = items.size() > limit;
+        if (hasNext) {
+            items = new ArrayList<>(items.subList(0, limit));
+        }
+        return new QueryPage<>(items, QueryPage.TOTAL_COUNT_UNKNOWN, hasNext);
+    }
+
     /**
      * This method will return a single object of {@link T}. In case of a TaskQuery, this method can throw a
      * NotAuthorizedToQueryWorkbasketException.
@@ -0,0 +1,61 @@
+package pro.taskana;
+
+import pro.taskana.exceptions.TaskanaException;
+
+/**
+ * Result of a chunked callback state update. In addition to the errors of the failed external ids, it contains the
+ * aggregated counts of the whole run.
+ */
+public class CallbackStateUpdateResults extends BulkOperationResults<String, TaskanaException> {
+
+    private long processedCount;
+    private long updatedCount;
+    private int chunkCount;
+
+    /**
+     * Returns the number of external ids that were read from the input.
+     *
+     * @return the number of processed external ids
+     */
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    /**
+     * Returns the number of task rows whose callback state was updated.
+     *
+     * @return the number of updated tasks
+     */
+    public long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    /**
+     * Returns the number of chunks in which the input was processed.
+     *
+     * @return the number of chunks
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Adds the counts of one processed chunk.
+     *
+     * @param processed
+     *            the number of external ids in the chunk
+     * @param updated
+     *            the number of updated tasks of the chunk
+     */
+    public void addChunk(int processed, int updated) {
+        this.processedCount += processed;
+        this.updatedCount += updated;
+        this.chunkCount++;
+    }
+
+    @Override
+    public String toString() {
+        return "CallbackStateUpdateResults [processedCount=" + processedCount + ", updatedCount=" + updatedCount
+            + ", chunkCount=" + chunkCount + ", failedIds=" + getErrorMap().size() + "]";
+    }
+}
@@ -0,0 +1,101 @@
+package pro.taskana;
+
+import java.time.Duration;
+
+/**
+ * Result of an import of classifications. It contains the counts of the imported classifications and the throughput
+ * of the import.
+ */
+public class ClassificationImportResult {
+
+    private long createdCount;
+    private long updatedCount;
+    private long unchangedCount;
+    private int chunkCount;
+    private Duration duration = Duration.ZERO;
+
+    /**
+     * Returns the number of classifications that were created, including the classifications that were created in
+     * the master domain.
+     *
+     * @return the number of created classifications
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Returns the number of existing classifications that were updated.
+     *
+     * @return the number of updated classifications
+     */
+    public long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    /**
+     * Returns the number of existing classifications that were skipped, because the import did not change them.
+     *
+     * @return the number of unchanged classifications
+     */
+    public long getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    /**
+     * Returns the number of chunks in which the classifications were written.
+     *
+     * @return the number of chunks
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns the time the whole import took.
+     *
+     * @return the duration of the import
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the number of processed classifications per second.
+     *
+     * @return the throughput of the import
+     */
+    public double getClassificationsPerSecond() {
+        long processed = createdCount + updatedCount + unchangedCount;
+        long millis = Math.max(duration.toMillis(), 1);
+        return processed * 1000.0 / millis;
+    }
+
+    /**
+     * Adds the counts of one written chunk.
+     *
+     * @param created
+     *            the number of created classifications of the chunk
+     * @param updated
+     *            the number of updated classifications of the chunk
+     */
+    public void addChunk(int created, int updated) {
+        this.createdCount += created;
+        this.updatedCount += updated;
+        this.chunkCount++;
+    }
+
+    public void setUnchangedCount(long unchangedCount) {
+        this.unchangedCount = unchangedCount;
+    }
+
+    public void setDuration(Duration duration) {
+        this.duration = duration;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassificationImportResult [createdCount=" + createdCount + ", updatedCount=" + updatedCount
+            + ", unchangedCount=" + unchangedCount + ", chunkCount=" + chunkCount + ", duration=" + duration + "]";
+    }
+}
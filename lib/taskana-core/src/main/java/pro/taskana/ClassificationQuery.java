@@ -1,5 +1,7 @@
 package pro.taskana;
 
+import java.util.List;
+
 import pro.taskana.exceptions.InvalidArgumentException;
 
 /**
@@ -300,4 +302,18 @@ public interface ClassificationQuery extends BaseQuery<ClassificationSummary, Cl
      */
     ClassificationQuery orderByCustomAttribute(String num, SortDirection sortDirection) throws InvalidArgumentException;
 
+    /**
+     * Lists a chunk of the classifications of the query in the order of their ids, beginning after the given id. The
+     * sorting of the query is ignored. Other than {@link #list(int, int)} the chunk is selected by the last id of the
+     * previous chunk instead of an offset, so paging through all classifications neither skips nor repeats one and the
+     * database does not read the classifications of the previous chunks again.
+     *
+     * @param afterId
+     *            the id of the last classification of the previous chunk or null for the first chunk
+     * @param chunkSize
+     *            the maximum number of classifications of the chunk
+     * @return the classifications of the chunk, which are fewer than the chunk size only for the last chunk
+     */
+    List<ClassificationSummary> listAfterId(String afterId, int chunkSize);
+
 }
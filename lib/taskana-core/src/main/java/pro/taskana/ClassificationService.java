@@ -1,5 +1,8 @@
 package pro.taskana;
 
+import java.time.Instant;
+import java.util.List;
+
 import pro.taskana.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.exceptions.ClassificationInUseException;
 import pro.taskana.exceptions.ClassificationNotFoundException;
@@ -38,6 +41,28 @@ public interface ClassificationService {
      */
     Classification getClassification(String id) throws ClassificationNotFoundException;
 
+    /**
+     * Get the time of the last modification of a Classification. This is a lightweight alternative to
+     * {@link #getClassification(String)} that allows clients to detect whether a Classification has changed.
+     *
+     * @param id
+     *            the id of the searched-for classification
+     * @return the modification timestamp of the classification
+     * @throws ClassificationNotFoundException
+     *             if no classification is found that matches the id.
+     */
+    Instant getClassificationModified(String id) throws ClassificationNotFoundException;
+
+    /**
+     * Get the Classifications with the given ids with a single query. Ids of Classifications that do not exist are
+     * ignored.
+     *
+     * @param ids
+     *            the ids of the searched-for classifications
+     * @return the classifications in the order of the given ids
+     */
+    List<Classification> getClassifications(List<String> ids);
+
     /**
      * Delete a classification with all child classifications.
      *
@@ -109,6 +134,37 @@ public interface ClassificationService {
     Classification updateClassification(Classification classification)
         throws ClassificationNotFoundException, NotAuthorizedException, ConcurrencyException, InvalidArgumentException;
 
+    /**
+     * Imports classifications. Classifications that already exist with the same key and domain are updated, all
+     * others are created, together with their counterpart in the master domain if that does not exist yet. The ids,
+     * creation and modification timestamps of the given classifications are ignored. The parent of a classification
+     * is identified by its parent key within the domain of the classification, the parent may be part of the import.
+     * If the parent can be found neither in the import nor in the domain, the classification is imported without a
+     * parent.<br>
+     * The existing classifications of the affected domains are read once into an in-memory index, which is used for
+     * all checks and the resolution of the parents. The classifications are then written in JDBC batches. If chunkSize
+     * is positive, every chunk of chunkSize classifications is written with its own connection, i.e. it is committed
+     * separately in connection management mode AUTOCOMMIT. Otherwise all classifications are written in a single
+     * transaction.
+     *
+     * @param classifications
+     *            the classifications to import. Each key and domain must occur only once.
+     * @param chunkSize
+     *            the number of classifications that are committed together, or 0 to import all classifications in a
+     *            single transaction
+     * @return the counts and the throughput of the import
+     * @throws NotAuthorizedException
+     *             if the current user is not member of role BUSINESS_ADMIN or ADMIN
+     * @throws DomainNotFoundException
+     *             if the domain of a classification does not exist in the configuration
+     * @throws InvalidArgumentException
+     *             if a classification has no key or domain, if a key and domain occurs twice, if the import would
+     *             change the type of a classification or create a cycle of parents, or if a classification is invalid
+     *             otherwise
+     */
+    ClassificationImportResult importClassifications(List<Classification> classifications, int chunkSize)
+        throws NotAuthorizedException, DomainNotFoundException, InvalidArgumentException;
+
     /**
      * This method provides a query builder for quering the database.
      *
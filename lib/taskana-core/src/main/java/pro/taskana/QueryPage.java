@@ -0,0 +1,69 @@
+package pro.taskana;
+
+import java.util.List;
+
+/**
+ * A page of the results of a query. Depending on how the page was requested, it contains the total number of results
+ * of the query or only the information whether there are more results after this page.
+ *
+ * @param <T>
+ *            the type of the results
+ */
+public class QueryPage<T> {
+
+    /**
+     * The total count of a page that was requested without counting the results.
+     */
+    public static final long TOTAL_COUNT_UNKNOWN = -1L;
+
+    private final List<T> items;
+    private final long totalCount;
+    private final boolean hasNext;
+
+    public QueryPage(List<T> items, long totalCount, boolean hasNext) {
+        this.items = items;
+        this.totalCount = totalCount;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Returns the results of this page.
+     *
+     * @return the results of this page
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the total number of results of the query.
+     *
+     * @return the total number of results or {@link #TOTAL_COUNT_UNKNOWN}, if the results were not counted
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns whether the total number of results of the query was counted.
+     *
+     * @return true, if {@link #getTotalCount()} returns the total number of results
+     */
+    public boolean isTotalCountKnown() {
+        return totalCount != TOTAL_COUNT_UNKNOWN;
+    }
+
+    /**
+     * Returns whether there are more results after this page.
+     *
+     * @return true, if there is a next page
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryPage [items=" + items + ", totalCount=" + totalCount + ", hasNext=" + hasNext + "]";
+    }
+}
@@ -257,6 +257,14 @@ public interface Task {
      */
     boolean isTransferred();
 
+    /**
+     * Returns the version of the task. The version is incremented with every update of the task. An update of a task
+     * with an outdated version fails with a {@link pro.taskana.exceptions.ConcurrencyException}.
+     *
+     * @return the version of the task
+     */
+    int getVersion();
+
     /**
      * Returns a Map of custom Attributes.
      *
@@ -0,0 +1,65 @@
+package pro.taskana;
+
+import java.time.Instant;
+
+/**
+ * A compact record of a single task modification in the task change feed.
+ */
+public interface TaskChange {
+
+    /**
+     * Gets the sequence number of the change. Sequence numbers increase with every recorded change.
+     *
+     * @return the sequence number
+     */
+    long getSequenceNumber();
+
+    /**
+     * Gets the id of the changed task.
+     *
+     * @return the task id
+     */
+    String getTaskId();
+
+    /**
+     * Gets the external id of the changed task.
+     *
+     * @return the external id
+     */
+    String getExternalId();
+
+    /**
+     * Gets the kind of the modification.
+     *
+     * @return the change type
+     */
+    TaskChangeType getChangeType();
+
+    /**
+     * Gets the id of the workbasket the task belonged to after the modification.
+     *
+     * @return the workbasket id
+     */
+    String getWorkbasketId();
+
+    /**
+     * Gets the state of the task after the modification.
+     *
+     * @return the task state
+     */
+    TaskState getState();
+
+    /**
+     * Gets the time of the modification.
+     *
+     * @return the time of the modification
+     */
+    Instant getChanged();
+
+    /**
+     * Gets the user that modified the task.
+     *
+     * @return the user id
+     */
+    String getChangedBy();
+}
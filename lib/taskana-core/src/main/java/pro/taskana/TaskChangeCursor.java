@@ -0,0 +1,30 @@
+package pro.taskana;
+
+import java.util.List;
+
+/**
+ * A cursor over the task change feed. The workbaskets whose changes the current user may read are determined once when
+ * the cursor is opened. Fetching changes from the cursor therefore neither checks the permissions again nor needs the
+ * security context of the user, so that a consumer can poll a cursor repeatedly, e.g. while a long poll request waits
+ * for new changes.
+ */
+public interface TaskChangeCursor {
+
+    /**
+     * Returns the next changes after the position of the cursor, ordered by sequence number, and moves the cursor
+     * behind the last returned change.
+     *
+     * @param maxResults
+     *            the maximum number of changes that are returned
+     * @return the next changes or an empty list, if there are no new changes
+     */
+    List<TaskChange> fetch(int maxResults);
+
+    /**
+     * Gets the position of the cursor, i.e. the sequence number of the last change returned by the cursor or the
+     * sequence number the cursor was opened with, if no change was returned yet.
+     *
+     * @return the sequence number of the position of the cursor
+     */
+    long getSequenceNumber();
+}
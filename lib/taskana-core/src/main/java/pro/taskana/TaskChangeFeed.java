@@ -0,0 +1,64 @@
+package pro.taskana;
+
+import java.time.Instant;
+import java.util.List;
+
+import pro.taskana.exceptions.NotAuthorizedException;
+
+/**
+ * The TaskChangeFeed gives access to the changes of tasks in the order in which they were recorded. Each modification
+ * of a task by the TaskService is recorded in the same transaction as the modification itself. Consumers remember the
+ * sequence number of the last change they processed and ask for the changes after it, instead of querying the tasks
+ * for modifications.<br>
+ * Sequence numbers are assigned when a change is recorded. A transaction that commits later may therefore contain a
+ * smaller sequence number than a change that is already visible. Consumers that must not miss any change should
+ * re-read a small window of sequence numbers before their last position and ignore duplicates.
+ */
+public interface TaskChangeFeed {
+
+    /**
+     * Returns the changes with a sequence number greater than the given one, ordered by sequence number. Only changes
+     * of tasks in workbaskets the current user may read are returned, unless the current user is admin.
+     *
+     * @param afterSequenceNumber
+     *            the sequence number of the last change the consumer already knows. Use 0 to read from the beginning.
+     * @param maxResults
+     *            the maximum number of changes that are returned
+     * @param workbasketIds
+     *            optional ids of workbaskets to which the result is restricted
+     * @return the changes after the given sequence number
+     */
+    List<TaskChange> getChanges(long afterSequenceNumber, int maxResults, String... workbasketIds);
+
+    /**
+     * Opens a cursor over the changes with a sequence number greater than the given one. The workbaskets whose changes
+     * the cursor returns are determined when the cursor is opened, in the same way as for
+     * {@link #getChanges(long, int, String...)}.
+     *
+     * @param afterSequenceNumber
+     *            the sequence number of the last change the consumer already knows. Use 0 to read from the beginning.
+     * @param workbasketIds
+     *            optional ids of workbaskets to which the changes are restricted
+     * @return the cursor
+     */
+    TaskChangeCursor openCursor(long afterSequenceNumber, String... workbasketIds);
+
+    /**
+     * Returns the sequence number of the latest recorded change. Consumers that are only interested in future changes
+     * can start reading after this sequence number.
+     *
+     * @return the latest sequence number or 0 if no change has been recorded
+     */
+    long getLatestSequenceNumber();
+
+    /**
+     * Deletes all changes that were recorded before the given time.
+     *
+     * @param changedBefore
+     *            changes recorded before this time are deleted
+     * @return the number of deleted changes
+     * @throws NotAuthorizedException
+     *             if the current user is not member of role ADMIN
+     */
+    int deleteChangesBefore(Instant changedBefore) throws NotAuthorizedException;
+}
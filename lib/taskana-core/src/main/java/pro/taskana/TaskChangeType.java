@@ -0,0 +1,8 @@
+package pro.taskana;
+
+/**
+ * This enum contains the kinds of task modifications that are recorded in the task change feed.
+ */
+public enum TaskChangeType {
+    CREATED, UPDATED, CLAIMED, CLAIM_CANCELLED, COMPLETED, TRANSFERRED, DELETED, CALLBACK_STATE_CHANGED
+}
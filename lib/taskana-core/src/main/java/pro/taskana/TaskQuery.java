@@ -1,5 +1,8 @@
 package pro.taskana;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 import pro.taskana.exceptions.InvalidArgumentException;
 
 /**
@@ -958,4 +961,127 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
      */
     TaskQuery orderByAttachmentReceived(SortDirection sortDirection);
 
+    /**
+     * Loads the classification and attachment summaries of the resulting tasks on first access of
+     * {@link TaskSummary#getClassificationSummary()} or {@link TaskSummary#getAttachmentSummaries()} instead of
+     * together with the query result, unless they are requested by {@link #withClassificationDetails()} or
+     * {@link #withAttachments()}. A load on first access reads the summaries of all resulting tasks at once, in a
+     * connection of its own. The workbasket summaries are always loaded together with the query result. By default
+     * all summaries are loaded together with the query result.
+     *
+     * @return the query
+     */
+    TaskQuery withLazyDetails();
+
+    /**
+     * Loads the classification summaries of the resulting tasks together with the query result, although the query
+     * loads its details lazily. See {@link #withLazyDetails()}.
+     *
+     * @return the query
+     */
+    TaskQuery withClassificationDetails();
+
+    /**
+     * Loads the attachment summaries of the resulting tasks together with the query result, although the query loads
+     * its details lazily. See {@link #withLazyDetails()}.
+     *
+     * @return the query
+     */
+    TaskQuery withAttachments();
+
+    /**
+     * Determines whether at least one task matches the current query. In contrast to count(), the database can stop
+     * evaluating the query after the first matching row. This method can throw a
+     * NotAuthorizedToQueryWorkbasketException.
+     *
+     * @return true if the query has at least one result
+     */
+    boolean exists();
+
+    /**
+     * Determines the ids of all tasks that match the current query. In contrast to list(), only the id column is
+     * selected and the tasks are not augmented by their workbasket, classification and attachment summaries. This
+     * method can throw a NotAuthorizedToQueryWorkbasketException.
+     *
+     * @return the ids of the matching tasks in the order of the query
+     */
+    List<String> listIds();
+
+    /**
+     * Determines the ids of a range of the tasks that match the current query, like {@link #listIds()}. This method
+     * can throw a NotAuthorizedToQueryWorkbasketException.
+     *
+     * @param offset
+     *            the number of matching tasks that are skipped
+     * @param limit
+     *            the maximum number of ids
+     * @return the ids of the tasks in the range in the order of the query
+     */
+    List<String> listIds(int offset, int limit);
+
+    /**
+     * Selects only the given columns of all tasks that match the current query. In contrast to list(), the tasks are
+     * not augmented by their workbasket, classification and attachment summaries. This method can throw a
+     * NotAuthorizedToQueryWorkbasketException.
+     *
+     * @param columnNames
+     *            the columns to be selected. Must not be empty.
+     * @return one row per matching task in the order of the query
+     * @throws InvalidArgumentException
+     *             if no column is given
+     */
+    List<TaskQueryRow> listColumns(TaskQueryColumnName... columnNames) throws InvalidArgumentException;
+
+    /**
+     * Selects only the given columns of the tasks in the given range of the matching tasks. Like
+     * {@link #listColumns(TaskQueryColumnName...)}, the tasks are not augmented by their workbasket, classification
+     * and attachment summaries. This method can throw a NotAuthorizedToQueryWorkbasketException.
+     *
+     * @param offset
+     *            index of the first row that is returned
+     * @param limit
+     *            maximal number of rows that are returned
+     * @param columnNames
+     *            the columns to be selected. Must not be empty.
+     * @return at most limit rows in the order of the query
+     * @throws InvalidArgumentException
+     *             if no column is given
+     */
+    List<TaskQueryRow> listColumns(int offset, int limit, TaskQueryColumnName... columnNames)
+        throws InvalidArgumentException;
+
+    /**
+     * Selects only the given columns of the tasks of page X with a size of Y together with the total number of rows,
+     * like {@link #listPageWithTotalCount(int, int)} does for {@link #listColumns(TaskQueryColumnName...)}. Where the
+     * database supports it, the rows and the total number are selected with a single statement. This method can throw
+     * a NotAuthorizedToQueryWorkbasketException.
+     *
+     * @param pageNumber
+     *            current pagination page starting at 1.
+     * @param pageSize
+     *            amount of rows for this page.
+     * @param columnNames
+     *            the columns to be selected. Must not be empty.
+     * @return the rows of the page and the total number of rows of the query
+     * @throws InvalidArgumentException
+     *             if no column is given
+     */
+    QueryPage<TaskQueryRow> listColumnsPageWithTotalCount(int pageNumber, int pageSize,
+        TaskQueryColumnName... columnNames) throws InvalidArgumentException;
+
+    /**
+     * Executes the query and passes the matching tasks in batches to the given consumer while the rows are read from
+     * the database cursor in portions of a fixed fetch size, instead of collecting the whole result in a list. Each batch is augmented like the result
+     * of list() before it is passed on, so that at most one batch of tasks is held in memory. The connection stays
+     * open until the last batch has been consumed. This method can throw a NotAuthorizedToQueryWorkbasketException.
+     *
+     * @param batchSize
+     *            the maximum number of tasks per batch. Must be positive.
+     * @param consumer
+     *            the consumer of the batches in the order of the query
+     * @throws InvalidArgumentException
+     *             if the batch size is not positive
+     */
+    void forEachBatch(int batchSize, Consumer<List<TaskSummary>> consumer) throws InvalidArgumentException;
+
 }
@@ -0,0 +1,73 @@
+package pro.taskana;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A single result row of {@link TaskQuery#listColumns(TaskQueryColumnName...)}. It only contains the values of the
+ * requested columns.
+ */
+public interface TaskQueryRow {
+
+    /**
+     * Gets the columns contained in this row in the order they were requested.
+     *
+     * @return the column names
+     */
+    List<TaskQueryColumnName> getColumnNames();
+
+    /**
+     * Gets the value of a column as returned by the database.
+     *
+     * @param columnName
+     *            the column whose value is requested
+     * @return the value or null, if the column is null
+     * @throws IllegalArgumentException
+     *             if the column was not requested
+     */
+    Object get(TaskQueryColumnName columnName);
+
+    /**
+     * Gets the value of a column as String.
+     *
+     * @param columnName
+     *            the column whose value is requested
+     * @return the value or null, if the column is null
+     * @throws IllegalArgumentException
+     *             if the column was not requested
+     */
+    String getString(TaskQueryColumnName columnName);
+
+    /**
+     * Gets the value of a timestamp column like {@link TaskQueryColumnName#DUE} as Instant.
+     *
+     * @param columnName
+     *            the column whose value is requested
+     * @return the value or null, if the column is null
+     * @throws IllegalArgumentException
+     *             if the column was not requested or is not a timestamp column
+     */
+    Instant getInstant(TaskQueryColumnName columnName);
+
+    /**
+     * Gets the value of a numeric column like {@link TaskQueryColumnName#PRIORITY} as Integer.
+     *
+     * @param columnName
+     *            the column whose value is requested
+     * @return the value or null, if the column is null
+     * @throws IllegalArgumentException
+     *             if the column was not requested or is not a numeric column
+     */
+    Integer getInteger(TaskQueryColumnName columnName);
+
+    /**
+     * Gets the value of a flag column like {@link TaskQueryColumnName#IS_READ} as Boolean.
+     *
+     * @param columnName
+     *            the column whose value is requested
+     * @return the value or null, if the column is null
+     * @throws IllegalArgumentException
+     *             if the column was not requested or is not a flag column
+     */
+    Boolean getBoolean(TaskQueryColumnName columnName);
+}
@@ -1,5 +1,6 @@
 package pro.taskana;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -56,6 +57,21 @@ public interface TaskService {
     Task forceClaim(String taskId)
         throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, NotAuthorizedException;
 
+    /**
+     * Claims the first READY task of the given query for the current user. The query determines the workbaskets, the
+     * additional filter criteria and the order in which the tasks are considered. Its state filter is replaced by
+     * READY, but the query itself is not changed. The claim is made with a conditional update, so a task is never
+     * claimed by two concurrent callers. On Postgres and DB2, tasks that are locked by other claimers are skipped
+     * instead of waited for.
+     *
+     * @param query
+     *            the query that selects the candidate tasks, created by {@link #createTaskQuery()}
+     * @return the claimed task or null, if no READY task matches the query
+     * @throws NotAuthorizedException
+     *             if the current user has no read permission for the workbasket of the claimed task
+     */
+    Task claimNext(TaskQuery query) throws NotAuthorizedException;
+
     /**
      * Cancel the claim of an existing task if it was claimed by the current user before.
      *
@@ -65,7 +81,7 @@ public interface TaskService {
      * @throws TaskNotFoundException
      *             if the task can´t be found or does not exist
      * @throws InvalidStateException
-     *             when the task is already completed.
+     *             when the task is already completed or was modified concurrently.
      * @throws InvalidOwnerException
      *             when the task is claimed by another user.
      * @throws NotAuthorizedException
@@ -83,7 +99,7 @@ public interface TaskService {
      * @throws TaskNotFoundException
      *             if the task can´t be found or does not exist
      * @throws InvalidStateException
-     *             when the task is already completed.
+     *             when the task is already completed or was modified concurrently.
      * @throws InvalidOwnerException
      *             when forceCancel is false and the task is claimed by another user.
      * @throws NotAuthorizedException
@@ -164,6 +180,20 @@ public interface TaskService {
      */
     Task getTask(String taskId) throws TaskNotFoundException, NotAuthorizedException;
 
+    /**
+     * Get the version of a task, which is incremented by every change of the task. This is a lightweight alternative
+     * to {@link #getTask(String)} that allows clients to detect whether a task has changed without loading it.
+     *
+     * @param taskId
+     *            the id of the task
+     * @return the version of the task, see {@link Task#getVersion()}
+     * @throws TaskNotFoundException
+     *             thrown if the {@link Task} with taskId is not found
+     * @throws NotAuthorizedException
+     *             if the current user has no READ permission for the workbasket the task is in.
+     */
+    int getTaskVersion(String taskId) throws TaskNotFoundException, NotAuthorizedException;
+
     /**
      * Transfer a task to another work basket. The transfer sets the transferred flag and resets the read flag.
      *
@@ -179,7 +209,7 @@ public interface TaskService {
      * @throws NotAuthorizedException
      *             Thrown if the current user is not authorized to transfer this {@link Task} to the target work basket
      * @throws InvalidStateException
-     *             Thrown if the task is in a state which does not allow transferring
+     *             Thrown if the task is in a state which does not allow transferring or was modified concurrently
      */
     Task transfer(String taskId, String destinationWorkbasketId)
         throws TaskNotFoundException, WorkbasketNotFoundException, NotAuthorizedException, InvalidStateException;
@@ -201,7 +231,7 @@ public interface TaskService {
      * @throws NotAuthorizedException
      *             Thrown if the current user is not authorized to transfer this {@link Task} to the target work basket
      * @throws InvalidStateException
-     *             Thrown if the task is in a state which does not allow transferring
+     *             Thrown if the task is in a state which does not allow transferring or was modified concurrently
      */
     Task transfer(String taskId, String workbasketKey, String domain)
         throws TaskNotFoundException, WorkbasketNotFoundException, NotAuthorizedException, InvalidStateException;
@@ -218,9 +248,11 @@ public interface TaskService {
      *             Thrown if the {@link Task} with taskId was not found
      * @throws NotAuthorizedException
      *             if the current user has no read permission for the workbasket the task is in
+     * @throws ConcurrencyException
+     *             if the task was updated by another user since it was read
      */
     Task setTaskRead(String taskId, boolean isRead)
-        throws TaskNotFoundException, NotAuthorizedException;
+        throws TaskNotFoundException, NotAuthorizedException, ConcurrencyException;
 
     /**
      * This method provides a query builder for quering the database.
@@ -429,4 +461,24 @@ public interface TaskService {
      */
     BulkOperationResults<String, TaskanaException> setCallbackStateForTasks(List<String> externalIds, CallbackState state);
 
+    /**
+     * Sets the callback state on a potentially large number of tasks. The external ids are read from the iterator in
+     * chunks of chunkSize. Each chunk is validated with one query, updated with one statement and processed with its
+     * own connection, i.e. it is committed separately in connection management mode AUTOCOMMIT. Therefore memory
+     * usage and lock duration are bounded by the chunk size, independent of the total number of external ids.
+     * Note: this method is primarily intended to be used by the TaskanaAdapter
+     *
+     * @param externalIds
+     *            the EXTERNAL_IDs of the tasks on which the callback state is set. A stream can be passed as
+     *            stream.iterator().
+     * @param state
+     *            the callback state that is to be set on the tasks
+     * @param chunkSize
+     *            the maximum number of external ids that are processed together. If not positive, the configured
+     *            number of updates per transaction is used.
+     * @return the aggregated counts of the run and the errors of all external ids that could not be processed
+     */
+    CallbackStateUpdateResults setCallbackStateForTasks(Iterator<String> externalIds, CallbackState state,
+        int chunkSize);
+
 }
@@ -45,6 +45,13 @@ public interface TaskanaEngine {
      */
     JobService getJobService();
 
+    /**
+     * The TaskChangeFeed can be used to read the recorded changes of tasks.
+     *
+     * @return the TaskChangeFeed
+     */
+    TaskChangeFeed getTaskChangeFeed();
+
     /**
      * The Taskana configuration.
      *
@@ -91,6 +98,22 @@ public interface TaskanaEngine {
      */
     void closeConnection();
 
+    /**
+     * Opens a request scope for the current thread. Within a request scope all subsequent API calls share one
+     * database session instead of acquiring and releasing a connection for each call. The local cache of the session
+     * is cleared after each call. In mode AUTOCOMMIT the work of all calls is committed when the request scope is
+     * closed. Request scopes may be nested. Each call to this method
+     * has to be paired with a call to {@link #closeRequestScope()}, preferably in a finally block.
+     */
+    void openRequestScope();
+
+    /**
+     * Closes the request scope that was opened by {@link #openRequestScope()} for the current thread. When the
+     * outermost request scope is closed, the database session is released (and committed in mode AUTOCOMMIT). Has no
+     * effect if no request scope is open.
+     */
+    void closeRequestScope();
+
     /**
      * check whether the current user is member of one of the roles specified.
      *
@@ -0,0 +1,46 @@
+package pro.taskana;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Definition of a workbasket for an import. It contains the workbasket together with its access items and the ids of
+ * its distribution targets. The ids of the distribution targets refer to the ids of the other workbaskets of the same
+ * import.
+ */
+public class WorkbasketDefinition {
+
+    private final Workbasket workbasket;
+    private final List<WorkbasketAccessItem> accessItems;
+    private final Set<String> distributionTargetIds;
+
+    public WorkbasketDefinition(Workbasket workbasket, List<WorkbasketAccessItem> accessItems,
+        Collection<String> distributionTargetIds) {
+        this.workbasket = workbasket;
+        this.accessItems = accessItems == null ? new ArrayList<>() : accessItems;
+        this.distributionTargetIds = distributionTargetIds == null
+            ? new LinkedHashSet<>()
+            : new LinkedHashSet<>(distributionTargetIds);
+    }
+
+    public Workbasket getWorkbasket() {
+        return workbasket;
+    }
+
+    public List<WorkbasketAccessItem> getAccessItems() {
+        return accessItems;
+    }
+
+    public Set<String> getDistributionTargetIds() {
+        return distributionTargetIds;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkbasketDefinition [workbasket=" + workbasket + ", accessItems=" + accessItems
+            + ", distributionTargetIds=" + distributionTargetIds + "]";
+    }
+}
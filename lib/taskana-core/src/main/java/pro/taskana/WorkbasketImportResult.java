@@ -0,0 +1,157 @@
+package pro.taskana;
+
+import java.time.Duration;
+
+/**
+ * Result of an import of workbasket definitions. It contains the counts of the changes to the workbaskets, their
+ * access items and their distribution targets and the throughput of the import.
+ */
+public class WorkbasketImportResult {
+
+    private long createdWorkbasketCount;
+    private long updatedWorkbasketCount;
+    private long unchangedWorkbasketCount;
+    private long createdAccessItemCount;
+    private long updatedAccessItemCount;
+    private long deletedAccessItemCount;
+    private long createdDistributionTargetCount;
+    private long deletedDistributionTargetCount;
+    private int chunkCount;
+    private Duration duration = Duration.ZERO;
+
+    /**
+     * Returns the number of workbaskets that were created.
+     *
+     * @return the number of created workbaskets
+     */
+    public long getCreatedWorkbasketCount() {
+        return createdWorkbasketCount;
+    }
+
+    /**
+     * Returns the number of existing workbaskets that were updated, because the import changed their attributes or
+     * their distribution targets.
+     *
+     * @return the number of updated workbaskets
+     */
+    public long getUpdatedWorkbasketCount() {
+        return updatedWorkbasketCount;
+    }
+
+    /**
+     * Returns the number of existing workbaskets whose attributes and distribution targets were not changed by the
+     * import. Their access items may have been changed nevertheless.
+     *
+     * @return the number of unchanged workbaskets
+     */
+    public long getUnchangedWorkbasketCount() {
+        return unchangedWorkbasketCount;
+    }
+
+    public long getCreatedAccessItemCount() {
+        return createdAccessItemCount;
+    }
+
+    public long getUpdatedAccessItemCount() {
+        return updatedAccessItemCount;
+    }
+
+    public long getDeletedAccessItemCount() {
+        return deletedAccessItemCount;
+    }
+
+    public long getCreatedDistributionTargetCount() {
+        return createdDistributionTargetCount;
+    }
+
+    public long getDeletedDistributionTargetCount() {
+        return deletedDistributionTargetCount;
+    }
+
+    /**
+     * Returns the number of chunks in which the workbaskets were written.
+     *
+     * @return the number of chunks
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns the time the whole import took.
+     *
+     * @return the duration of the import
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the number of processed workbaskets so far.
+     *
+     * @return the number of created, updated and unchanged workbaskets
+     */
+    public long getProcessedWorkbasketCount() {
+        return createdWorkbasketCount + updatedWorkbasketCount + unchangedWorkbasketCount;
+    }
+
+    /**
+     * Returns the number of processed workbaskets per second.
+     *
+     * @return the throughput of the import
+     */
+    public double getWorkbasketsPerSecond() {
+        long millis = Math.max(duration.toMillis(), 1);
+        return getProcessedWorkbasketCount() * 1000.0 / millis;
+    }
+
+    /**
+     * Adds the counts of one written chunk.
+     *
+     * @param chunkResult
+     *            the result of the chunk
+     */
+    public void addChunk(WorkbasketImportResult chunkResult) {
+        this.createdWorkbasketCount += chunkResult.createdWorkbasketCount;
+        this.updatedWorkbasketCount += chunkResult.updatedWorkbasketCount;
+        this.unchangedWorkbasketCount += chunkResult.unchangedWorkbasketCount;
+        this.createdAccessItemCount += chunkResult.createdAccessItemCount;
+        this.updatedAccessItemCount += chunkResult.updatedAccessItemCount;
+        this.deletedAccessItemCount += chunkResult.deletedAccessItemCount;
+        this.createdDistributionTargetCount += chunkResult.createdDistributionTargetCount;
+        this.deletedDistributionTargetCount += chunkResult.deletedDistributionTargetCount;
+        this.chunkCount++;
+    }
+
+    public void addWorkbaskets(int created, int updated, int unchanged) {
+        this.createdWorkbasketCount += created;
+        this.updatedWorkbasketCount += updated;
+        this.unchangedWorkbasketCount += unchanged;
+    }
+
+    public void addAccessItems(int created, int updated, int deleted) {
+        this.createdAccessItemCount += created;
+        this.updatedAccessItemCount += updated;
+        this.deletedAccessItemCount += deleted;
+    }
+
+    public void addDistributionTargets(int created, int deleted) {
+        this.createdDistributionTargetCount += created;
+        this.deletedDistributionTargetCount += deleted;
+    }
+
+    public void setDuration(Duration duration) {
+        this.duration = duration;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkbasketImportResult [createdWorkbasketCount=" + createdWorkbasketCount
+            + ", updatedWorkbasketCount=" + updatedWorkbasketCount + ", unchangedWorkbasketCount="
+            + unchangedWorkbasketCount + ", createdAccessItemCount=" + createdAccessItemCount
+            + ", updatedAccessItemCount=" + updatedAccessItemCount + ", deletedAccessItemCount="
+            + deletedAccessItemCount + ", createdDistributionTargetCount=" + createdDistributionTargetCount
+            + ", deletedDistributionTargetCount=" + deletedDistributionTargetCount + ", chunkCount=" + chunkCount
+            + ", duration=" + duration + "]";
+    }
+}
@@ -1,5 +1,7 @@
 package pro.taskana;
 
+import java.util.List;
+
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 
@@ -491,4 +493,18 @@ public interface WorkbasketQuery extends BaseQuery<WorkbasketSummary, Workbasket
      */
     WorkbasketQuery markedForDeletion(boolean markedForDeletion);
 
+    /**
+     * Lists a chunk of the workbaskets of the query in the order of their ids, beginning after the given id. The
+     * sorting of the query is ignored. Other than {@link #list(int, int)} the chunk is selected by the last id of the
+     * previous chunk instead of an offset, so paging through all workbaskets neither skips nor repeats one and the
+     * database does not read the workbaskets of the previous chunks again.
+     *
+     * @param afterId
+     *            the id of the last workbasket of the previous chunk or null for the first chunk
+     * @param chunkSize
+     *            the maximum number of workbaskets of the chunk
+     * @return the workbaskets of the chunk, which are fewer than the chunk size only for the last chunk
+     */
+    List<WorkbasketSummary> listAfterId(String afterId, int chunkSize);
+
 }
@@ -1,6 +1,8 @@
 package pro.taskana;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import pro.taskana.exceptions.DomainNotFoundException;
 import pro.taskana.exceptions.InvalidArgumentException;
@@ -30,6 +32,21 @@ public interface WorkbasketService {
     Workbasket getWorkbasket(String workbasketId)
         throws WorkbasketNotFoundException, NotAuthorizedException;
 
+    /**
+     * Get the time of the last modification of a Workbasket. This is a lightweight alternative to
+     * {@link #getWorkbasket(String)} that allows clients to detect whether a Workbasket has changed.
+     *
+     * @param workbasketId
+     *            the Id of the Workbasket requested
+     * @return the modification timestamp of the Workbasket
+     * @throws WorkbasketNotFoundException
+     *             If the Workbasket with workbasketId is not found
+     * @throws NotAuthorizedException
+     *             If the current user or group does not have the permissions for interactions.
+     */
+    Instant getWorkbasketModified(String workbasketId)
+        throws WorkbasketNotFoundException, NotAuthorizedException;
+
     /**
      * Get Workbasket for a given key.
      *
@@ -46,6 +63,19 @@ public interface WorkbasketService {
     Workbasket getWorkbasket(String workbasketKey, String domain)
         throws WorkbasketNotFoundException, NotAuthorizedException;
 
+    /**
+     * Get the Workbaskets with the given ids with a single query. Ids of Workbaskets that do not exist are ignored.
+     * Because the permissions of the caller are not checked per Workbasket, this method is restricted to
+     * administrators.
+     *
+     * @param workbasketIds
+     *            the ids of the requested Workbaskets
+     * @return the Workbaskets in the order of the given ids
+     * @throws NotAuthorizedException
+     *             if the current user is not member of role BUSINESS_ADMIN or ADMIN
+     */
+    List<Workbasket> getWorkbaskets(List<String> workbasketIds) throws NotAuthorizedException;
+
     /**
      * Create a new Workbasket.
      *
@@ -173,6 +203,18 @@ public interface WorkbasketService {
      */
     List<WorkbasketAccessItem> getWorkbasketAccessItems(String workbasketId) throws NotAuthorizedException;
 
+    /**
+     * Get all {@link WorkbasketAccessItem s} for several Workbaskets with a single query.
+     *
+     * @param workbasketIds
+     *            the ids of the Workbaskets
+     * @return the WorkbasketAccessItems by the id of their Workbasket. Workbaskets without access items are missing.
+     * @throws NotAuthorizedException
+     *             if the current user is not member of role BUSINESS_ADMIN or ADMIN
+     */
+    Map<String, List<WorkbasketAccessItem>> getWorkbasketAccessItems(List<String> workbasketIds)
+        throws NotAuthorizedException;
+
     /**
      * Setting up the new WorkbasketAccessItems for a Workbasket. Already stored values will be completely replaced by
      * the current ones.
@@ -227,6 +269,18 @@ public interface WorkbasketService {
      */
     List<WorkbasketPermission> getPermissionsForWorkbasket(String workbasketId);
 
+    /**
+     * Returns the ids of the distribution targets of several workbaskets, read with a single query.
+     *
+     * @param workbasketIds
+     *            the ids of the source workbaskets
+     * @return the ids of the distribution targets by the id of their source workbasket. Workbaskets without
+     *         distribution targets are missing.
+     * @throws NotAuthorizedException
+     *             if the current user is not member of role BUSINESS_ADMIN or ADMIN
+     */
+    Map<String, List<String>> getDistributionTargetIds(List<String> workbasketIds) throws NotAuthorizedException;
+
     /**
      * Returns the distribution targets for a given workbasket.
      *
@@ -272,6 +326,38 @@ public interface WorkbasketService {
     void setDistributionTargets(String sourceWorkbasketId, List<String> targetWorkbasketIds)
         throws NotAuthorizedException, WorkbasketNotFoundException;
 
+    /**
+     * Imports workbasket definitions. Workbaskets that already exist with the same key and domain are updated, all
+     * others are created with a new id. The access items and distribution targets of every imported workbasket are
+     * replaced by the ones of its definition. Access items are matched by their access id, so unchanged access items
+     * keep their ids. The ids of the distribution targets must be ids of workbaskets of the import as given in the
+     * definitions, they are converted to the ids in the database.<br>
+     * The existing workbaskets of the affected domains are read with a single query and compared with the definitions,
+     * the existing access items and distribution targets are read once per chunk. Only the differences are written,
+     * in JDBC batches. If chunkSize is positive, every chunk of chunkSize workbaskets is written with its own
+     * connection, i.e. it is committed separately in connection management mode AUTOCOMMIT, and the progress is
+     * logged after every chunk. Otherwise all workbaskets are written in a single transaction.
+     *
+     * @param definitions
+     *            the workbasket definitions to import. Each key and domain must occur only once.
+     * @param chunkSize
+     *            the number of workbaskets that are committed together, or 0 to import all workbaskets in a single
+     *            transaction
+     * @return the counts and the throughput of the import
+     * @throws NotAuthorizedException
+     *             if the current user is not member of role BUSINESS_ADMIN or ADMIN
+     * @throws DomainNotFoundException
+     *             if the domain of a workbasket does not exist in the configuration
+     * @throws InvalidWorkbasketException
+     *             if a workbasket lacks a required attribute or refers to a distribution target that is not part of
+     *             the import
+     * @throws InvalidArgumentException
+     *             if a key and domain or an access id of a workbasket occurs twice, or if an access item has no access
+     *             id
+     */
+    WorkbasketImportResult importWorkbaskets(List<WorkbasketDefinition> definitions, int chunkSize)
+        throws NotAuthorizedException, DomainNotFoundException, InvalidWorkbasketException, InvalidArgumentException;
+
     /**
      * Add a distribution target to a workbasket. If the specified distribution target exists already, the method
      * silently returns without doing anything.
@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 import javax.sql.DataSource;
 
 import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.session.ExecutorType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,7 +34,11 @@ import pro.taskana.TaskanaEngine;
 import pro.taskana.TaskanaRole;
 import pro.taskana.exceptions.SystemException;
 import pro.taskana.impl.TaskanaEngineImpl;
+import pro.taskana.impl.util.IdGenerationStrategy;
 import pro.taskana.impl.util.LoggerUtils;
+import pro.taskana.impl.util.RandomIdGenerationStrategy;
+import pro.taskana.impl.util.TimeOrderedIdGenerationStrategy;
+import pro.taskana.metrics.TaskanaMetrics;
 
 /**
  * This central class creates the TaskanaEngine and holds all the information about DB and Security.<br>
@@ -56,10 +61,18 @@ public class TaskanaEngineConfiguration {
     private static final String TASKANA_JOB_CLEANUP_MINIMUM_AGE = "taskana.jobs.cleanup.minimumAge";
     private static final String TASKANA_JOB_TASK_CLEANUP_ALL_COMPLETED_SAME_PARENTE_BUSINESS = "taskana.jobs.cleanup.allCompletedSameParentBusiness";
 
+    private static final String TASKANA_JDBC_EXECUTOR_TYPE = "taskana.jdbc.executorType";
+    private static final String TASKANA_TASK_CHANGE_FEED_ENABLED = "taskana.taskChangeFeed.enabled";
+    private static final String TASKANA_TASK_CHANGE_FEED_RETENTION = "taskana.taskChangeFeed.retention";
+    private static final String TASKANA_ID_STRATEGY = "taskana.ids.strategy";
+    private static final String TASKANA_GROUP_RESOLUTION_CACHE_TTL = "taskana.groupResolution.cacheTimeToLive";
+    private static final String TASKANA_GROUP_RESOLUTION_CACHE_SIZE = "taskana.groupResolution.cacheSize";
+    private static final String ID_STRATEGY_RANDOM = "RANDOM";
+    private static final String ID_STRATEGY_TIME_ORDERED = "TIME_ORDERED";
     private static final String TASKANA_DOMAINS_PROPERTY = "taskana.domains";
     private static final String TASKANA_CLASSIFICATION_TYPES_PROPERTY = "taskana.classification.types";
     private static final String TASKANA_CLASSIFICATION_CATEGORIES_PROPERTY = "taskana.classification.categories";
-    protected static final String TASKANA_SCHEMA_VERSION = "1.1.5"; // must match the VERSION value in table
+    protected static final String TASKANA_SCHEMA_VERSION = "1.1.6"; // must match the VERSION value in table
     // TASKANA_SCHEMA_VERSION
     private static final String DEFAULT_SCHEMA_NAME = "TASKANA";
 
@@ -94,6 +107,25 @@ public class TaskanaEngineConfiguration {
     private Duration cleanupJobMinimumAge = Duration.parse("P14D");
     private boolean taskCleanupJobAllCompletedSameParentBusiness = true;
 
+    // MyBatis executor used for all sessions of the engine
+    private ExecutorType executorType = ExecutorType.SIMPLE;
+
+    // record task modifications for the task change feed
+    private boolean taskChangeFeedEnabled = false;
+
+    // minimum age of the task changes which are deleted by the TaskChangeFeedCleanupJob
+    private Duration taskChangeFeedRetention = Duration.parse("P7D");
+
+    // creates the unique part of generated ids
+    private IdGenerationStrategy idGenerationStrategy = new RandomIdGenerationStrategy();
+
+    // receives the latencies and bulk sizes of the engine, disabled if null
+    private TaskanaMetrics metrics;
+
+    // time after which the groups resolved by a GroupResolver are refreshed
+    private Duration groupResolutionCacheTimeToLive = Duration.parse("PT10M");
+    private int groupResolutionCacheSize = 10000;
+
     // List of configured domain names
     protected List<String> domains = new ArrayList<String>();
 
@@ -151,6 +183,10 @@ public class TaskanaEngineConfiguration {
         Properties props = readPropertiesFromFile(propertiesFile);
         initTaskanaRoles(props, rolesSeparator);
         initJobParameters(props);
+        initJdbcParameters(props);
+        initTaskChangeFeed(props);
+        initIdGenerationStrategy(props);
+        initGroupResolution(props);
         initDomains(props);
         initClassificationTypes(props);
         initClassificationCategories(props);
@@ -231,6 +267,86 @@ public class TaskanaEngineConfiguration {
             taskCleanupJobAllCompletedSameParentBusiness);
     }
 
+    private void initJdbcParameters(Properties props) {
+        String executorTypeProperty = props.getProperty(TASKANA_JDBC_EXECUTOR_TYPE);
+        if (executorTypeProperty != null && !executorTypeProperty.isEmpty()) {
+            try {
+                executorType = ExecutorType.valueOf(executorTypeProperty.trim().toUpperCase());
+            } catch (Exception e) {
+                LOGGER.warn("Could not parse executorTypeProperty ({}). Using default. Exception: {} ",
+                    executorTypeProperty, e.getMessage());
+            }
+        }
+        if (executorType == ExecutorType.BATCH) {
+            LOGGER.warn("Executor type BATCH defers all updates until the session is flushed or committed. "
+                + "Update counts returned by the mappers are not reliable in this mode.");
+        }
+        LOGGER.debug("Configured MyBatis executor type: {}", executorType);
+    }
+
+    private void initTaskChangeFeed(Properties props) {
+        String taskChangeFeedEnabledProperty = props.getProperty(TASKANA_TASK_CHANGE_FEED_ENABLED);
+        if (taskChangeFeedEnabledProperty != null && !taskChangeFeedEnabledProperty.isEmpty()) {
+            taskChangeFeedEnabled = Boolean.parseBoolean(taskChangeFeedEnabledProperty.trim());
+        }
+        String taskChangeFeedRetentionProperty = props.getProperty(TASKANA_TASK_CHANGE_FEED_RETENTION);
+        if (taskChangeFeedRetentionProperty != null && !taskChangeFeedRetentionProperty.isEmpty()) {
+            try {
+                taskChangeFeedRetention = Duration.parse(taskChangeFeedRetentionProperty.trim());
+            } catch (Exception e) {
+                LOGGER.warn("Could not parse taskChangeFeedRetentionProperty ({}). Using default. Exception: {} ",
+                    taskChangeFeedRetentionProperty, e.getMessage());
+            }
+        }
+        LOGGER.debug("Task change feed enabled: {}", taskChangeFeedEnabled);
+        LOGGER.debug("Task change feed retention: {}", taskChangeFeedRetention);
+    }
+
+    private void initIdGenerationStrategy(Properties props) {
+        String strategyProperty = props.getProperty(TASKANA_ID_STRATEGY);
+        if (strategyProperty != null && !strategyProperty.trim().isEmpty()) {
+            String strategy = strategyProperty.trim();
+            if (ID_STRATEGY_RANDOM.equalsIgnoreCase(strategy)) {
+                idGenerationStrategy = new RandomIdGenerationStrategy();
+            } else if (ID_STRATEGY_TIME_ORDERED.equalsIgnoreCase(strategy)) {
+                idGenerationStrategy = new TimeOrderedIdGenerationStrategy();
+            } else {
+                try {
+                    idGenerationStrategy = (IdGenerationStrategy) Class.forName(strategy)
+                        .getDeclaredConstructor()
+                        .newInstance();
+                } catch (ReflectiveOperationException | ClassCastException e) {
+                    LOGGER.warn("Could not create id generation strategy ({}). Using default. Exception: {} ",
+                        strategy, e.getMessage());
+                }
+            }
+        }
+        LOGGER.debug("Configured id generation strategy: {}", idGenerationStrategy.getClass().getName());
+    }
+
+    private void initGroupResolution(Properties props) {
+        String cacheTimeToLiveProperty = props.getProperty(TASKANA_GROUP_RESOLUTION_CACHE_TTL);
+        if (cacheTimeToLiveProperty != null && !cacheTimeToLiveProperty.isEmpty()) {
+            try {
+                groupResolutionCacheTimeToLive = Duration.parse(cacheTimeToLiveProperty.trim());
+            } catch (Exception e) {
+                LOGGER.warn("Could not parse groupResolutionCacheTimeToLive ({}). Using default. Exception: {} ",
+                    cacheTimeToLiveProperty, e.getMessage());
+            }
+        }
+        String cacheSizeProperty = props.getProperty(TASKANA_GROUP_RESOLUTION_CACHE_SIZE);
+        if (cacheSizeProperty != null && !cacheSizeProperty.isEmpty()) {
+            try {
+                groupResolutionCacheSize = Integer.parseInt(cacheSizeProperty.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Could not parse groupResolutionCacheSize ({}). Using default. Exception: {} ",
+                    cacheSizeProperty, e.getMessage());
+            }
+        }
+        LOGGER.debug("Group resolution cache time to live: {}, size: {}", groupResolutionCacheTimeToLive,
+            groupResolutionCacheSize);
+    }
+
     private void initDomains(Properties props) {
         String domainNames = props.getProperty(TASKANA_DOMAINS_PROPERTY);
         if (domainNames != null && !domainNames.isEmpty()) {
@@ -507,6 +623,90 @@ public class TaskanaEngineConfiguration {
         return taskCleanupJobAllCompletedSameParentBusiness;
     }
 
+    public ExecutorType getExecutorType() {
+        return executorType;
+    }
+
+    /**
+     * Sets the MyBatis executor type that is used for all sessions of engines built afterwards. REUSE keeps the
+     * prepared statements of a session and reuses them for identical SQL, which pays off within a request scope.
+     *
+     * @param executorType
+     *            the executor type, SIMPLE if null
+     */
+    public void setExecutorType(ExecutorType executorType) {
+        this.executorType = executorType == null ? ExecutorType.SIMPLE : executorType;
+    }
+
+    public boolean isTaskChangeFeedEnabled() {
+        return taskChangeFeedEnabled;
+    }
+
+    public void setTaskChangeFeedEnabled(boolean taskChangeFeedEnabled) {
+        this.taskChangeFeedEnabled = taskChangeFeedEnabled;
+    }
+
+    public Duration getTaskChangeFeedRetention() {
+        return taskChangeFeedRetention;
+    }
+
+    public void setTaskChangeFeedRetention(Duration taskChangeFeedRetention) {
+        this.taskChangeFeedRetention = taskChangeFeedRetention;
+    }
+
+    public IdGenerationStrategy getIdGenerationStrategy() {
+        return idGenerationStrategy;
+    }
+
+    /**
+     * Sets the strategy that creates the unique part of the ids generated by the engines of this configuration.
+     *
+     * @param idGenerationStrategy
+     *            the id generation strategy, random UUIDs if null
+     */
+    public void setIdGenerationStrategy(IdGenerationStrategy idGenerationStrategy) {
+        this.idGenerationStrategy = idGenerationStrategy == null ? new RandomIdGenerationStrategy()
+            : idGenerationStrategy;
+    }
+
+    public TaskanaMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the provider that receives the metrics of engines built afterwards. Without a provider the engine is not
+     * instrumented at all.
+     *
+     * @param metrics
+     *            the metrics provider, no metrics are recorded if null
+     */
+    public void setMetrics(TaskanaMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public Duration getGroupResolutionCacheTimeToLive() {
+        return groupResolutionCacheTimeToLive;
+    }
+
+    public void setGroupResolutionCacheTimeToLive(Duration groupResolutionCacheTimeToLive) {
+        this.groupResolutionCacheTimeToLive = groupResolutionCacheTimeToLive;
+    }
+
+    public int getGroupResolutionCacheSize() {
+        return groupResolutionCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of access ids whose resolved groups are cached. The least recently used entry is
+     * evicted, when the cache is full.
+     *
+     * @param groupResolutionCacheSize
+     *            the maximum number of cached access ids
+     */
+    public void setGroupResolutionCacheSize(int groupResolutionCacheSize) {
+        this.groupResolutionCacheSize = groupResolutionCacheSize;
+    }
+
     public String getSchemaName() {
         return schemaName;
     }
@@ -1,5 +1,6 @@
 package pro.taskana.history;
 
+import java.util.List;
 import java.util.ServiceLoader;
 
 import org.slf4j.Logger;
@@ -46,4 +47,11 @@ public final class HistoryEventProducer {
         LOGGER.debug("Sending event to history service providers: {}", event);
         serviceLoader.forEach(historyProvider -> historyProvider.create(event));
     }
+
+    public void createEvents(List<TaskanaHistoryEvent> events) {
+        LOGGER.debug("Sending {} events to history service providers", events.size());
+        if (!events.isEmpty()) {
+            serviceLoader.forEach(historyProvider -> historyProvider.create(events));
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package pro.taskana.history.api;
 
+import java.util.List;
+
 import pro.taskana.configuration.TaskanaEngineConfiguration;
 
 /**
@@ -23,4 +25,15 @@ public interface TaskanaHistory {
      */
     void create(TaskanaHistoryEvent event);
 
+    /**
+     * Create several history events at once, e.g. the events of a bulk operation. Providers should override this
+     * method to store the events in one round trip. By default, the events are created one by one.
+     *
+     * @param events
+     *            {@link TaskanaHistoryEvent} The events to be created.
+     */
+    default void create(List<TaskanaHistoryEvent> events) {
+        events.forEach(this::create);
+    }
+
 }
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.Task;
+import pro.taskana.TaskSummary;
 import pro.taskana.WorkbasketSummary;
 
 /**
@@ -20,4 +21,24 @@ public class TransferredEvent extends TaskEvent {
         this.oldValue = oldWorkbasket.getId();
         this.newValue = newWorkbasket.getId();
     }
+
+    /**
+     * Creates the event of a task of a bulk transfer from its summary, without loading the task.
+     *
+     * @param task
+     *            the summary of the transferred task
+     * @param oldWorkbasket
+     *            the workbasket the task was transferred from
+     * @param newWorkbasket
+     *            the workbasket the task was transferred to
+     */
+    public TransferredEvent(TaskSummary task, WorkbasketSummary oldWorkbasket, WorkbasketSummary newWorkbasket) {
+        super(task);
+        eventType = "TASK_TRANSFERRED";
+        created = task.getModified();
+        domain = newWorkbasket.getDomain();
+        workbasketKey = newWorkbasket.getKey();
+        this.oldValue = oldWorkbasket.getId();
+        this.newValue = newWorkbasket.getId();
+    }
 }
@@ -0,0 +1,100 @@
+package pro.taskana.impl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory index of the classifications of some domains. It is built once with a single query and resolves
+ * classifications by key and domain, parents and ancestors without further database access. It is not thread safe and
+ * meant to be used during one operation only, e.g. an import of classifications.
+ */
+class ClassificationHierarchyIndex {
+
+    private final Map<String, Map<String, ClassificationImpl>> classificationsByDomainAndKey = new HashMap<>();
+    private final Map<String, ClassificationImpl> classificationsById = new HashMap<>();
+
+    ClassificationHierarchyIndex(List<ClassificationImpl> classifications) {
+        classifications.forEach(this::put);
+    }
+
+    /**
+     * Adds a classification to the index. A classification with the same id or the same key and domain is replaced.
+     *
+     * @param classification
+     *            the classification to add
+     */
+    void put(ClassificationImpl classification) {
+        ClassificationImpl replaced = classificationsById.put(classification.getId(), classification);
+        if (replaced != null && !isSameKeyAndDomain(replaced, classification)) {
+            remove(replaced);
+        }
+        classificationsByDomainAndKey.computeIfAbsent(classification.getDomain(), domain -> new HashMap<>())
+            .put(classification.getKey(), classification);
+    }
+
+    /**
+     * Gets the classification with the given key in the given domain. In contrast to
+     * {@link ClassificationServiceImpl#getClassification(String, String)} there is no fallback to the master domain.
+     *
+     * @param key
+     *            the key of the classification
+     * @param domain
+     *            the domain of the classification
+     * @return the classification or null, if it is not contained in the index
+     */
+    ClassificationImpl get(String key, String domain) {
+        Map<String, ClassificationImpl> classificationsByKey = classificationsByDomainAndKey.get(domain);
+        return classificationsByKey == null ? null : classificationsByKey.get(key);
+    }
+
+    /**
+     * Gets the parent of a classification by its parent id.
+     *
+     * @param classification
+     *            the classification whose parent is requested
+     * @return the parent or null, if the classification has no parent or the parent is not contained in the index
+     */
+    ClassificationImpl getParent(ClassificationImpl classification) {
+        String parentId = classification.getParentId();
+        return parentId == null || parentId.isEmpty() ? null : classificationsById.get(parentId);
+    }
+
+    /**
+     * Checks whether the classification is one of its own ancestors, i.e. whether following the parents of the
+     * classification leads back to it.
+     *
+     * @param classification
+     *            the classification to check
+     * @return true, if the classification is part of a cycle
+     */
+    boolean isPartOfCycle(ClassificationImpl classification) {
+        Set<String> visitedIds = new HashSet<>();
+        ClassificationImpl ancestor = getParent(classification);
+        while (ancestor != null && visitedIds.add(ancestor.getId())) {
+            if (ancestor.getId().equals(classification.getId())) {
+                return true;
+            }
+            ancestor = getParent(ancestor);
+        }
+        return false;
+    }
+
+    int size() {
+        return classificationsById.size();
+    }
+
+    private void remove(ClassificationImpl classification) {
+        Map<String, ClassificationImpl> classificationsByKey = classificationsByDomainAndKey.get(
+            classification.getDomain());
+        if (classificationsByKey != null && classificationsByKey.get(classification.getKey()) == classification) {
+            classificationsByKey.remove(classification.getKey());
+        }
+    }
+
+    private static boolean isSameKeyAndDomain(ClassificationImpl first, ClassificationImpl second) {
+        return first.getKey().equals(second.getKey()) && first.getDomain().equals(second.getDomain());
+    }
+}
@@ -66,6 +66,8 @@ public class ClassificationQueryImpl implements ClassificationQuery {
     private String[] custom8Like;
     private List<String> orderBy;
     private List<String> orderColumns;
+    private String afterId;
+    private Integer chunkSize;
 
     ClassificationQueryImpl(InternalTaskanaEngine taskanaEngine) {
         this.taskanaEngine = taskanaEngine;
@@ -385,6 +387,24 @@ public class ClassificationQueryImpl implements ClassificationQuery {
         }
     }
 
+    @Override
+    public List<ClassificationSummary> listAfterId(String afterId, int chunkSize) {
+        LOGGER.debug("entry to listAfterId(afterId = {}, chunkSize = {}), this = {}", afterId, chunkSize, this);
+        List<ClassificationSummary> result = new ArrayList<>();
+        try {
+            taskanaEngine.openConnection();
+            this.afterId = afterId;
+            this.chunkSize = chunkSize;
+            result = taskanaEngine.getSqlSession().selectList(LINK_TO_SUMMARYMAPPER, this);
+            return result;
+        } finally {
+            this.afterId = null;
+            this.chunkSize = null;
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from listAfterId(). Returning {} resulting Objects", result.size());
+        }
+    }
+
     @Override
     public List<ClassificationSummary> list(int offset, int limit) {
         LOGGER.debug("entry to list(offset = {}, limit = {}), this = {}", offset, limit, this);
@@ -612,6 +632,14 @@ public class ClassificationQueryImpl implements ClassificationQuery {
         return orderBy;
     }
 
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
     public List<String> getOrderColumns() {
         return orderColumns;
     }
@@ -6,19 +6,23 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.Classification;
+import pro.taskana.ClassificationImportResult;
 import pro.taskana.ClassificationQuery;
 import pro.taskana.ClassificationService;
 import pro.taskana.ClassificationSummary;
-import pro.taskana.TaskSummary;
+import pro.taskana.TaskChangeType;
 import pro.taskana.TaskanaRole;
 import pro.taskana.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.exceptions.ClassificationInUseException;
@@ -27,10 +31,10 @@ import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.exceptions.DomainNotFoundException;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
-import pro.taskana.impl.util.IdGenerator;
 import pro.taskana.jobs.ClassificationChangedJob;
 import pro.taskana.jobs.ScheduledJob;
 import pro.taskana.mappings.ClassificationMapper;
+import pro.taskana.mappings.TaskChangeMapper;
 import pro.taskana.mappings.TaskMapper;
 
 /**
@@ -42,13 +46,15 @@ public class ClassificationServiceImpl implements ClassificationService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationServiceImpl.class);
     private ClassificationMapper classificationMapper;
     private TaskMapper taskMapper;
+    private TaskChangeRecorder taskChangeRecorder;
     private InternalTaskanaEngine taskanaEngine;
 
     ClassificationServiceImpl(InternalTaskanaEngine taskanaEngine, ClassificationMapper classificationMapper,
-        TaskMapper taskMapper) {
+        TaskMapper taskMapper, TaskChangeMapper taskChangeMapper) {
         this.taskanaEngine = taskanaEngine;
         this.classificationMapper = classificationMapper;
         this.taskMapper = taskMapper;
+        this.taskChangeRecorder = new TaskChangeRecorder(taskChangeMapper);
     }
 
     private static void validateServiceLevel(String serviceLevel) throws InvalidArgumentException {
@@ -147,7 +153,7 @@ public class ClassificationServiceImpl implements ClassificationService {
         if (!Objects.equals(classificationImpl.getDomain(), "")) {
             boolean doesExist = true;
             ClassificationImpl masterClassification = new ClassificationImpl(classificationImpl);
-            masterClassification.setId(IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION));
+            masterClassification.setId(taskanaEngine.generateId(ID_PREFIX_CLASSIFICATION));
             masterClassification.setParentKey(classificationImpl.getParentKey());
             masterClassification.setDomain("");
             masterClassification.setIsValidInDomain(false);
@@ -183,6 +189,7 @@ public class ClassificationServiceImpl implements ClassificationService {
         LOGGER.debug("entry to updateClassification(Classification = {})", classification);
         taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
         ClassificationImpl classificationImpl = null;
+        Classification oldClassification = null;
         try {
             taskanaEngine.openConnection();
             if (classification.getKey().equals(classification.getParentKey())) {
@@ -191,25 +198,229 @@ public class ClassificationServiceImpl implements ClassificationService {
             }
 
             classificationImpl = (ClassificationImpl) classification;
-            Classification oldClassification = this.getExistingClassificationAndVerifyTimestampHasNotChanged(
-                classificationImpl);
+            oldClassification = this.getExistingClassificationAndVerifyTimestampHasNotChanged(classificationImpl);
             classificationImpl.setModified(Instant.now());
             this.initDefaultClassificationValues(classificationImpl);
 
-            if (!Objects.equals(oldClassification.getCategory(), classificationImpl.getCategory())) {
-                this.updateCategoryOnAssociatedTasks(classificationImpl, oldClassification);
-            }
-
             this.checkExistenceOfParentClassification(oldClassification, classificationImpl);
             classificationMapper.update(classificationImpl);
             this.createJobIfPriorityOrServiceLevelHasChanged(oldClassification, classificationImpl);
 
             LOGGER.debug("Method updateClassification() updated the classification {}.", classificationImpl);
-            return classification;
         } finally {
             taskanaEngine.returnConnection();
-            LOGGER.debug("exit from updateClassification().");
         }
+        // the tasks are updated after the connection of the classification has been returned, so that each chunk of
+        // tasks is committed on its own
+        if (!Objects.equals(oldClassification.getCategory(), classificationImpl.getCategory())) {
+            this.updateCategoryOnAssociatedTasks(classificationImpl, oldClassification);
+        }
+        LOGGER.debug("exit from updateClassification().");
+        return classification;
+    }
+
+    @Override
+    public ClassificationImportResult importClassifications(List<Classification> classifications, int chunkSize)
+        throws NotAuthorizedException, DomainNotFoundException, InvalidArgumentException {
+        LOGGER.debug("entry to importClassifications(classifications.size = {}, chunkSize = {})",
+            classifications.size(), chunkSize);
+        taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+        Instant start = Instant.now();
+        ClassificationImportResult result = new ClassificationImportResult();
+        boolean singleTransaction = chunkSize <= 0;
+        try {
+            if (singleTransaction) {
+                taskanaEngine.openConnection();
+            }
+            List<ClassificationImport> imports = prepareImport(classifications, result);
+            int size = singleTransaction ? Math.max(imports.size(), 1) : chunkSize;
+            for (int i = 0; i < imports.size(); i += size) {
+                writeImportChunk(imports.subList(i, Math.min(i + size, imports.size())), result);
+            }
+        } finally {
+            if (singleTransaction) {
+                taskanaEngine.returnConnection();
+            }
+        }
+        result.setDuration(Duration.between(start, Instant.now()));
+        LOGGER.info("Imported {} classifications in {} ms ({} classifications per second). {}",
+            classifications.size(), result.getDuration().toMillis(),
+            Math.round(result.getClassificationsPerSecond()), result);
+        LOGGER.debug("exit from importClassifications(), returning {}", result);
+        return result;
+    }
+
+    /**
+     * Validates the classifications to import against an index of the existing classifications of the affected
+     * domains and resolves their parents. Nothing is written to the database.
+     *
+     * @param classifications the classifications to import
+     * @param result          the result, which receives the number of unchanged classifications
+     * @return the classifications to insert or update in the given order, followed by the new master classifications
+     *
+     * @throws DomainNotFoundException  if the domain of a classification does not exist in the configuration
+     * @throws InvalidArgumentException if a classification can not be imported
+     */
+    private List<ClassificationImport> prepareImport(List<Classification> classifications,
+        ClassificationImportResult result) throws DomainNotFoundException, InvalidArgumentException {
+        Set<String> domains = new HashSet<>();
+        domains.add("");
+        for (Classification classification : classifications) {
+            if (classification.getKey() == null) {
+                throw new InvalidArgumentException("Classification must contain a key");
+            }
+            if (classification.getDomain() == null) {
+                throw new InvalidArgumentException("Classification " + classification.getKey()
+                    + " must contain a domain");
+            }
+            if (!taskanaEngine.domainExists(classification.getDomain()) && !"".equals(classification.getDomain())) {
+                throw new DomainNotFoundException(classification.getDomain(),
+                    "Domain " + classification.getDomain() + " does not exist in the configuration.");
+            }
+            domains.add(classification.getDomain());
+        }
+        ClassificationHierarchyIndex index = new ClassificationHierarchyIndex(
+            taskanaEngine.openAndReturnConnection(() -> classificationMapper.findByDomains(new ArrayList<>(domains))));
+        LOGGER.debug("Method importClassifications() indexed {} existing classifications of the domains {}.",
+            index.size(), domains);
+
+        Instant now = Instant.now();
+        Set<String> importedKeysAndDomains = new HashSet<>();
+        List<ClassificationImport> imports = new ArrayList<>();
+        for (Classification classification : classifications) {
+            ClassificationImpl classificationImpl = (ClassificationImpl) classification;
+            if (!importedKeysAndDomains.add(classificationImpl.getKey() + "|" + classificationImpl.getDomain())) {
+                throw new InvalidArgumentException("The classification " + classificationImpl.getKey()
+                    + " is contained more than once in domain '" + classificationImpl.getDomain() + "'.");
+            }
+            ClassificationImpl existing = index.get(classificationImpl.getKey(), classificationImpl.getDomain());
+            if (existing != null) {
+                if (classificationImpl.getType() == null) {
+                    classificationImpl.setType(existing.getType());
+                } else if (!classificationImpl.getType().equals(existing.getType())) {
+                    throw new InvalidArgumentException("Can not change the type of the classification "
+                        + existing.getKey() + " in domain '" + existing.getDomain() + "'.");
+                }
+                classificationImpl.setId(existing.getId());
+                classificationImpl.setCreated(existing.getCreated());
+                // restored to the current time below, if the import changes the classification
+                classificationImpl.setModified(existing.getModified());
+            } else {
+                classificationImpl.setId(null);
+                classificationImpl.setCreated(now);
+                classificationImpl.setModified(now);
+            }
+            initDefaultClassificationValues(classificationImpl);
+            imports.add(new ClassificationImport(classificationImpl, existing));
+            index.put(classificationImpl);
+        }
+
+        // only after all imported classifications are indexed, it is known which keys are missing in the master domain
+        for (int i = 0, size = imports.size(); i < size; i++) {
+            ClassificationImpl classificationImpl = imports.get(i).classification;
+            if (imports.get(i).existing == null && !classificationImpl.getDomain().isEmpty()
+                && index.get(classificationImpl.getKey(), "") == null) {
+                ClassificationImpl masterClassification = new ClassificationImpl(classificationImpl);
+                masterClassification.setId(taskanaEngine.generateId(ID_PREFIX_CLASSIFICATION));
+                masterClassification.setDomain("");
+                masterClassification.setIsValidInDomain(false);
+                imports.add(new ClassificationImport(masterClassification, null));
+                index.put(masterClassification);
+            }
+        }
+
+        for (ClassificationImport classificationImport : imports) {
+            resolveParent(classificationImport.classification, index);
+        }
+        for (ClassificationImport classificationImport : imports) {
+            if (index.isPartOfCycle(classificationImport.classification)) {
+                throw new InvalidArgumentException("The classification " + classificationImport.classification.getKey()
+                    + " would be its own ancestor in domain '" + classificationImport.classification.getDomain()
+                    + "'.");
+            }
+        }
+
+        List<ClassificationImport> changedImports = new ArrayList<>();
+        for (ClassificationImport classificationImport : imports) {
+            if (classificationImport.existing == null) {
+                changedImports.add(classificationImport);
+            } else if (!classificationImport.existing.equals(classificationImport.classification)) {
+                classificationImport.classification.setModified(now);
+                changedImports.add(classificationImport);
+            }
+        }
+        result.setUnchangedCount(imports.size() - changedImports.size());
+        return changedImports;
+    }
+
+    private void resolveParent(ClassificationImpl classification, ClassificationHierarchyIndex index)
+        throws InvalidArgumentException {
+        String parentKey = classification.getParentKey();
+        ClassificationImpl parent = null;
+        if (parentKey != null && !parentKey.isEmpty()) {
+            if (parentKey.equals(classification.getKey())) {
+                throw new InvalidArgumentException(
+                    "The classification " + classification.getName() + " has the same key and parentKey");
+            }
+            parent = index.get(parentKey, classification.getDomain());
+            if (parent == null) {
+                LOGGER.debug("Method importClassifications() imports classification {} of domain '{}' without parent, "
+                    + "because parent {} does not exist.", classification.getKey(), classification.getDomain(),
+                    parentKey);
+            }
+        }
+        classification.setParentId(parent == null ? "" : parent.getId());
+        classification.setParentKey(parent == null ? "" : parent.getKey());
+    }
+
+    /**
+     * Writes one chunk of an import with its own connection. The classifications are inserted and updated in JDBC
+     * batches, the tasks and jobs affected by changed classifications are updated afterwards.
+     *
+     * @param chunk  the classifications to write
+     * @param result the result, which receives the counts of the chunk
+     */
+    private void writeImportChunk(List<ClassificationImport> chunk, ClassificationImportResult result) {
+        int created = 0;
+        List<ClassificationImport> changedCategories = new ArrayList<>();
+        try {
+            taskanaEngine.openConnection();
+            SqlSession batchSession = taskanaEngine.openBatchSession();
+            try {
+                ClassificationMapper batchMapper = batchSession.getMapper(ClassificationMapper.class);
+                for (ClassificationImport classificationImport : chunk) {
+                    if (classificationImport.existing == null) {
+                        batchMapper.insert(classificationImport.classification);
+                        created++;
+                    } else {
+                        batchMapper.update(classificationImport.classification);
+                    }
+                }
+                batchSession.flushStatements();
+            } finally {
+                batchSession.close();
+            }
+            // statements of the batch session bypass the local cache of the regular session
+            taskanaEngine.getSqlSession().clearCache();
+
+            for (ClassificationImport classificationImport : chunk) {
+                if (classificationImport.existing != null) {
+                    if (!Objects.equals(classificationImport.existing.getCategory(),
+                        classificationImport.classification.getCategory())) {
+                        changedCategories.add(classificationImport);
+                    }
+                    createJobIfPriorityOrServiceLevelHasChanged(classificationImport.existing,
+                        classificationImport.classification);
+                }
+            }
+        } finally {
+            taskanaEngine.returnConnection();
+        }
+        for (ClassificationImport classificationImport : changedCategories) {
+            updateCategoryOnAssociatedTasks(classificationImport.classification, classificationImport.existing);
+        }
+        result.addChunk(created, chunk.size() - created);
+        LOGGER.debug("Method importClassifications() wrote a chunk of {} classifications. {}", chunk.size(), result);
     }
 
     /**
@@ -222,7 +433,7 @@ public class ClassificationServiceImpl implements ClassificationService {
     private void initDefaultClassificationValues(ClassificationImpl classification) throws InvalidArgumentException {
         Instant now = Instant.now();
         if (classification.getId() == null || "".equals(classification.getId())) {
-            classification.setId(IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION));
+            classification.setId(taskanaEngine.generateId(ID_PREFIX_CLASSIFICATION));
         }
 
         if (classification.getCreated() == null) {
@@ -295,6 +506,48 @@ public class ClassificationServiceImpl implements ClassificationService {
         }
     }
 
+    @Override
+    public Instant getClassificationModified(String id) throws ClassificationNotFoundException {
+        LOGGER.debug("entry to getClassificationModified(id = {})", id);
+        Instant modified = null;
+        try {
+            taskanaEngine.openConnection();
+            ClassificationImpl classification = classificationMapper.findModifiedById(id);
+            if (classification == null) {
+                throw new ClassificationNotFoundException(id, "Classification for id " + id + " was not found");
+            }
+            modified = classification.getModified();
+            return modified;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from getClassificationModified(). Returning result {} ", modified);
+        }
+    }
+
+    @Override
+    public List<Classification> getClassifications(List<String> ids) {
+        LOGGER.debug("entry to getClassifications(ids.size = {})", ids.size());
+        List<Classification> result = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        try {
+            taskanaEngine.openConnection();
+            Map<String, ClassificationImpl> classificationsById = new HashMap<>();
+            classificationMapper.findByIds(ids).forEach(c -> classificationsById.put(c.getId(), c));
+            for (String id : ids) {
+                ClassificationImpl classification = classificationsById.get(id);
+                if (classification != null) {
+                    result.add(classification);
+                }
+            }
+            return result;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from getClassifications(). Returning {} classifications.", result.size());
+        }
+    }
+
     @Override
     public Classification getClassification(String key, String domain) throws ClassificationNotFoundException {
         LOGGER.debug("entry to getClassification(key = {}, domain = {})", key, domain);
@@ -451,22 +704,51 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
 
     /**
-     * Update classification fields used by tasks.
+     * Update classification fields used by tasks. The tasks are updated in chunks of at most
+     * maxNumberOfUpdatesPerTransaction rows, only the ids of a chunk are loaded. Each chunk is written with its own
+     * connection, so it is only committed separately if no connection is open when this method is called. Each updated
+     * task gets a new version and an entry in the task change feed.
      *
      * @param classificationImpl the new classification
      * @param oldClassification  the old classification
      */
     private void updateCategoryOnAssociatedTasks(ClassificationImpl classificationImpl,
         Classification oldClassification) {
-        List<TaskSummary> taskSummaries = taskanaEngine.getEngine().getTaskService()
-            .createTaskQuery()
-            .classificationIdIn(oldClassification.getId())
-            .list();
+        int chunkSize = taskanaEngine.getEngine().getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+        long totalUpdated = 0;
+        List<String> taskIds;
+        do {
+            taskIds = updateCategoryOfTaskChunk(oldClassification.getId(), classificationImpl.getCategory(),
+                chunkSize);
+            totalUpdated += taskIds.size();
+            LOGGER.debug("Method updateCategoryOnAssociatedTasks() updated the category of {} tasks so far.",
+                totalUpdated);
+        } while (taskIds.size() >= chunkSize);
+        LOGGER.debug("Method updateCategoryOnAssociatedTasks() updated the category of {} tasks of classification {}.",
+            totalUpdated, oldClassification.getId());
+    }
 
-        if (!taskSummaries.isEmpty()) {
-            List<String> taskIds = new ArrayList<>();
-            taskSummaries.forEach(ts -> taskIds.add(ts.getTaskId()));
-            taskMapper.updateClassificationCategoryOnChange(taskIds, classificationImpl.getCategory());
+    /**
+     * Updates the category of one chunk of tasks with its own connection, i.e. the chunk is committed separately in
+     * connection management mode AUTOCOMMIT.
+     *
+     * @param classificationId the id of the classification of the tasks
+     * @param category         the new category of the classification
+     * @param chunkSize        the maximum number of tasks in the chunk
+     * @return the ids of the updated tasks
+     */
+    private List<String> updateCategoryOfTaskChunk(String classificationId, String category, int chunkSize) {
+        try {
+            taskanaEngine.openConnection();
+            List<String> taskIds = taskMapper.findTaskIdsWithOtherClassificationCategory(classificationId, category,
+                chunkSize);
+            if (!taskIds.isEmpty()) {
+                taskMapper.updateClassificationCategoryOnChange(taskIds, category, Instant.now());
+                taskChangeRecorder.recordForTaskIds(TaskChangeType.UPDATED, taskIds);
+            }
+            return taskIds;
+        } finally {
+            taskanaEngine.returnConnection();
         }
     }
 
@@ -517,4 +799,17 @@ public class ClassificationServiceImpl implements ClassificationService {
         }
     }
 
+    /**
+     * A classification to insert or update during an import.
+     */
+    private static final class ClassificationImport {
+
+        private final ClassificationImpl classification;
+        private final ClassificationImpl existing;
+
+        private ClassificationImport(ClassificationImpl classification, ClassificationImpl existing) {
+            this.classification = classification;
+            this.existing = existing;
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package pro.taskana.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import pro.taskana.ClassificationSummary;
+import pro.taskana.ObjectReference;
+import pro.taskana.WorkbasketSummary;
+
+/**
+ * Determines the columns of the TASK table that differ between the persisted state of a task and its updated state.
+ * Only these columns are written by TaskMapper.updateChangedColumns(), so that an update does not rewrite all columns
+ * including the CLOBs for custom attributes and callback info.
+ */
+final class DirtyTaskColumns {
+
+    // the columns written when the claim of a task is cancelled
+    static final Set<String> CLAIM_CANCELLED = columns("STATE", "OWNER", "CLAIMED", "IS_READ");
+
+    // the columns written when a task is transferred to another workbasket
+    static final Set<String> TRANSFERRED = columns("STATE", "OWNER", "WORKBASKET", "IS_READ", "IS_TRANSFERRED");
+
+    // the columns written when the priority and due date of a task are refreshed from its classifications
+    static final Set<String> PRIORITY_AND_DUE = columns("CLASSIFICATION", "PRIORITY", "PLANNED", "DUE");
+
+    private DirtyTaskColumns() {
+    }
+
+    private static Set<String> columns(String... columns) {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(columns)));
+    }
+
+    static Set<String> between(TaskImpl oldTask, TaskImpl newTask) {
+        Set<String> columns = new HashSet<>();
+        addIfChanged(columns, "CLAIMED", oldTask.getClaimed(), newTask.getClaimed());
+        addIfChanged(columns, "COMPLETED", oldTask.getCompleted(), newTask.getCompleted());
+        addIfChanged(columns, "PLANNED", oldTask.getPlanned(), newTask.getPlanned());
+        addIfChanged(columns, "DUE", oldTask.getDue(), newTask.getDue());
+        addIfChanged(columns, "NAME", oldTask.getName(), newTask.getName());
+        addIfChanged(columns, "DESCRIPTION", oldTask.getDescription(), newTask.getDescription());
+        addIfChanged(columns, "NOTE", oldTask.getNote(), newTask.getNote());
+        addIfChanged(columns, "PRIORITY", oldTask.getPriority(), newTask.getPriority());
+        addIfChanged(columns, "STATE", oldTask.getState(), newTask.getState());
+        if (classificationChanged(oldTask.getClassificationSummary(), newTask.getClassificationSummary())) {
+            columns.add("CLASSIFICATION");
+        }
+        if (workbasketChanged(oldTask.getWorkbasketSummary(), newTask.getWorkbasketSummary())) {
+            columns.add("WORKBASKET");
+        }
+        addIfChanged(columns, "BUSINESS_PROCESS_ID", oldTask.getBusinessProcessId(), newTask.getBusinessProcessId());
+        addIfChanged(columns, "PARENT_BUSINESS_PROCESS_ID", oldTask.getParentBusinessProcessId(),
+            newTask.getParentBusinessProcessId());
+        addIfChanged(columns, "OWNER", oldTask.getOwner(), newTask.getOwner());
+        if (objectReferenceChanged(oldTask.getPrimaryObjRef(), newTask.getPrimaryObjRef())) {
+            columns.add("POR");
+        }
+        addIfChanged(columns, "IS_READ", oldTask.isRead(), newTask.isRead());
+        addIfChanged(columns, "IS_TRANSFERRED", oldTask.isTransferred(), newTask.isTransferred());
+        addIfChanged(columns, "CALLBACK_INFO", oldTask.getCallbackInfo(), newTask.getCallbackInfo());
+        addIfChanged(columns, "CUSTOM_ATTRIBUTES", oldTask.getCustomAttributes(), newTask.getCustomAttributes());
+        addIfChanged(columns, "CUSTOM_1", oldTask.getCustom1(), newTask.getCustom1());
+        addIfChanged(columns, "CUSTOM_2", oldTask.getCustom2(), newTask.getCustom2());
+        addIfChanged(columns, "CUSTOM_3", oldTask.getCustom3(), newTask.getCustom3());
+        addIfChanged(columns, "CUSTOM_4", oldTask.getCustom4(), newTask.getCustom4());
+        addIfChanged(columns, "CUSTOM_5", oldTask.getCustom5(), newTask.getCustom5());
+        addIfChanged(columns, "CUSTOM_6", oldTask.getCustom6(), newTask.getCustom6());
+        addIfChanged(columns, "CUSTOM_7", oldTask.getCustom7(), newTask.getCustom7());
+        addIfChanged(columns, "CUSTOM_8", oldTask.getCustom8(), newTask.getCustom8());
+        addIfChanged(columns, "CUSTOM_9", oldTask.getCustom9(), newTask.getCustom9());
+        addIfChanged(columns, "CUSTOM_10", oldTask.getCustom10(), newTask.getCustom10());
+        addIfChanged(columns, "CUSTOM_11", oldTask.getCustom11(), newTask.getCustom11());
+        addIfChanged(columns, "CUSTOM_12", oldTask.getCustom12(), newTask.getCustom12());
+        addIfChanged(columns, "CUSTOM_13", oldTask.getCustom13(), newTask.getCustom13());
+        addIfChanged(columns, "CUSTOM_14", oldTask.getCustom14(), newTask.getCustom14());
+        addIfChanged(columns, "CUSTOM_15", oldTask.getCustom15(), newTask.getCustom15());
+        addIfChanged(columns, "CUSTOM_16", oldTask.getCustom16(), newTask.getCustom16());
+        return columns;
+    }
+
+    private static void addIfChanged(Set<String> columns, String column, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            columns.add(column);
+        }
+    }
+
+    private static boolean classificationChanged(ClassificationSummary oldSummary, ClassificationSummary newSummary) {
+        if (oldSummary == null || newSummary == null) {
+            return oldSummary != newSummary;
+        }
+        return !Objects.equals(oldSummary.getId(), newSummary.getId())
+            || !Objects.equals(oldSummary.getKey(), newSummary.getKey())
+            || !Objects.equals(oldSummary.getCategory(), newSummary.getCategory());
+    }
+
+    private static boolean workbasketChanged(WorkbasketSummary oldSummary, WorkbasketSummary newSummary) {
+        if (oldSummary == null || newSummary == null) {
+            return oldSummary != newSummary;
+        }
+        return !Objects.equals(oldSummary.getId(), newSummary.getId())
+            || !Objects.equals(oldSummary.getKey(), newSummary.getKey())
+            || !Objects.equals(oldSummary.getDomain(), newSummary.getDomain());
+    }
+
+    private static boolean objectReferenceChanged(ObjectReference oldReference, ObjectReference newReference) {
+        if (oldReference == null || newReference == null) {
+            return oldReference != newReference;
+        }
+        return !Objects.equals(oldReference.getCompany(), newReference.getCompany())
+            || !Objects.equals(oldReference.getSystem(), newReference.getSystem())
+            || !Objects.equals(oldReference.getSystemInstance(), newReference.getSystemInstance())
+            || !Objects.equals(oldReference.getType(), newReference.getType())
+            || !Objects.equals(oldReference.getValue(), newReference.getValue());
+    }
+}
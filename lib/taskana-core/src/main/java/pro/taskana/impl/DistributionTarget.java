@@ -0,0 +1,32 @@
+package pro.taskana.impl;
+
+/**
+ * A single row of the distribution targets, i.e. the relation between a source workbasket and one of its distribution
+ * targets.
+ */
+public class DistributionTarget {
+
+    private String sourceId;
+    private String targetId;
+
+    public String getSourceId() {
+        return sourceId;
+    }
+
+    public void setSourceId(String sourceId) {
+        this.sourceId = sourceId;
+    }
+
+    public String getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(String targetId) {
+        this.targetId = targetId;
+    }
+
+    @Override
+    public String toString() {
+        return "DistributionTarget [sourceId=" + this.sourceId + ", targetId=" + this.targetId + "]";
+    }
+}
@@ -1,5 +1,6 @@
 package pro.taskana.impl;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.apache.ibatis.session.SqlSession;
@@ -50,6 +51,16 @@ public interface InternalTaskanaEngine {
      */
     boolean domainExists(String domain);
 
+    /**
+     * Generates an id with the given prefix. The unique part of the id is created by the id generation strategy of the
+     * configuration of the engine.
+     *
+     * @param prefix
+     *            the prefix of the id, only 3 characters
+     * @return the generated id
+     */
+    String generateId(String prefix);
+
     /**
      * retrieve the SqlSession used by taskana.
      *
@@ -57,6 +68,16 @@ public interface InternalTaskanaEngine {
      */
     SqlSession getSqlSession();
 
+    /**
+     * Opens a MyBatis session with executor type BATCH on the connection of the current session. Statements executed
+     * through its mappers are sent to the database as JDBC batches when the session is flushed. The session neither
+     * commits nor closes the connection, hence it takes part in the transaction of the current session. Has to be
+     * called between openConnection and returnConnection. The caller has to flush and close the session.
+     *
+     * @return the batch session
+     */
+    SqlSession openBatchSession();
+
     /**
      * Retrieve TaskanaEngine.
      * @return The nested TaskanaEngine.
@@ -77,4 +98,12 @@ public interface InternalTaskanaEngine {
      */
     TaskRoutingManager getTaskRoutingManager();
 
+    /**
+     * Returns the access ids of the current user, which are used for all permission checks of this engine: the user
+     * id, the groups of the JAAS subject and the groups that the GroupResolvers of this engine resolve for them.
+     *
+     * @return the user id followed by the group ids
+     */
+    List<String> getAccessIds();
+
 }
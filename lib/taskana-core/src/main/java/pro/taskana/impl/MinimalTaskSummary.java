@@ -13,6 +13,7 @@ public class MinimalTaskSummary {
     private String workbasketId;
     private TaskState taskState;
     private CallbackState callbackState;
+    private int version;
 
     MinimalTaskSummary() {
 
@@ -58,10 +59,18 @@ public class MinimalTaskSummary {
         this.callbackState = callbackState;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "MinimalTaskSummary [taskId=" + taskId + ", workbasketId=" + workbasketId + ", taskState=" + taskState
-            + "]";
+            + ", version=" + version + "]";
     }
 
 }
@@ -0,0 +1,180 @@
+package pro.taskana.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskChange;
+import pro.taskana.TaskChangeCursor;
+import pro.taskana.TaskChangeFeed;
+import pro.taskana.TaskanaRole;
+import pro.taskana.WorkbasketPermission;
+import pro.taskana.WorkbasketSummary;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.impl.util.LoggerUtils;
+import pro.taskana.mappings.TaskChangeMapper;
+
+/**
+ * Reads the task changes that are recorded by the TaskService.
+ */
+public class TaskChangeFeedImpl implements TaskChangeFeed {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeFeedImpl.class);
+    private InternalTaskanaEngine taskanaEngine;
+    private TaskChangeMapper taskChangeMapper;
+
+    TaskChangeFeedImpl(InternalTaskanaEngine taskanaEngine, TaskChangeMapper taskChangeMapper) {
+        this.taskanaEngine = taskanaEngine;
+        this.taskChangeMapper = taskChangeMapper;
+    }
+
+    @Override
+    public List<TaskChange> getChanges(long afterSequenceNumber, int maxResults, String... workbasketIds) {
+        LOGGER.debug("entry to getChanges(afterSequenceNumber = {}, maxResults = {}, workbasketIds = {})",
+            afterSequenceNumber, maxResults, workbasketIds);
+        List<TaskChange> result = new ArrayList<>();
+        try {
+            taskanaEngine.openConnection();
+            result.addAll(findChanges(afterSequenceNumber, maxResults, determineWorkbasketIdFilter(workbasketIds)));
+            return result;
+        } finally {
+            taskanaEngine.returnConnection();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("exit from getChanges(). Returning {} resulting Objects: {} ", result.size(),
+                    LoggerUtils.listToString(result));
+            }
+        }
+    }
+
+    @Override
+    public TaskChangeCursor openCursor(long afterSequenceNumber, String... workbasketIds) {
+        LOGGER.debug("entry to openCursor(afterSequenceNumber = {}, workbasketIds = {})", afterSequenceNumber,
+            workbasketIds);
+        TaskChangeCursor result = null;
+        try {
+            taskanaEngine.openConnection();
+            result = new TaskChangeCursorImpl(afterSequenceNumber, determineWorkbasketIdFilter(workbasketIds));
+            return result;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from openCursor(). Returning {}", result);
+        }
+    }
+
+    @Override
+    public long getLatestSequenceNumber() {
+        LOGGER.debug("entry to getLatestSequenceNumber()");
+        Long result = null;
+        try {
+            taskanaEngine.openConnection();
+            result = taskChangeMapper.findLatestSequenceNumber();
+            return result == null ? 0 : result;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from getLatestSequenceNumber(). Returning {}", result);
+        }
+    }
+
+    @Override
+    public int deleteChangesBefore(Instant changedBefore) throws NotAuthorizedException {
+        LOGGER.debug("entry to deleteChangesBefore(changedBefore = {})", changedBefore);
+        taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.ADMIN);
+        int result = 0;
+        try {
+            taskanaEngine.openConnection();
+            result = taskChangeMapper.deleteChangesBefore(changedBefore);
+            return result;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from deleteChangesBefore(). Deleted {} changes", result);
+        }
+    }
+
+    private List<TaskChangeImpl> findChanges(long afterSequenceNumber, int maxResults,
+        List<String> workbasketIdFilter) {
+        if (maxResults <= 0 || (workbasketIdFilter != null && workbasketIdFilter.isEmpty())) {
+            return Collections.emptyList();
+        }
+        return taskChangeMapper.findChanges(afterSequenceNumber, workbasketIdFilter, new RowBounds(0, maxResults));
+    }
+
+    /**
+     * Determines the workbasket ids to which the changes are restricted.
+     *
+     * @param workbasketIds
+     *            the workbasket ids requested by the caller
+     * @return the workbasket ids or null, if the changes of all workbaskets may be returned
+     */
+    private List<String> determineWorkbasketIdFilter(String... workbasketIds) {
+        boolean restrictedByCaller = workbasketIds != null && workbasketIds.length > 0;
+        if (taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN)) {
+            return restrictedByCaller ? Arrays.asList(workbasketIds) : null;
+        }
+        Set<String> readableWorkbasketIds = taskanaEngine.getEngine()
+            .getWorkbasketService()
+            .createWorkbasketQuery()
+            .callerHasPermission(WorkbasketPermission.READ)
+            .list()
+            .stream()
+            .map(WorkbasketSummary::getId)
+            .collect(Collectors.toSet());
+        if (!restrictedByCaller) {
+            return new ArrayList<>(readableWorkbasketIds);
+        }
+        return Arrays.stream(workbasketIds)
+            .filter(readableWorkbasketIds::contains)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Cursor with the workbasket ids that were determined when it was opened.
+     */
+    private class TaskChangeCursorImpl implements TaskChangeCursor {
+
+        private final List<String> workbasketIdFilter;
+        private volatile long sequenceNumber;
+
+        TaskChangeCursorImpl(long sequenceNumber, List<String> workbasketIdFilter) {
+            this.sequenceNumber = sequenceNumber;
+            this.workbasketIdFilter = workbasketIdFilter;
+        }
+
+        @Override
+        public List<TaskChange> fetch(int maxResults) {
+            LOGGER.debug("entry to fetch(maxResults = {}) of cursor at sequence number {}", maxResults,
+                sequenceNumber);
+            List<TaskChange> result = new ArrayList<>();
+            try {
+                taskanaEngine.openConnection();
+                result.addAll(findChanges(sequenceNumber, maxResults, workbasketIdFilter));
+                if (!result.isEmpty()) {
+                    sequenceNumber = result.get(result.size() - 1).getSequenceNumber();
+                }
+                return result;
+            } finally {
+                taskanaEngine.returnConnection();
+                LOGGER.debug("exit from fetch(). Returning {} changes, the cursor is at sequence number {}",
+                    result.size(), sequenceNumber);
+            }
+        }
+
+        @Override
+        public long getSequenceNumber() {
+            return sequenceNumber;
+        }
+
+        @Override
+        public String toString() {
+            return "TaskChangeCursorImpl [sequenceNumber=" + sequenceNumber + ", workbasketIdFilter="
+                + workbasketIdFilter + "]";
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package pro.taskana.impl;
+
+import java.time.Instant;
+
+import pro.taskana.TaskChange;
+import pro.taskana.TaskChangeType;
+import pro.taskana.TaskState;
+
+/**
+ * TaskChange entity.
+ */
+public class TaskChangeImpl implements TaskChange {
+
+    private long sequenceNumber;
+    private String taskId;
+    private String externalId;
+    private TaskChangeType changeType;
+    private String workbasketId;
+    private TaskState state;
+    private Instant changed;
+    private String changedBy;
+
+    @Override
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    @Override
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    @Override
+    public String getExternalId() {
+        return externalId;
+    }
+
+    public void setExternalId(String externalId) {
+        this.externalId = externalId;
+    }
+
+    @Override
+    public TaskChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(TaskChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    @Override
+    public String getWorkbasketId() {
+        return workbasketId;
+    }
+
+    public void setWorkbasketId(String workbasketId) {
+        this.workbasketId = workbasketId;
+    }
+
+    @Override
+    public TaskState getState() {
+        return state;
+    }
+
+    public void setState(TaskState state) {
+        this.state = state;
+    }
+
+    @Override
+    public Instant getChanged() {
+        return changed;
+    }
+
+    public void setChanged(Instant changed) {
+        this.changed = changed;
+    }
+
+    @Override
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskChangeImpl [sequenceNumber=" + sequenceNumber + ", taskId=" + taskId + ", externalId="
+            + externalId + ", changeType=" + changeType + ", workbasketId=" + workbasketId + ", state=" + state
+            + ", changed=" + changed + ", changedBy=" + changedBy + "]";
+    }
+}
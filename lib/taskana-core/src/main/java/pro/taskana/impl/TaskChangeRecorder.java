@@ -0,0 +1,67 @@
+package pro.taskana.impl;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.Task;
+import pro.taskana.TaskChangeType;
+import pro.taskana.mappings.TaskChangeMapper;
+import pro.taskana.security.CurrentUserContext;
+
+/**
+ * Appends the records of the task change feed. The records are written with the session of the modifying API call and
+ * therefore belong to the same transaction as the modification of the task.
+ */
+class TaskChangeRecorder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeRecorder.class);
+
+    private final TaskChangeMapper taskChangeMapper;
+
+    /**
+     * Creates a recorder.
+     *
+     * @param taskChangeMapper
+     *            the mapper of the TASK_CHANGE table or null, if the task change feed is disabled
+     */
+    TaskChangeRecorder(TaskChangeMapper taskChangeMapper) {
+        this.taskChangeMapper = taskChangeMapper;
+    }
+
+    void record(TaskChangeType changeType, Task task) {
+        if (taskChangeMapper == null) {
+            return;
+        }
+        TaskChangeImpl change = new TaskChangeImpl();
+        change.setTaskId(task.getId());
+        change.setExternalId(task.getExternalId());
+        change.setChangeType(changeType);
+        change.setWorkbasketId(task.getWorkbasketSummary() == null ? null : task.getWorkbasketSummary().getId());
+        change.setState(task.getState());
+        change.setChanged(Instant.now());
+        change.setChangedBy(CurrentUserContext.getUserid());
+        taskChangeMapper.insert(change);
+        LOGGER.debug("Recorded task change {}", change);
+    }
+
+    void recordForTaskIds(TaskChangeType changeType, List<String> taskIds) {
+        if (taskChangeMapper == null || taskIds == null || taskIds.isEmpty()) {
+            return;
+        }
+        int recorded = taskChangeMapper.insertForTasks(changeType, Instant.now(), CurrentUserContext.getUserid(),
+            taskIds, null);
+        LOGGER.debug("Recorded {} task changes of type {}", recorded, changeType);
+    }
+
+    void recordForExternalIds(TaskChangeType changeType, List<String> externalIds) {
+        if (taskChangeMapper == null || externalIds == null || externalIds.isEmpty()) {
+            return;
+        }
+        int recorded = taskChangeMapper.insertForTasks(changeType, Instant.now(), CurrentUserContext.getUserid(),
+            null, externalIds);
+        LOGGER.debug("Recorded {} task changes of type {}", recorded, changeType);
+    }
+}
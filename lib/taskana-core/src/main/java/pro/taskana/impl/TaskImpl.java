@@ -68,6 +68,7 @@ public class TaskImpl implements Task {
     private String custom14;
     private String custom15;
     private String custom16;
+    private int version;
 
     private static final String ARGUMENT_STR = "Argument '";
     private static final String NOT_A_VALID_NUMBER_GET = "' of getCustomAttribute() cannot be converted to a number between 1 and 16";
@@ -325,6 +326,15 @@ public class TaskImpl implements Task {
         this.isTransferred = isTransferred;
     }
 
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     @Override
     public Map<String, String> getCustomAttributes() {
         if (customAttributes == null) {
@@ -744,7 +754,7 @@ public class TaskImpl implements Task {
             + custom3 + ", custom4=" + custom4 + ", custom5=" + custom5 + ", custom6=" + custom6 + ", custom7="
             + custom7 + ", custom8=" + custom8 + ", custom9=" + custom9 + ", custom10=" + custom10 + ", custom11="
             + custom11 + ", custom12=" + custom12 + ", custom13=" + custom13 + ", custom14=" + custom14 + ", custom15="
-            + custom15 + ", custom16=" + custom16 + "]";
+            + custom15 + ", custom16=" + custom16 + ", version=" + version + "]";
     }
 
     @Override
@@ -763,6 +773,7 @@ public class TaskImpl implements Task {
         result = prime * result + (isRead ? 1231 : 1237);
         result = prime * result + (isTransferred ? 1231 : 1237);
         result = prime * result + priority;
+        result = prime * result + version;
         return result;
     }
 
@@ -807,6 +818,10 @@ public class TaskImpl implements Task {
             return false;
         }
 
+        if (version != other.version) {
+            return false;
+        }
+
         return (priority == other.priority);
 
     }
@@ -0,0 +1,108 @@
+package pro.taskana.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+
+import pro.taskana.exceptions.SystemException;
+
+/**
+ * Copies of the task summary statements for {@link TaskQueryImpl#forEachBatch}. They only differ from the originals
+ * by a fetch size, so that the driver reads the rows of a cursor in portions instead of the whole result at once.
+ * The originals keep the default fetch size of the driver, which suits the bounded results of list().
+ */
+final class TaskQueryCursorStatements {
+
+    static final int FETCH_SIZE = 1000;
+
+    private static final String SUFFIX = "WithCursor";
+    private static final String[] TEMPLATE_STATEMENTS = {
+        "pro.taskana.mappings.QueryMapper.queryTaskSummaries",
+        "pro.taskana.mappings.QueryMapper.queryTaskSummariesDb2"};
+
+    private TaskQueryCursorStatements() {
+    }
+
+    /**
+     * Registers the cursor statements. Has to be called while the MyBatis configuration is built, i.e. before the
+     * configuration is used concurrently.
+     *
+     * @param configuration
+     *            the MyBatis configuration that already contains the QueryMapper
+     */
+    static void registerStatements(Configuration configuration) {
+        for (String templateId : TEMPLATE_STATEMENTS) {
+            String id = statementIdFor(templateId);
+            if (!configuration.hasStatement(id, false)) {
+                MappedStatement template = configuration.getMappedStatement(templateId);
+                configuration.addMappedStatement(
+                    new MappedStatement.Builder(configuration, id, template.getSqlSource(), SqlCommandType.SELECT)
+                        .resource(template.getResource())
+                        .databaseId(template.getDatabaseId())
+                        .resultMaps(template.getResultMaps())
+                        .timeout(template.getTimeout())
+                        .resultSetType(ResultSetType.FORWARD_ONLY)
+                        .fetchSize(FETCH_SIZE)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the cursor statement of a task summary statement.
+     *
+     * @param templateId
+     *            the id of the task summary statement, see {@link TaskQueryImpl#getLinkToMapperScript()}
+     * @return the id of its copy with a fetch size
+     */
+    static String statementIdFor(String templateId) {
+        return templateId + SUFFIX;
+    }
+
+    /**
+     * Reads the task summaries of a query from a cursor and passes them to the consumer in batches. The cursor is
+     * iterated here and not within a ResultHandler, so that the consumer can run further statements, e.g. to augment
+     * the batch, while the cursor is still open.
+     *
+     * @param sqlSession
+     *            the session of the current connection
+     * @param query
+     *            the task query, prepared for execution (access ids, joins and order parameters)
+     * @param batchSize
+     *            the maximum number of task summaries per batch
+     * @param consumer
+     *            the consumer of the batches, the last batch may be smaller
+     * @return the number of task summaries passed to the consumer
+     */
+    static long forEachBatch(SqlSession sqlSession, TaskQueryImpl query, int batchSize,
+        Consumer<List<TaskSummaryImpl>> consumer) {
+        long count = 0;
+        List<TaskSummaryImpl> batch = new ArrayList<>(batchSize);
+        try (Cursor<TaskSummaryImpl> cursor = sqlSession.selectCursor(statementIdFor(query.getLinkToMapperScript()),
+            query)) {
+            for (TaskSummaryImpl task : cursor) {
+                batch.add(task);
+                if (batch.size() == batchSize) {
+                    consumer.accept(batch);
+                    count += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new SystemException("Could not close the cursor of the task query", e);
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+            count += batch.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,195 @@
+package pro.taskana.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+
+import pro.taskana.TaskState;
+import pro.taskana.configuration.DB;
+import pro.taskana.mappings.QueryMapper;
+
+/**
+ * Pre-rendered SQL for the most frequently used shape of task queries, the inbox query: the tasks of a few
+ * workbaskets, optionally restricted to some states and ordered by priority and/or due date. The SQL of such a query
+ * only depends on the number of workbasket ids and states and on the order criteria. It is rendered once per shape
+ * when the engine is created and registered as static MyBatis statement. Queries of this shape therefore skip the
+ * OGNL evaluation of the dynamic queryTaskSummaries script and always use the same prepared statement text.
+ */
+final class TaskQueryFastPath {
+
+    static final int MAX_WORKBASKETS = 3;
+    static final int MAX_STATES = TaskState.values().length;
+
+    private static final String TEMPLATE_STATEMENT = "pro.taskana.mappings.QueryMapper.queryTaskSummaries";
+    private static final String STATEMENT_PREFIX = "pro.taskana.mappings.QueryMapper.queryTaskSummariesFastPath";
+    private static final String WORKBASKET_PARAMETER = "wb";
+    private static final String STATE_PARAMETER = "st";
+    private static final List<String> ORDER_COLUMNS = Arrays.asList("PRIORITY", "DUE");
+    private static final List<String> ORDER_DIRECTIONS = Arrays.asList("ASC", "DESC");
+    private static final String SELECT_CLAUSE = "SELECT " + QueryMapper.TASK_SUMMARY_COLUMNS + " FROM TASK t ";
+
+    private TaskQueryFastPath() {
+    }
+
+    /**
+     * Registers the pre-rendered statements for all supported query shapes. Has to be called while the MyBatis
+     * configuration is built, i.e. before the configuration is used concurrently.
+     *
+     * @param configuration
+     *            the MyBatis configuration that already contains the QueryMapper
+     */
+    static void registerStatements(Configuration configuration) {
+        if (DB.DB2.dbProductId.equals(configuration.getDatabaseId())) {
+            // on DB2 the permission check is part of the task query itself and cannot be skipped
+            return;
+        }
+        MappedStatement template = configuration.getMappedStatement(TEMPLATE_STATEMENT);
+        for (List<String> orderBy : supportedOrderings()) {
+            for (int workbaskets = 1; workbaskets <= MAX_WORKBASKETS; workbaskets++) {
+                for (int states = 0; states <= MAX_STATES; states++) {
+                    String id = statementId(workbaskets, states, orderBy);
+                    if (!configuration.hasStatement(id, false)) {
+                        configuration.addMappedStatement(
+                            buildStatement(configuration, template, id, workbaskets, states, orderBy));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the pre-rendered statement for the given query or null, if the query does not have one of the
+     * supported shapes. The query must have been prepared for execution (access ids, joins and order parameters).
+     *
+     * @param query
+     *            the prepared task query
+     * @return the statement id or null
+     */
+    static String statementIdFor(TaskQueryImpl query) {
+        String[] workbasketIds = query.getWorkbasketIdIn();
+        TaskState[] states = query.getStateIn();
+        if (workbasketIds == null || workbasketIds.length == 0 || workbasketIds.length > MAX_WORKBASKETS
+            || (states != null && states.length > MAX_STATES)
+            || !query.hasOnlyInboxFilters()) {
+            return null;
+        }
+        List<String> orderBy = query.getOrderBy();
+        if (orderBy.size() > ORDER_COLUMNS.size()) {
+            return null;
+        }
+        for (String criterion : orderBy) {
+            String[] columnAndDirection = criterion.split(" ");
+            if (columnAndDirection.length != 2 || !ORDER_COLUMNS.contains(columnAndDirection[0])
+                || !ORDER_DIRECTIONS.contains(columnAndDirection[1])) {
+                return null;
+            }
+        }
+        if (orderBy.size() == 2 && orderBy.get(0).startsWith(orderBy.get(1).split(" ")[0] + " ")) {
+            return null;
+        }
+        return statementId(workbasketIds.length, states == null ? 0 : states.length, orderBy);
+    }
+
+    /**
+     * Creates the parameter object for a pre-rendered statement.
+     *
+     * @param query
+     *            the task query for which statementIdFor() returned a statement id
+     * @return the parameters of the statement
+     */
+    static Map<String, Object> parametersFor(TaskQueryImpl query) {
+        Map<String, Object> parameters = new HashMap<>();
+        String[] workbasketIds = query.getWorkbasketIdIn();
+        for (int i = 0; i < workbasketIds.length; i++) {
+            parameters.put(WORKBASKET_PARAMETER + i, workbasketIds[i]);
+        }
+        TaskState[] states = query.getStateIn();
+        if (states != null) {
+            for (int i = 0; i < states.length; i++) {
+                parameters.put(STATE_PARAMETER + i, states[i].name());
+            }
+        }
+        return parameters;
+    }
+
+    static String renderSql(int workbaskets, int states, List<String> orderBy) {
+        StringBuilder sql = new StringBuilder(SELECT_CLAUSE).append("WHERE t.WORKBASKET_ID IN(");
+        appendPlaceholders(sql, workbaskets);
+        sql.append(')');
+        if (states > 0) {
+            sql.append(" AND t.STATE IN(");
+            appendPlaceholders(sql, states);
+            sql.append(')');
+        }
+        if (!orderBy.isEmpty()) {
+            sql.append(" ORDER BY ").append(String.join(",", orderBy));
+        }
+        return sql.toString();
+    }
+
+    private static MappedStatement buildStatement(Configuration configuration, MappedStatement template, String id,
+        int workbaskets, int states, List<String> orderBy) {
+        List<ParameterMapping> parameterMappings = new ArrayList<>();
+        for (int i = 0; i < workbaskets; i++) {
+            parameterMappings.add(
+                new ParameterMapping.Builder(configuration, WORKBASKET_PARAMETER + i, String.class).build());
+        }
+        for (int i = 0; i < states; i++) {
+            parameterMappings.add(
+                new ParameterMapping.Builder(configuration, STATE_PARAMETER + i, String.class).build());
+        }
+        StaticSqlSource sqlSource = new StaticSqlSource(configuration, renderSql(workbaskets, states, orderBy),
+            parameterMappings);
+        return new MappedStatement.Builder(configuration, id, sqlSource, SqlCommandType.SELECT)
+            .resource(template.getResource())
+            .databaseId(template.getDatabaseId())
+            .resultMaps(template.getResultMaps())
+            .build();
+    }
+
+    private static void appendPlaceholders(StringBuilder sql, int count) {
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append('?');
+        }
+    }
+
+    private static String statementId(int workbaskets, int states, List<String> orderBy) {
+        StringBuilder id = new StringBuilder(STATEMENT_PREFIX).append('_').append(workbaskets).append('_')
+            .append(states);
+        for (String criterion : orderBy) {
+            id.append('_').append(criterion.replace(' ', '_'));
+        }
+        return id.toString();
+    }
+
+    private static List<List<String>> supportedOrderings() {
+        List<List<String>> orderings = new ArrayList<>();
+        orderings.add(Collections.emptyList());
+        for (String column : ORDER_COLUMNS) {
+            for (String direction : ORDER_DIRECTIONS) {
+                String first = column + " " + direction;
+                orderings.add(Collections.singletonList(first));
+                for (String secondColumn : ORDER_COLUMNS) {
+                    if (!secondColumn.equals(column)) {
+                        for (String secondDirection : ORDER_DIRECTIONS) {
+                            orderings.add(Arrays.asList(first, secondColumn + " " + secondDirection));
+                        }
+                    }
+                }
+            }
+        }
+        return orderings;
+    }
+}
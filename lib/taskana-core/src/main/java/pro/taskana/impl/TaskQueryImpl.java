@@ -2,8 +2,11 @@ package pro.taskana.impl;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.RowBounds;
@@ -13,8 +16,10 @@ import org.slf4j.LoggerFactory;
 import pro.taskana.CallbackState;
 import pro.taskana.KeyDomain;
 import pro.taskana.ObjectReferenceQuery;
+import pro.taskana.QueryPage;
 import pro.taskana.TaskQuery;
 import pro.taskana.TaskQueryColumnName;
+import pro.taskana.TaskQueryRow;
 import pro.taskana.TaskState;
 import pro.taskana.TaskSummary;
 import pro.taskana.TaskanaRole;
@@ -24,15 +29,17 @@ import pro.taskana.configuration.DB;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.NotAuthorizedToQueryWorkbasketException;
+import pro.taskana.exceptions.SystemException;
 import pro.taskana.exceptions.TaskanaRuntimeException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.impl.TaskQueryTotalCount.TaskSummaryWithTotalCount;
+import pro.taskana.impl.metrics.ServiceMetricsHandler;
 import pro.taskana.impl.util.LoggerUtils;
-import pro.taskana.security.CurrentUserContext;
 
 /**
  * TaskQuery for generating dynamic sql.
  */
-public class TaskQueryImpl implements TaskQuery {
+public class TaskQueryImpl implements TaskQuery, Cloneable {
 
     private static final String ARGUMENT = "Argument '";
     private static final String GET_CUSTOM_ATTRIBUTE_NOT_A_NUMBER_BETWEEN_1_AND_16 = "' to getCustomAttribute does not represent a number between 1 and 16";
@@ -41,6 +48,9 @@ public class TaskQueryImpl implements TaskQuery {
     private static final String LINK_TO_COUNTER = "pro.taskana.mappings.QueryMapper.countQueryTasks";
     private static final String LINK_TO_COUNTER_DB2 = "pro.taskana.mappings.QueryMapper.countQueryTasksDb2";
     private static final String LINK_TO_VALUEMAPPER = "pro.taskana.mappings.QueryMapper.queryTaskColumnValues";
+    private static final String LINK_TO_IDMAPPER = "pro.taskana.mappings.QueryMapper.queryTaskIds";
+    private static final String LINK_TO_LOCKING_IDMAPPER = "pro.taskana.mappings.QueryMapper.queryUnlockedTaskIdForUpdate";
+    private static final String LINK_TO_COLUMNMAPPER = "pro.taskana.mappings.QueryMapper.queryTaskColumns";
     private static final String TIME_INTERVAL = "TimeInterval ";
     private static final String IS_INVALID = " is invalid.";
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskQueryImpl.class);
@@ -141,18 +151,25 @@ public class TaskQueryImpl implements TaskQuery {
     private TimeInterval[] dueIn;
     private List<String> orderBy;
     private List<String> orderColumns;
+    private List<String> projectedColumns;
+    private List<String> projectionOrderBy;
 
     private boolean useDistinctKeyword = false;
+    private boolean existsOnly = false;
+    private boolean withLazyDetails = false;
+    private boolean withClassificationDetails = false;
+    private boolean withAttachments = false;
     private boolean joinWithAttachments = false;
     private boolean joinWithClassifications = false;
     private boolean joinWithAttachmentClassifications = false;
     private boolean addAttachmentColumnsToSelectClauseForOrdering = false;
     private boolean addClassificationNameToSelectClauseForOrdering = false;
     private boolean addAttachmentClassificationNameToSelectClauseForOrdering = false;
+    private boolean addTotalCountToSelectClause = false;
 
     TaskQueryImpl(InternalTaskanaEngine taskanaEngine) {
         this.taskanaEngine = taskanaEngine;
-        this.taskService = (TaskServiceImpl) taskanaEngine.getEngine().getTaskService();
+        this.taskService = (TaskServiceImpl) ServiceMetricsHandler.unwrap(taskanaEngine.getEngine().getTaskService());
         this.orderBy = new ArrayList<>();
         this.orderColumns = new ArrayList<>();
         this.filterByAccessIdIn = true;
@@ -712,7 +729,7 @@ public class TaskQueryImpl implements TaskQuery {
                 : addOrderCriteria("c.NAME", sortDirection);
     }
 
-    private String getDatabaseId() {
+    String getDatabaseId() {
         return this.taskanaEngine.getSqlSession().getConfiguration().getDatabaseId();
     }
 
@@ -867,44 +884,11 @@ public class TaskQueryImpl implements TaskQuery {
                 ARGUMENT + number + "' to getCustomAttribute cannot be converted to a number between 1 and 16",
                 e.getCause());
         }
-
-        switch (num) {
-            case 1:
-                return addOrderCriteria("CUSTOM_1", sortDirection);
-            case 2:
-                return addOrderCriteria("CUSTOM_2", sortDirection);
-            case 3:
-                return addOrderCriteria("CUSTOM_3", sortDirection);
-            case 4:
-                return addOrderCriteria("CUSTOM_4", sortDirection);
-            case 5:
-                return addOrderCriteria("CUSTOM_5", sortDirection);
-            case 6:
-                return addOrderCriteria("CUSTOM_6", sortDirection);
-            case 7:
-                return addOrderCriteria("CUSTOM_7", sortDirection);
-            case 8:
-                return addOrderCriteria("CUSTOM_8", sortDirection);
-            case 9:
-                return addOrderCriteria("CUSTOM_9", sortDirection);
-            case 10:
-                return addOrderCriteria("CUSTOM_10", sortDirection);
-            case 11:
-                return addOrderCriteria("CUSTOM_11", sortDirection);
-            case 12:
-                return addOrderCriteria("CUSTOM_12", sortDirection);
-            case 13:
-                return addOrderCriteria("CUSTOM_13", sortDirection);
-            case 14:
-                return addOrderCriteria("CUSTOM_14", sortDirection);
-            case 15:
-                return addOrderCriteria("CUSTOM_15", sortDirection);
-            case 16:
-                return addOrderCriteria("CUSTOM_16", sortDirection);
-            default:
-                throw new InvalidArgumentException(
-                    ARGUMENT + number + GET_CUSTOM_ATTRIBUTE_NOT_A_NUMBER_BETWEEN_1_AND_16);
+        if (num < 1 || num > 16) {
+            throw new InvalidArgumentException(
+                ARGUMENT + number + GET_CUSTOM_ATTRIBUTE_NOT_A_NUMBER_BETWEEN_1_AND_16);
         }
+        return addOrderCriteria("CUSTOM_" + num, sortDirection);
     }
 
     @Override
@@ -932,6 +916,30 @@ public class TaskQueryImpl implements TaskQuery {
         return addOrderCriteria("PARENT_BUSINESS_PROCESS_ID", sortDirection);
     }
 
+    @Override
+    public TaskQuery withLazyDetails() {
+        this.withLazyDetails = true;
+        return this;
+    }
+
+    @Override
+    public TaskQuery withClassificationDetails() {
+        this.withClassificationDetails = true;
+        return this;
+    }
+
+    @Override
+    public TaskQuery withAttachments() {
+        this.withAttachments = true;
+        return this;
+    }
+
+    private List<TaskSummary> augmentTaskSummaries(List<TaskSummaryImpl> tasks) {
+        return withLazyDetails
+            ? taskService.augmentTaskSummariesLazily(tasks, withClassificationDetails, withAttachments)
+            : taskService.augmentTaskSummariesByContainedSummaries(tasks);
+    }
+
     @Override
     public ObjectReferenceQuery createObjectReferenceQuery() {
         return new ObjectReferenceQueryImpl(taskanaEngine);
@@ -946,12 +954,15 @@ public class TaskQueryImpl implements TaskQuery {
             checkOpenAndReadPermissionForSpecifiedWorkbaskets();
             setupJoinAndOrderParameters();
             setupAccessIds();
-            List<TaskSummaryImpl> tasks = taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this);
+            String fastPathStatement = getFastPathStatement();
+            List<TaskSummaryImpl> tasks = fastPathStatement == null
+                ? taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this)
+                : taskanaEngine.getSqlSession().selectList(fastPathStatement, TaskQueryFastPath.parametersFor(this));
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("mapper returned {} resulting Objects: {} ", tasks.size(),
                     LoggerUtils.listToString(tasks));
             }
-            result = taskService.augmentTaskSummariesByContainedSummaries(tasks);
+            result = augmentTaskSummaries(tasks);
             return result;
         } finally {
             taskanaEngine.returnConnection();
@@ -962,6 +973,26 @@ public class TaskQueryImpl implements TaskQuery {
         }
     }
 
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<TaskSummary>> consumer) throws InvalidArgumentException {
+        LOGGER.debug("entry to forEachBatch(batchSize = {}), this = {}", batchSize, this);
+        if (batchSize <= 0) {
+            throw new InvalidArgumentException("The batch size must be positive, but was " + batchSize);
+        }
+        long count = 0;
+        try {
+            taskanaEngine.openConnection();
+            checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+            setupJoinAndOrderParameters();
+            setupAccessIds();
+            count = TaskQueryCursorStatements.forEachBatch(taskanaEngine.getSqlSession(), this, batchSize,
+                batch -> consumer.accept(augmentTaskSummaries(batch)));
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from forEachBatch(). Passed {} resulting Objects to the consumer.", count);
+        }
+    }
+
     private void setupJoinAndOrderParameters() {
         // if classificationName or attachmentClassificationName are added to the result set, and multiple
         // attachments exist, the addition of these attribute may increase the result set.
@@ -999,12 +1030,59 @@ public class TaskQueryImpl implements TaskQuery {
                 : LINK_TO_COUNTER;
     }
 
+    /**
+     * Determines the pre-rendered statement of {@link TaskQueryFastPath} that can be used instead of the dynamic task
+     * query script. Must be called after the access ids, joins and order parameters have been set up.
+     *
+     * @return the id of the pre-rendered statement or null, if the dynamic script has to be used
+     */
+    private String getFastPathStatement() {
+        if (DB.DB2.dbProductId.equals(getDatabaseId()) || accessIdIn != null || useDistinctKeyword) {
+            return null;
+        }
+        String statementId = TaskQueryFastPath.statementIdFor(this);
+        if (statementId == null
+            || !taskanaEngine.getSqlSession().getConfiguration().hasStatement(statementId, false)) {
+            return null;
+        }
+        return statementId;
+    }
+
+    /**
+     * Checks whether no other filter than workbasketIdIn and stateIn is set on this query.
+     *
+     * @return true, if only workbasket ids and states are used as filter criteria
+     */
+    boolean hasOnlyInboxFilters() {
+        Object[] otherFilters = {nameIn, nameLike, externalIdIn, externalIdLike, creatorIn, creatorLike, taskIds,
+            description, note, noteLike, priority, workbasketKeyDomainIn, classificationIdIn, classificationKeyIn,
+            classificationKeyLike, classificationKeyNotIn, classificationCategoryIn, classificationCategoryLike,
+            classificationNameIn, classificationNameLike, ownerIn, ownerLike, isRead, isTransferred, porCompanyIn,
+            porCompanyLike, porSystemIn, porSystemLike, porSystemInstanceIn, porSystemInstanceLike, porTypeIn,
+            porTypeLike, porValueIn, porValueLike, parentBusinessProcessIdIn, parentBusinessProcessIdLike,
+            businessProcessIdIn, businessProcessIdLike, callbackStateIn, custom1In, custom1Like, custom2In, custom2Like,
+            custom3In, custom3Like, custom4In, custom4Like, custom5In, custom5Like, custom6In, custom6Like, custom7In,
+            custom7Like, custom8In, custom8Like, custom9In, custom9Like, custom10In, custom10Like, custom11In,
+            custom11Like, custom12In, custom12Like, custom13In, custom13Like, custom14In, custom14Like, custom15In,
+            custom15Like, custom16In, custom16Like, attachmentClassificationKeyIn, attachmentClassificationKeyLike,
+            attachmentClassificationIdIn, attachmentClassificationIdLike, attachmentClassificationNameIn,
+            attachmentClassificationNameLike, attachmentChannelIn, attachmentChannelLike, attachmentReferenceIn,
+            attachmentReferenceLike, attachmentReceivedIn, createdIn, claimedIn, completedIn, modifiedIn, plannedIn,
+            dueIn};
+        for (Object filter : otherFilters) {
+            if (filter != null) {
+                return false;
+            }
+        }
+        return !joinWithAttachments && !joinWithClassifications && !joinWithAttachmentClassifications;
+    }
+
     private void setupAccessIds() {
         if (taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN) || !filterByAccessIdIn) {
             this.accessIdIn = null;
         } else if (this.accessIdIn == null) {
             String[] accessIds = new String[0];
-            List<String> ucAccessIds = CurrentUserContext.getAccessIds();
+            List<String> ucAccessIds = taskanaEngine.getAccessIds();
             if (ucAccessIds != null && !ucAccessIds.isEmpty()) {
                 accessIds = new String[ucAccessIds.size()];
                 accessIds = ucAccessIds.toArray(accessIds);
@@ -1061,9 +1139,12 @@ public class TaskQueryImpl implements TaskQuery {
             setupAccessIds();
             setupJoinAndOrderParameters();
             RowBounds rowBounds = new RowBounds(offset, limit);
-            List<TaskSummaryImpl> tasks = taskanaEngine.getSqlSession()
-                .selectList(getLinkToMapperScript(), this, rowBounds);
-            result = taskService.augmentTaskSummariesByContainedSummaries(tasks);
+            String fastPathStatement = getFastPathStatement();
+            List<TaskSummaryImpl> tasks = fastPathStatement == null
+                ? taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this, rowBounds)
+                : taskanaEngine.getSqlSession()
+                    .selectList(fastPathStatement, TaskQueryFastPath.parametersFor(this), rowBounds);
+            result = augmentTaskSummaries(tasks);
             return result;
         } catch (PersistenceException e) {
             if (e.getMessage().contains("ERRORCODE=-4470")) {
@@ -1082,6 +1163,36 @@ public class TaskQueryImpl implements TaskQuery {
         }
     }
 
+    @Override
+    public QueryPage<TaskSummary> listPageWithTotalCount(int pageNumber, int pageSize) {
+        LOGGER.debug("entry to listPageWithTotalCount(pageNumber = {}, pageSize = {}), this = {}", pageNumber,
+            pageSize, this);
+        QueryPage<TaskSummary> result = null;
+        try {
+            taskanaEngine.openConnection();
+            checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+            setupAccessIds();
+            setupJoinAndOrderParameters();
+            if (!TaskQueryTotalCount.isSupported(this)) {
+                result = TaskQuery.super.listPageWithTotalCount(pageNumber, pageSize);
+                return result;
+            }
+            int offset = (pageNumber < 1) ? 0 : ((pageNumber - 1) * pageSize);
+            int limit = (pageSize < 0) ? 0 : pageSize;
+            List<TaskSummaryWithTotalCount> rows = TaskQueryTotalCount.selectPage(taskanaEngine.getSqlSession(), this,
+                new RowBounds(offset, limit));
+            // an empty page does not contain the total count, it has to be counted separately
+            long totalCount = rows.isEmpty() ? count() : rows.get(0).getTotalCount();
+            List<TaskSummary> items = augmentTaskSummaries(
+                rows.stream().map(TaskSummaryWithTotalCount::getTaskSummary).collect(Collectors.toList()));
+            result = new QueryPage<>(items, totalCount, offset + items.size() < totalCount);
+            return result;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from listPageWithTotalCount(). Returning {}", result);
+        }
+    }
+
     @Override
     public TaskSummary single() {
         LOGGER.debug("entry to single(), this = {}", this);
@@ -1097,7 +1208,7 @@ public class TaskQueryImpl implements TaskQuery {
             }
             List<TaskSummaryImpl> tasks = new ArrayList<>();
             tasks.add(taskSummaryImpl);
-            List<TaskSummary> augmentedList = taskService.augmentTaskSummariesByContainedSummaries(tasks);
+            List<TaskSummary> augmentedList = augmentTaskSummaries(tasks);
             result = augmentedList.get(0);
 
             return result;
@@ -1124,6 +1235,168 @@ public class TaskQueryImpl implements TaskQuery {
         }
     }
 
+    @Override
+    public boolean exists() {
+        LOGGER.debug("entry to exists(), this = {}", this);
+        Long result = null;
+        try {
+            taskanaEngine.openConnection();
+            checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+            setupAccessIds();
+            setupJoinAndOrderParameters();
+            existsOnly = true;
+            result = taskanaEngine.getSqlSession().selectOne(getLinkToCounterTaskScript(), this);
+            return result != null;
+        } finally {
+            existsOnly = false;
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from exists(). Returning result {} ", result != null);
+        }
+    }
+
+    @Override
+    public List<String> listIds() {
+        return listIds(LINK_TO_IDMAPPER, RowBounds.DEFAULT);
+    }
+
+    @Override
+    public List<String> listIds(int offset, int limit) {
+        return listIds(LINK_TO_IDMAPPER, new RowBounds(offset, limit));
+    }
+
+    /**
+     * Lists the ids of the first READY tasks of this query, e.g. the candidates of claimNext. The state filter is
+     * applied to a copy, so this query is not changed. On PostgreSQL and DB2 only the first task that is not locked by
+     * another transaction is listed, and it stays locked until the transaction ends.
+     *
+     * @param limit
+     *            the maximum number of ids, if the tasks are not locked
+     * @return the ids of the READY tasks in the order of this query
+     */
+    List<String> listReadyTaskIds(int limit) {
+        TaskQueryImpl readyTasks = copy();
+        readyTasks.stateIn = new TaskState[] {TaskState.READY};
+        return !DB.H2.dbProductId.equals(getDatabaseId())
+            ? readyTasks.listIds(LINK_TO_LOCKING_IDMAPPER, RowBounds.DEFAULT)
+            : readyTasks.listIds(LINK_TO_IDMAPPER, new RowBounds(0, limit));
+    }
+
+    private List<String> listIds(String statement, RowBounds rowBounds) {
+        LOGGER.debug("entry to listIds(offset = {}, limit = {}), this = {}", rowBounds.getOffset(),
+            rowBounds.getLimit(), this);
+        List<String> result = new ArrayList<>();
+        try {
+            taskanaEngine.openConnection();
+            checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+            setupAccessIds();
+            setupJoinAndOrderParameters();
+            projectionOrderBy = TaskQueryProjectionOrder.qualify(orderBy, useDistinctKeyword);
+            result = taskanaEngine.getSqlSession().selectList(statement, this, rowBounds);
+            return result;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from listIds(). Returning {} resulting Objects.", result.size());
+        }
+    }
+
+    private TaskQueryImpl copy() {
+        try {
+            TaskQueryImpl copy = (TaskQueryImpl) super.clone();
+            copy.orderBy = new ArrayList<>(orderBy);
+            copy.orderColumns = new ArrayList<>(orderColumns);
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new SystemException("TaskQueryImpl could not be copied.", e);
+        }
+    }
+
+    @Override
+    public List<TaskQueryRow> listColumns(TaskQueryColumnName... columnNames) throws InvalidArgumentException {
+        return listColumns(RowBounds.DEFAULT, false, columnNames).getItems();
+    }
+
+    @Override
+    public List<TaskQueryRow> listColumns(int offset, int limit, TaskQueryColumnName... columnNames)
+        throws InvalidArgumentException {
+        return listColumns(new RowBounds(offset, limit), false, columnNames).getItems();
+    }
+
+    @Override
+    public QueryPage<TaskQueryRow> listColumnsPageWithTotalCount(int pageNumber, int pageSize,
+        TaskQueryColumnName... columnNames) throws InvalidArgumentException {
+        int offset = (pageNumber < 1) ? 0 : ((pageNumber - 1) * pageSize);
+        return listColumns(new RowBounds(offset, Math.max(pageSize, 0)), true, columnNames);
+    }
+
+    private QueryPage<TaskQueryRow> listColumns(RowBounds rowBounds, boolean withTotalCount,
+        TaskQueryColumnName... columnNames) throws InvalidArgumentException {
+        LOGGER.debug("entry to listColumns(offset = {}, limit = {}, columnNames = {}), this = {}",
+            rowBounds.getOffset(), rowBounds.getLimit(), columnNames, this);
+        if (columnNames == null || columnNames.length == 0) {
+            throw new InvalidArgumentException("At least one column has to be selected.");
+        }
+        List<TaskQueryRow> result = new ArrayList<>();
+        try {
+            taskanaEngine.openConnection();
+            List<TaskQueryColumnName> columns = Arrays.asList(columnNames);
+            projectedColumns = new ArrayList<>();
+            for (TaskQueryColumnName column : columns) {
+                projectedColumns.add(column.toString());
+                if (column.equals(TaskQueryColumnName.CLASSIFICATION_NAME)) {
+                    joinWithClassifications = true;
+                }
+                if (column.equals(TaskQueryColumnName.A_CLASSIFICATION_NAME)) {
+                    joinWithAttachmentClassifications = true;
+                }
+                if (column.isAttachmentColumn()) {
+                    joinWithAttachments = true;
+                }
+            }
+            checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+            setupAccessIds();
+            setupJoinAndOrderParameters();
+            projectionOrderBy = TaskQueryProjectionOrder.qualify(orderBy, useDistinctKeyword);
+            boolean selectTotalCount = withTotalCount && TaskQueryTotalCount.isSupportedByColumns(this);
+            List<HashMap<String, Object>> rows = selectTotalCount
+                ? TaskQueryTotalCount.selectColumns(taskanaEngine.getSqlSession(), this, rowBounds)
+                : taskanaEngine.getSqlSession().selectList(LINK_TO_COLUMNMAPPER, this, rowBounds);
+            for (HashMap<String, Object> row : rows) {
+                result.add(TaskQueryRowImpl.fromResultMap(columns, row));
+            }
+            if (!withTotalCount) {
+                return new QueryPage<>(result, QueryPage.TOTAL_COUNT_UNKNOWN, false);
+            }
+            // an empty page does not contain the total count, it has to be counted separately
+            long totalCount = selectTotalCount && !rows.isEmpty()
+                ? TaskQueryTotalCount.totalCountOf(rows.get(0))
+                : count();
+            return new QueryPage<>(result, totalCount, rowBounds.getOffset() + result.size() < totalCount);
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from listColumns(). Returning {} resulting Objects.", result.size());
+        }
+    }
+
+    public boolean isExistsOnly() {
+        return existsOnly;
+    }
+
+    public List<String> getProjectedColumns() {
+        return projectedColumns;
+    }
+
+    public List<String> getProjectionOrderBy() {
+        return projectionOrderBy;
+    }
+
+    public boolean isAddTotalCountToSelectClause() {
+        return addTotalCountToSelectClause;
+    }
+
+    void setAddTotalCountToSelectClause(boolean addTotalCountToSelectClause) {
+        this.addTotalCountToSelectClause = addTotalCountToSelectClause;
+    }
+
     public boolean isUseDistinctKeyword() {
         return useDistinctKeyword;
     }
@@ -1711,7 +1984,9 @@ public class TaskQueryImpl implements TaskQuery {
             + Arrays.toString(attachmentReferenceIn) + ", attachmentReferenceLike="
             + Arrays.toString(attachmentReferenceLike) + ", attachmentReceivedIn="
             + Arrays.toString(attachmentReceivedIn) + ", accessIdIn=" + Arrays.toString(accessIdIn)
-            + ", filterByAccessIdIn=" + filterByAccessIdIn + ", createdIn=" + Arrays.toString(createdIn)
+            + ", filterByAccessIdIn=" + filterByAccessIdIn + ", withLazyDetails=" + withLazyDetails
+            + ", withClassificationDetails=" + withClassificationDetails + ", withAttachments=" + withAttachments
+            + ", createdIn=" + Arrays.toString(createdIn)
             + ", claimedIn=" + Arrays.toString(claimedIn) + ", completedIn=" + Arrays.toString(completedIn)
             + ", modifiedIn=" + Arrays.toString(modifiedIn) + ", plannedIn=" + Arrays.toString(plannedIn) + ", dueIn="
             + Arrays.toString(dueIn) + ", orderBy=" + orderBy + ", orderColumns=" + orderColumns
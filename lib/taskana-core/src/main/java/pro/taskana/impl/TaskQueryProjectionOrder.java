@@ -0,0 +1,68 @@
+package pro.taskana.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pro.taskana.BaseQuery.SortDirection;
+
+/**
+ * Translates the order criteria of a task query into qualified column names for the projecting statements of
+ * listIds() and listColumns(). These statements don't select all task columns and don't use the DB2 common table
+ * expression, so the order criteria can neither refer to the unqualified names of the select clause nor to the aliases
+ * of the DB2 statement. If the statements join other tables, they group the rows by task, because a task can have
+ * several attachments. The joined columns are then ordered by their smallest value in ascending and by their largest
+ * value in descending order.
+ */
+final class TaskQueryProjectionOrder {
+
+    private TaskQueryProjectionOrder() {
+    }
+
+    /**
+     * Qualifies the order criteria of a task query.
+     *
+     * @param orderBy
+     *            the order criteria of the task query, each one a column followed by the sort direction
+     * @param groupedByTask
+     *            true, if the projecting statement groups the rows by task
+     * @return the qualified order criteria
+     */
+    static List<String> qualify(List<String> orderBy, boolean groupedByTask) {
+        List<String> qualifiedOrderBy = new ArrayList<>();
+        for (String orderCriteria : orderBy) {
+            int directionIndex = orderCriteria.lastIndexOf(' ');
+            String qualifiedColumn = qualifyColumn(orderCriteria.substring(0, directionIndex));
+            String direction = orderCriteria.substring(directionIndex);
+            if (groupedByTask) {
+                String aggregate = direction.trim().equalsIgnoreCase(SortDirection.DESCENDING.toString()) ? "MAX" : "MIN";
+                qualifiedColumn = aggregate + "(" + qualifiedColumn + ")";
+            }
+            qualifiedOrderBy.add(qualifiedColumn + direction);
+        }
+        return qualifiedOrderBy;
+    }
+
+    private static String qualifyColumn(String column) {
+        if (column.contains(".")) {
+            return column;
+        }
+        switch (column) {
+            case "CNAME":
+                return "c.NAME";
+            case "ACNAME":
+                return "ac.NAME";
+            case "TCLASSIFICATION_KEY":
+                return "t.CLASSIFICATION_KEY";
+            case "ACLASSIFICATION_KEY":
+                return "a.CLASSIFICATION_KEY";
+            case "ACLASSIFICATION_ID":
+                return "a.CLASSIFICATION_ID";
+            case "CHANNEL":
+            case "REF_VALUE":
+            case "RECEIVED":
+                return "a." + column;
+            default:
+                return "t." + column;
+        }
+    }
+}
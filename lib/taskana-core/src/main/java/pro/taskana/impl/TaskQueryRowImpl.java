@@ -0,0 +1,117 @@
+package pro.taskana.impl;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import pro.taskana.TaskQueryColumnName;
+import pro.taskana.TaskQueryRow;
+
+/**
+ * Row of a task query that selected only some columns. The values are kept in an array in the order of the columns.
+ */
+public class TaskQueryRowImpl implements TaskQueryRow {
+
+    private static final String PROJECTION_ALIAS_PREFIX = "P";
+
+    private final List<TaskQueryColumnName> columnNames;
+    private final Object[] values;
+
+    TaskQueryRowImpl(List<TaskQueryColumnName> columnNames, Object[] values) {
+        this.columnNames = columnNames;
+        this.values = values;
+    }
+
+    /**
+     * Creates a row from a result map of QueryMapper#queryTaskColumns. The keys of the map are the aliases P0, P1, ...
+     * of the selected columns, in upper or lower case depending on the database. Null values are missing in the map,
+     * and MyBatis returns no map at all for a row that only contains null values.
+     *
+     * @param columnNames
+     *            the selected columns in the order of their aliases
+     * @param resultMap
+     *            the values of the row by alias or null
+     * @return the row with the values in the order of the columns
+     */
+    static TaskQueryRowImpl fromResultMap(List<TaskQueryColumnName> columnNames, HashMap<String, Object> resultMap) {
+        Object[] values = new Object[columnNames.size()];
+        if (resultMap == null) {
+            return new TaskQueryRowImpl(columnNames, values);
+        }
+        for (Map.Entry<String, Object> entry : resultMap.entrySet()) {
+            String key = entry.getKey();
+            if (key.length() > 1 && PROJECTION_ALIAS_PREFIX.equalsIgnoreCase(key.substring(0, 1))) {
+                int index = Integer.parseInt(key.substring(1));
+                if (index < values.length) {
+                    values[index] = entry.getValue();
+                }
+            }
+        }
+        return new TaskQueryRowImpl(columnNames, values);
+    }
+
+    @Override
+    public List<TaskQueryColumnName> getColumnNames() {
+        return Collections.unmodifiableList(columnNames);
+    }
+
+    @Override
+    public Object get(TaskQueryColumnName columnName) {
+        int index = columnNames.indexOf(columnName);
+        if (index < 0) {
+            throw new IllegalArgumentException("Column " + columnName + " is not contained in this row.");
+        }
+        return values[index];
+    }
+
+    @Override
+    public String getString(TaskQueryColumnName columnName) {
+        Object value = get(columnName);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public Instant getInstant(TaskQueryColumnName columnName) {
+        Object value = get(columnName);
+        if (value == null || value instanceof Instant) {
+            return (Instant) value;
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toInstant();
+        }
+        throw new IllegalArgumentException("Column " + columnName + " is not a timestamp column.");
+    }
+
+    @Override
+    public Integer getInteger(TaskQueryColumnName columnName) {
+        Object value = get(columnName);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        throw new IllegalArgumentException("Column " + columnName + " is not a numeric column.");
+    }
+
+    @Override
+    public Boolean getBoolean(TaskQueryColumnName columnName) {
+        Object value = get(columnName);
+        if (value == null || value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue() != 0;
+        }
+        throw new IllegalArgumentException("Column " + columnName + " is not a flag column.");
+    }
+
+    @Override
+    public String toString() {
+        return "TaskQueryRowImpl [columnNames=" + columnNames + ", values=" + Arrays.toString(values) + "]";
+    }
+}
@@ -0,0 +1,202 @@
+package pro.taskana.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+
+import pro.taskana.configuration.DB;
+import pro.taskana.exceptions.SystemException;
+
+/**
+ * Selects a page of task summaries or of task columns together with the total number of results of the query in one
+ * statement. The total count is selected by the window function COUNT(*) OVER(). The task summary statements map it
+ * into a {@link TaskSummaryWithTotalCount}, so that the task summaries themselves don't carry it.
+ */
+final class TaskQueryTotalCount {
+
+    private static final String SUFFIX = "WithTotalCount";
+    private static final String[] TEMPLATE_STATEMENTS = {
+        "pro.taskana.mappings.QueryMapper.queryTaskSummaries",
+        "pro.taskana.mappings.QueryMapper.queryTaskSummariesDb2"};
+    private static final String LINK_TO_COLUMNMAPPER = "pro.taskana.mappings.QueryMapper.queryTaskColumns";
+    private static final String TASK_SUMMARY_PROPERTY = "taskSummary";
+    private static final String TOTAL_COUNT_COLUMN = "TOTAL_COUNT";
+
+    private TaskQueryTotalCount() {
+    }
+
+    /**
+     * Registers copies of the task summary statements whose rows are mapped into {@link TaskSummaryWithTotalCount}.
+     * Has to be called while the MyBatis configuration is built, i.e. before the configuration is used concurrently.
+     *
+     * @param configuration
+     *            the MyBatis configuration that already contains the QueryMapper
+     */
+    static void registerStatements(Configuration configuration) {
+        for (String templateId : TEMPLATE_STATEMENTS) {
+            String id = templateId + SUFFIX;
+            if (!configuration.hasStatement(id, false)) {
+                MappedStatement template = configuration.getMappedStatement(templateId);
+                configuration.addMappedStatement(
+                    new MappedStatement.Builder(configuration, id, template.getSqlSource(), SqlCommandType.SELECT)
+                        .resource(template.getResource())
+                        .databaseId(template.getDatabaseId())
+                        .resultMaps(Collections.singletonList(buildResultMap(configuration, id, template)))
+                        .timeout(template.getTimeout())
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * The total count can be selected together with the rows by a window function on DB2 and PostgreSQL. H2 does not
+     * support window functions. On PostgreSQL the window function would count the rows before DISTINCT is applied,
+     * while the DB2 statement applies DISTINCT in a common table expression.
+     *
+     * @param query
+     *            the task query, prepared for execution (access ids, joins and order parameters)
+     * @return true, if {@link #selectPage(SqlSession, TaskQueryImpl, RowBounds)} can be used for the query
+     */
+    static boolean isSupported(TaskQueryImpl query) {
+        String databaseId = query.getDatabaseId();
+        return DB.DB2.dbProductId.equals(databaseId)
+            || (DB.POSTGRESS.dbProductId.equals(databaseId) && !query.isUseDistinctKeyword());
+    }
+
+    /**
+     * The statement of listColumns() groups the rows by task instead of using DISTINCT, so the window function counts
+     * the rows of the result on DB2 and PostgreSQL.
+     *
+     * @param query
+     *            the task query, prepared for execution (access ids, joins and order parameters)
+     * @return true, if {@link #selectColumns(SqlSession, TaskQueryImpl, RowBounds)} can be used for the query
+     */
+    static boolean isSupportedByColumns(TaskQueryImpl query) {
+        String databaseId = query.getDatabaseId();
+        return DB.DB2.dbProductId.equals(databaseId) || DB.POSTGRESS.dbProductId.equals(databaseId);
+    }
+
+    /**
+     * Selects a page of the task summaries of the query together with the total number of results. An empty page
+     * does not contain the total count.
+     *
+     * @param sqlSession
+     *            the session of the current connection
+     * @param query
+     *            the task query, prepared for execution (access ids, joins and order parameters)
+     * @param rowBounds
+     *            the offset and limit of the page
+     * @return the rows of the page
+     */
+    static List<TaskSummaryWithTotalCount> selectPage(SqlSession sqlSession, TaskQueryImpl query,
+        RowBounds rowBounds) {
+        query.setAddTotalCountToSelectClause(true);
+        try {
+            return sqlSession.selectList(query.getLinkToMapperScript() + SUFFIX, query, rowBounds);
+        } catch (PersistenceException e) {
+            return emptyPageOrRethrow(e);
+        } finally {
+            query.setAddTotalCountToSelectClause(false);
+        }
+    }
+
+    /**
+     * Selects a page of the projected columns of the query together with the total number of rows, see
+     * {@link #totalCountOf(Map)}. An empty page does not contain the total count.
+     *
+     * @param sqlSession
+     *            the session of the current connection
+     * @param query
+     *            the task query, prepared for execution (projected columns, access ids, joins and order parameters)
+     * @param rowBounds
+     *            the offset and limit of the page
+     * @return the rows of the page
+     */
+    static List<HashMap<String, Object>> selectColumns(SqlSession sqlSession, TaskQueryImpl query,
+        RowBounds rowBounds) {
+        query.setAddTotalCountToSelectClause(true);
+        try {
+            return sqlSession.selectList(LINK_TO_COLUMNMAPPER, query, rowBounds);
+        } catch (PersistenceException e) {
+            return emptyPageOrRethrow(e);
+        } finally {
+            query.setAddTotalCountToSelectClause(false);
+        }
+    }
+
+    /**
+     * Returns the total count of a row that was selected by {@link #selectColumns(SqlSession, TaskQueryImpl,
+     * RowBounds)}. The case of the column name depends on the database.
+     *
+     * @param row
+     *            a row of the page
+     * @return the total number of rows of the query
+     */
+    static long totalCountOf(Map<String, Object> row) {
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            if (TOTAL_COUNT_COLUMN.equalsIgnoreCase(entry.getKey())) {
+                return ((Number) entry.getValue()).longValue();
+            }
+        }
+        throw new SystemException("The row of the task query does not contain the total count: " + row.keySet());
+    }
+
+    private static <T> List<T> emptyPageOrRethrow(PersistenceException e) {
+        // DB2 reports an offset behind the last row as error
+        if (e.getMessage().contains("ERRORCODE=-4470")) {
+            return new ArrayList<>();
+        }
+        throw e;
+    }
+
+    private static ResultMap buildResultMap(Configuration configuration, String statementId,
+        MappedStatement template) {
+        List<ResultMapping> mappings = new ArrayList<>();
+        for (ResultMapping mapping : template.getResultMaps().get(0).getResultMappings()) {
+            mappings.add(new ResultMapping.Builder(configuration, TASK_SUMMARY_PROPERTY + "." + mapping.getProperty(),
+                mapping.getColumn(), mapping.getTypeHandler()).build());
+        }
+        mappings.add(new ResultMapping.Builder(configuration, "totalCount", TOTAL_COUNT_COLUMN, Long.class).build());
+        return new ResultMap.Builder(configuration, statementId + "-Inline", TaskSummaryWithTotalCount.class, mappings,
+            null).build();
+    }
+
+    /**
+     * A row of a task summary statement with the total count of the query.
+     */
+    static final class TaskSummaryWithTotalCount {
+
+        private TaskSummaryImpl taskSummary;
+        private long totalCount;
+
+        TaskSummaryWithTotalCount() {
+        }
+
+        TaskSummaryImpl getTaskSummary() {
+            return taskSummary;
+        }
+
+        void setTaskSummary(TaskSummaryImpl taskSummary) {
+            this.taskSummary = taskSummary;
+        }
+
+        long getTotalCount() {
+            return totalCount;
+        }
+
+        void setTotalCount(long totalCount) {
+            this.totalCount = totalCount;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -20,11 +21,13 @@ import org.slf4j.LoggerFactory;
 import pro.taskana.Attachment;
 import pro.taskana.BulkOperationResults;
 import pro.taskana.CallbackState;
+import pro.taskana.CallbackStateUpdateResults;
 import pro.taskana.Classification;
 import pro.taskana.ClassificationService;
 import pro.taskana.ClassificationSummary;
 import pro.taskana.ObjectReference;
 import pro.taskana.Task;
+import pro.taskana.TaskChangeType;
 import pro.taskana.TaskQuery;
 import pro.taskana.TaskService;
 import pro.taskana.TaskState;
@@ -52,10 +55,10 @@ import pro.taskana.history.events.task.ClaimedEvent;
 import pro.taskana.history.events.task.CompletedEvent;
 import pro.taskana.history.events.task.CreatedEvent;
 import pro.taskana.impl.report.header.TimeIntervalColumnHeader;
-import pro.taskana.impl.util.IdGenerator;
 import pro.taskana.impl.util.LoggerUtils;
 import pro.taskana.mappings.AttachmentMapper;
 import pro.taskana.mappings.CustomPropertySelector;
+import pro.taskana.mappings.TaskChangeMapper;
 import pro.taskana.mappings.TaskMapper;
 import pro.taskana.security.CurrentUserContext;
 
@@ -66,6 +69,12 @@ public class TaskServiceImpl implements TaskService {
 
     private static final String IS_ALREADY_CLAIMED_BY = " is already claimed by ";
     private static final String IS_ALREADY_COMPLETED = " is already completed.";
+    private static final String WAS_CLAIMED_CONCURRENTLY = " was claimed concurrently by another user.";
+    private static final String WAS_MODIFIED_CONCURRENTLY = " was modified concurrently by another user.";
+    private static final String THE_TASK_HAS_ALREADY_BEEN_UPDATED = "The task has already been updated by another user";
+    private static final int CLAIM_NEXT_CANDIDATES = 10;
+    private static final int CLAIM_NEXT_ATTEMPTS = 3;
+    private static final int REFRESH_ATTEMPTS = 3;
     private static final String WAS_NOT_FOUND2 = " was not found.";
     private static final String WAS_NOT_FOUND = " was not found";
     private static final String TASK_WITH_ID = "Task with id ";
@@ -88,9 +97,11 @@ public class TaskServiceImpl implements TaskService {
     private AttachmentMapper attachmentMapper;
     private HistoryEventProducer historyEventProducer;
     private TaskTransferrer taskTransferrer;
+    private TaskChangeRecorder taskChangeRecorder;
+    private TaskSummaryAugmenter taskSummaryAugmenter;
 
     TaskServiceImpl(InternalTaskanaEngine taskanaEngine, TaskMapper taskMapper,
-        AttachmentMapper attachmentMapper) {
+        AttachmentMapper attachmentMapper, TaskChangeMapper taskChangeMapper) {
         super();
         try {
             this.converter = DaysToWorkingDaysConverter
@@ -104,7 +115,9 @@ public class TaskServiceImpl implements TaskService {
         this.attachmentMapper = attachmentMapper;
         this.classificationService = taskanaEngine.getEngine().getClassificationService();
         this.historyEventProducer = taskanaEngine.getHistoryEventProducer();
-        this.taskTransferrer = new TaskTransferrer(taskanaEngine, taskMapper, this);
+        this.taskChangeRecorder = new TaskChangeRecorder(taskChangeMapper);
+        this.taskTransferrer = new TaskTransferrer(taskanaEngine, taskMapper, this, taskChangeRecorder);
+        this.taskSummaryAugmenter = new TaskSummaryAugmenter(taskanaEngine, attachmentMapper);
     }
 
     @Override
@@ -119,6 +132,46 @@ public class TaskServiceImpl implements TaskService {
         return claim(taskId, true);
     }
 
+    @Override
+    public Task claimNext(TaskQuery query) throws NotAuthorizedException {
+        String userId = CurrentUserContext.getUserid();
+        LOGGER.debug("entry to claimNext(query = {}, userId = {})", query, userId);
+        String claimedTaskId = null;
+        try {
+            taskanaEngine.openConnection();
+            for (int attempt = 0; attempt < CLAIM_NEXT_ATTEMPTS && claimedTaskId == null; attempt++) {
+                // on Postgres and DB2 the only candidate is the first task that is not locked by another claimer
+                List<String> candidateIds = ((TaskQueryImpl) query).listReadyTaskIds(CLAIM_NEXT_CANDIDATES);
+                if (candidateIds.isEmpty()) {
+                    break;
+                }
+                Instant now = Instant.now();
+                for (String candidateId : candidateIds) {
+                    if (taskMapper.claim(candidateId, userId, now, true, false, false) == 1) {
+                        claimedTaskId = candidateId;
+                        break;
+                    }
+                }
+            }
+            if (claimedTaskId == null) {
+                LOGGER.debug("No task could be claimed by user '{}'.", userId);
+                return null;
+            }
+            TaskImpl task = (TaskImpl) getTask(claimedTaskId);
+            taskChangeRecorder.record(TaskChangeType.CLAIMED, task);
+            LOGGER.debug("Task '{}' claimed by user '{}'.", claimedTaskId, userId);
+            if (HistoryEventProducer.isHistoryEnabled()) {
+                historyEventProducer.createEvent(new ClaimedEvent(task));
+            }
+            return task;
+        } catch (TaskNotFoundException e) {
+            throw new SystemException(TASK_WITH_ID + claimedTaskId + " was claimed but could not be read.", e);
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from claimNext()");
+        }
+    }
+
     @Override
     public Task cancelClaim(String taskId)
         throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, NotAuthorizedException {
@@ -229,6 +282,7 @@ public class TaskServiceImpl implements TaskService {
             setCallbackStateOnTaskCreation(task);
             try {
                 this.taskMapper.insert(task);
+                taskChangeRecorder.record(TaskChangeType.CREATED, task);
                 LOGGER.debug("Method createTask() created Task '{}'.", task.getId());
                 if (HistoryEventProducer.isHistoryEnabled()) {
                     historyEventProducer.createEvent(new CreatedEvent(task));
@@ -315,9 +369,35 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    @Override
+    public int getTaskVersion(String taskId) throws TaskNotFoundException, NotAuthorizedException {
+        LOGGER.debug("entry to getTaskVersion(taskId = {})", taskId);
+        Integer version = null;
+        try {
+            taskanaEngine.openConnection();
+            MinimalTaskSummary task = taskMapper.findVersionById(taskId);
+            if (task == null) {
+                throw new TaskNotFoundException(taskId, TASK_WITH_ID + taskId + WAS_NOT_FOUND);
+            }
+            // same read permission check as in getTask, but without loading the workbasket summary
+            WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
+            query.setUsedToAugmentTasks(true);
+            if (query.idIn(task.getWorkbasketId()).count() == 0) {
+                throw new NotAuthorizedException(
+                    "The current user " + CurrentUserContext.getUserid() + " has no read permission for workbasket "
+                        + task.getWorkbasketId(), CurrentUserContext.getUserid());
+            }
+            version = task.getVersion();
+            return version;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from getTaskVersion(). Returning result {} ", version);
+        }
+    }
+
     @Override
     public Task setTaskRead(String taskId, boolean isRead)
-        throws TaskNotFoundException, NotAuthorizedException {
+        throws TaskNotFoundException, NotAuthorizedException, ConcurrencyException {
         LOGGER.debug("entry to setTaskRead(taskId = {}, isRead = {})", taskId, isRead);
         TaskImpl task = null;
         try {
@@ -325,7 +405,11 @@ public class TaskServiceImpl implements TaskService {
             task = (TaskImpl) getTask(taskId);
             task.setRead(isRead);
             task.setModified(Instant.now());
-            taskMapper.update(task);
+            if (taskMapper.setRead(taskId, isRead, task.getModified(), task.getVersion()) == 0) {
+                throw new ConcurrencyException(THE_TASK_HAS_ALREADY_BEEN_UPDATED);
+            }
+            task.setVersion(task.getVersion() + 1);
+            taskChangeRecorder.record(TaskChangeType.UPDATED, task);
             LOGGER.debug("Method setTaskRead() set read property of Task '{}' to {} ", task, isRead);
             return task;
         } finally {
@@ -433,6 +517,7 @@ public class TaskServiceImpl implements TaskService {
                 removeSingleTaskForTaskDeletionById(bulkLog, taskSummaries, taskIdIterator);
             }
             if (!taskIds.isEmpty()) {
+                taskChangeRecorder.recordForTaskIds(TaskChangeType.DELETED, taskIds);
                 taskMapper.deleteMultiple(taskIds);
             }
             return bulkLog;
@@ -457,14 +542,10 @@ public class TaskServiceImpl implements TaskService {
                 return bulkLog;
             }
 
-            List<MinimalTaskSummary> taskSummaries = taskMapper.findExistingTasks(null, externalIds);
-
-            Iterator<String> taskIdIterator = externalIds.iterator();
-            while (taskIdIterator.hasNext()) {
-                removeSingleTaskForCallbackStateByExternalId(bulkLog, taskSummaries, taskIdIterator, state);
-            }
+            removeTasksWithInvalidCallbackState(bulkLog, externalIds, state);
             if (!externalIds.isEmpty()) {
                 taskMapper.setCallbackStateMultiple(externalIds, state);
+                taskChangeRecorder.recordForExternalIds(TaskChangeType.CALLBACK_STATE_CHANGED, externalIds);
             }
             return bulkLog;
         } finally {
@@ -473,6 +554,64 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    @Override
+    public CallbackStateUpdateResults setCallbackStateForTasks(Iterator<String> externalIds, CallbackState state,
+        int chunkSize) {
+        LOGGER.debug("entry to setCallbackStateForTasks(state = {}, chunkSize = {})", state, chunkSize);
+        CallbackStateUpdateResults results = new CallbackStateUpdateResults();
+        try {
+            if (externalIds == null) {
+                return results;
+            }
+            int effectiveChunkSize = chunkSize > 0
+                ? chunkSize
+                : taskanaEngine.getEngine().getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+            List<String> chunk = new ArrayList<>(effectiveChunkSize);
+            while (externalIds.hasNext()) {
+                chunk.add(externalIds.next());
+                if (chunk.size() == effectiveChunkSize || !externalIds.hasNext()) {
+                    setCallbackStateForChunk(results, chunk, state);
+                    chunk.clear();
+                }
+            }
+            return results;
+        } finally {
+            LOGGER.debug("exit from setCallbackStateForTasks(). Returning {}", results);
+        }
+    }
+
+    private void setCallbackStateForChunk(CallbackStateUpdateResults results, List<String> chunk,
+        CallbackState state) {
+        int processed = chunk.size();
+        int updated = 0;
+        BulkOperationResults<String, TaskanaException> chunkLog = new BulkOperationResults<>();
+        try {
+            taskanaEngine.openConnection();
+            removeTasksWithInvalidCallbackState(chunkLog, chunk, state);
+            if (!chunk.isEmpty()) {
+                updated = taskMapper.setCallbackStateMultiple(chunk, state);
+                taskChangeRecorder.recordForExternalIds(TaskChangeType.CALLBACK_STATE_CHANGED, chunk);
+            }
+        } finally {
+            taskanaEngine.returnConnection();
+        }
+        results.addAllErrors(chunkLog);
+        results.addChunk(processed, updated);
+    }
+
+    private void removeTasksWithInvalidCallbackState(BulkOperationResults<String, TaskanaException> bulkLog,
+        List<String> externalIds, CallbackState state) {
+        Map<String, MinimalTaskSummary> taskSummariesByExternalId = new HashMap<>();
+        for (MinimalTaskSummary taskSummary : taskMapper.findExistingTasks(null, externalIds)) {
+            taskSummariesByExternalId.put(taskSummary.getExternalId(), taskSummary);
+        }
+        Iterator<String> externalIdIterator = externalIds.iterator();
+        while (externalIdIterator.hasNext()) {
+            removeSingleTaskForCallbackStateByExternalId(bulkLog, taskSummariesByExternalId, externalIdIterator,
+                state);
+        }
+    }
+
     private void removeSingleTaskForTaskDeletionById(BulkOperationResults<String, TaskanaException> bulkLog,
         List<MinimalTaskSummary> taskSummaries, Iterator<String> taskIdIterator) {
         LOGGER.debug("entry to removeSingleTask()");
@@ -506,7 +645,8 @@ public class TaskServiceImpl implements TaskService {
 
     private void removeSingleTaskForCallbackStateByExternalId(BulkOperationResults<String,
         TaskanaException> bulkLog,
-        List<MinimalTaskSummary> taskSummaries, Iterator<String> externalIdIterator, CallbackState desiredCallbackState) {
+        Map<String, MinimalTaskSummary> taskSummariesByExternalId, Iterator<String> externalIdIterator,
+        CallbackState desiredCallbackState) {
         LOGGER.debug("entry to removeSingleTask()");
         String currentExternalId = externalIdIterator.next();
         if (currentExternalId == null || currentExternalId.equals("")) {
@@ -514,10 +654,7 @@ public class TaskServiceImpl implements TaskService {
                 new InvalidArgumentException("IDs with EMPTY or NULL value are not allowed."));
             externalIdIterator.remove();
         } else {
-            MinimalTaskSummary foundSummary = taskSummaries.stream()
-                .filter(taskSummary -> currentExternalId.equals(taskSummary.getExternalId()))
-                .findFirst()
-                .orElse(null);
+            MinimalTaskSummary foundSummary = taskSummariesByExternalId.get(currentExternalId);
             if (foundSummary == null) {
                 bulkLog.addError(currentExternalId, new TaskNotFoundException(currentExternalId,
                     TASK_WITH_ID + currentExternalId + WAS_NOT_FOUND2));
@@ -578,28 +715,24 @@ public class TaskServiceImpl implements TaskService {
         CustomPropertySelector fieldSelector = new CustomPropertySelector();
         TaskImpl updated = initUpdatedTask(customFieldsToUpdate, fieldSelector);
 
+        List<String> changedTasks = new ArrayList<>();
         try {
-            taskanaEngine.openConnection();
-
-            // use query in order to find only those tasks that are visible to the current user
-            List<TaskSummary> taskSummaries = getTasksToChange(selectionCriteria);
-
-            List<String> changedTasks = new ArrayList<>();
-            if (!taskSummaries.isEmpty()) {
-                changedTasks = taskSummaries.stream().map(TaskSummary::getTaskId).collect(Collectors.toList());
-                taskMapper.updateTasks(changedTasks, updated, fieldSelector);
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("updateTasks() updated the following tasks: {} ",
-                        LoggerUtils.listToString(changedTasks));
+            List<String> accessIds = determineAccessIds();
+            int chunkSize = taskanaEngine.getEngine().getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+            String afterId = null;
+            List<String> chunk;
+            do {
+                chunk = updateTaskChunk(selectionCriteria, null, accessIds, afterId, chunkSize, updated,
+                    fieldSelector);
+                if (!chunk.isEmpty()) {
+                    changedTasks.addAll(chunk);
+                    afterId = chunk.get(chunk.size() - 1);
                 }
-
-            } else {
-                LOGGER.debug("updateTasks() found no tasks for update ");
-            }
+            } while (chunk.size() == chunkSize);
+            logUpdatedTasks(changedTasks);
             return changedTasks;
         } finally {
             LOGGER.debug("exit from updateTasks().");
-            taskanaEngine.returnConnection();
         }
     }
 
@@ -615,31 +748,85 @@ public class TaskServiceImpl implements TaskService {
         CustomPropertySelector fieldSelector = new CustomPropertySelector();
         TaskImpl updatedTask = initUpdatedTask(customFieldsToUpdate, fieldSelector);
 
+        List<String> changedTasks = new ArrayList<>();
         try {
-            taskanaEngine.openConnection();
-
-            // use query in order to find only those tasks that are visible to the current user
-            List<TaskSummary> taskSummaries = getTasksToChange(taskIds);
-
-            List<String> changedTasks = new ArrayList<>();
-            if (!taskSummaries.isEmpty()) {
-                changedTasks = taskSummaries.stream().map(TaskSummary::getTaskId).collect(Collectors.toList());
-                taskMapper.updateTasks(changedTasks, updatedTask, fieldSelector);
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("updateTasks() updated the following tasks: {} ",
-                        LoggerUtils.listToString(changedTasks));
-                }
-
-            } else {
+            if (taskIds == null || taskIds.isEmpty()) {
                 LOGGER.debug("updateTasks() found no tasks for update ");
+                return changedTasks;
+            }
+            List<String> accessIds = determineAccessIds();
+            int chunkSize = taskanaEngine.getEngine().getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+            for (int i = 0; i < taskIds.size(); i += chunkSize) {
+                List<String> idChunk = taskIds.subList(i, Math.min(i + chunkSize, taskIds.size()));
+                changedTasks.addAll(updateTaskChunk(null, idChunk, accessIds, null, chunkSize, updatedTask,
+                    fieldSelector));
             }
+            logUpdatedTasks(changedTasks);
             return changedTasks;
         } finally {
             LOGGER.debug("exit from updateTasks().");
+        }
+    }
+
+    /**
+     * Updates the custom fields of the next chunk of tasks that match the given criteria. The chunk is selected by an
+     * id-only query and updated in its own connection, so that neither the memory nor the transaction size depend on
+     * the number of matching tasks.
+     *
+     * @param objectReference
+     *            the primary object reference of the tasks or null
+     * @param taskIds
+     *            the ids of the tasks or null
+     * @param accessIds
+     *            the access ids whose read permission restricts the workbaskets of the tasks or null, if the tasks of
+     *            all workbaskets may be updated
+     * @param afterId
+     *            the id after which the chunk starts or null for the first chunk
+     * @param chunkSize
+     *            the maximum number of tasks in the chunk
+     * @param updatedTask
+     *            the task that contains the new values of the custom fields
+     * @param fieldSelector
+     *            the custom fields that are updated
+     * @return the ids of the updated tasks in ascending order
+     */
+    private List<String> updateTaskChunk(ObjectReference objectReference, List<String> taskIds,
+        List<String> accessIds, String afterId, int chunkSize, TaskImpl updatedTask,
+        CustomPropertySelector fieldSelector) {
+        try {
+            taskanaEngine.openConnection();
+            List<String> chunk = taskMapper.findTaskIdsToUpdate(objectReference, taskIds, accessIds, afterId,
+                chunkSize);
+            if (!chunk.isEmpty()) {
+                taskMapper.updateTasks(chunk, updatedTask, fieldSelector);
+                taskChangeRecorder.recordForTaskIds(TaskChangeType.UPDATED, chunk);
+            }
+            return chunk;
+        } finally {
             taskanaEngine.returnConnection();
         }
     }
 
+    /**
+     * Determines the access ids whose read permission restricts the tasks that may be changed by the current user.
+     *
+     * @return the access ids of the current user or null, if the current user may change the tasks of all workbaskets
+     */
+    private List<String> determineAccessIds() {
+        if (taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN)) {
+            return null;
+        }
+        return taskanaEngine.getAccessIds();
+    }
+
+    private void logUpdatedTasks(List<String> changedTasks) {
+        if (changedTasks.isEmpty()) {
+            LOGGER.debug("updateTasks() found no tasks for update ");
+        } else if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("updateTasks() updated the following tasks: {} ", LoggerUtils.listToString(changedTasks));
+        }
+    }
+
     @Override
     public Task updateTask(Task task)
         throws InvalidArgumentException, TaskNotFoundException, ConcurrencyException,
@@ -654,7 +841,12 @@ public class TaskServiceImpl implements TaskService {
             PrioDurationHolder prioDurationFromAttachments = handleAttachmentsOnTaskUpdate(oldTaskImpl, newTaskImpl);
             standardUpdateActions(oldTaskImpl, newTaskImpl, prioDurationFromAttachments);
 
-            taskMapper.update(newTaskImpl);
+            Set<String> changedColumns = DirtyTaskColumns.between(oldTaskImpl, newTaskImpl);
+            if (taskMapper.updateChangedColumns(newTaskImpl, changedColumns) == 0) {
+                throw new ConcurrencyException(THE_TASK_HAS_ALREADY_BEEN_UPDATED);
+            }
+            newTaskImpl.setVersion(newTaskImpl.getVersion() + 1);
+            taskChangeRecorder.record(TaskChangeType.UPDATED, newTaskImpl);
             LOGGER.debug("Method updateTask() updated task '{}' for user '{}'.", task.getId(), userId);
 
         } finally {
@@ -668,9 +860,9 @@ public class TaskServiceImpl implements TaskService {
         PrioDurationHolder prioDurationFromAttachments) throws InvalidArgumentException {
         LOGGER.debug("entry to standardSettings()");
         Instant now = Instant.now();
-        task.setId(IdGenerator.generateWithPrefix(ID_PREFIX_TASK));
+        task.setId(taskanaEngine.generateId(ID_PREFIX_TASK));
         if (task.getExternalId() == null) {
-            task.setExternalId(IdGenerator.generateWithPrefix(ID_PREFIX_EXT_TASK_ID));
+            task.setExternalId(taskanaEngine.generateId(ID_PREFIX_EXT_TASK_ID));
         }
         task.setState(TaskState.READY);
         task.setCreated(now);
@@ -687,7 +879,7 @@ public class TaskServiceImpl implements TaskService {
 
         // if no business process id is provided, a unique id is created.
         if (task.getBusinessProcessId() == null) {
-            task.setBusinessProcessId(IdGenerator.generateWithPrefix(ID_PREFIX_BUSINESS_PROCESS));
+            task.setBusinessProcessId(taskanaEngine.generateId(ID_PREFIX_BUSINESS_PROCESS));
         }
 
         //null in case of manual tasks
@@ -736,7 +928,7 @@ public class TaskServiceImpl implements TaskService {
         if (attachments != null) {
             for (Attachment attachment : attachments) {
                 AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
-                attachmentImpl.setId(IdGenerator.generateWithPrefix(ID_PREFIX_ATTACHMENT));
+                attachmentImpl.setId(taskanaEngine.generateId(ID_PREFIX_ATTACHMENT));
                 attachmentImpl.setTaskId(task.getId());
                 attachmentImpl.setCreated(now);
                 attachmentImpl.setModified(now);
@@ -804,7 +996,7 @@ public class TaskServiceImpl implements TaskService {
             } else if (taskSummary.getClaimed() == null || taskSummary.getState() != TaskState.CLAIMED) {
                 bulkLog.addError(currentTaskId, new InvalidStateException(currentTaskId));
                 taskIdIterator.remove();
-            } else if (!CurrentUserContext.getAccessIds().contains(taskSummary.getOwner())) {
+            } else if (!taskanaEngine.getAccessIds().contains(taskSummary.getOwner())) {
                 bulkLog.addError(currentTaskId, new InvalidOwnerException(
                     "TaskOwner is" + taskSummary.getOwner() + ", but current User is "
                         + CurrentUserContext.getUserid()));
@@ -827,6 +1019,7 @@ public class TaskServiceImpl implements TaskService {
 
         if (!taskIds.isEmpty() && !taskSummaries.isEmpty()) {
             taskMapper.updateCompleted(taskIds, (TaskSummaryImpl) taskSummaries.get(0));
+            taskChangeRecorder.recordForTaskIds(TaskChangeType.COMPLETED, taskIds);
             if (HistoryEventProducer.isHistoryEnabled()) {
                 createTasksCompletedEvents(taskSummaries);
             }
@@ -857,7 +1050,11 @@ public class TaskServiceImpl implements TaskService {
             task.setClaimed(null);
             task.setRead(true);
             task.setState(TaskState.READY);
-            taskMapper.update(task);
+            if (taskMapper.updateChangedColumns(task, DirtyTaskColumns.CLAIM_CANCELLED) == 0) {
+                throw new InvalidStateException(TASK_WITH_ID + taskId + WAS_MODIFIED_CONCURRENTLY);
+            }
+            task.setVersion(task.getVersion() + 1);
+            taskChangeRecorder.record(TaskChangeType.CLAIM_CANCELLED, task);
             LOGGER.debug("Task '{}' unclaimed by user '{}'.", taskId, userId);
             if (HistoryEventProducer.isHistoryEnabled()) {
                 historyEventProducer.createEvent(new ClaimCancelledEvent(task));
@@ -869,56 +1066,6 @@ public class TaskServiceImpl implements TaskService {
         return task;
     }
 
-    private void addClassificationSummariesToTaskSummaries(List<TaskSummaryImpl> tasks,
-        List<ClassificationSummary> classifications) {
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("entry to addClassificationSummariesToTaskSummaries(tasks = {}, classifications = {})",
-                LoggerUtils.listToString(tasks), LoggerUtils.listToString(classifications));
-        }
-
-        if (tasks == null || tasks.isEmpty()) {
-            LOGGER.debug("exit from addClassificationSummariesToTaskSummaries()");
-            return;
-        }
-        // assign query results to appropriate tasks.
-        for (TaskSummaryImpl task : tasks) {
-            String classificationId = task.getClassificationSummary().getId();
-            ClassificationSummary aClassification = classifications.stream()
-                .filter(c -> c.getId().equals(classificationId))
-                .findFirst()
-                .orElse(null);
-            if (aClassification == null) {
-                throw new SystemException(
-                    "Did not find a Classification for task (Id=" + task.getTaskId() + ",classification="
-                        + task.getClassificationSummary().getId() + ")");
-            }
-            // set the classification on the task object
-            task.setClassificationSummary(aClassification);
-        }
-        LOGGER.debug("exit from addClassificationSummariesToTaskSummaries()");
-    }
-
-    private List<ClassificationSummary> findClassificationsForTasksAndAttachments(
-        List<TaskSummaryImpl> taskSummaries, List<AttachmentSummaryImpl> attachmentSummaries) {
-        LOGGER.debug("entry to findClassificationsForTasksAndAttachments()");
-        if (taskSummaries == null || taskSummaries.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        Set<String> classificationIdSet = taskSummaries.stream()
-            .map(t -> t.getClassificationSummary().getId())
-            .collect(
-                Collectors.toSet());
-
-        if (attachmentSummaries != null && !attachmentSummaries.isEmpty()) {
-            for (AttachmentSummaryImpl att : attachmentSummaries) {
-                classificationIdSet.add(att.getClassificationSummary().getId());
-            }
-        }
-        LOGGER.debug("exit from findClassificationsForTasksAndAttachments()");
-        return queryClassificationsForTasksAndAttachments(classificationIdSet);
-    }
-
     private List<ClassificationSummary> findClassificationForTaskImplAndAttachments(TaskImpl task,
         List<AttachmentImpl> attachmentImpls) {
         LOGGER.debug("entry to transferBulk()");
@@ -929,110 +1076,7 @@ public class TaskServiceImpl implements TaskService {
             }
         }
         LOGGER.debug("exit from findClassificationForTaskImplAndAttachments()");
-        return queryClassificationsForTasksAndAttachments(classificationIdSet);
-    }
-
-    private List<ClassificationSummary> queryClassificationsForTasksAndAttachments(Set<String> classificationIdSet) {
-
-        String[] classificationIdArray = classificationIdSet.toArray(new String[0]);
-
-        LOGGER.debug("getClassificationsForTasksAndAttachments() about to query classifications and exit");
-        // perform classification query
-        return this.classificationService.createClassificationQuery()
-            .idIn(classificationIdArray)
-            .list();
-    }
-
-    private void addWorkbasketSummariesToTaskSummaries(List<TaskSummaryImpl> taskSummaries) {
-        LOGGER.debug("entry to addWorkbasketSummariesToTaskSummaries()");
-        if (taskSummaries == null || taskSummaries.isEmpty()) {
-            return;
-        }
-        // calculate parameters for workbasket query: workbasket keys
-        Set<String> workbasketIdSet = taskSummaries.stream()
-            .map(t -> t.getWorkbasketSummary().getId())
-            .collect(
-                Collectors.toSet());
-        String[] workbasketIdArray = workbasketIdSet.toArray(new String[0]);
-        LOGGER.debug("addWorkbasketSummariesToTaskSummaries() about to query workbaskets");
-        WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
-        query.setUsedToAugmentTasks(true);
-
-        List<WorkbasketSummary> workbaskets = query
-            .idIn(workbasketIdArray)
-            .list();
-        Iterator<TaskSummaryImpl> taskIterator = taskSummaries.iterator();
-        while (taskIterator.hasNext()) {
-            TaskSummaryImpl task = taskIterator.next();
-            String workbasketId = task.getWorkbasketSummaryImpl().getId();
-
-            WorkbasketSummary aWorkbasket = workbaskets.stream()
-                .filter(x -> workbasketId != null && workbasketId.equals(x.getId()))
-                .findFirst()
-                .orElse(null);
-            if (aWorkbasket == null) {
-                LOGGER.warn("Could not find a Workbasket for task {}.", task.getTaskId());
-                taskIterator.remove();
-                continue;
-            }
-
-            task.setWorkbasketSummary(aWorkbasket);
-        }
-        LOGGER.debug("exit from addWorkbasketSummariesToTaskSummaries()");
-    }
-
-    private void addAttachmentSummariesToTaskSummaries(List<TaskSummaryImpl> taskSummaries,
-        List<AttachmentSummaryImpl> attachmentSummaries, List<ClassificationSummary> classifications) {
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(
-                "entry to addAttachmentSummariesToTaskSummaries(taskSummaries = {}, attachmentSummaries = {}, classifications = {})",
-                LoggerUtils.listToString(taskSummaries), LoggerUtils.listToString(attachmentSummaries),
-                LoggerUtils.listToString(classifications));
-        }
-
-        if (taskSummaries == null || taskSummaries.isEmpty()) {
-            return;
-        }
-
-        // augment attachment summaries by classification summaries
-        // Note:
-        // the mapper sets for each Attachment summary the property classificationSummary.key from the
-        // CLASSIFICATION_KEY property in the DB
-        addClassificationSummariesToAttachmentSummaries(attachmentSummaries, taskSummaries, classifications);
-        // assign attachment summaries to task summaries
-        for (TaskSummaryImpl task : taskSummaries) {
-            for (AttachmentSummaryImpl attachment : attachmentSummaries) {
-                if (attachment.getTaskId() != null && attachment.getTaskId().equals(task.getTaskId())) {
-                    task.addAttachmentSummary(attachment);
-                }
-            }
-        }
-
-        LOGGER.debug("exit from addAttachmentSummariesToTaskSummaries()");
-    }
-
-    private void addClassificationSummariesToAttachmentSummaries(List<AttachmentSummaryImpl> attachmentSummaries,
-        List<TaskSummaryImpl> taskSummaries, List<ClassificationSummary> classifications) {
-        LOGGER.debug("entry to addClassificationSummariesToAttachmentSummaries()");
-        // prereq: in each attachmentSummary, the classificationSummary.key property is set.
-        if (attachmentSummaries == null || attachmentSummaries.isEmpty() || taskSummaries == null
-            || taskSummaries.isEmpty()) {
-            LOGGER.debug("exit from addClassificationSummariesToAttachmentSummaries()");
-            return;
-        }
-        // iterate over all attachment summaries an add the appropriate classification summary to each
-        for (AttachmentSummaryImpl att : attachmentSummaries) {
-            String classificationId = att.getClassificationSummary().getId();
-            ClassificationSummary aClassification = classifications.stream()
-                .filter(x -> classificationId != null && classificationId.equals(x.getId()))
-                .findFirst()
-                .orElse(null);
-            if (aClassification == null) {
-                throw new SystemException("Could not find a Classification for attachment " + att);
-            }
-            att.setClassificationSummary(aClassification);
-        }
-        LOGGER.debug("exit from addClassificationSummariesToAttachmentSummaries()");
+        return taskSummaryAugmenter.queryClassificationsForTasksAndAttachments(classificationIdSet);
     }
 
     private List<Attachment> addClassificationSummariesToAttachments(List<AttachmentImpl> attachmentImpls,
@@ -1110,22 +1154,6 @@ public class TaskServiceImpl implements TaskService {
         LOGGER.debug("exit from validateCustomFields()");
     }
 
-    private List<TaskSummary> getTasksToChange(List<String> taskIds) {
-        return createTaskQuery()
-            .idIn(taskIds.toArray(new String[taskIds.size()]))
-            .list();
-    }
-
-    private List<TaskSummary> getTasksToChange(ObjectReference selectionCriteria) {
-        return createTaskQuery()
-            .primaryObjectReferenceCompanyIn(selectionCriteria.getCompany())
-            .primaryObjectReferenceSystemIn(selectionCriteria.getSystem())
-            .primaryObjectReferenceSystemInstanceIn(selectionCriteria.getSystemInstance())
-            .primaryObjectReferenceTypeIn(selectionCriteria.getType())
-            .primaryObjectReferenceValueIn(selectionCriteria.getValue())
-            .list();
-    }
-
     private void validateObjectReference(ObjectReference objRef, String objRefType, String objName)
         throws InvalidArgumentException {
         LOGGER.debug("entry to validateObjectReference()");
@@ -1199,12 +1227,13 @@ public class TaskServiceImpl implements TaskService {
         PrioDurationHolder prioDurationFromAttachments)
         throws InvalidArgumentException, ConcurrencyException, ClassificationNotFoundException {
         validateObjectReference(newTaskImpl.getPrimaryObjRef(), "primary ObjectReference", "Task");
-        //TODO: not safe to rely only on different timestamps.
-        // With fast execution below 1ms there will be no concurrencyException
-        if (oldTaskImpl.getModified() != null && !oldTaskImpl.getModified().equals(newTaskImpl.getModified())
+        // the comparison of the timestamps detects most stale updates early. Updates within the same millisecond are
+        // detected by the version condition of the update statement.
+        if (oldTaskImpl.getVersion() != newTaskImpl.getVersion()
+            || oldTaskImpl.getModified() != null && !oldTaskImpl.getModified().equals(newTaskImpl.getModified())
             || oldTaskImpl.getClaimed() != null && !oldTaskImpl.getClaimed().equals(newTaskImpl.getClaimed())
             || oldTaskImpl.getState() != null && !oldTaskImpl.getState().equals(newTaskImpl.getState())) {
-            throw new ConcurrencyException("The task has already been updated by another user");
+            throw new ConcurrencyException(THE_TASK_HAS_ALREADY_BEEN_UPDATED);
         }
 
         if (oldTaskImpl.getExternalId() == null || !(oldTaskImpl.getExternalId().equals(newTaskImpl.getExternalId()))) {
@@ -1490,7 +1519,7 @@ public class TaskServiceImpl implements TaskService {
     private void initAttachment(AttachmentImpl attachment, Task newTask) {
         LOGGER.debug("entry to initAttachment()");
         if (attachment.getId() == null) {
-            attachment.setId(IdGenerator.generateWithPrefix(ID_PREFIX_ATTACHMENT));
+            attachment.setId(taskanaEngine.generateId(ID_PREFIX_ATTACHMENT));
         }
         if (attachment.getCreated() == null) {
             attachment.setCreated(Instant.now());
@@ -1507,10 +1536,10 @@ public class TaskServiceImpl implements TaskService {
     public Set<String> findTasksIdsAffectedByClassificationChange(String classificationId) {
         LOGGER.debug("entry to findTasksIdsAffectedByClassificationChange(classificationId = {})", classificationId);
         // tasks directly affected
-        List<TaskSummary> tasks = createTaskQuery()
+        List<String> taskIds = createTaskQuery()
             .classificationIdIn(classificationId)
             .stateIn(TaskState.READY, TaskState.CLAIMED)
-            .list();
+            .listIds();
 
         // tasks indirectly affected via attachments
         List<String> taskIdsFromAttachments = attachmentMapper.findTaskIdsAffectedByClassificationChange(
@@ -1520,9 +1549,7 @@ public class TaskServiceImpl implements TaskService {
             : taskMapper.filterTaskIdsForNotCompleted(taskIdsFromAttachments);
 
         Set<String> affectedTaskIds = new HashSet<>(filteredTaskIdsFromAttachments);
-        for (TaskSummary task : tasks) {
-            affectedTaskIds.add(task.getTaskId());
-        }
+        affectedTaskIds.addAll(taskIds);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("the following tasks are affected by the update of classification {} : {}", classificationId,
                 LoggerUtils.setToString(affectedTaskIds));
@@ -1532,39 +1559,47 @@ public class TaskServiceImpl implements TaskService {
     }
 
     public void refreshPriorityAndDueDate(String taskId)
-        throws ClassificationNotFoundException {
+        throws ClassificationNotFoundException, ConcurrencyException {
         LOGGER.debug("entry to refreshPriorityAndDueDate(taskId = {})", taskId);
-        TaskImpl task = null;
-        BulkOperationResults<String, Exception> bulkLog = new BulkOperationResults<>();
         try {
             taskanaEngine.openConnection();
             if (taskId == null || taskId.isEmpty()) {
                 return;
             }
-
-            task = taskMapper.findById(taskId);
-
-            List<AttachmentImpl> attachmentImpls = attachmentMapper.findAttachmentsByTaskId(task.getId());
-            if (attachmentImpls == null) {
-                attachmentImpls = new ArrayList<>();
+            // a task that is updated concurrently is read and refreshed again
+            for (int attempt = 0; attempt < REFRESH_ATTEMPTS; attempt++) {
+                TaskImpl task = taskMapper.findById(taskId);
+                recomputePriorityAndDueDate(task);
+                if (taskMapper.updateChangedColumns(task, DirtyTaskColumns.PRIORITY_AND_DUE) == 1) {
+                    task.setVersion(task.getVersion() + 1);
+                    taskChangeRecorder.record(TaskChangeType.UPDATED, task);
+                    return;
+                }
             }
-            List<Attachment> attachments = augmentAttachmentsByClassification(attachmentImpls, bulkLog);
-            task.setAttachments(attachments);
-
-            Classification classification = classificationService
-                .getClassification(task.getClassificationSummary().getId());
-            task.setClassificationSummary(classification.asSummary());
-            PrioDurationHolder prioDurationFromAttachments = handleAttachmentsOnClassificationUpdate(task);
-
-            updatePrioDueDateOnClassificationUpdate(task, prioDurationFromAttachments);
-
-            task.setModified(Instant.now());
-            taskMapper.update(task);
+            throw new ConcurrencyException(THE_TASK_HAS_ALREADY_BEEN_UPDATED);
         } finally {
             taskanaEngine.returnConnection();
             LOGGER.debug("exit from refreshPriorityAndDueDate(). ");
         }
+    }
+
+    private void recomputePriorityAndDueDate(TaskImpl task) throws ClassificationNotFoundException {
+        BulkOperationResults<String, Exception> bulkLog = new BulkOperationResults<>();
+        List<AttachmentImpl> attachmentImpls = attachmentMapper.findAttachmentsByTaskId(task.getId());
+        if (attachmentImpls == null) {
+            attachmentImpls = new ArrayList<>();
+        }
+        List<Attachment> attachments = augmentAttachmentsByClassification(attachmentImpls, bulkLog);
+        task.setAttachments(attachments);
 
+        Classification classification = classificationService
+            .getClassification(task.getClassificationSummary().getId());
+        task.setClassificationSummary(classification.asSummary());
+        PrioDurationHolder prioDurationFromAttachments = handleAttachmentsOnClassificationUpdate(task);
+
+        updatePrioDueDateOnClassificationUpdate(task, prioDurationFromAttachments);
+
+        task.setModified(Instant.now());
     }
 
     private void updatePrioDueDateOnClassificationUpdate(TaskImpl task,
@@ -1616,7 +1651,7 @@ public class TaskServiceImpl implements TaskService {
             if (!isForced) {
                 if (task.getClaimed() == null || task.getState() != TaskState.CLAIMED) {
                     throw new InvalidStateException(TASK_WITH_ID + taskId + " has to be claimed before.");
-                } else if (!CurrentUserContext.getAccessIds().contains(task.getOwner())) {
+                } else if (!taskanaEngine.getAccessIds().contains(task.getOwner())) {
                     throw new InvalidOwnerException(
                         "Owner of task " + taskId + " is " + task.getOwner() + ", but current User is " + userId);
                 }
@@ -1631,7 +1666,11 @@ public class TaskServiceImpl implements TaskService {
             task.setModified(now);
             task.setState(TaskState.COMPLETED);
             task.setOwner(userId);
-            taskMapper.update(task);
+            if (taskMapper.complete(taskId, userId, now, task.getVersion()) == 0) {
+                throw new InvalidStateException(TASK_WITH_ID + taskId + WAS_MODIFIED_CONCURRENTLY);
+            }
+            task.setVersion(task.getVersion() + 1);
+            taskChangeRecorder.record(TaskChangeType.COMPLETED, task);
             LOGGER.debug("Task '{}' completed by user '{}'.", taskId, userId);
             if (HistoryEventProducer.isHistoryEnabled()) {
                 historyEventProducer.createEvent(new CompletedEvent(task));
@@ -1665,7 +1704,15 @@ public class TaskServiceImpl implements TaskService {
             task.setClaimed(now);
             task.setRead(true);
             task.setState(TaskState.CLAIMED);
-            taskMapper.update(task);
+            // the update only succeeds if the task was not claimed or completed by someone else in the meantime
+            if (taskMapper.claim(taskId, userId, now, true, true, forceClaim) == 0) {
+                if (forceClaim) {
+                    throw new InvalidStateException(TASK_WITH_ID + taskId + IS_ALREADY_COMPLETED);
+                }
+                throw new InvalidOwnerException(TASK_WITH_ID + taskId + WAS_CLAIMED_CONCURRENTLY);
+            }
+            task.setVersion(task.getVersion() + 1);
+            taskChangeRecorder.record(TaskChangeType.CLAIMED, task);
             LOGGER.debug("Task '{}' claimed by user '{}'.", taskId, userId);
             if (HistoryEventProducer.isHistoryEnabled()) {
                 historyEventProducer.createEvent(new ClaimedEvent(task));
@@ -1742,6 +1789,7 @@ public class TaskServiceImpl implements TaskService {
                     "Task " + taskId + " cannot be deleted because its callback is not yet processed");
             }
 
+            taskChangeRecorder.record(TaskChangeType.DELETED, task);
             taskMapper.delete(taskId);
             LOGGER.debug("Task {} deleted.", taskId);
         } finally {
@@ -1756,32 +1804,13 @@ public class TaskServiceImpl implements TaskService {
     }
 
     List<TaskSummary> augmentTaskSummariesByContainedSummaries(List<TaskSummaryImpl> taskSummaries) {
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("entry to augmentTaskSummariesByContainedSummaries(taskSummaries= {})",
-                LoggerUtils.listToString(taskSummaries));
-        }
-
-        List<TaskSummary> result = new ArrayList<>();
-        if (taskSummaries == null || taskSummaries.isEmpty()) {
-            return result;
-        }
-
-        Set<String> taskIdSet = taskSummaries.stream().map(TaskSummaryImpl::getTaskId).collect(Collectors.toSet());
-        String[] taskIdArray = taskIdSet.toArray(new String[0]);
-
-        LOGGER.debug("augmentTaskSummariesByContainedSummaries() about to query for attachmentSummaries ");
-        List<AttachmentSummaryImpl> attachmentSummaries = attachmentMapper
-            .findAttachmentSummariesByTaskIds(taskIdArray);
-
-        List<ClassificationSummary> classifications = findClassificationsForTasksAndAttachments(taskSummaries,
-            attachmentSummaries);
+        return taskSummaryAugmenter.augmentTaskSummariesByContainedSummaries(taskSummaries);
+    }
 
-        addClassificationSummariesToTaskSummaries(taskSummaries, classifications);
-        addWorkbasketSummariesToTaskSummaries(taskSummaries);
-        addAttachmentSummariesToTaskSummaries(taskSummaries, attachmentSummaries, classifications);
-        result.addAll(taskSummaries);
-        LOGGER.debug("exit from to augmentTaskSummariesByContainedSummaries()");
-        return result;
+    List<TaskSummary> augmentTaskSummariesLazily(List<TaskSummaryImpl> taskSummaries,
+        boolean withClassificationDetails, boolean withAttachments) {
+        return taskSummaryAugmenter.augmentTaskSummariesLazily(taskSummaries, withClassificationDetails,
+            withAttachments);
     }
 
     /**
@@ -0,0 +1,356 @@
+package pro.taskana.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.ClassificationService;
+import pro.taskana.ClassificationSummary;
+import pro.taskana.TaskSummary;
+import pro.taskana.WorkbasketService;
+import pro.taskana.WorkbasketSummary;
+import pro.taskana.exceptions.SystemException;
+import pro.taskana.impl.util.LoggerUtils;
+import pro.taskana.mappings.AttachmentMapper;
+
+/**
+ * This class is responsible for setting the workbasket, classification and attachment summaries of the task summaries
+ * of a query result.
+ */
+class TaskSummaryAugmenter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskSummaryAugmenter.class);
+
+    private InternalTaskanaEngine taskanaEngine;
+    private WorkbasketService workbasketService;
+    private ClassificationService classificationService;
+    private AttachmentMapper attachmentMapper;
+
+    TaskSummaryAugmenter(InternalTaskanaEngine taskanaEngine, AttachmentMapper attachmentMapper) {
+        this.taskanaEngine = taskanaEngine;
+        this.workbasketService = taskanaEngine.getEngine().getWorkbasketService();
+        this.classificationService = taskanaEngine.getEngine().getClassificationService();
+        this.attachmentMapper = attachmentMapper;
+    }
+
+    /**
+     * Sets the workbasket, classification and attachment summaries of the given task summaries. Task summaries whose
+     * workbasket is not found are removed.
+     *
+     * @param taskSummaries
+     *            the task summaries of a query result
+     * @return the augmented task summaries
+     */
+    List<TaskSummary> augmentTaskSummariesByContainedSummaries(List<TaskSummaryImpl> taskSummaries) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("entry to augmentTaskSummariesByContainedSummaries(taskSummaries= {})",
+                LoggerUtils.listToString(taskSummaries));
+        }
+
+        List<TaskSummary> result = new ArrayList<>();
+        if (taskSummaries == null || taskSummaries.isEmpty()) {
+            return result;
+        }
+
+        Set<String> taskIdSet = taskSummaries.stream().map(TaskSummaryImpl::getTaskId).collect(Collectors.toSet());
+        String[] taskIdArray = taskIdSet.toArray(new String[0]);
+
+        LOGGER.debug("augmentTaskSummariesByContainedSummaries() about to query for attachmentSummaries ");
+        List<AttachmentSummaryImpl> attachmentSummaries = attachmentMapper
+            .findAttachmentSummariesByTaskIds(taskIdArray);
+
+        List<ClassificationSummary> classifications = findClassificationsForTasksAndAttachments(taskSummaries,
+            attachmentSummaries);
+
+        addClassificationSummariesToTaskSummaries(taskSummaries, classifications);
+        addWorkbasketSummariesToTaskSummaries(taskSummaries);
+        addAttachmentSummariesToTaskSummaries(taskSummaries, attachmentSummaries, classifications);
+        result.addAll(taskSummaries);
+        LOGGER.debug("exit from to augmentTaskSummariesByContainedSummaries()");
+        return result;
+    }
+
+    /**
+     * Sets the workbasket summaries of the given task summaries and loads their classification and attachment
+     * summaries on first access, unless they are requested by the fetch plan of the query. Task summaries whose
+     * workbasket is not found are removed, like in the eager augmentation. A load on first access reads the summaries
+     * of all task summaries of the query result at once, in a connection of its own.
+     *
+     * @param taskSummaries
+     *            the task summaries of a query result
+     * @param withClassificationDetails
+     *            whether the classification summaries are set together with the workbasket summaries
+     * @param withAttachments
+     *            whether the attachment summaries are set together with the workbasket summaries
+     * @return the augmented task summaries
+     */
+    List<TaskSummary> augmentTaskSummariesLazily(List<TaskSummaryImpl> taskSummaries,
+        boolean withClassificationDetails, boolean withAttachments) {
+        if (withClassificationDetails && withAttachments) {
+            return augmentTaskSummariesByContainedSummaries(taskSummaries);
+        }
+        LOGGER.debug("entry to augmentTaskSummariesLazily(withClassificationDetails = {}, withAttachments = {})",
+            withClassificationDetails, withAttachments);
+        List<TaskSummary> result = new ArrayList<>();
+        if (taskSummaries == null || taskSummaries.isEmpty()) {
+            return result;
+        }
+        addWorkbasketSummariesToTaskSummaries(taskSummaries);
+        LazyDetailsLoader detailsLoader = new LazyDetailsLoader(new ArrayList<>(taskSummaries));
+        for (TaskSummaryImpl taskSummary : taskSummaries) {
+            taskSummary.setDetailsLoader(detailsLoader);
+        }
+        if (withAttachments) {
+            detailsLoader.loadAttachmentSummaries();
+        } else if (withClassificationDetails) {
+            detailsLoader.loadClassificationSummaries();
+        }
+        result.addAll(taskSummaries);
+        LOGGER.debug("exit from augmentTaskSummariesLazily()");
+        return result;
+    }
+
+    List<ClassificationSummary> queryClassificationsForTasksAndAttachments(Set<String> classificationIdSet) {
+
+        String[] classificationIdArray = classificationIdSet.toArray(new String[0]);
+
+        LOGGER.debug("getClassificationsForTasksAndAttachments() about to query classifications and exit");
+        // perform classification query
+        return classificationService.createClassificationQuery()
+            .idIn(classificationIdArray)
+            .list();
+    }
+
+    /**
+     * Sets the classification summaries and/or the attachment summaries of the given task summaries. The
+     * classifications of the tasks and of their attachments are read by a single query, in a connection of its own.
+     *
+     * @param taskSummaries
+     *            the task summaries of a query result
+     * @param withClassificationSummaries
+     *            whether the classification summaries of the tasks are set
+     * @param withAttachmentSummaries
+     *            whether the attachment summaries of the tasks are set
+     */
+    private void loadClassificationAndAttachmentSummaries(List<TaskSummaryImpl> taskSummaries,
+        boolean withClassificationSummaries, boolean withAttachmentSummaries) {
+        LOGGER.debug("entry to loadClassificationAndAttachmentSummaries(withClassificationSummaries = {}, "
+            + "withAttachmentSummaries = {})", withClassificationSummaries, withAttachmentSummaries);
+        try {
+            taskanaEngine.openConnection();
+            List<AttachmentSummaryImpl> attachmentSummaries = new ArrayList<>();
+            if (withAttachmentSummaries) {
+                String[] taskIdArray = taskSummaries.stream().map(TaskSummaryImpl::getTaskId).toArray(String[]::new);
+                attachmentSummaries = attachmentMapper.findAttachmentSummariesByTaskIds(taskIdArray);
+            }
+            Set<String> classificationIdSet = attachmentSummaries.stream()
+                .map(a -> a.getClassificationSummary().getId())
+                .collect(Collectors.toSet());
+            if (withClassificationSummaries) {
+                taskSummaries.forEach(t -> classificationIdSet.add(t.getClassificationSummaryImpl().getId()));
+            }
+            List<ClassificationSummary> classifications = classificationIdSet.isEmpty() ? new ArrayList<>()
+                : queryClassificationsForTasksAndAttachments(classificationIdSet);
+            if (withClassificationSummaries) {
+                addClassificationSummariesToTaskSummaries(taskSummaries, classifications);
+            }
+            if (withAttachmentSummaries) {
+                addAttachmentSummariesToTaskSummaries(taskSummaries, attachmentSummaries, classifications);
+            }
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from loadClassificationAndAttachmentSummaries()");
+        }
+    }
+
+    private void addClassificationSummariesToTaskSummaries(List<TaskSummaryImpl> tasks,
+        List<ClassificationSummary> classifications) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("entry to addClassificationSummariesToTaskSummaries(tasks = {}, classifications = {})",
+                LoggerUtils.listToString(tasks), LoggerUtils.listToString(classifications));
+        }
+
+        if (tasks == null || tasks.isEmpty()) {
+            LOGGER.debug("exit from addClassificationSummariesToTaskSummaries()");
+            return;
+        }
+        // assign query results to appropriate tasks.
+        for (TaskSummaryImpl task : tasks) {
+            String classificationId = task.getClassificationSummary().getId();
+            ClassificationSummary aClassification = classifications.stream()
+                .filter(c -> c.getId().equals(classificationId))
+                .findFirst()
+                .orElse(null);
+            if (aClassification == null) {
+                throw new SystemException(
+                    "Did not find a Classification for task (Id=" + task.getTaskId() + ",classification="
+                        + task.getClassificationSummary().getId() + ")");
+            }
+            // set the classification on the task object
+            task.setClassificationSummary(aClassification);
+        }
+        LOGGER.debug("exit from addClassificationSummariesToTaskSummaries()");
+    }
+
+    private List<ClassificationSummary> findClassificationsForTasksAndAttachments(
+        List<TaskSummaryImpl> taskSummaries, List<AttachmentSummaryImpl> attachmentSummaries) {
+        LOGGER.debug("entry to findClassificationsForTasksAndAttachments()");
+        if (taskSummaries == null || taskSummaries.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> classificationIdSet = taskSummaries.stream()
+            .map(t -> t.getClassificationSummary().getId())
+            .collect(
+                Collectors.toSet());
+
+        if (attachmentSummaries != null && !attachmentSummaries.isEmpty()) {
+            for (AttachmentSummaryImpl att : attachmentSummaries) {
+                classificationIdSet.add(att.getClassificationSummary().getId());
+            }
+        }
+        LOGGER.debug("exit from findClassificationsForTasksAndAttachments()");
+        return queryClassificationsForTasksAndAttachments(classificationIdSet);
+    }
+
+    private void addWorkbasketSummariesToTaskSummaries(List<TaskSummaryImpl> taskSummaries) {
+        LOGGER.debug("entry to addWorkbasketSummariesToTaskSummaries()");
+        if (taskSummaries == null || taskSummaries.isEmpty()) {
+            return;
+        }
+        // calculate parameters for workbasket query: workbasket keys
+        Set<String> workbasketIdSet = taskSummaries.stream()
+            .map(t -> t.getWorkbasketSummary().getId())
+            .collect(
+                Collectors.toSet());
+        String[] workbasketIdArray = workbasketIdSet.toArray(new String[0]);
+        LOGGER.debug("addWorkbasketSummariesToTaskSummaries() about to query workbaskets");
+        WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
+        query.setUsedToAugmentTasks(true);
+
+        List<WorkbasketSummary> workbaskets = query
+            .idIn(workbasketIdArray)
+            .list();
+        Iterator<TaskSummaryImpl> taskIterator = taskSummaries.iterator();
+        while (taskIterator.hasNext()) {
+            TaskSummaryImpl task = taskIterator.next();
+            String workbasketId = task.getWorkbasketSummaryImpl().getId();
+
+            WorkbasketSummary aWorkbasket = workbaskets.stream()
+                .filter(x -> workbasketId != null && workbasketId.equals(x.getId()))
+                .findFirst()
+                .orElse(null);
+            if (aWorkbasket == null) {
+                LOGGER.warn("Could not find a Workbasket for task {}.", task.getTaskId());
+                taskIterator.remove();
+                continue;
+            }
+
+            task.setWorkbasketSummary(aWorkbasket);
+        }
+        LOGGER.debug("exit from addWorkbasketSummariesToTaskSummaries()");
+    }
+
+    private void addAttachmentSummariesToTaskSummaries(List<TaskSummaryImpl> taskSummaries,
+        List<AttachmentSummaryImpl> attachmentSummaries, List<ClassificationSummary> classifications) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(
+                "entry to addAttachmentSummariesToTaskSummaries(taskSummaries = {}, attachmentSummaries = {}, classifications = {})",
+                LoggerUtils.listToString(taskSummaries), LoggerUtils.listToString(attachmentSummaries),
+                LoggerUtils.listToString(classifications));
+        }
+
+        if (taskSummaries == null || taskSummaries.isEmpty()) {
+            return;
+        }
+
+        // augment attachment summaries by classification summaries
+        // Note:
+        // the mapper sets for each Attachment summary the property classificationSummary.key from the
+        // CLASSIFICATION_KEY property in the DB
+        addClassificationSummariesToAttachmentSummaries(attachmentSummaries, taskSummaries, classifications);
+        // assign attachment summaries to task summaries
+        for (TaskSummaryImpl task : taskSummaries) {
+            for (AttachmentSummaryImpl attachment : attachmentSummaries) {
+                if (attachment.getTaskId() != null && attachment.getTaskId().equals(task.getTaskId())) {
+                    task.addAttachmentSummary(attachment);
+                }
+            }
+        }
+
+        LOGGER.debug("exit from addAttachmentSummariesToTaskSummaries()");
+    }
+
+    private void addClassificationSummariesToAttachmentSummaries(List<AttachmentSummaryImpl> attachmentSummaries,
+        List<TaskSummaryImpl> taskSummaries, List<ClassificationSummary> classifications) {
+        LOGGER.debug("entry to addClassificationSummariesToAttachmentSummaries()");
+        // prereq: in each attachmentSummary, the classificationSummary.key property is set.
+        if (attachmentSummaries == null || attachmentSummaries.isEmpty() || taskSummaries == null
+            || taskSummaries.isEmpty()) {
+            LOGGER.debug("exit from addClassificationSummariesToAttachmentSummaries()");
+            return;
+        }
+        // iterate over all attachment summaries an add the appropriate classification summary to each
+        for (AttachmentSummaryImpl att : attachmentSummaries) {
+            String classificationId = att.getClassificationSummary().getId();
+            ClassificationSummary aClassification = classifications.stream()
+                .filter(x -> classificationId != null && classificationId.equals(x.getId()))
+                .findFirst()
+                .orElse(null);
+            if (aClassification == null) {
+                throw new SystemException("Could not find a Classification for attachment " + att);
+            }
+            att.setClassificationSummary(aClassification);
+        }
+        LOGGER.debug("exit from addClassificationSummariesToAttachmentSummaries()");
+    }
+
+    /**
+     * Loads the classification and attachment summaries of all task summaries of a query result. Each kind of summary
+     * is loaded at most once.
+     */
+    private class LazyDetailsLoader implements TaskSummaryImpl.DetailsLoader {
+
+        private final List<TaskSummaryImpl> taskSummaries;
+        private boolean classificationSummariesLoaded;
+        private boolean attachmentSummariesLoaded;
+
+        LazyDetailsLoader(List<TaskSummaryImpl> taskSummaries) {
+            this.taskSummaries = taskSummaries;
+        }
+
+        @Override
+        public synchronized void loadClassificationSummaries() {
+            load(true, false);
+        }
+
+        @Override
+        public synchronized void loadAttachmentSummaries() {
+            // the classifications of the tasks are loaded in the same query as those of the attachments
+            load(true, true);
+        }
+
+        private void load(boolean withClassificationSummaries, boolean withAttachmentSummaries) {
+            boolean classifications = withClassificationSummaries && !classificationSummariesLoaded;
+            boolean attachments = withAttachmentSummaries && !attachmentSummariesLoaded;
+            if (!classifications && !attachments) {
+                return;
+            }
+            // mark as loaded first, because loading accesses the summaries of the tasks
+            classificationSummariesLoaded |= classifications;
+            attachmentSummariesLoaded |= attachments;
+            try {
+                loadClassificationAndAttachmentSummaries(taskSummaries, classifications, attachments);
+            } catch (RuntimeException e) {
+                classificationSummariesLoaded &= !classifications;
+                attachmentSummariesLoaded &= !attachments;
+                throw e;
+            }
+        }
+    }
+}
@@ -57,11 +57,20 @@ public class TaskSummaryImpl implements TaskSummary {
     private String custom14;
     private String custom15;
     private String custom16;
-
+    // loads the classification and attachment summaries of a query with lazy details on first access
+    private transient DetailsLoader detailsLoader;
 
     TaskSummaryImpl() {
     }
 
+    DetailsLoader getDetailsLoader() {
+        return detailsLoader;
+    }
+
+    void setDetailsLoader(DetailsLoader detailsLoader) {
+        this.detailsLoader = detailsLoader;
+    }
+
     /*
      * (non-Javadoc)
      * @see pro.taskana.TaskSummary#getTaskId()
@@ -237,6 +246,9 @@ public class TaskSummaryImpl implements TaskSummary {
      */
     @Override
     public ClassificationSummary getClassificationSummary() {
+        if (detailsLoader != null) {
+            detailsLoader.loadClassificationSummaries();
+        }
         return classificationSummary;
     }
 
@@ -363,6 +375,9 @@ public class TaskSummaryImpl implements TaskSummary {
 
     @Override
     public List<AttachmentSummary> getAttachmentSummaries() {
+        if (detailsLoader != null) {
+            detailsLoader.loadAttachmentSummaries();
+        }
         if (attachmentSummaries == null) {
             attachmentSummaries = new ArrayList<>();
         }
@@ -667,4 +682,13 @@ public class TaskSummaryImpl implements TaskSummary {
             + custom13 + ", custom14=" + custom14 + ", custom15=" + custom15 + ", custom16=" + custom16 + "]";
     }
 
+    /**
+     * Loads the classification and attachment summaries of the task summaries of a query result on first access.
+     */
+    interface DetailsLoader {
+
+        void loadClassificationSummaries();
+
+        void loadAttachmentSummaries();
+    }
 }
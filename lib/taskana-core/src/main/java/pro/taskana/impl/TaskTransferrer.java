@@ -5,7 +5,9 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -13,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.BulkOperationResults;
 import pro.taskana.Task;
+import pro.taskana.TaskChangeType;
 import pro.taskana.TaskState;
 import pro.taskana.Workbasket;
 import pro.taskana.WorkbasketPermission;
@@ -25,6 +28,7 @@ import pro.taskana.exceptions.TaskNotFoundException;
 import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
 import pro.taskana.history.HistoryEventProducer;
+import pro.taskana.history.api.TaskanaHistoryEvent;
 import pro.taskana.history.events.task.TransferredEvent;
 import pro.taskana.impl.util.LoggerUtils;
 import pro.taskana.mappings.TaskMapper;
@@ -41,22 +45,26 @@ public class TaskTransferrer {
     private static final String TASK_WITH_ID = "Task with id ";
     private static final String WAS_MARKED_FOR_DELETION = " was marked for deletion";
     private static final String THE_WORKBASKET = "The workbasket ";
+    private static final String WAS_MODIFIED_CONCURRENTLY = " was modified concurrently by another user.";
 
     private InternalTaskanaEngine taskanaEngine;
     private WorkbasketService workbasketService;
     private TaskServiceImpl taskService;
     private TaskMapper taskMapper;
     private HistoryEventProducer historyEventProducer;
+    private TaskChangeRecorder taskChangeRecorder;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskTransferrer.class);
 
-    TaskTransferrer(InternalTaskanaEngine taskanaEngine, TaskMapper taskMapper, TaskServiceImpl taskService) {
+    TaskTransferrer(InternalTaskanaEngine taskanaEngine, TaskMapper taskMapper, TaskServiceImpl taskService,
+        TaskChangeRecorder taskChangeRecorder) {
         super();
         this.taskanaEngine = taskanaEngine;
         this.taskService = taskService;
         this.taskMapper = taskMapper;
         this.workbasketService = taskanaEngine.getEngine().getWorkbasketService();
         this.historyEventProducer = taskanaEngine.getHistoryEventProducer();
+        this.taskChangeRecorder = taskChangeRecorder;
     }
 
     Task transfer(String taskId, String destinationWorkbasketKey, String domain)
@@ -98,7 +106,11 @@ public class TaskTransferrer {
             task.setModified(Instant.now());
             task.setState(TaskState.READY);
             task.setOwner(null);
-            taskMapper.update(task);
+            if (taskMapper.updateChangedColumns(task, DirtyTaskColumns.TRANSFERRED) == 0) {
+                throw new InvalidStateException(TASK_WITH_ID + taskId + WAS_MODIFIED_CONCURRENTLY);
+            }
+            task.setVersion(task.getVersion() + 1);
+            taskChangeRecorder.record(TaskChangeType.TRANSFERRED, task);
             LOGGER.debug("Method transfer() transferred Task '{}' to destination workbasket {}", taskId,
                 destinationWorkbasket.getId());
             if (HistoryEventProducer.isHistoryEnabled()) {
@@ -147,7 +159,11 @@ public class TaskTransferrer {
             task.setModified(Instant.now());
             task.setState(TaskState.READY);
             task.setOwner(null);
-            taskMapper.update(task);
+            if (taskMapper.updateChangedColumns(task, DirtyTaskColumns.TRANSFERRED) == 0) {
+                throw new InvalidStateException(TASK_WITH_ID + taskId + WAS_MODIFIED_CONCURRENTLY);
+            }
+            task.setVersion(task.getVersion() + 1);
+            taskChangeRecorder.record(TaskChangeType.TRANSFERRED, task);
             LOGGER.debug("Method transfer() transferred Task '{}' to destination workbasket {}", taskId,
                 destinationWorkbasketId);
             if (HistoryEventProducer.isHistoryEnabled()) {
@@ -245,8 +261,9 @@ public class TaskTransferrer {
         } else {
             taskSummaries = taskMapper.findExistingTasks(taskIds, null);
         }
-        checkIfTransferConditionsAreFulfilled(taskIds, taskSummaries, bulkLog);
-        updateTasksToBeTransferred(taskIds, taskSummaries, destinationWorkbasket);
+        List<WorkbasketSummary> sourceWorkbaskets = checkIfTransferConditionsAreFulfilled(taskIds, taskSummaries,
+            bulkLog);
+        updateTasksToBeTransferred(taskIds, taskSummaries, sourceWorkbaskets, destinationWorkbasket);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("exit from transferTasks(), returning {}", bulkLog);
         }
@@ -254,8 +271,8 @@ public class TaskTransferrer {
         return bulkLog;
     }
 
-    private void checkIfTransferConditionsAreFulfilled(List<String> taskIds, List<MinimalTaskSummary> taskSummaries,
-        BulkOperationResults<String, TaskanaException> bulkLog) {
+    private List<WorkbasketSummary> checkIfTransferConditionsAreFulfilled(List<String> taskIds,
+        List<MinimalTaskSummary> taskSummaries, BulkOperationResults<String, TaskanaException> bulkLog) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(
                 "entry to checkIfTransferConditionsAreFulfilled(taskIds = {}, taskSummaries = {}, bulkLog = {})",
@@ -277,6 +294,7 @@ public class TaskTransferrer {
         }
         checkIfTasksMatchTransferCriteria(taskIds, taskSummaries, sourceWorkbaskets, bulkLog);
         LOGGER.debug("exit from checkIfTransferConditionsAreFulfilled()");
+        return sourceWorkbaskets;
     }
 
     private void checkIfTasksMatchTransferCriteria(List<String> taskIds, List<MinimalTaskSummary> taskSummaries,
@@ -320,15 +338,16 @@ public class TaskTransferrer {
         historyEventProducer.createEvent(new TransferredEvent(task, oldWorkbasketSummary, newWorkbasketSummary));
     }
 
-    private void updateTasksToBeTransferred(List<String> taskIds,
-        List<MinimalTaskSummary> taskSummaries, Workbasket destinationWorkbasket) {
+    private void updateTasksToBeTransferred(List<String> taskIds, List<MinimalTaskSummary> taskSummaries,
+        List<WorkbasketSummary> sourceWorkbaskets, Workbasket destinationWorkbasket) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("entry to updateTasksToBeTransferred(taskIds = {}, taskSummaries = {})",
                 LoggerUtils.listToString(taskIds), LoggerUtils.listToString(taskSummaries), destinationWorkbasket);
         }
 
+        Set<String> taskIdsToBeTransferred = new HashSet<>(taskIds);
         taskSummaries = taskSummaries.stream()
-            .filter(ts -> taskIds.contains(ts.getTaskId()))
+            .filter(ts -> taskIdsToBeTransferred.contains(ts.getTaskId()))
             .collect(
                 Collectors.toList());
         if (!taskSummaries.isEmpty()) {
@@ -342,27 +361,42 @@ public class TaskTransferrer {
             updateObject.setState(TaskState.READY);
             updateObject.setOwner(null);
             taskMapper.updateTransfered(taskIds, updateObject);
+            taskChangeRecorder.recordForTaskIds(TaskChangeType.TRANSFERRED, taskIds);
             if (HistoryEventProducer.isHistoryEnabled()) {
-                createTasksTransferredEvents(taskSummaries, updateObject);
+                createTasksTransferredEvents(taskSummaries, sourceWorkbaskets, updateObject);
             }
         }
         LOGGER.debug("exit from updateTasksToBeTransferred()");
     }
 
-    private void createTasksTransferredEvents(List<MinimalTaskSummary> taskSummaries, TaskSummaryImpl updateObject) {
-        taskSummaries.stream().forEach(task -> {
-            TaskImpl newTask = (TaskImpl) taskService.newTask(task.getWorkbasketId());
-            newTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
-            newTask.setRead(updateObject.isRead());
-            newTask.setTransferred(updateObject.isTransferred());
-            newTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
-            newTask.setDomain(updateObject.getDomain());
-            newTask.setModified(updateObject.getModified());
-            newTask.setState(updateObject.getState());
-            newTask.setOwner(updateObject.getOwner());
-            createTaskTransferredEvent(newTask, newTask.getWorkbasketSummary(),
-                updateObject.getWorkbasketSummary());
-        });
+    /**
+     * Creates the events of a bulk transfer. The data of the events is read with one query for all transferred tasks
+     * and the source workbaskets are those that were read once for the permission check, hence neither tasks nor
+     * workbaskets are read per task. The events are handed to the history providers as one batch.
+     *
+     * @param taskSummaries
+     *            the minimal summaries of the transferred tasks, which contain their source workbasket ids
+     * @param sourceWorkbaskets
+     *            the workbaskets the tasks were transferred from
+     * @param updateObject
+     *            the values the transferred tasks were updated with, which contain the destination workbasket
+     */
+    private void createTasksTransferredEvents(List<MinimalTaskSummary> taskSummaries,
+        List<WorkbasketSummary> sourceWorkbaskets, TaskSummaryImpl updateObject) {
+        Map<String, WorkbasketSummary> sourceWorkbasketsById = sourceWorkbaskets.stream()
+            .collect(Collectors.toMap(WorkbasketSummary::getId, Function.identity(), (first, second) -> first));
+        Map<String, String> sourceWorkbasketIdsByTaskId = taskSummaries.stream()
+            .collect(Collectors.toMap(MinimalTaskSummary::getTaskId, MinimalTaskSummary::getWorkbasketId,
+                (first, second) -> first));
+        List<TaskSummaryImpl> transferredTasks = taskMapper.findSummariesForHistoryEvents(
+            new ArrayList<>(sourceWorkbasketIdsByTaskId.keySet()));
+        List<TaskanaHistoryEvent> events = new ArrayList<>(transferredTasks.size());
+        for (TaskSummaryImpl task : transferredTasks) {
+            WorkbasketSummary sourceWorkbasket = sourceWorkbasketsById.get(
+                sourceWorkbasketIdsByTaskId.get(task.getTaskId()));
+            events.add(new TransferredEvent(task, sourceWorkbasket, updateObject.getWorkbasketSummary()));
+        }
+        historyEventProducer.createEvents(events);
     }
 
 }
@@ -2,9 +2,7 @@ package pro.taskana.impl;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -12,18 +10,23 @@ import java.util.function.Supplier;
 
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.Transaction;
 import org.apache.ibatis.transaction.TransactionFactory;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.ClassificationService;
 import pro.taskana.JobService;
+import pro.taskana.TaskChangeFeed;
 import pro.taskana.TaskMonitorService;
 import pro.taskana.TaskService;
 import pro.taskana.TaskanaEngine;
@@ -36,7 +39,11 @@ import pro.taskana.exceptions.ConnectionNotSetException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.SystemException;
 import pro.taskana.history.HistoryEventProducer;
+import pro.taskana.impl.metrics.ConnectionMetricsTransactionFactory;
+import pro.taskana.impl.metrics.ServiceMetricsHandler;
+import pro.taskana.impl.metrics.StatementMetricsInterceptor;
 import pro.taskana.impl.persistence.MapTypeHandler;
+import pro.taskana.impl.util.IdGenerator;
 import pro.taskana.impl.util.LoggerUtils;
 import pro.taskana.mappings.AttachmentMapper;
 import pro.taskana.mappings.ClassificationMapper;
@@ -44,11 +51,14 @@ import pro.taskana.mappings.DistributionTargetMapper;
 import pro.taskana.mappings.JobMapper;
 import pro.taskana.mappings.ObjectReferenceMapper;
 import pro.taskana.mappings.QueryMapper;
+import pro.taskana.mappings.TaskChangeMapper;
 import pro.taskana.mappings.TaskMapper;
 import pro.taskana.mappings.TaskMonitorMapper;
 import pro.taskana.mappings.WorkbasketAccessMapper;
 import pro.taskana.mappings.WorkbasketMapper;
+import pro.taskana.metrics.TaskanaMetrics;
 import pro.taskana.security.CurrentUserContext;
+import pro.taskana.security.GroupResolutionManager;
 import pro.taskana.taskrouting.TaskRoutingManager;
 
 /**
@@ -58,7 +68,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
     private static final String DEFAULT = "default";
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaEngineImpl.class);
-    private static SessionStack sessionStack = new SessionStack();
+    private final SessionStack sessionStack = new SessionStack();
     protected TaskanaEngineConfiguration taskanaEngineConfiguration;
     protected TransactionFactory transactionFactory;
     protected SqlSessionManager sessionManager;
@@ -66,6 +76,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     protected java.sql.Connection connection = null;
     private HistoryEventProducer historyEventProducer;
     private TaskRoutingManager taskRoutingManager;
+    private GroupResolutionManager groupResolutionManager;
     private InternalTaskanaEngineImpl internalTaskanaEngineImpl;
 
     protected TaskanaEngineImpl(TaskanaEngineConfiguration taskanaEngineConfiguration) {
@@ -74,6 +85,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         this.sessionManager = createSqlSessionManager();
         historyEventProducer = HistoryEventProducer.getInstance(taskanaEngineConfiguration);
         taskRoutingManager = TaskRoutingManager.getInstance(this);
+        groupResolutionManager = new GroupResolutionManager(this);
         this.internalTaskanaEngineImpl = new InternalTaskanaEngineImpl();
     }
 
@@ -84,8 +96,9 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     @Override
     public TaskService getTaskService() {
         SqlSession session = this.sessionManager;
-        return new TaskServiceImpl(internalTaskanaEngineImpl, session.getMapper(TaskMapper.class),
-            session.getMapper(AttachmentMapper.class));
+        return instrument(TaskService.class, new TaskServiceImpl(internalTaskanaEngineImpl,
+            session.getMapper(TaskMapper.class), session.getMapper(AttachmentMapper.class),
+            taskanaEngineConfiguration.isTaskChangeFeedEnabled() ? session.getMapper(TaskChangeMapper.class) : null));
     }
 
     @Override
@@ -98,17 +111,23 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     @Override
     public WorkbasketService getWorkbasketService() {
         SqlSession session = this.sessionManager;
-        return new WorkbasketServiceImpl(internalTaskanaEngineImpl,
+        return instrument(WorkbasketService.class, new WorkbasketServiceImpl(internalTaskanaEngineImpl,
             session.getMapper(WorkbasketMapper.class),
             session.getMapper(DistributionTargetMapper.class),
-            session.getMapper(WorkbasketAccessMapper.class));
+            session.getMapper(WorkbasketAccessMapper.class)));
     }
 
     @Override
     public ClassificationService getClassificationService() {
         SqlSession session = this.sessionManager;
-        return new ClassificationServiceImpl(internalTaskanaEngineImpl, session.getMapper(ClassificationMapper.class),
-            session.getMapper(TaskMapper.class));
+        return instrument(ClassificationService.class, new ClassificationServiceImpl(internalTaskanaEngineImpl,
+            session.getMapper(ClassificationMapper.class), session.getMapper(TaskMapper.class),
+            taskanaEngineConfiguration.isTaskChangeFeedEnabled() ? session.getMapper(TaskChangeMapper.class) : null));
+    }
+
+    private <T> T instrument(Class<T> serviceInterface, T service) {
+        TaskanaMetrics metrics = taskanaEngineConfiguration.getMetrics();
+        return metrics == null ? service : ServiceMetricsHandler.instrument(serviceInterface, service, metrics);
     }
 
     @Override
@@ -117,6 +136,22 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         return new JobServiceImpl(internalTaskanaEngineImpl, session.getMapper(JobMapper.class));
     }
 
+    @Override
+    public TaskChangeFeed getTaskChangeFeed() {
+        SqlSession session = this.sessionManager;
+        return new TaskChangeFeedImpl(internalTaskanaEngineImpl, session.getMapper(TaskChangeMapper.class));
+    }
+
+    /**
+     * FOR INTERNAL USE ONLY. Returns the internal engine, which gives the jobs of taskana access to the connection
+     * handling and to the mappers.
+     *
+     * @return the internal engine of this engine
+     */
+    public InternalTaskanaEngine getInternalTaskanaEngine() {
+        return internalTaskanaEngineImpl;
+    }
+
     @Override
     public TaskanaEngineConfiguration getConfiguration() {
         return this.taskanaEngineConfiguration;
@@ -164,11 +199,27 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         }
     }
 
+    @Override
+    public void openRequestScope() {
+        internalTaskanaEngineImpl.openConnection();
+        sessionStack.enterRequestScope();
+    }
+
+    @Override
+    public void closeRequestScope() {
+        if (!sessionStack.isInRequestScope()) {
+            LOGGER.warn("closeRequestScope() was called without a preceding call to openRequestScope(). Ignoring it.");
+            return;
+        }
+        sessionStack.leaveRequestScope();
+        internalTaskanaEngineImpl.returnConnection();
+    }
+
     @Override
     public void checkRoleMembership(TaskanaRole... roles) throws NotAuthorizedException {
         if (!isUserInRole(roles)) {
             if (LOGGER.isDebugEnabled()) {
-                String accessIds = LoggerUtils.listToString(CurrentUserContext.getAccessIds());
+                String accessIds = LoggerUtils.listToString(internalTaskanaEngineImpl.getAccessIds());
                 String rolesAsString = Arrays.toString(roles);
                 LOGGER.debug("Throwing NotAuthorizedException because accessIds {} are not member of roles {}",
                     accessIds,
@@ -185,7 +236,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
             return true;
         }
 
-        List<String> accessIds = CurrentUserContext.getAccessIds();
+        List<String> accessIds = internalTaskanaEngineImpl.getAccessIds();
         Set<String> rolesMembers = new HashSet<>();
         for (TaskanaRole role : roles) {
             rolesMembers.addAll(getConfiguration().getRoleMap().get(role));
@@ -206,9 +257,15 @@ public class TaskanaEngineImpl implements TaskanaEngine {
      * @return a {@link SqlSessionFactory}
      */
     protected SqlSessionManager createSqlSessionManager() {
-        Environment environment = new Environment(DEFAULT, this.transactionFactory,
+        TaskanaMetrics metrics = taskanaEngineConfiguration.getMetrics();
+        TransactionFactory sessionTransactionFactory = metrics == null ? this.transactionFactory
+            : new ConnectionMetricsTransactionFactory(this.transactionFactory, metrics);
+        Environment environment = new Environment(DEFAULT, sessionTransactionFactory,
             taskanaEngineConfiguration.getDatasource());
         Configuration configuration = new Configuration(environment);
+        if (metrics != null) {
+            configuration.addInterceptor(new StatementMetricsInterceptor(metrics));
+        }
 
         // set databaseId
         String databaseProductName;
@@ -234,7 +291,13 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         configuration.addMapper(QueryMapper.class);
         configuration.addMapper(AttachmentMapper.class);
         configuration.addMapper(JobMapper.class);
+        configuration.addMapper(TaskChangeMapper.class);
         configuration.getTypeHandlerRegistry().register(MapTypeHandler.class);
+        // pre-rendered statements for the hot task query shapes, must be registered before the configuration is shared
+        TaskQueryFastPath.registerStatements(configuration);
+        TaskQueryCursorStatements.registerStatements(configuration);
+        TaskQueryTotalCount.registerStatements(configuration);
+        configuration.setDefaultExecutorType(taskanaEngineConfiguration.getExecutorType());
         SqlSessionFactory localSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
         return SqlSessionManager.newInstance(localSessionFactory);
     }
@@ -259,17 +322,23 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
         @Override
         public void openConnection() {
-            initSqlSession();
-            try {
-                sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
-            } catch (SQLException e) {
-                throw new SystemException(
-                    "Method openConnection() could not open a connection to the database. No schema has been created.",
-                    e.getCause());
+            if (mode == ConnectionManagementMode.EXPLICIT) {
+                // the schema of the client's connection has already been set in setConnection()
+                initSqlSession();
+                return;
             }
-            if (mode != ConnectionManagementMode.EXPLICIT) {
-                sessionStack.pushSessionToStack(sessionManager);
+            if (!sessionManager.isManagedSessionStarted()) {
+                sessionManager.startManagedSession();
+                try {
+                    sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
+                } catch (SQLException e) {
+                    sessionManager.close();
+                    throw new SystemException(
+                        "Method openConnection() could not open a connection to the database. No schema has been created.",
+                        e.getCause());
+                }
             }
+            sessionStack.push();
         }
 
         @Override
@@ -284,8 +353,8 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         @Override
         public void returnConnection() {
             if (mode != ConnectionManagementMode.EXPLICIT) {
-                sessionStack.popSessionFromStack();
-                if (sessionStack.getSessionStack().isEmpty()
+                sessionStack.pop();
+                if (sessionStack.isEmpty()
                     && sessionManager != null && sessionManager.isManagedSessionStarted()) {
                     if (mode == ConnectionManagementMode.AUTOCOMMIT) {
                         try {
@@ -295,6 +364,9 @@ public class TaskanaEngineImpl implements TaskanaEngine {
                         }
                     }
                     sessionManager.close();
+                } else if (sessionStack.isOnlyRequestScopeLeft() && sessionManager.isManagedSessionStarted()) {
+                    // the session of the request scope outlives the api call, the next call must not read cached rows
+                    sessionManager.clearCache();
                 }
             }
         }
@@ -315,11 +387,24 @@ public class TaskanaEngineImpl implements TaskanaEngine {
             return getConfiguration().getDomains().contains(domain);
         }
 
+        @Override
+        public String generateId(String prefix) {
+            return IdGenerator.generateWithPrefix(prefix, taskanaEngineConfiguration.getIdGenerationStrategy());
+        }
+
         @Override
         public SqlSession getSqlSession() {
             return sessionManager;
         }
 
+        @Override
+        public SqlSession openBatchSession() {
+            Configuration configuration = sessionManager.getConfiguration();
+            Transaction transaction = new ManagedTransaction(sessionManager.getConnection(), false);
+            return new DefaultSqlSession(configuration, configuration.newExecutor(transaction, ExecutorType.BATCH),
+                false);
+        }
+
         @Override
         public TaskanaEngine getEngine() {
             return TaskanaEngineImpl.this;
@@ -335,52 +420,69 @@ public class TaskanaEngineImpl implements TaskanaEngine {
            return taskRoutingManager;
         }
 
+        @Override
+        public List<String> getAccessIds() {
+            return groupResolutionManager.getAccessIds(CurrentUserContext.getUserid(),
+                CurrentUserContext.getGroupIds());
+        }
+
     }
 
     /**
-     * With sessionStack, we maintain a Stack of SqlSessionManager objects on a per thread basis. SqlSessionManager is
-     * the MyBatis object that wraps database connections. The purpose of this stack is to keep track of nested calls.
-     * Each external API call is wrapped into taskanaEngineImpl.openConnection(); .....
-     * taskanaEngineImpl.returnConnection(); calls. In order to avoid duplicate opening / closing of connections, we use
-     * the sessionStack in the following way: Each time, an openConnection call is received, we push the current
-     * sessionManager onto the stack. On the first call to openConnection, we call sessionManager.startManagedSession()
-     * to open a database connection. On each call to returnConnection() we pop one instance of sessionManager from the
-     * stack. When the stack becomes empty, we close the database connection by calling sessionManager.close().
+     * With sessionStack, we keep track of nested calls on a per thread basis. Each external API call is wrapped into
+     * taskanaEngineImpl.openConnection(); ..... taskanaEngineImpl.returnConnection(); calls. In order to avoid
+     * duplicate opening / closing of connections, we use the sessionStack in the following way: On the first call to
+     * openConnection, we call sessionManager.startManagedSession() to open a database connection and set the schema
+     * on it. Each openConnection call increases the nesting depth and each call to returnConnection() decreases it.
+     * When the depth drops to zero, we close the database connection by calling sessionManager.close(). Since all
+     * entries of the former stack referred to the sessionManager of this engine, only the depth is recorded. The stack
+     * belongs to the engine instance, so that several engines can be used in the same thread without interfering.
+     * An open request scope counts as one additional level and therefore keeps the session open between API calls.
+     * The local cache of the session is cleared after each of these calls.
      */
-    private static class SessionStack {
+    private static final class SessionStack {
 
-        private ThreadLocal<Deque<SqlSessionManager>> sessionStack = new ThreadLocal<>();
+        private final ThreadLocal<Depth> depth = ThreadLocal.withInitial(Depth::new);
 
-        /**
-         *
-         * @return Stack of SqlSessionManager
-         */
-        private Deque<SqlSessionManager> getSessionStack() {
-            Deque<SqlSessionManager> stack = sessionStack.get();
-            if (stack == null) {
-                stack = new ArrayDeque<>();
-                sessionStack.set(stack);
-            }
-            return stack;
+        private void push() {
+            depth.get().calls++;
         }
 
-        private SqlSessionManager getSessionFromStack() {
-            Deque<SqlSessionManager> stack = getSessionStack();
-            if (stack.isEmpty()) {
-                return null;
+        private void pop() {
+            Depth current = depth.get();
+            if (current.calls > 0) {
+                current.calls--;
             }
-            return stack.peek();
         }
 
-        private void pushSessionToStack(SqlSessionManager session) {
-            getSessionStack().push(session);
+        private boolean isEmpty() {
+            return depth.get().calls == 0;
         }
 
-        private void popSessionFromStack() {
-            Deque<SqlSessionManager> stack = getSessionStack();
-            if (!stack.isEmpty()) {
-                stack.pop();
-            }
+        private void enterRequestScope() {
+            depth.get().requestScopes++;
+        }
+
+        private void leaveRequestScope() {
+            depth.get().requestScopes--;
+        }
+
+        private boolean isInRequestScope() {
+            return depth.get().requestScopes > 0;
+        }
+
+        private boolean isOnlyRequestScopeLeft() {
+            Depth current = depth.get();
+            return current.requestScopes > 0 && current.calls == current.requestScopes;
+        }
+
+        /**
+         * Mutable per thread counters of the session stack.
+         */
+        private static final class Depth {
+
+            private int calls;
+            private int requestScopes;
         }
     }
 }
@@ -21,7 +21,6 @@ import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.TaskanaRuntimeException;
 import pro.taskana.impl.util.LoggerUtils;
-import pro.taskana.security.CurrentUserContext;
 
 /**
  * WorkbasketQuery for generating dynamic SQL.
@@ -72,6 +71,8 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
     private InternalTaskanaEngine taskanaEngine;
     private List<String> orderBy;
     private List<String> orderColumns;
+    private String afterId;
+    private Integer chunkSize;
     private boolean joinWithAccessList;
     private boolean checkReadPermission;
     private boolean usedToAugmentTasks;
@@ -414,6 +415,25 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
         }
     }
 
+    @Override
+    public List<WorkbasketSummary> listAfterId(String afterId, int chunkSize) {
+        LOGGER.debug("entry to listAfterId(afterId = {}, chunkSize = {}), this = {}", afterId, chunkSize, this);
+        List<WorkbasketSummary> result = new ArrayList<>();
+        try {
+            taskanaEngine.openConnection();
+            handleCallerRolesAndAccessIds();
+            this.afterId = afterId;
+            this.chunkSize = chunkSize;
+            result = taskanaEngine.getSqlSession().selectList(LINK_TO_MAPPER, this);
+            return result;
+        } finally {
+            this.afterId = null;
+            this.chunkSize = null;
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from listAfterId(). Returning {} resulting Objects", result.size());
+        }
+    }
+
     @Override
     public List<WorkbasketSummary> list(int offset, int limit) {
         LOGGER.debug("entry to list(offset = {}, limit = {}), this = {}", offset, limit, this);
@@ -607,6 +627,14 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
         return orderBy;
     }
 
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
     public List<String> getOrderColumns() {
         return orderColumns;
     }
@@ -681,7 +709,7 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
             // might already be set by accessIdsHavePermission
             if (this.accessId == null) {
                 String[] accessIds = new String[0];
-                List<String> ucAccessIds = CurrentUserContext.getAccessIds();
+                List<String> ucAccessIds = taskanaEngine.getAccessIds();
                 if (ucAccessIds != null && !ucAccessIds.isEmpty()) {
                     accessIds = new String[ucAccessIds.size()];
                     accessIds = ucAccessIds.toArray(accessIds);
@@ -1,11 +1,22 @@
 package pro.taskana.impl;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,6 +26,8 @@ import pro.taskana.TaskanaRole;
 import pro.taskana.Workbasket;
 import pro.taskana.WorkbasketAccessItem;
 import pro.taskana.WorkbasketAccessItemQuery;
+import pro.taskana.WorkbasketDefinition;
+import pro.taskana.WorkbasketImportResult;
 import pro.taskana.WorkbasketPermission;
 import pro.taskana.WorkbasketQuery;
 import pro.taskana.WorkbasketService;
@@ -27,7 +40,6 @@ import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.exceptions.WorkbasketAlreadyExistException;
 import pro.taskana.exceptions.WorkbasketInUseException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
-import pro.taskana.impl.util.IdGenerator;
 import pro.taskana.impl.util.LoggerUtils;
 import pro.taskana.mappings.DistributionTargetMapper;
 import pro.taskana.mappings.WorkbasketAccessMapper;
@@ -77,6 +89,29 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         }
     }
 
+    @Override
+    public Instant getWorkbasketModified(String workbasketId)
+        throws WorkbasketNotFoundException, NotAuthorizedException {
+        LOGGER.debug("entry to getWorkbasketModified(workbasketId = {})", workbasketId);
+        Instant modified = null;
+        try {
+            taskanaEngine.openConnection();
+            WorkbasketImpl workbasket = workbasketMapper.findModifiedById(workbasketId);
+            if (workbasket == null) {
+                throw new WorkbasketNotFoundException(workbasketId,
+                    "Workbasket with id " + workbasketId + " was not found.");
+            }
+            if (!taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN)) {
+                checkAuthorizationForExistingWorkbasket(workbasketId, WorkbasketPermission.READ);
+            }
+            modified = workbasket.getModified();
+            return modified;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from getWorkbasketModified(). Returning result {} ", modified);
+        }
+    }
+
     @Override
     public Workbasket getWorkbasket(String workbasketKey, String domain)
         throws WorkbasketNotFoundException, NotAuthorizedException {
@@ -99,6 +134,32 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         }
     }
 
+    @Override
+    public List<Workbasket> getWorkbaskets(List<String> workbasketIds) throws NotAuthorizedException {
+        LOGGER.debug("entry to getWorkbaskets(workbasketIds.size = {})", workbasketIds.size());
+        taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+        List<Workbasket> result = new ArrayList<>();
+        if (workbasketIds.isEmpty()) {
+            return result;
+        }
+        try {
+            taskanaEngine.openConnection();
+            Map<String, WorkbasketImpl> workbasketsById = workbasketMapper.findByIds(workbasketIds)
+                .stream()
+                .collect(Collectors.toMap(WorkbasketImpl::getId, Function.identity()));
+            for (String workbasketId : workbasketIds) {
+                WorkbasketImpl workbasket = workbasketsById.get(workbasketId);
+                if (workbasket != null) {
+                    result.add(workbasket);
+                }
+            }
+            return result;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from getWorkbaskets(workbasketIds). Returning {} workbaskets.", result.size());
+        }
+    }
+
     @Override
     public Workbasket createWorkbasket(Workbasket newWorkbasket)
         throws InvalidWorkbasketException, NotAuthorizedException, WorkbasketAlreadyExistException,
@@ -119,7 +180,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
             }
 
             if (workbasket.getId() == null || workbasket.getId().isEmpty()) {
-                workbasket.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET));
+                workbasket.setId(taskanaEngine.generateId(ID_PREFIX_WORKBASKET));
             }
             validateWorkbasket(workbasket);
 
@@ -171,7 +232,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         WorkbasketAccessItemImpl accessItem = (WorkbasketAccessItemImpl) workbasketAccessItem;
         try {
             taskanaEngine.openConnection();
-            accessItem.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET_AUTHORIZATION));
+            accessItem.setId(taskanaEngine.generateId(ID_PREFIX_WORKBASKET_AUTHORIZATION));
             if (workbasketAccessItem.getId() == null || workbasketAccessItem.getAccessId() == null
                 || workbasketAccessItem.getWorkbasketId() == null) {
                 throw new InvalidArgumentException(
@@ -217,7 +278,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                                 + workbasketAccessItem.toString());
                     }
                     if (wbAccessItemImpl.getId() == null || wbAccessItemImpl.getId().isEmpty()) {
-                        wbAccessItemImpl.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET_AUTHORIZATION));
+                        wbAccessItemImpl.setId(taskanaEngine.generateId(ID_PREFIX_WORKBASKET_AUTHORIZATION));
                     }
                     newItems.add(wbAccessItemImpl);
                 }
@@ -275,33 +336,39 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                     "Workbasket with id " + workbasketId + " was not found.");
             }
 
-            if (skipAuthorizationCheck()) {
-                return;
-            }
+            isAuthorized = false;
+            checkAuthorizationForExistingWorkbasket(workbasketId, requestedPermissions);
+            isAuthorized = true;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from checkAuthorization(). User is authorized = {}.", isAuthorized);
+        }
+    }
 
-            List<String> accessIds = CurrentUserContext.getAccessIds();
-            WorkbasketAccessItem wbAcc = workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId,
-                accessIds);
-            if (wbAcc == null) {
-                throw new NotAuthorizedException(
-                    "Not authorized. Permission '" + Arrays.toString(requestedPermissions) + "' on workbasket '"
-                        + workbasketId
-                        + "' is needed.", CurrentUserContext.getUserid());
-            }
+    private void checkAuthorizationForExistingWorkbasket(String workbasketId,
+        WorkbasketPermission... requestedPermissions) throws NotAuthorizedException {
+        if (skipAuthorizationCheck()) {
+            return;
+        }
 
-            List<WorkbasketPermission> grantedPermissions = this.getPermissionsFromWorkbasketAccessItem(wbAcc);
+        List<String> accessIds = taskanaEngine.getAccessIds();
+        WorkbasketAccessItem wbAcc = workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId,
+            accessIds);
+        if (wbAcc == null) {
+            throw new NotAuthorizedException(
+                "Not authorized. Permission '" + Arrays.toString(requestedPermissions) + "' on workbasket '"
+                    + workbasketId
+                    + "' is needed.", CurrentUserContext.getUserid());
+        }
 
-            for (WorkbasketPermission perm : requestedPermissions) {
-                if (!grantedPermissions.contains(perm)) {
-                    isAuthorized = false;
-                    throw new NotAuthorizedException(
-                        "Not authorized. Permission '" + perm.name() + "' on workbasket '" + workbasketId
-                            + "' is needed.", CurrentUserContext.getUserid());
-                }
+        List<WorkbasketPermission> grantedPermissions = this.getPermissionsFromWorkbasketAccessItem(wbAcc);
+
+        for (WorkbasketPermission perm : requestedPermissions) {
+            if (!grantedPermissions.contains(perm)) {
+                throw new NotAuthorizedException(
+                    "Not authorized. Permission '" + perm.name() + "' on workbasket '" + workbasketId
+                        + "' is needed.", CurrentUserContext.getUserid());
             }
-        } finally {
-            taskanaEngine.returnConnection();
-            LOGGER.debug("exit from checkAuthorization(). User is authorized = {}.", isAuthorized);
         }
     }
 
@@ -320,7 +387,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
             if (skipAuthorizationCheck()) {
                 return;
             }
-            List<String> accessIds = CurrentUserContext.getAccessIds();
+            List<String> accessIds = taskanaEngine.getAccessIds();
             WorkbasketAccessItem wbAcc = workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
                 workbasketKey, domain, accessIds);
             if (wbAcc == null) {
@@ -409,10 +476,32 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         }
     }
 
+    @Override
+    public Map<String, List<WorkbasketAccessItem>> getWorkbasketAccessItems(List<String> workbasketIds)
+        throws NotAuthorizedException {
+        LOGGER.debug("entry to getWorkbasketAccessItems(workbasketIds.size = {})", workbasketIds.size());
+        taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+        Map<String, List<WorkbasketAccessItem>> result = new HashMap<>();
+        if (workbasketIds.isEmpty()) {
+            return result;
+        }
+        try {
+            taskanaEngine.openConnection();
+            for (WorkbasketAccessItemImpl accessItem : workbasketAccessMapper.findByWorkbasketIds(workbasketIds)) {
+                result.computeIfAbsent(accessItem.getWorkbasketId(), id -> new ArrayList<>()).add(accessItem);
+            }
+            return result;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from getWorkbasketAccessItems(workbasketIds). Returning access items of {} workbaskets.",
+                result.size());
+        }
+    }
+
     @Override
     public List<WorkbasketPermission> getPermissionsForWorkbasket(String workbasketId) {
         WorkbasketAccessItem wbAcc = workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId,
-            CurrentUserContext.getAccessIds());
+            taskanaEngine.getAccessIds());
         return this.getPermissionsFromWorkbasketAccessItem(wbAcc);
     }
 
@@ -511,6 +600,29 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         return wb;
     }
 
+    @Override
+    public Map<String, List<String>> getDistributionTargetIds(List<String> workbasketIds)
+        throws NotAuthorizedException {
+        LOGGER.debug("entry to getDistributionTargetIds(workbasketIds.size = {})", workbasketIds.size());
+        taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+        Map<String, List<String>> result = new HashMap<>();
+        if (workbasketIds.isEmpty()) {
+            return result;
+        }
+        try {
+            taskanaEngine.openConnection();
+            for (DistributionTarget distributionTarget : distributionTargetMapper.findBySourceIds(workbasketIds)) {
+                result.computeIfAbsent(distributionTarget.getSourceId(), id -> new ArrayList<>())
+                    .add(distributionTarget.getTargetId());
+            }
+            return result;
+        } finally {
+            taskanaEngine.returnConnection();
+            LOGGER.debug("exit from getDistributionTargetIds(workbasketIds). Returning targets of {} workbaskets.",
+                result.size());
+        }
+    }
+
     @Override
     public List<WorkbasketSummary> getDistributionTargets(String workbasketId)
         throws NotAuthorizedException, WorkbasketNotFoundException {
@@ -654,6 +766,266 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
     }
 
+    @Override
+    public WorkbasketImportResult importWorkbaskets(List<WorkbasketDefinition> definitions, int chunkSize)
+        throws NotAuthorizedException, DomainNotFoundException, InvalidWorkbasketException, InvalidArgumentException {
+        LOGGER.debug("entry to importWorkbaskets(definitions.size = {}, chunkSize = {})", definitions.size(),
+            chunkSize);
+        taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+        Instant start = Instant.now();
+        WorkbasketImportResult result = new WorkbasketImportResult();
+        boolean singleTransaction = chunkSize <= 0;
+        try {
+            if (singleTransaction) {
+                taskanaEngine.openConnection();
+            }
+            List<WorkbasketImport> imports = prepareImport(definitions);
+            int size = singleTransaction ? Math.max(imports.size(), 1) : chunkSize;
+            for (int i = 0; i < imports.size(); i += size) {
+                result.addChunk(writeImportChunk(imports.subList(i, Math.min(i + size, imports.size()))));
+                if (!singleTransaction) {
+                    LOGGER.info("Imported {} of {} workbaskets.", result.getProcessedWorkbasketCount(),
+                        imports.size());
+                }
+            }
+        } finally {
+            if (singleTransaction) {
+                taskanaEngine.returnConnection();
+            }
+        }
+        result.setDuration(Duration.between(start, Instant.now()));
+        LOGGER.info("Imported {} workbaskets in {} ms ({} workbaskets per second). {}", definitions.size(),
+            result.getDuration().toMillis(), Math.round(result.getWorkbasketsPerSecond()), result);
+        LOGGER.debug("exit from importWorkbaskets(), returning {}", result);
+        return result;
+    }
+
+    /**
+     * Validates the workbasket definitions against the existing workbaskets of the affected domains, assigns the ids
+     * in the database and converts the ids of the distribution targets. Nothing is written to the database.
+     *
+     * @param definitions the workbasket definitions to import
+     * @return the workbaskets to import in the given order
+     *
+     * @throws DomainNotFoundException    if the domain of a workbasket does not exist in the configuration
+     * @throws InvalidWorkbasketException if a workbasket is invalid or refers to an unknown distribution target
+     * @throws InvalidArgumentException   if a workbasket or an access item occurs twice or an access item is invalid
+     */
+    private List<WorkbasketImport> prepareImport(List<WorkbasketDefinition> definitions)
+        throws DomainNotFoundException, InvalidWorkbasketException, InvalidArgumentException {
+        if (definitions.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<String> domains = new HashSet<>();
+        for (WorkbasketDefinition definition : definitions) {
+            Workbasket workbasket = definition.getWorkbasket();
+            if (workbasket == null) {
+                throw new InvalidArgumentException("Workbasket definition must contain a workbasket");
+            }
+            if (workbasket.getKey() == null || workbasket.getKey().isEmpty()) {
+                throw new InvalidWorkbasketException("Key must not be null for " + workbasket);
+            }
+            if (workbasket.getDomain() == null) {
+                throw new InvalidWorkbasketException("Domain must not be null for " + workbasket);
+            }
+            domains.add(workbasket.getDomain());
+        }
+        Map<String, WorkbasketImpl> existingWorkbaskets = new HashMap<>();
+        taskanaEngine.openAndReturnConnection(() -> workbasketMapper.findByDomains(new ArrayList<>(domains)))
+            .forEach(workbasket -> existingWorkbaskets.put(logicalId(workbasket), workbasket));
+        LOGGER.debug("Method importWorkbaskets() read {} existing workbaskets of the domains {}.",
+            existingWorkbaskets.size(), domains);
+
+        Instant now = Instant.now();
+        Set<String> importedLogicalIds = new HashSet<>();
+        // key: id in the import, value: id in the database
+        Map<String, String> idConversion = new HashMap<>();
+        List<WorkbasketImport> imports = new ArrayList<>();
+        for (WorkbasketDefinition definition : definitions) {
+            WorkbasketImpl workbasket = (WorkbasketImpl) definition.getWorkbasket();
+            String logicalId = logicalId(workbasket);
+            if (!importedLogicalIds.add(logicalId)) {
+                throw new InvalidArgumentException("The workbasket " + workbasket.getKey()
+                    + " is contained more than once in domain '" + workbasket.getDomain() + "'.");
+            }
+            String importId = workbasket.getId();
+            WorkbasketImpl existing = existingWorkbaskets.get(logicalId);
+            if (existing != null) {
+                workbasket.setId(existing.getId());
+                workbasket.setCreated(existing.getCreated());
+                // set to the current time while writing, if the import changes the workbasket
+                workbasket.setModified(existing.getModified());
+            } else {
+                workbasket.setId(taskanaEngine.generateId(ID_PREFIX_WORKBASKET));
+                workbasket.setCreated(now);
+                workbasket.setModified(now);
+            }
+            validateWorkbasket(workbasket);
+            if (importId != null) {
+                idConversion.put(importId, workbasket.getId());
+            }
+            imports.add(new WorkbasketImport(workbasket, existing));
+        }
+
+        for (int i = 0; i < imports.size(); i++) {
+            WorkbasketImport workbasketImport = imports.get(i);
+            WorkbasketDefinition definition = definitions.get(i);
+            for (String importTargetId : definition.getDistributionTargetIds()) {
+                String targetId = idConversion.get(importTargetId);
+                if (targetId == null) {
+                    throw new InvalidWorkbasketException(
+                        String.format("invalid import state: Workbasket '%s' does not exist in the given import list",
+                            importTargetId));
+                }
+                workbasketImport.distributionTargetIds.add(targetId);
+            }
+            for (WorkbasketAccessItem accessItem : definition.getAccessItems()) {
+                WorkbasketAccessItemImpl accessItemImpl = (WorkbasketAccessItemImpl) accessItem;
+                if (accessItemImpl.getAccessId() == null) {
+                    throw new InvalidArgumentException(
+                        "Checking the preconditions of the current WorkbasketAccessItem failed - AccessId is NULL. "
+                            + "WorkbasketAccessItem=" + accessItem);
+                }
+                accessItemImpl.setWorkbasketId(workbasketImport.workbasket.getId());
+                accessItemImpl.setWorkbasketKey(workbasketImport.workbasket.getKey());
+                if (workbasketImport.accessItems.put(accessItemImpl.getAccessId(), accessItemImpl) != null) {
+                    throw new InvalidArgumentException("The access id " + accessItemImpl.getAccessId()
+                        + " is contained more than once in the access items of workbasket "
+                        + workbasketImport.workbasket.getKey() + " in domain '"
+                        + workbasketImport.workbasket.getDomain() + "'.");
+                }
+            }
+        }
+        return imports;
+    }
+
+    /**
+     * Writes one chunk of an import with its own connection. The existing access items and distribution targets of the
+     * chunk are read with one query each, the differences to the import are written in JDBC batches.
+     *
+     * @param chunk the workbaskets to write
+     * @return the counts of the chunk
+     */
+    private WorkbasketImportResult writeImportChunk(List<WorkbasketImport> chunk) {
+        WorkbasketImportResult chunkResult = new WorkbasketImportResult();
+        Instant now = Instant.now();
+        List<String> existingIds = chunk.stream()
+            .filter(workbasketImport -> workbasketImport.existing != null)
+            .map(workbasketImport -> workbasketImport.existing.getId())
+            .collect(Collectors.toList());
+        try {
+            taskanaEngine.openConnection();
+            Map<String, Map<String, WorkbasketAccessItemImpl>> existingAccessItems = new HashMap<>();
+            Map<String, Set<String>> existingDistributionTargets = new HashMap<>();
+            if (!existingIds.isEmpty()) {
+                for (WorkbasketAccessItemImpl accessItem : workbasketAccessMapper.findByWorkbasketIds(existingIds)) {
+                    existingAccessItems.computeIfAbsent(accessItem.getWorkbasketId(), id -> new HashMap<>())
+                        .put(accessItem.getAccessId(), accessItem);
+                }
+                for (DistributionTarget distributionTarget : distributionTargetMapper.findBySourceIds(existingIds)) {
+                    existingDistributionTargets.computeIfAbsent(distributionTarget.getSourceId(), id -> new HashSet<>())
+                        .add(distributionTarget.getTargetId());
+                }
+            }
+
+            SqlSession batchSession = taskanaEngine.openBatchSession();
+            try {
+                WorkbasketMapper batchWorkbasketMapper = batchSession.getMapper(WorkbasketMapper.class);
+                WorkbasketAccessMapper batchAccessMapper = batchSession.getMapper(WorkbasketAccessMapper.class);
+                DistributionTargetMapper batchTargetMapper = batchSession.getMapper(DistributionTargetMapper.class);
+                for (WorkbasketImport workbasketImport : chunk) {
+                    WorkbasketImpl workbasket = workbasketImport.workbasket;
+                    Set<String> oldTargetIds = existingDistributionTargets.getOrDefault(workbasket.getId(),
+                        Collections.emptySet());
+                    if (workbasketImport.existing == null) {
+                        batchWorkbasketMapper.insert(workbasket);
+                        chunkResult.addWorkbaskets(1, 0, 0);
+                    } else if (!workbasketImport.existing.equals(workbasket)
+                        || !oldTargetIds.equals(workbasketImport.distributionTargetIds)) {
+                        workbasket.setModified(now);
+                        batchWorkbasketMapper.update(workbasket);
+                        chunkResult.addWorkbaskets(0, 1, 0);
+                    } else {
+                        chunkResult.addWorkbaskets(0, 0, 1);
+                    }
+                    writeAccessItems(workbasketImport,
+                        existingAccessItems.getOrDefault(workbasket.getId(), Collections.emptyMap()),
+                        batchAccessMapper, chunkResult);
+                    writeDistributionTargets(workbasketImport, oldTargetIds, batchTargetMapper, chunkResult);
+                }
+                batchSession.flushStatements();
+            } finally {
+                batchSession.close();
+            }
+            // statements of the batch session bypass the local cache of the regular session
+            taskanaEngine.getSqlSession().clearCache();
+        } finally {
+            taskanaEngine.returnConnection();
+        }
+        LOGGER.debug("Method importWorkbaskets() wrote a chunk of {} workbaskets. {}", chunk.size(), chunkResult);
+        return chunkResult;
+    }
+
+    private void writeAccessItems(WorkbasketImport workbasketImport,
+        Map<String, WorkbasketAccessItemImpl> oldAccessItems, WorkbasketAccessMapper batchAccessMapper,
+        WorkbasketImportResult chunkResult) {
+        int created = 0;
+        int updated = 0;
+        int deleted = 0;
+        for (WorkbasketAccessItemImpl oldAccessItem : oldAccessItems.values()) {
+            if (!workbasketImport.accessItems.containsKey(oldAccessItem.getAccessId())) {
+                batchAccessMapper.delete(oldAccessItem.getId());
+                deleted++;
+            }
+        }
+        for (WorkbasketAccessItemImpl accessItem : workbasketImport.accessItems.values()) {
+            WorkbasketAccessItemImpl oldAccessItem = oldAccessItems.get(accessItem.getAccessId());
+            if (oldAccessItem == null) {
+                accessItem.setId(taskanaEngine.generateId(ID_PREFIX_WORKBASKET_AUTHORIZATION));
+                batchAccessMapper.insert(accessItem);
+                created++;
+            } else {
+                accessItem.setId(oldAccessItem.getId());
+                if (!oldAccessItem.equals(accessItem)) {
+                    batchAccessMapper.update(accessItem);
+                    updated++;
+                }
+            }
+        }
+        chunkResult.addAccessItems(created, updated, deleted);
+    }
+
+    private void writeDistributionTargets(WorkbasketImport workbasketImport, Set<String> oldTargetIds,
+        DistributionTargetMapper batchTargetMapper, WorkbasketImportResult chunkResult) {
+        String sourceId = workbasketImport.workbasket.getId();
+        int created = 0;
+        int deleted = 0;
+        for (String oldTargetId : oldTargetIds) {
+            if (!workbasketImport.distributionTargetIds.contains(oldTargetId)) {
+                batchTargetMapper.delete(sourceId, oldTargetId);
+                deleted++;
+            }
+        }
+        for (String targetId : workbasketImport.distributionTargetIds) {
+            if (!oldTargetIds.contains(targetId)) {
+                batchTargetMapper.insert(sourceId, targetId);
+                created++;
+            }
+        }
+        chunkResult.addDistributionTargets(created, deleted);
+    }
+
+    /**
+     * Identifies a workbasket by its key and domain, case insensitive like {@link WorkbasketMapper#findByKeyAndDomain}.
+     *
+     * @param workbasket
+     *            the workbasket, whose key and domain must not be null
+     * @return the logical id of the workbasket
+     */
+    private static String logicalId(Workbasket workbasket) {
+        return workbasket.getKey().toUpperCase() + "|" + workbasket.getDomain().toUpperCase();
+    }
+
     @Override
     public void addDistributionTarget(String sourceWorkbasketId, String targetWorkbasketId)
         throws NotAuthorizedException, WorkbasketNotFoundException {
@@ -739,24 +1111,24 @@ public class WorkbasketServiceImpl implements WorkbasketService {
             // check if the workbasket does exist and is empty (Task)
             this.getWorkbasket(workbasketId);
 
-            long numTasksNotCompletedInWorkbasket = taskanaEngine.getEngine().getTaskService()
+            boolean hasTasksNotCompleted = taskanaEngine.getEngine().getTaskService()
                 .createTaskQuery()
                 .workbasketIdIn(workbasketId)
                 .stateNotIn(
                     TaskState.COMPLETED)
-                .count();
+                .exists();
 
-            if (numTasksNotCompletedInWorkbasket > 0) {
+            if (hasTasksNotCompleted) {
                 throw new WorkbasketInUseException(
                     "Workbasket " + workbasketId + " contains non-completed tasks and can´t be marked for deletion.");
             }
 
-            long numTasksInWorkbasket = taskanaEngine.getEngine().getTaskService()
+            boolean hasTasks = taskanaEngine.getEngine().getTaskService()
                 .createTaskQuery()
                 .workbasketIdIn(workbasketId)
-                .count();
+                .exists();
 
-            if (numTasksInWorkbasket == 0) {
+            if (!hasTasks) {
                 workbasketMapper.delete(workbasketId);
                 deleteReferencesToWorkbasket(workbasketId);
                 return true;
@@ -844,4 +1216,19 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
     }
 
+    /**
+     * A workbasket to import together with its access items by access id and the ids of its distribution targets.
+     */
+    private static final class WorkbasketImport {
+
+        private final WorkbasketImpl workbasket;
+        private final WorkbasketImpl existing;
+        private final Map<String, WorkbasketAccessItemImpl> accessItems = new LinkedHashMap<>();
+        private final Set<String> distributionTargetIds = new LinkedHashSet<>();
+
+        private WorkbasketImport(WorkbasketImpl workbasket, WorkbasketImpl existing) {
+            this.workbasket = workbasket;
+            this.existing = existing;
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package pro.taskana.impl.metrics;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.apache.ibatis.transaction.Transaction;
+import org.apache.ibatis.transaction.TransactionFactory;
+
+import pro.taskana.metrics.TaskanaMetrics;
+
+/**
+ * Decorates the transaction factory of the engine to record the latency of the acquisition of connections from the
+ * data source. The data source itself is left untouched, because transaction managers like the one of Spring bind
+ * their connections to the data source instance. Transactions on a connection that was passed to the engine are not
+ * recorded.
+ */
+public class ConnectionMetricsTransactionFactory implements TransactionFactory {
+
+    private final TransactionFactory transactionFactory;
+    private final TaskanaMetrics metrics;
+
+    public ConnectionMetricsTransactionFactory(TransactionFactory transactionFactory, TaskanaMetrics metrics) {
+        this.transactionFactory = transactionFactory;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void setProperties(Properties props) {
+        transactionFactory.setProperties(props);
+    }
+
+    @Override
+    public Transaction newTransaction(Connection conn) {
+        return transactionFactory.newTransaction(conn);
+    }
+
+    @Override
+    public Transaction newTransaction(DataSource dataSource, TransactionIsolationLevel level, boolean autoCommit) {
+        return new ConnectionMetricsTransaction(transactionFactory.newTransaction(dataSource, level, autoCommit));
+    }
+
+    /**
+     * Records the latency of the first call of getConnection(), which opens the connection of the transaction.
+     */
+    private class ConnectionMetricsTransaction implements Transaction {
+
+        private final Transaction transaction;
+        private boolean connectionAcquired;
+
+        ConnectionMetricsTransaction(Transaction transaction) {
+            this.transaction = transaction;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (connectionAcquired) {
+                return transaction.getConnection();
+            }
+            String exception = TaskanaMetrics.NO_EXCEPTION;
+            long start = System.nanoTime();
+            try {
+                Connection connection = transaction.getConnection();
+                connectionAcquired = true;
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                metrics.recordTime(TaskanaMetrics.CONNECTION_ACQUISITION, System.nanoTime() - start,
+                    TaskanaMetrics.TAG_EXCEPTION, exception);
+            }
+        }
+
+        @Override
+        public void commit() throws SQLException {
+            transaction.commit();
+        }
+
+        @Override
+        public void rollback() throws SQLException {
+            transaction.rollback();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            transaction.close();
+        }
+
+        @Override
+        public Integer getTimeout() throws SQLException {
+            return transaction.getTimeout();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package pro.taskana.impl.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+
+import pro.taskana.metrics.TaskanaMetrics;
+
+/**
+ * Records the latency of each operation of a service and the size of the collection passed to a bulk operation.
+ */
+public final class ServiceMetricsHandler implements InvocationHandler {
+
+    private final Object service;
+    private final String serviceName;
+    private final TaskanaMetrics metrics;
+
+    private ServiceMetricsHandler(Object service, String serviceName, TaskanaMetrics metrics) {
+        this.service = service;
+        this.serviceName = serviceName;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Wraps a service into a proxy that records its metrics.
+     *
+     * @param serviceInterface
+     *            the interface of the service, its simple name is used as service tag
+     * @param service
+     *            the service implementation
+     * @param metrics
+     *            the metrics provider
+     * @param <T>
+     *            the type of the service
+     * @return the instrumented service
+     */
+    public static <T> T instrument(Class<T> serviceInterface, T service, TaskanaMetrics metrics) {
+        return serviceInterface.cast(Proxy.newProxyInstance(serviceInterface.getClassLoader(),
+            new Class<?>[] {serviceInterface},
+            new ServiceMetricsHandler(service, serviceInterface.getSimpleName(), metrics)));
+    }
+
+    /**
+     * Returns the service implementation behind an instrumented service. The engine uses it where it needs the
+     * implementation instead of the interface.
+     *
+     * @param service
+     *            the service, instrumented or not
+     * @param <T>
+     *            the type of the service
+     * @return the service implementation
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T unwrap(T service) {
+        if (service != null && Proxy.isProxyClass(service.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(service);
+            if (handler instanceof ServiceMetricsHandler) {
+                return (T) ((ServiceMetricsHandler) handler).service;
+            }
+        }
+        return service;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeService(method, args);
+        }
+        String operation = method.getName();
+        recordBulkSize(operation, args);
+        String exception = TaskanaMetrics.NO_EXCEPTION;
+        long start = System.nanoTime();
+        try {
+            return invokeService(method, args);
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            metrics.recordTime(TaskanaMetrics.SERVICE_OPERATION, System.nanoTime() - start,
+                TaskanaMetrics.TAG_SERVICE, serviceName,
+                TaskanaMetrics.TAG_OPERATION, operation,
+                TaskanaMetrics.TAG_EXCEPTION, exception);
+        }
+    }
+
+    private Object invokeService(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void recordBulkSize(String operation, Object[] args) {
+        if (args == null) {
+            return;
+        }
+        for (Object arg : args) {
+            if (arg instanceof Collection) {
+                metrics.recordAmount(TaskanaMetrics.BULK_OPERATION_SIZE, ((Collection<?>) arg).size(),
+                    TaskanaMetrics.TAG_SERVICE, serviceName,
+                    TaskanaMetrics.TAG_OPERATION, operation);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package pro.taskana.impl.metrics;
+
+import java.util.Properties;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import pro.taskana.metrics.TaskanaMetrics;
+
+/**
+ * MyBatis plugin that records the latency of each execution of a mapper statement. The statement tag is the id of the
+ * mapped statement, i.e. the qualified name of the mapper method. With the BATCH executor an update is only queued, so
+ * its latency does not include the round trip to the database.
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class})})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    private final TaskanaMetrics metrics;
+
+    public StatementMetricsInterceptor(TaskanaMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        String exception = TaskanaMetrics.NO_EXCEPTION;
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            metrics.recordTime(TaskanaMetrics.STATEMENT, System.nanoTime() - start,
+                TaskanaMetrics.TAG_STATEMENT, statement.getId(),
+                TaskanaMetrics.TAG_EXCEPTION, exception);
+        }
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // no properties
+    }
+}
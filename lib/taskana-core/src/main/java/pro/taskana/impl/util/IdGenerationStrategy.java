@@ -0,0 +1,16 @@
+package pro.taskana.impl.util;
+
+/**
+ * Strategy that creates the unique part of the ids generated by the {@link IdGenerator}. Implementations must be
+ * thread safe and return strings of exactly 36 characters, so that the generated ids keep the format
+ * "&lt;prefix&gt;:&lt;36 characters&gt;" and fit into the id columns of the database.
+ */
+public interface IdGenerationStrategy {
+
+    /**
+     * Creates a new unique value.
+     *
+     * @return a string of 36 characters
+     */
+    String generateId();
+}
@@ -23,6 +23,22 @@ public final class IdGenerator {
             .toString();
     }
 
+    /**
+     * This method create an id with an specific prefix, whose unique part is created by the given strategy.
+     *
+     * @param prefix
+     *            only 3 characters!
+     * @param strategy
+     *            the strategy that creates the unique part of the id
+     * @return a String with a length of 40 characters
+     */
+    public static String generateWithPrefix(String prefix, IdGenerationStrategy strategy) {
+        return new StringBuilder().append(prefix)
+            .append(SEPERATOR)
+            .append(strategy.generateId())
+            .toString();
+    }
+
     private IdGenerator() {
     }
 }
@@ -0,0 +1,14 @@
+package pro.taskana.impl.util;
+
+import java.util.UUID;
+
+/**
+ * Creates random (version 4) UUIDs. This is the default strategy of TASKANA.
+ */
+public class RandomIdGenerationStrategy implements IdGenerationStrategy {
+
+    @Override
+    public String generateId() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -36,6 +36,8 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
                 return new TaskCleanupJob(engine, txProvider, job);
             case WORKBASKETCLEANUPJOB:
                 return new WorkbasketCleanupJob(engine, txProvider, job);
+            case TASKCHANGEFEEDCLEANUPJOB:
+                return new TaskChangeFeedCleanupJob(engine, txProvider, job);
             default:
                 throw new TaskanaException(
                     "No matching job found for " + job.getType() + " of ScheduledJob " + job.getJobId() + ".");
@@ -12,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaEngine;
 import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.impl.TaskServiceImpl;
+import pro.taskana.impl.metrics.ServiceMetricsHandler;
 import pro.taskana.transaction.TaskanaTransactionProvider;
 
 /**
@@ -46,7 +47,8 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     public void run() throws TaskanaException {
         LOGGER.info("Running ClassificationChangedJob for classification ({})", classificationId);
         try {
-            TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+            TaskServiceImpl taskService = (TaskServiceImpl) ServiceMetricsHandler.unwrap(
+                taskanaEngineImpl.getTaskService());
             Set<String> affectedTaskIds = taskService.findTasksIdsAffectedByClassificationChange(classificationId);
             scheduleTaskRefreshJobs(affectedTaskIds);
             LOGGER.info("ClassificationChangedJob ended successfully.");
@@ -10,9 +10,11 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngine;
 import pro.taskana.exceptions.SystemException;
+import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.impl.JobServiceImpl;
 import pro.taskana.impl.TaskServiceImpl;
 import pro.taskana.impl.TaskanaEngineImpl;
+import pro.taskana.metrics.TaskanaMetrics;
 import pro.taskana.transaction.TaskanaTransactionProvider;
 
 /**
@@ -106,7 +108,12 @@ public class JobRunner {
         LOGGER.debug("entry to runScheduledJob(job = {})", scheduledJob);
         try {
             TaskanaJob job = AbstractTaskanaJob.createFromScheduledJob(taskanaEngine, txProvider, scheduledJob);
-            job.run();
+            TaskanaMetrics metrics = taskanaEngine.getConfiguration().getMetrics();
+            if (metrics == null) {
+                job.run();
+            } else {
+                runAndRecord(job, scheduledJob.getType(), metrics);
+            }
         } catch (Exception e) {
             LOGGER.error("Error running job: {} ", scheduledJob.getType(), e);
             throw new SystemException(
@@ -116,4 +123,20 @@ public class JobRunner {
         LOGGER.debug("exit from runScheduledJob");
     }
 
+    private void runAndRecord(TaskanaJob job, ScheduledJob.Type type, TaskanaMetrics metrics)
+        throws TaskanaException {
+        String exception = TaskanaMetrics.NO_EXCEPTION;
+        long start = System.nanoTime();
+        try {
+            job.run();
+        } catch (Exception e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            metrics.recordTime(TaskanaMetrics.JOB, System.nanoTime() - start,
+                TaskanaMetrics.TAG_JOB_TYPE, type.name(),
+                TaskanaMetrics.TAG_EXCEPTION, exception);
+        }
+    }
+
 }
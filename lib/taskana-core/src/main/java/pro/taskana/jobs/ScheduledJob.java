@@ -131,6 +131,7 @@ public class ScheduledJob {
         CLASSIFICATIONCHANGEDJOB,
         UPDATETASKSJOB,
         TASKCLEANUPJOB,
-        WORKBASKETCLEANUPJOB;
+        WORKBASKETCLEANUPJOB,
+        TASKCHANGEFEEDCLEANUPJOB;
     }
 }
@@ -0,0 +1,99 @@
+package pro.taskana.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskanaEngine;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.exceptions.TaskanaException;
+import pro.taskana.transaction.TaskanaTransactionProvider;
+
+/**
+ * Job to delete the changes of the task change feed after the retention period. The changes are recorded for every
+ * modification of a task, so without this job the table TASK_CHANGE grows without limit.
+ */
+public class TaskChangeFeedCleanupJob extends AbstractTaskanaJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeFeedCleanupJob.class);
+
+    // Parameter
+    private Instant firstRun;
+    private Duration runEvery;
+    private Duration retention;
+
+    public TaskChangeFeedCleanupJob(TaskanaEngine taskanaEngine, TaskanaTransactionProvider<Object> txProvider,
+        ScheduledJob job) {
+        super(taskanaEngine, txProvider, job);
+        firstRun = taskanaEngine.getConfiguration().getCleanupJobFirstRun();
+        runEvery = taskanaEngine.getConfiguration().getCleanupJobRunEvery();
+        retention = taskanaEngine.getConfiguration().getTaskChangeFeedRetention();
+    }
+
+    @Override
+    public void run() throws TaskanaException {
+        Instant changedBefore = Instant.now().minus(retention);
+        LOGGER.info("Running job to delete all task changes recorded before ({})", changedBefore);
+        try {
+            int deletedChanges = deleteChangesTransactionally(changedBefore);
+            LOGGER.info("Job ended successfully. {} task changes deleted.", deletedChanges);
+        } catch (Exception e) {
+            throw new TaskanaException("Error while processing TaskChangeFeedCleanupJob.", e);
+        } finally {
+            scheduleNextCleanupJob();
+        }
+    }
+
+    private int deleteChangesTransactionally(Instant changedBefore) throws NotAuthorizedException {
+        if (txProvider == null) {
+            return deleteChanges(changedBefore);
+        }
+        return (Integer) txProvider.executeInTransaction(() -> {
+            try {
+                return deleteChanges(changedBefore);
+            } catch (NotAuthorizedException e) {
+                LOGGER.warn("Could not delete task changes.", e);
+                return 0;
+            }
+        });
+    }
+
+    private int deleteChanges(Instant changedBefore) throws NotAuthorizedException {
+        return taskanaEngineImpl.getTaskChangeFeed().deleteChangesBefore(changedBefore);
+    }
+
+    private void scheduleNextCleanupJob() {
+        LOGGER.debug("Entry to scheduleNextCleanupJob.");
+        ScheduledJob job = new ScheduledJob();
+        job.setType(ScheduledJob.Type.TASKCHANGEFEEDCLEANUPJOB);
+        job.setDue(getNextDueForTaskChangeFeedCleanupJob());
+        taskanaEngineImpl.getJobService().createJob(job);
+        LOGGER.debug("Exit from scheduleNextCleanupJob.");
+    }
+
+    private Instant getNextDueForTaskChangeFeedCleanupJob() {
+        Instant nextRunAt = firstRun;
+        while (nextRunAt.isBefore(Instant.now())) {
+            nextRunAt = nextRunAt.plus(runEvery);
+        }
+        LOGGER.info("Scheduling next run of the TaskChangeFeedCleanupJob for {}", nextRunAt);
+        return nextRunAt;
+    }
+
+    /**
+     * Initializes the TaskChangeFeedCleanupJob schedule, if the task change feed is enabled.
+     *
+     * @param taskanaEngine
+     *            the TASKANA engine.
+     */
+    public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+        if (!taskanaEngine.getConfiguration().isTaskChangeFeedEnabled()) {
+            LOGGER.debug("The task change feed is disabled, the TaskChangeFeedCleanupJob is not scheduled.");
+            return;
+        }
+        TaskChangeFeedCleanupJob job = new TaskChangeFeedCleanupJob(taskanaEngine, null, null);
+        job.scheduleNextCleanupJob();
+    }
+}
@@ -6,14 +6,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.BaseQuery;
 import pro.taskana.BulkOperationResults;
-import pro.taskana.TaskSummary;
+import pro.taskana.TaskQuery;
+import pro.taskana.TaskQueryColumnName;
+import pro.taskana.TaskQueryRow;
 import pro.taskana.TaskanaEngine;
 import pro.taskana.TimeInterval;
 import pro.taskana.exceptions.InvalidArgumentException;
@@ -53,14 +54,15 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
         Instant completedBefore = Instant.now().minus(minimumAge);
         LOGGER.info("Running job to delete all tasks completed before ({})", completedBefore.toString());
         try {
-            List<TaskSummary> tasksCompletedBefore = getTasksCompletedBefore(completedBefore);
+            List<String> tasksCompletedBefore = getTasksCompletedBefore(completedBefore);
             int totalNumberOfTasksCompleted = 0;
             while (tasksCompletedBefore.size() > 0) {
                 int upperLimit = batchSize;
                 if (upperLimit > tasksCompletedBefore.size()) {
                     upperLimit = tasksCompletedBefore.size();
                 }
-                totalNumberOfTasksCompleted += deleteTasksTransactionally(tasksCompletedBefore.subList(0, upperLimit));
+                totalNumberOfTasksCompleted += deleteTasksTransactionally(
+                    new ArrayList<>(tasksCompletedBefore.subList(0, upperLimit)));
                 tasksCompletedBefore.subList(0, upperLimit).clear();
             }
             LOGGER.info("Job ended successfully. {} tasks deleted.", totalNumberOfTasksCompleted);
@@ -71,23 +73,24 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
         }
     }
 
-    private List<TaskSummary> getTasksCompletedBefore(Instant untilDate) {
+    private List<String> getTasksCompletedBefore(Instant untilDate) throws InvalidArgumentException {
         LOGGER.debug("entry to getTasksCompletedBefore(untilDate = {})", untilDate);
-        List<TaskSummary> taskList = taskanaEngineImpl.getTaskService()
+        TaskQuery completedTasksQuery = taskanaEngineImpl.getTaskService()
             .createTaskQuery()
             .completedWithin(new TimeInterval(null, untilDate))
-            .orderByBusinessProcessId(asc)
-            .list();
+            .orderByBusinessProcessId(asc);
 
+        List<String> taskList;
         if (allCompletedSameParentBusiness) {
             Map<String, Long> numberParentTasksShouldHave = new HashMap<>();
             Map<String, Long> countParentTask = new HashMap<>();
-            for (TaskSummary task : taskList) {
-                numberParentTasksShouldHave.put(task.getParentBusinessProcessId(), taskanaEngineImpl.getTaskService()
+            for (TaskQueryRow task : completedTasksQuery.listColumns(TaskQueryColumnName.PARENT_BUSINESS_PROCESS_ID)) {
+                String parentBusinessProcessId = task.getString(TaskQueryColumnName.PARENT_BUSINESS_PROCESS_ID);
+                numberParentTasksShouldHave.put(parentBusinessProcessId, taskanaEngineImpl.getTaskService()
                     .createTaskQuery()
-                    .parentBusinessProcessIdIn(task.getParentBusinessProcessId())
+                    .parentBusinessProcessIdIn(parentBusinessProcessId)
                     .count());
-                countParentTask.merge(task.getParentBusinessProcessId(), 1L, Long::sum);
+                countParentTask.merge(parentBusinessProcessId, 1L, Long::sum);
             }
 
             List<String> idsList = new ArrayList<>();
@@ -107,7 +110,9 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
             taskList = taskanaEngineImpl.getTaskService()
                 .createTaskQuery()
                 .parentBusinessProcessIdIn(ids)
-                .list();
+                .listIds();
+        } else {
+            taskList = completedTasksQuery.listIds();
         }
 
         if (LOGGER.isDebugEnabled()) {
@@ -117,7 +122,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
         return taskList;
     }
 
-    private int deleteTasksTransactionally(List<TaskSummary> tasksToBeDeleted) {
+    private int deleteTasksTransactionally(List<String> tasksToBeDeleted) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("entry to deleteTasksTransactionally(tasksToBeDeleted = {})", LoggerUtils.listToString(tasksToBeDeleted));
         }
@@ -145,14 +150,11 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
         return deletedTaskCount;
     }
 
-    private int deleteTasks(List<TaskSummary> tasksToBeDeleted) throws InvalidArgumentException {
+    private int deleteTasks(List<String> tasksIdsToBeDeleted) throws InvalidArgumentException {
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("entry to deleteTasks(tasksToBeDeleted = {})", tasksToBeDeleted);
+            LOGGER.debug("entry to deleteTasks(tasksIdsToBeDeleted = {})", tasksIdsToBeDeleted);
         }
 
-        List<String> tasksIdsToBeDeleted = tasksToBeDeleted.stream()
-            .map(task -> task.getTaskId())
-            .collect(Collectors.toList());
         BulkOperationResults<String, TaskanaException> results = taskanaEngineImpl.getTaskService()
             .deleteTasks(tasksIdsToBeDeleted);
         LOGGER.debug("{} tasks deleted.", tasksIdsToBeDeleted.size() - results.getFailedIds().size());
@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaEngine;
 import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.impl.TaskServiceImpl;
+import pro.taskana.impl.metrics.ServiceMetricsHandler;
 import pro.taskana.impl.util.LoggerUtils;
 import pro.taskana.transaction.TaskanaTransactionProvider;
 
@@ -38,7 +39,8 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
     public void run() throws TaskanaException {
         LOGGER.info("Running TaskRefreshJob for {} tasks", affectedTaskIds.size());
         try {
-            TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+            TaskServiceImpl taskService = (TaskServiceImpl) ServiceMetricsHandler.unwrap(
+                taskanaEngineImpl.getTaskService());
             for (String taskId : affectedTaskIds) {
                 try {
                     taskService.refreshPriorityAndDueDate(taskId);
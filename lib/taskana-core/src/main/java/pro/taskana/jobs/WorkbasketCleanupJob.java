@@ -7,15 +7,16 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import pro.taskana.BaseQuery;
 import pro.taskana.BulkOperationResults;
 import pro.taskana.TaskanaEngine;
-import pro.taskana.WorkbasketQueryColumnName;
+import pro.taskana.TaskanaRole;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.exceptions.WorkbasketInUseException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.impl.InternalTaskanaEngine;
+import pro.taskana.mappings.WorkbasketMapper;
 import pro.taskana.transaction.TaskanaTransactionProvider;
 
 /**
@@ -61,13 +62,13 @@ public class WorkbasketCleanupJob extends AbstractTaskanaJob {
         }
     }
 
-    private List<String> getWorkbasketsMarkedForDeletion() {
-        List<String> workbasketList = taskanaEngineImpl.getWorkbasketService()
-            .createWorkbasketQuery()
-            .markedForDeletion(true)
-            .listValues(WorkbasketQueryColumnName.ID, BaseQuery.SortDirection.ASCENDING);
-
-        return workbasketList;
+    private List<String> getWorkbasketsMarkedForDeletion() throws NotAuthorizedException {
+        taskanaEngineImpl.checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+        // workbaskets which still contain tasks would only be marked for deletion again
+        InternalTaskanaEngine internalEngine = taskanaEngineImpl.getInternalTaskanaEngine();
+        return internalEngine.openAndReturnConnection(() -> internalEngine.getSqlSession()
+            .getMapper(WorkbasketMapper.class)
+            .findIdsWithoutTasks(true));
     }
 
     private int deleteWorkbasketsTransactionally(List<String> workbasketsToBeDeleted) {
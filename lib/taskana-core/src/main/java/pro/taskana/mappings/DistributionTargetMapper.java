@@ -5,8 +5,12 @@ import java.util.List;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 
+import pro.taskana.impl.DistributionTarget;
+
 /**
  * This class is the mybatis mapping of distribution targets.
  */
@@ -23,6 +27,15 @@ public interface DistributionTargetMapper {
         + "</script>")
     List<String> findBySourceId(@Param("sourceId") String sourceId);
 
+    @Select("<script>SELECT SOURCE_ID, TARGET_ID FROM DISTRIBUTION_TARGETS "
+        + "WHERE SOURCE_ID IN (<foreach item='sourceId' collection='sourceIds' separator=',' >#{sourceId}</foreach>) "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    @Results(value = {
+        @Result(property = "sourceId", column = "SOURCE_ID"),
+        @Result(property = "targetId", column = "TARGET_ID")})
+    List<DistributionTarget> findBySourceIds(@Param("sourceIds") List<String> sourceIds);
+
     @Select("<script>SELECT count(*) FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{sourceId} AND TARGET_ID = #{targetId}"
         + "<if test=\"_databaseId == 'db2'\">with UR </if> "
         + "</script>")
@@ -1,5 +1,6 @@
 package pro.taskana.mappings;
 
+import java.util.HashMap;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Result;
@@ -27,21 +28,21 @@ public interface QueryMapper {
     String CLASSIFICATION_FINDBYID = "pro.taskana.mappings.ClassificationMapper.findById";
     String WORKBASKET_FINDSUMMARYBYKEY = "pro.taskana.mappings.WorkbasketMapper.findSummaryByKey";
 
-    @Select("<script> "
-        + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
-        + "t.CLASSIFICATION_CATEGORY, t.CLASSIFICATION_ID, t.WORKBASKET_ID, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, "
-        + "t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10, t.CUSTOM_11, t.CUSTOM_12, t.CUSTOM_13, t.CUSTOM_14, "
-        + "t.CUSTOM_15, t.CUSTOM_16"
-        + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
-        + ", a.CLASSIFICATION_ID, a.CLASSIFICATION_KEY, a.CHANNEL, a.REF_VALUE, a.RECEIVED"
-        + "</if>"
-        + "<if test=\"addClassificationNameToSelectClauseForOrdering\">"
-        + ", c.NAME "
-        + "</if>"
-        + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">"
-        + ", ac.NAME "
-        + "</if>"
-        + "FROM TASK t "
+    /**
+     * The columns of the task summaries, shared by the task queries and the pre-rendered statements of the fast path.
+     */
+    String TASK_SUMMARY_COLUMNS = "t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, "
+        + "t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, t.CLASSIFICATION_CATEGORY, t.CLASSIFICATION_ID, "
+        + "t.WORKBASKET_ID, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, "
+        + "t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, "
+        + "t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10, "
+        + "t.CUSTOM_11, t.CUSTOM_12, t.CUSTOM_13, t.CUSTOM_14, t.CUSTOM_15, t.CUSTOM_16";
+
+    /**
+     * The FROM and WHERE clause of the task query, shared by the statement of the task summaries and the statements
+     * that select only the ids or some columns of the tasks.
+     */
+    String TASK_QUERY_FROM_AND_WHERE = "FROM TASK t "
         + "<if test=\"joinWithAttachments\">"
         + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
         + "</if>"
@@ -54,9 +55,15 @@ public interface QueryMapper {
         + "<where>"
         + "<if test='accessIdIn != null'> "
         + "AND t.WORKBASKET_ID IN ( "
+        + "<choose><when test=\"_databaseId == 'db2'\">"
+        + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ) as MAX_READ FROM WORKBASKET_ACCESS_LIST where "
+        + "ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
+        + "group by WORKBASKET_ID ) where max_read = 1 ) "
+        + "</when><otherwise>"
         + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
         + "ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
         + "group by WORKBASKET_ID ) AS f where max_read = 1 ) "
+        + "</otherwise></choose>"
         + "</if> "
         + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
         + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
@@ -147,7 +154,23 @@ public interface QueryMapper {
         + "<if test='attachmentReferenceIn != null'>AND a.REF_VALUE IN(<foreach item='item' collection='attachmentReferenceIn' separator=',' >#{item}</foreach>)</if> "
         + "<if test='attachmentReferenceLike != null'>AND (<foreach item='item' collection='attachmentReferenceLike' separator=' OR '>UPPER(a.REF_VALUE) LIKE #{item}</foreach>)</if> "
         + "<if test='attachmentReceivedIn !=null'> AND ( <foreach item='item' collection='attachmentReceivedIn' separator=' OR ' > ( <if test='item.begin!=null'> a.RECEIVED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> a.RECEIVED &lt;=#{item.end} </if>)</foreach>)</if> "
-        + "</where>"
+        + "</where>";
+
+    @Select("<script> "
+        + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> " + TASK_SUMMARY_COLUMNS
+        + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
+        + ", a.CLASSIFICATION_ID, a.CLASSIFICATION_KEY, a.CHANNEL, a.REF_VALUE, a.RECEIVED"
+        + "</if>"
+        + "<if test=\"addClassificationNameToSelectClauseForOrdering\">"
+        + ", c.NAME "
+        + "</if>"
+        + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">"
+        + ", ac.NAME "
+        + "</if>"
+        + "<if test=\"addTotalCountToSelectClause\">"
+        + ", COUNT(*) OVER() AS TOTAL_COUNT "
+        + "</if>"
+        + TASK_QUERY_FROM_AND_WHERE
         + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >${item}</foreach></if> "
         + "</script>")
     @Results(value = {@Result(property = "taskId", column = "ID"),
@@ -213,10 +236,7 @@ public interface QueryMapper {
         + ", ACNAME "
         + "</if>"
         + " ) "
-        + " AS (SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
-        + " t.CLASSIFICATION_CATEGORY, t.CLASSIFICATION_ID, t.WORKBASKET_ID, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, "
-        + "t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, "
-        + "t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10, t.CUSTOM_11, t.CUSTOM_12, t.CUSTOM_13, t.CUSTOM_14, t.CUSTOM_15, t.CUSTOM_16"
+        + " AS (SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> " + TASK_SUMMARY_COLUMNS
         + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
         + ", a.CLASSIFICATION_ID, a.CLASSIFICATION_KEY, a.CHANNEL, a.REF_VALUE, a.RECEIVED"
         + "</if>"
@@ -376,6 +396,9 @@ public interface QueryMapper {
         + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">"
         + ", ACNAME "
         + "</if>"
+        + "<if test=\"addTotalCountToSelectClause\">"
+        + ", COUNT(*) OVER() AS TOTAL_COUNT "
+        + "</if>"
         + " FROM Y WHERE FLAG = 1 "
         + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >"
         + "${item}"
@@ -435,6 +458,7 @@ public interface QueryMapper {
         "<script>SELECT ID, KEY, PARENT_ID, PARENT_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8 "
             + "FROM CLASSIFICATION "
             + "<where>"
+            + "<if test='afterId != null'>AND ID &gt; #{afterId} </if> "
             + "<if test='key != null'>AND KEY IN(<foreach item='item' collection='key' separator=',' >#{item}</foreach>)</if> "
             + "<if test='idIn != null'>AND ID IN(<foreach item='item' collection='idIn' separator=',' >#{item}</foreach>)</if> "
             + "<if test='parentId != null'>AND PARENT_ID IN(<foreach item='item' collection='parentId' separator=',' >#{item}</foreach>)</if> "
@@ -470,7 +494,9 @@ public interface QueryMapper {
             + "<if test='custom8In != null'>AND CUSTOM_8 IN(<foreach item='item' collection='custom8In' separator=',' >#{item}</foreach>) </if> "
             + "<if test='custom8Like != null'>AND (<foreach item='item' collection='custom8Like' separator=' OR ' > UPPER(CUSTOM_8) LIKE #{item}</foreach>)</if> "
             + "</where>"
+            + "<choose><when test='chunkSize != null'>ORDER BY ID FETCH FIRST ${chunkSize} ROWS ONLY </when><otherwise>"
             + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >${item}</foreach></if> "
+            + "</otherwise></choose>"
             + "<if test=\"_databaseId == 'db2'\">with UR </if> "
             + "</script>")
     @Results({@Result(property = "id", column = "ID"),
@@ -535,6 +561,7 @@ public interface QueryMapper {
         + "on (w.ID = a.WID)"
         + "</if> "
         + "<where> 1=1 "
+        + "<if test='afterId != null'>AND w.ID &gt; #{afterId} </if> "
         + "<if test='ownerIn != null'>AND w.OWNER IN(<foreach item='item' collection='ownerIn' separator=',' >#{item}</foreach>)</if> "
         + "<if test='ownerLike != null'>AND (<foreach item='item' collection='ownerLike' separator=' OR ' >UPPER(w.OWNER) LIKE #{item}</foreach>)</if> "
         + "<if test='idIn != null'>AND w.ID IN(<foreach item='item' collection='idIn' separator=',' >#{item}</foreach>)</if> "
@@ -593,7 +620,9 @@ public interface QueryMapper {
         + "</if>)"
         + "</if>"
         + "</where>"
+        + "<choose><when test='chunkSize != null'>ORDER BY w.ID FETCH FIRST ${chunkSize} ROWS ONLY </when><otherwise>"
         + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='orderItem' collection='orderBy' separator=',' >${orderItem}</foreach></if> "
+        + "</otherwise></choose>"
         + "<if test=\"_databaseId == 'db2'\">with UR </if> "
         + "</script>")
     @Results({
@@ -656,7 +685,8 @@ public interface QueryMapper {
     List<WorkbasketAccessItemImpl> queryWorkbasketAccessItems(WorkbasketAccessItemQuery accessItemQuery);
 
     @Select("<script> "
-        + "SELECT COUNT( <if test=\"useDistinctKeyword\">DISTINCT</if>  t.ID) FROM TASK t "
+        + "SELECT <choose><when test=\"existsOnly\">1</when>"
+        + "<otherwise>COUNT( <if test=\"useDistinctKeyword\">DISTINCT</if>  t.ID)</otherwise></choose> FROM TASK t "
         + "<if test=\"joinWithAttachments\">"
         + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
         + "</if>"
@@ -763,6 +793,7 @@ public interface QueryMapper {
         + "<if test='attachmentReferenceLike != null'>AND (<foreach item='item' collection='attachmentReferenceLike' separator=' OR '>UPPER(a.REF_VALUE) LIKE #{item}</foreach>)</if> "
         + "<if test='attachmentReceivedIn !=null'> AND ( <foreach item='item' collection='attachmentReceivedIn' separator=' OR ' > ( <if test='item.begin!=null'> a.RECEIVED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> a.RECEIVED &lt;=#{item.end} </if>)</foreach>)</if> "
         + "</where>"
+        + "<if test=\"existsOnly\">FETCH FIRST 1 ROWS ONLY</if> "
         + "</script>")
     Long countQueryTasks(TaskQueryImpl taskQuery);
 
@@ -877,7 +908,8 @@ public interface QueryMapper {
         + "s.perm_read = 1 "
         + "fetch first 1 rows only "
         + ") FROM X ) "
-        + "SELECT COUNT(*)  FROM Y WHERE FLAG = 1 "
+        + "SELECT <choose><when test=\"existsOnly\">1</when><otherwise>COUNT(*)</otherwise></choose> FROM Y WHERE FLAG = 1 "
+        + "<if test=\"existsOnly\">fetch first 1 rows only </if>"
         + "with UR "
         + "</script>")
     Long countQueryTasksDb2(TaskQueryImpl taskQuery);
@@ -1176,6 +1208,52 @@ public interface QueryMapper {
         + "</script>")
     List<String> queryTaskColumnValues(TaskQueryImpl taskQuery);
 
+    @Select("<script>SELECT t.ID "
+        + TASK_QUERY_FROM_AND_WHERE
+        + "<if test=\"useDistinctKeyword\">GROUP BY t.ID </if> "
+        + "<if test='!projectionOrderBy.isEmpty()'>ORDER BY <foreach item='item' collection='projectionOrderBy' separator=',' >${item}</foreach></if> "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    List<String> queryTaskIds(TaskQueryImpl taskQuery);
+
+    /**
+     * Selects and locks the id of the first task of the query that is not locked by another transaction, e.g. by
+     * another claimNext. The rows that are locked are skipped, so concurrent callers get different tasks. A query
+     * that is grouped by task can't be locked directly, so it ranks the candidates in a derived table instead.
+     *
+     * @param taskQuery
+     *            the query of the ready tasks
+     * @return the id of the locked task or an empty list, if every task of the query is locked
+     */
+    @Select("<script>"
+        + "<choose><when test=\"useDistinctKeyword\">"
+        + "SELECT t.ID FROM TASK t JOIN (SELECT t.ID AS CANDIDATE_ID, ROW_NUMBER() OVER("
+        + "<if test='!projectionOrderBy.isEmpty()'>ORDER BY <foreach item='item' collection='projectionOrderBy' separator=',' >${item}</foreach></if>"
+        + ") AS CANDIDATE_RANK "
+        + TASK_QUERY_FROM_AND_WHERE
+        + "GROUP BY t.ID) AS candidates ON t.ID = candidates.CANDIDATE_ID "
+        + "WHERE t.STATE = 'READY' ORDER BY candidates.CANDIDATE_RANK "
+        + "</when><otherwise>"
+        + "SELECT t.ID "
+        + TASK_QUERY_FROM_AND_WHERE
+        + "<if test='!projectionOrderBy.isEmpty()'>ORDER BY <foreach item='item' collection='projectionOrderBy' separator=',' >${item}</foreach></if> "
+        + "</otherwise></choose>"
+        + "FETCH FIRST 1 ROWS ONLY "
+        + "<if test=\"_databaseId == 'postgres'\">FOR UPDATE OF t SKIP LOCKED </if> "
+        + "<if test=\"_databaseId == 'db2'\">WITH RS USE AND KEEP UPDATE LOCKS SKIP LOCKED DATA </if> "
+        + "</script>")
+    List<String> queryUnlockedTaskIdForUpdate(TaskQueryImpl taskQuery);
+
+    @Select("<script>SELECT "
+        + "<foreach item='item' index='index' collection='projectedColumns' separator=',' >${item} AS P${index}</foreach> "
+        + "<if test=\"addTotalCountToSelectClause\">, COUNT(*) OVER() AS TOTAL_COUNT </if>"
+        + TASK_QUERY_FROM_AND_WHERE
+        + "<if test=\"useDistinctKeyword\">GROUP BY t.ID<foreach item='item' collection='projectedColumns'>, ${item}</foreach> </if> "
+        + "<if test='!projectionOrderBy.isEmpty()'>ORDER BY <foreach item='item' collection='projectionOrderBy' separator=',' >${item}</foreach></if> "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    List<HashMap<String, Object>> queryTaskColumns(TaskQueryImpl taskQuery);
+
     @Select("<script>SELECT DISTINCT ${columnName} "
         + "FROM CLASSIFICATION"
         + "<where>"
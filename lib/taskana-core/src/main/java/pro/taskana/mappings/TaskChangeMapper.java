@@ -0,0 +1,71 @@
+package pro.taskana.mappings;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.RowBounds;
+
+import pro.taskana.TaskChangeType;
+import pro.taskana.impl.TaskChangeImpl;
+
+/**
+ * This class is the mybatis mapping of the TASK_CHANGE table.
+ */
+public interface TaskChangeMapper {
+
+    String NEXT_SEQUENCE_NUMBER = "<choose>"
+        + "<when test=\"_databaseId == 'db2'\">TASK_CHANGE_SEQ.NEXTVAL</when>"
+        + "<otherwise>nextval('TASK_CHANGE_SEQ')</otherwise>"
+        + "</choose>";
+
+    @Insert("<script>"
+        + "INSERT INTO TASK_CHANGE (SEQ, TASK_ID, EXTERNAL_ID, CHANGE_TYPE, WORKBASKET_ID, STATE, CHANGED, CHANGED_BY) "
+        + "VALUES (" + NEXT_SEQUENCE_NUMBER + ", #{change.taskId}, #{change.externalId}, #{change.changeType}, "
+        + "#{change.workbasketId}, #{change.state}, #{change.changed}, #{change.changedBy})"
+        + "</script>")
+    void insert(@Param("change") TaskChangeImpl change);
+
+    @Insert("<script>"
+        + "INSERT INTO TASK_CHANGE (SEQ, TASK_ID, EXTERNAL_ID, CHANGE_TYPE, WORKBASKET_ID, STATE, CHANGED, CHANGED_BY) "
+        + "SELECT " + NEXT_SEQUENCE_NUMBER + ", ID, EXTERNAL_ID, #{changeType}, WORKBASKET_ID, STATE, #{changed}, "
+        + "#{changedBy} FROM TASK "
+        + "<where>"
+        + "<if test='taskIds != null'>ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
+        + "<if test='externalIds != null'>EXTERNAL_ID IN(<foreach item='item' collection='externalIds' separator=',' >#{item}</foreach>)</if> "
+        + "</where>"
+        + "</script>")
+    int insertForTasks(@Param("changeType") TaskChangeType changeType, @Param("changed") Instant changed,
+        @Param("changedBy") String changedBy, @Param("taskIds") List<String> taskIds,
+        @Param("externalIds") List<String> externalIds);
+
+    @Select("<script>SELECT SEQ, TASK_ID, EXTERNAL_ID, CHANGE_TYPE, WORKBASKET_ID, STATE, CHANGED, CHANGED_BY "
+        + "FROM TASK_CHANGE "
+        + "WHERE SEQ &gt; #{afterSequenceNumber} "
+        + "<if test='workbasketIds != null'>AND WORKBASKET_ID IN(<foreach item='item' collection='workbasketIds' separator=',' >#{item}</foreach>)</if> "
+        + "ORDER BY SEQ ASC "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    @Results(value = {
+        @Result(property = "sequenceNumber", column = "SEQ"),
+        @Result(property = "taskId", column = "TASK_ID"),
+        @Result(property = "externalId", column = "EXTERNAL_ID"),
+        @Result(property = "changeType", column = "CHANGE_TYPE"),
+        @Result(property = "workbasketId", column = "WORKBASKET_ID"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "changed", column = "CHANGED"),
+        @Result(property = "changedBy", column = "CHANGED_BY")})
+    List<TaskChangeImpl> findChanges(@Param("afterSequenceNumber") long afterSequenceNumber,
+        @Param("workbasketIds") List<String> workbasketIds, RowBounds rowBounds);
+
+    @Select("SELECT MAX(SEQ) FROM TASK_CHANGE")
+    Long findLatestSequenceNumber();
+
+    @Delete("DELETE FROM TASK_CHANGE WHERE CHANGED < #{changedBefore}")
+    int deleteChangesBefore(@Param("changedBefore") Instant changedBefore);
+}
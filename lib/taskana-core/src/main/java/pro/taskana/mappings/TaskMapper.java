@@ -1,7 +1,9 @@
 package pro.taskana.mappings;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
@@ -13,6 +15,7 @@ import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
 import pro.taskana.CallbackState;
+import pro.taskana.ObjectReference;
 import pro.taskana.impl.MinimalTaskSummary;
 import pro.taskana.impl.TaskImpl;
 import pro.taskana.impl.TaskSummaryImpl;
@@ -24,7 +27,7 @@ import pro.taskana.impl.persistence.MapTypeHandler;
 public interface TaskMapper {
 
     @Select("<script>SELECT ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CALLBACK_INFO, CALLBACK_STATE, CUSTOM_ATTRIBUTES, "
-        + "CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11, CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16 "
+        + "CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11, CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16, VERSION "
         + "FROM TASK "
         + "WHERE ID = #{id} "
         + "<if test=\"_databaseId == 'db2'\">with UR </if> "
@@ -80,7 +83,8 @@ public interface TaskMapper {
         @Result(property = "custom13", column = "CUSTOM_13"),
         @Result(property = "custom14", column = "CUSTOM_14"),
         @Result(property = "custom15", column = "CUSTOM_15"),
-        @Result(property = "custom16", column = "CUSTOM_16")
+        @Result(property = "custom16", column = "CUSTOM_16"),
+        @Result(property = "version", column = "VERSION")
     })
     TaskImpl findById(@Param("id") String id);
 
@@ -97,17 +101,60 @@ public interface TaskMapper {
     @Options(keyProperty = "id", keyColumn = "ID")
     void insert(TaskImpl task);
 
-    @Update("UPDATE TASK SET CLAIMED = #{claimed}, COMPLETED = #{completed}, MODIFIED = #{modified}, PLANNED = #{planned}, DUE = #{due}, NAME = #{name}, DESCRIPTION = #{description}, NOTE = #{note}, "
-        + " PRIORITY = #{priority}, STATE = #{state}, CLASSIFICATION_CATEGORY = #{classificationSummary.category}, CLASSIFICATION_KEY = #{classificationSummary.key}, CLASSIFICATION_ID = #{classificationSummary.id}, "
-        + "WORKBASKET_ID = #{workbasketSummary.id}, WORKBASKET_KEY = #{workbasketSummary.key}, DOMAIN = #{workbasketSummary.domain}, "
-        + "BUSINESS_PROCESS_ID = #{businessProcessId}, PARENT_BUSINESS_PROCESS_ID = #{parentBusinessProcessId}, OWNER = #{owner}, POR_COMPANY = #{primaryObjRef.company}, POR_SYSTEM = #{primaryObjRef.system}, "
-        + "POR_INSTANCE = #{primaryObjRef.systemInstance}, POR_TYPE = #{primaryObjRef.type}, POR_VALUE = #{primaryObjRef.value}, IS_READ = #{isRead}, IS_TRANSFERRED = #{isTransferred}, "
-        + "CALLBACK_INFO = #{callbackInfo,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.impl.persistence.MapTypeHandler}, "
-        + "CUSTOM_ATTRIBUTES = #{customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.impl.persistence.MapTypeHandler}, CUSTOM_1 = #{custom1}, CUSTOM_2 = #{custom2}, "
-        + "CUSTOM_3 = #{custom3}, CUSTOM_4 = #{custom4}, CUSTOM_5 = #{custom5}, CUSTOM_6 = #{custom6}, CUSTOM_7 = #{custom7}, CUSTOM_8 = #{custom8}, "
-        + "CUSTOM_9 = #{custom9}, CUSTOM_10 = #{custom10}, CUSTOM_11 = #{custom11}, CUSTOM_12 = #{custom12}, CUSTOM_13 = #{custom13}, CUSTOM_14 = #{custom14}, CUSTOM_15 = #{custom15}, CUSTOM_16 = #{custom16} "
-        + "WHERE ID = #{id}")
-    void update(TaskImpl task);
+    @Update("<script>UPDATE TASK <set>"
+        + "<if test=\"changed.contains('CLAIMED')\">CLAIMED = #{task.claimed}, </if>"
+        + "<if test=\"changed.contains('COMPLETED')\">COMPLETED = #{task.completed}, </if>"
+        + "<if test=\"changed.contains('PLANNED')\">PLANNED = #{task.planned}, </if>"
+        + "<if test=\"changed.contains('DUE')\">DUE = #{task.due}, </if>"
+        + "<if test=\"changed.contains('NAME')\">NAME = #{task.name}, </if>"
+        + "<if test=\"changed.contains('DESCRIPTION')\">DESCRIPTION = #{task.description}, </if>"
+        + "<if test=\"changed.contains('NOTE')\">NOTE = #{task.note}, </if>"
+        + "<if test=\"changed.contains('PRIORITY')\">PRIORITY = #{task.priority}, </if>"
+        + "<if test=\"changed.contains('STATE')\">STATE = #{task.state}, </if>"
+        + "<if test=\"changed.contains('CLASSIFICATION')\">CLASSIFICATION_CATEGORY = #{task.classificationSummary.category}, "
+        + "CLASSIFICATION_KEY = #{task.classificationSummary.key}, CLASSIFICATION_ID = #{task.classificationSummary.id}, </if>"
+        + "<if test=\"changed.contains('WORKBASKET')\">WORKBASKET_ID = #{task.workbasketSummary.id}, WORKBASKET_KEY = #{task.workbasketSummary.key}, "
+        + "DOMAIN = #{task.workbasketSummary.domain}, </if>"
+        + "<if test=\"changed.contains('BUSINESS_PROCESS_ID')\">BUSINESS_PROCESS_ID = #{task.businessProcessId}, </if>"
+        + "<if test=\"changed.contains('PARENT_BUSINESS_PROCESS_ID')\">PARENT_BUSINESS_PROCESS_ID = #{task.parentBusinessProcessId}, </if>"
+        + "<if test=\"changed.contains('OWNER')\">OWNER = #{task.owner}, </if>"
+        + "<if test=\"changed.contains('POR')\">POR_COMPANY = #{task.primaryObjRef.company}, POR_SYSTEM = #{task.primaryObjRef.system}, "
+        + "POR_INSTANCE = #{task.primaryObjRef.systemInstance}, POR_TYPE = #{task.primaryObjRef.type}, POR_VALUE = #{task.primaryObjRef.value}, </if>"
+        + "<if test=\"changed.contains('IS_READ')\">IS_READ = #{task.isRead}, </if>"
+        + "<if test=\"changed.contains('IS_TRANSFERRED')\">IS_TRANSFERRED = #{task.isTransferred}, </if>"
+        + "<if test=\"changed.contains('CALLBACK_INFO')\">CALLBACK_INFO = #{task.callbackInfo,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.impl.persistence.MapTypeHandler}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_ATTRIBUTES')\">CUSTOM_ATTRIBUTES = #{task.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.impl.persistence.MapTypeHandler}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_1')\">CUSTOM_1 = #{task.custom1}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_2')\">CUSTOM_2 = #{task.custom2}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_3')\">CUSTOM_3 = #{task.custom3}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_4')\">CUSTOM_4 = #{task.custom4}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_5')\">CUSTOM_5 = #{task.custom5}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_6')\">CUSTOM_6 = #{task.custom6}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_7')\">CUSTOM_7 = #{task.custom7}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_8')\">CUSTOM_8 = #{task.custom8}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_9')\">CUSTOM_9 = #{task.custom9}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_10')\">CUSTOM_10 = #{task.custom10}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_11')\">CUSTOM_11 = #{task.custom11}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_12')\">CUSTOM_12 = #{task.custom12}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_13')\">CUSTOM_13 = #{task.custom13}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_14')\">CUSTOM_14 = #{task.custom14}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_15')\">CUSTOM_15 = #{task.custom15}, </if>"
+        + "<if test=\"changed.contains('CUSTOM_16')\">CUSTOM_16 = #{task.custom16}, </if>"
+        + "MODIFIED = #{task.modified}, VERSION = VERSION + 1 "
+        + "</set>"
+        + "WHERE ID = #{task.id} AND VERSION = #{task.version}"
+        + "</script>")
+    int updateChangedColumns(@Param("task") TaskImpl task, @Param("changed") Set<String> changedColumns);
+
+    @Update("UPDATE TASK SET IS_READ = #{isRead}, MODIFIED = #{modified}, VERSION = VERSION + 1 "
+        + "WHERE ID = #{id} AND VERSION = #{version}")
+    int setRead(@Param("id") String id, @Param("isRead") boolean isRead, @Param("modified") Instant modified,
+        @Param("version") int version);
+
+    @Update("UPDATE TASK SET STATE = 'COMPLETED', OWNER = #{owner}, COMPLETED = #{now}, MODIFIED = #{now}, VERSION = VERSION + 1 "
+        + "WHERE ID = #{id} AND VERSION = #{version}")
+    int complete(@Param("id") String id, @Param("owner") String owner, @Param("now") Instant now,
+        @Param("version") int version);
 
     @Delete("DELETE FROM TASK WHERE ID = #{id}")
     void delete(String id);
@@ -116,7 +163,16 @@ public interface TaskMapper {
     void deleteMultiple(@Param("ids") List<String> ids);
 
     @Update("<script>UPDATE TASK SET CALLBACK_STATE = #{state} WHERE EXTERNAL_ID IN(<foreach item='item' collection='externalIds' separator=',' >#{item}</foreach>)</script>")
-    void setCallbackStateMultiple(@Param("externalIds") List<String> externalIds, @Param("state") CallbackState state);
+    int setCallbackStateMultiple(@Param("externalIds") List<String> externalIds, @Param("state") CallbackState state);
+
+    @Update("<script>UPDATE TASK SET STATE = 'CLAIMED', OWNER = #{owner}, CLAIMED = #{now}, MODIFIED = #{now}, IS_READ = #{isRead}, "
+        + "VERSION = VERSION + 1 "
+        + "WHERE ID = #{id} AND ( STATE = 'READY' "
+        + "<if test='force'>OR STATE = 'CLAIMED' </if>"
+        + "<if test='!force and reclaim'>OR ( STATE = 'CLAIMED' AND OWNER = #{owner} ) </if>"
+        + ")</script>")
+    int claim(@Param("id") String id, @Param("owner") String owner, @Param("now") Instant now,
+        @Param("isRead") boolean isRead, @Param("reclaim") boolean reclaim, @Param("force") boolean force);
 
     @Select("<script>SELECT ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, PRIORITY, STATE, CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, "
         + "CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11, CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16 "
@@ -176,14 +232,14 @@ public interface TaskMapper {
 
     @Update("<script>"
         + " UPDATE TASK SET MODIFIED = #{referencetask.modified}, STATE = #{referencetask.state}, WORKBASKET_KEY = #{referencetask.workbasketSummary.key}, WORKBASKET_ID= #{referencetask.workbasketSummary.id}, "
-        + " DOMAIN = #{referencetask.domain}, OWNER = #{referencetask.owner}, IS_READ = #{referencetask.isRead}, IS_TRANSFERRED = #{referencetask.isTransferred}"
+        + " DOMAIN = #{referencetask.domain}, OWNER = #{referencetask.owner}, IS_READ = #{referencetask.isRead}, IS_TRANSFERRED = #{referencetask.isTransferred}, VERSION = VERSION + 1"
         + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
         + "</script>")
     void updateTransfered(@Param("taskIds") List<String> taskIds,
         @Param("referencetask") TaskSummaryImpl referencetask);
 
     @Update("<script>"
-        + " UPDATE TASK SET COMPLETED = #{referencetask.completed}, MODIFIED = #{referencetask.modified}, STATE = #{referencetask.state}"
+        + " UPDATE TASK SET COMPLETED = #{referencetask.completed}, MODIFIED = #{referencetask.modified}, STATE = #{referencetask.state}, VERSION = VERSION + 1"
         + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
         + "</script>")
     void updateCompleted(@Param("taskIds") List<String> taskIds,
@@ -205,12 +261,54 @@ public interface TaskMapper {
     List<MinimalTaskSummary> findExistingTasks(@Param("taskIds") List<String> taskIds,
         @Param("externalIds") List<String> externalIds);
 
+    @Select("<script>SELECT ID, MODIFIED, DOMAIN, WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_KEY, "
+        + "CLASSIFICATION_CATEGORY, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, POR_COMPANY, POR_SYSTEM, "
+        + "POR_INSTANCE, POR_TYPE, POR_VALUE FROM TASK "
+        + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    @Results(value = {
+        @Result(property = "taskId", column = "ID"),
+        @Result(property = "modified", column = "MODIFIED"),
+        @Result(property = "domain", column = "DOMAIN"),
+        @Result(property = "workbasketSummaryImpl.id", column = "WORKBASKET_ID"),
+        @Result(property = "workbasketSummaryImpl.key", column = "WORKBASKET_KEY"),
+        @Result(property = "workbasketSummaryImpl.domain", column = "DOMAIN"),
+        @Result(property = "classificationSummaryImpl.key", column = "CLASSIFICATION_KEY"),
+        @Result(property = "classificationSummaryImpl.category", column = "CLASSIFICATION_CATEGORY"),
+        @Result(property = "classificationSummaryImpl.domain", column = "DOMAIN"),
+        @Result(property = "businessProcessId", column = "BUSINESS_PROCESS_ID"),
+        @Result(property = "parentBusinessProcessId", column = "PARENT_BUSINESS_PROCESS_ID"),
+        @Result(property = "primaryObjRef.company", column = "POR_COMPANY"),
+        @Result(property = "primaryObjRef.system", column = "POR_SYSTEM"),
+        @Result(property = "primaryObjRef.systemInstance", column = "POR_INSTANCE"),
+        @Result(property = "primaryObjRef.type", column = "POR_TYPE"),
+        @Result(property = "primaryObjRef.value", column = "POR_VALUE")})
+    List<TaskSummaryImpl> findSummariesForHistoryEvents(@Param("taskIds") List<String> taskIds);
+
+    @Select("<script>SELECT ID, WORKBASKET_ID, VERSION FROM TASK "
+        + "WHERE ID = #{id} "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    @Results(value = {
+        @Result(property = "taskId", column = "ID"),
+        @Result(property = "workbasketId", column = "WORKBASKET_ID"),
+        @Result(property = "version", column = "VERSION")})
+    MinimalTaskSummary findVersionById(@Param("id") String id);
+
+    @Select("<script>SELECT ID FROM TASK WHERE CLASSIFICATION_ID = #{classificationId} "
+        + "AND (CLASSIFICATION_CATEGORY IS NULL OR CLASSIFICATION_CATEGORY &lt;&gt; #{newCategory}) "
+        + "FETCH FIRST ${chunkSize} ROWS ONLY "
+        + "</script>")
+    List<String> findTaskIdsWithOtherClassificationCategory(@Param("classificationId") String classificationId,
+        @Param("newCategory") String newCategory, @Param("chunkSize") int chunkSize);
+
     @Update("<script>"
-        + " UPDATE TASK SET CLASSIFICATION_CATEGORY = #{newCategory} "
-        + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
+        + " UPDATE TASK SET CLASSIFICATION_CATEGORY = #{newCategory}, MODIFIED = #{now}, VERSION = VERSION + 1 "
+        + " WHERE ID IN (<foreach item='taskId' collection='taskIds' separator=',' >#{taskId}</foreach>) "
         + "</script>")
-    void updateClassificationCategoryOnChange(@Param("taskIds") List<String> taskIds,
-        @Param("newCategory") String newCategory);
+    int updateClassificationCategoryOnChange(@Param("taskIds") List<String> taskIds,
+        @Param("newCategory") String newCategory, @Param("now") Instant now);
 
     @Update("<script>UPDATE TASK SET  "
         + "<if test='fields.custom1'>CUSTOM_1 = #{task.custom1}, </if> "
@@ -229,12 +327,37 @@ public interface TaskMapper {
         + "<if test='fields.custom14'>CUSTOM_14 = #{task.custom14}, </if> "
         + "<if test='fields.custom15'>CUSTOM_15 = #{task.custom15}, </if> "
         + "<if test='fields.custom16'>CUSTOM_16 = #{task.custom16}, </if> "
-        + "MODIFIED = #{task.modified} "
+        + "MODIFIED = #{task.modified}, VERSION = VERSION + 1 "
         + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
         + "</script>")
     void updateTasks(@Param("taskIds") List<String> taskIds, @Param("task") TaskImpl task,
         @Param("fields") CustomPropertySelector fields);
 
+    @Select("<script>SELECT ID FROM TASK "
+        + "<where>"
+        + "<if test='objectReference != null'>AND POR_COMPANY = #{objectReference.company} AND POR_SYSTEM = #{objectReference.system} "
+        + "AND POR_INSTANCE = #{objectReference.systemInstance} AND POR_TYPE = #{objectReference.type} AND POR_VALUE = #{objectReference.value} </if> "
+        + "<if test='taskIds != null'>AND ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) </if> "
+        + "<if test='accessIds != null'>AND WORKBASKET_ID IN ( "
+        + "<choose><when test=\"_databaseId == 'db2'\">"
+        + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ) as MAX_READ FROM WORKBASKET_ACCESS_LIST where "
+        + "ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+        + "group by WORKBASKET_ID ) where max_read = 1 ) "
+        + "</when><otherwise>"
+        + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
+        + "ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+        + "group by WORKBASKET_ID ) AS f where max_read = 1 ) "
+        + "</otherwise></choose>"
+        + "</if> "
+        + "<if test='afterId != null'>AND ID &gt; #{afterId} </if> "
+        + "</where>"
+        + "ORDER BY ID FETCH FIRST ${chunkSize} ROWS ONLY "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    List<String> findTaskIdsToUpdate(@Param("objectReference") ObjectReference objectReference,
+        @Param("taskIds") List<String> taskIds, @Param("accessIds") List<String> accessIds,
+        @Param("afterId") String afterId, @Param("chunkSize") int chunkSize);
+
     @Select("<script>SELECT ID, STATE FROM TASK "
         + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
         + "AND STATE IN ( 'READY','CLAIMED') "
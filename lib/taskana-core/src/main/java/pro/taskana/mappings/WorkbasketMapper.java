@@ -42,6 +42,62 @@ public interface WorkbasketMapper {
         @Result(property = "markedForDeletion", column = "MARKED_FOR_DELETION")})
     WorkbasketImpl findById(@Param("id") String id);
 
+    @Select("<script>SELECT ID, MODIFIED FROM WORKBASKET WHERE ID = #{id} "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    @Results(value = {
+        @Result(property = "id", column = "ID"),
+        @Result(property = "modified", column = "MODIFIED")})
+    WorkbasketImpl findModifiedById(@Param("id") String id);
+
+    @Select("<script>SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION FROM WORKBASKET "
+        + "WHERE ID IN (<foreach item='id' collection='ids' separator=',' >#{id}</foreach>) "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    @Results(value = {@Result(property = "id", column = "ID"),
+        @Result(property = "key", column = "KEY"),
+        @Result(property = "created", column = "CREATED"),
+        @Result(property = "modified", column = "MODIFIED"),
+        @Result(property = "name", column = "NAME"),
+        @Result(property = "domain", column = "DOMAIN"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "description", column = "DESCRIPTION"),
+        @Result(property = "owner", column = "OWNER"),
+        @Result(property = "custom1", column = "CUSTOM_1"),
+        @Result(property = "custom2", column = "CUSTOM_2"),
+        @Result(property = "custom3", column = "CUSTOM_3"),
+        @Result(property = "custom4", column = "CUSTOM_4"),
+        @Result(property = "orgLevel1", column = "ORG_LEVEL_1"),
+        @Result(property = "orgLevel2", column = "ORG_LEVEL_2"),
+        @Result(property = "orgLevel3", column = "ORG_LEVEL_3"),
+        @Result(property = "orgLevel4", column = "ORG_LEVEL_4"),
+        @Result(property = "markedForDeletion", column = "MARKED_FOR_DELETION")})
+    List<WorkbasketImpl> findByIds(@Param("ids") List<String> ids);
+
+    @Select("<script>SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION FROM WORKBASKET "
+        + "WHERE DOMAIN IN (<foreach item='domain' collection='domains' separator=',' >#{domain}</foreach>) "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    @Results(value = {@Result(property = "id", column = "ID"),
+        @Result(property = "key", column = "KEY"),
+        @Result(property = "created", column = "CREATED"),
+        @Result(property = "modified", column = "MODIFIED"),
+        @Result(property = "name", column = "NAME"),
+        @Result(property = "domain", column = "DOMAIN"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "description", column = "DESCRIPTION"),
+        @Result(property = "owner", column = "OWNER"),
+        @Result(property = "custom1", column = "CUSTOM_1"),
+        @Result(property = "custom2", column = "CUSTOM_2"),
+        @Result(property = "custom3", column = "CUSTOM_3"),
+        @Result(property = "custom4", column = "CUSTOM_4"),
+        @Result(property = "orgLevel1", column = "ORG_LEVEL_1"),
+        @Result(property = "orgLevel2", column = "ORG_LEVEL_2"),
+        @Result(property = "orgLevel3", column = "ORG_LEVEL_3"),
+        @Result(property = "orgLevel4", column = "ORG_LEVEL_4"),
+        @Result(property = "markedForDeletion", column = "MARKED_FOR_DELETION")})
+    List<WorkbasketImpl> findByDomains(@Param("domains") List<String> domains);
+
     @Select("<script>SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION FROM WORKBASKET WHERE UPPER(KEY) = UPPER(#{key}) and UPPER(DOMAIN) = UPPER(#{domain}) "
         + "<if test=\"_databaseId == 'db2'\">with UR </if> "
         + "</script>")
@@ -152,6 +208,12 @@ public interface WorkbasketMapper {
         @Result(property = "orgLevel4", column = "ORG_LEVEL_4")})
     List<WorkbasketSummaryImpl> findAll();
 
+    @Select("<script>SELECT w.ID FROM WORKBASKET w WHERE w.MARKED_FOR_DELETION = #{markedForDeletion} "
+        + "AND NOT EXISTS (SELECT 1 FROM TASK t WHERE t.WORKBASKET_ID = w.ID) ORDER BY w.ID "
+        + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+        + "</script>")
+    List<String> findIdsWithoutTasks(@Param("markedForDeletion") boolean markedForDeletion);
+
     @Insert("<script>INSERT INTO WORKBASKET (ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION) VALUES (#{workbasket.id}, #{workbasket.key}, #{workbasket.created}, #{workbasket.modified}, #{workbasket.name}, #{workbasket.domain}, #{workbasket.type}, #{workbasket.description}, #{workbasket.owner}, #{workbasket.custom1}, #{workbasket.custom2}, #{workbasket.custom3}, #{workbasket.custom4}, #{workbasket.orgLevel1}, #{workbasket.orgLevel2}, #{workbasket.orgLevel3}, #{workbasket.orgLevel4}, #{workbasket.markedForDeletion}) "
         + "</script>")
     @Options(keyProperty = "id", keyColumn = "ID")
@@ -0,0 +1,61 @@
+package pro.taskana.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * The name and tags of a metric of the engine, e.g. of a metric recorded by {@link SimpleTaskanaMetrics}.
+ */
+public final class MetricId {
+
+    private final String name;
+    private final Map<String, String> tags;
+
+    public MetricId(String name, String... tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException("tags must be pairs of keys and values, but were " + tags.length);
+        }
+        Map<String, String> tagMap = new TreeMap<>();
+        for (int i = 0; i < tags.length; i += 2) {
+            tagMap.put(tags[i], tags[i + 1]);
+        }
+        this.name = name;
+        this.tags = Collections.unmodifiableMap(tagMap);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public String getTag(String key) {
+        return tags.get(key);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MetricId)) {
+            return false;
+        }
+        MetricId other = (MetricId) obj;
+        return name.equals(other.name) && tags.equals(other.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, tags);
+    }
+
+    @Override
+    public String toString() {
+        return "MetricId [name=" + name + ", tags=" + tags + "]";
+    }
+}
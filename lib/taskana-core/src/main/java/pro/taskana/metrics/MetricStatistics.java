@@ -0,0 +1,62 @@
+package pro.taskana.metrics;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A snapshot of the values recorded for a metric by {@link SimpleTaskanaMetrics}. The histogram counts the values in
+ * buckets with upper bounds of increasing powers of two, i.e. 1, 2, 4, 8 and so on, in the unit of the recorded values.
+ * Times are recorded in nanoseconds.
+ */
+public final class MetricStatistics {
+
+    private final long count;
+    private final double total;
+    private final double max;
+    private final SortedMap<Double, Long> histogram;
+
+    MetricStatistics(long count, double total, double max, long[] buckets) {
+        this.count = count;
+        this.total = total;
+        this.max = max;
+        SortedMap<Double, Long> bucketCounts = new TreeMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] > 0) {
+                bucketCounts.put(Math.pow(2, i), buckets[i]);
+            }
+        }
+        this.histogram = Collections.unmodifiableSortedMap(bucketCounts);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count > 0 ? total / count : 0;
+    }
+
+    /**
+     * Returns the number of values per bucket of the histogram. Empty buckets are omitted.
+     *
+     * @return the number of values by the upper bound of their bucket
+     */
+    public SortedMap<Double, Long> getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricStatistics [count=" + count + ", total=" + total + ", max=" + max + ", histogram=" + histogram
+            + "]";
+    }
+}
@@ -0,0 +1,95 @@
+package pro.taskana.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Metrics provider that keeps the count, total, maximum and a histogram of the recorded values of each metric in
+ * memory. It needs no further dependencies and can be used to look into the engine without a monitoring system.
+ */
+public class SimpleTaskanaMetrics implements TaskanaMetrics {
+
+    private final ConcurrentMap<MetricId, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordTime(String name, long durationInNanos, String... tags) {
+        record(new MetricId(name, tags), durationInNanos);
+    }
+
+    @Override
+    public void recordAmount(String name, double amount, String... tags) {
+        record(new MetricId(name, tags), amount);
+    }
+
+    /**
+     * Returns the statistics of a metric.
+     *
+     * @param name
+     *            the name of the metric
+     * @param tags
+     *            all tags of the metric as alternating keys and values
+     * @return the statistics or null, if nothing was recorded for the metric
+     */
+    public MetricStatistics getStatistics(String name, String... tags) {
+        Accumulator accumulator = accumulators.get(new MetricId(name, tags));
+        return accumulator != null ? accumulator.snapshot() : null;
+    }
+
+    /**
+     * Returns the statistics of all metrics.
+     *
+     * @return the statistics by metric
+     */
+    public Map<MetricId, MetricStatistics> getStatistics() {
+        Map<MetricId, MetricStatistics> statistics = new HashMap<>();
+        accumulators.forEach((id, accumulator) -> statistics.put(id, accumulator.snapshot()));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public void reset() {
+        accumulators.clear();
+    }
+
+    private void record(MetricId id, double value) {
+        accumulators.computeIfAbsent(id, key -> new Accumulator()).record(value);
+    }
+
+    /**
+     * The values recorded for one metric.
+     */
+    private static final class Accumulator {
+
+        private static final int NUMBER_OF_BUCKETS = 64;
+
+        private final long[] buckets = new long[NUMBER_OF_BUCKETS];
+        private long count;
+        private double total;
+        private double max;
+
+        synchronized void record(double value) {
+            count++;
+            total += value;
+            max = Math.max(max, value);
+            buckets[bucketOf(value)]++;
+        }
+
+        synchronized MetricStatistics snapshot() {
+            return new MetricStatistics(count, total, max, buckets.clone());
+        }
+
+        private static int bucketOf(double value) {
+            if (value <= 1) {
+                return 0;
+            }
+            // the smallest power of two that is not less than the value
+            int bucket = Math.getExponent(value);
+            if (value > Math.pow(2, bucket)) {
+                bucket++;
+            }
+            return Math.min(bucket, NUMBER_OF_BUCKETS - 1);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package pro.taskana.metrics;
+
+/**
+ * Interface for a TASKANA metrics provider. The engine reports the latencies of its operations and the sizes of bulk
+ * operations to the provider, which is set with
+ * {@link pro.taskana.configuration.TaskanaEngineConfiguration#setMetrics(TaskanaMetrics)}. The names and tags follow
+ * the conventions of Micrometer, so a provider can pass them on to a Micrometer timer or distribution summary
+ * unchanged. Implementations must be thread safe.
+ */
+public interface TaskanaMetrics {
+
+    /**
+     * Latency of the operations of the TaskService, WorkbasketService and ClassificationService. Tagged with
+     * {@link #TAG_SERVICE}, {@link #TAG_OPERATION} and {@link #TAG_EXCEPTION}.
+     */
+    String SERVICE_OPERATION = "taskana.service.operation";
+
+    /**
+     * Number of elements passed to a bulk operation of a service. Tagged with {@link #TAG_SERVICE} and
+     * {@link #TAG_OPERATION}.
+     */
+    String BULK_OPERATION_SIZE = "taskana.service.bulk.size";
+
+    /**
+     * Latency of the execution of a mapper statement. Tagged with {@link #TAG_STATEMENT} and {@link #TAG_EXCEPTION}.
+     */
+    String STATEMENT = "taskana.statement";
+
+    /**
+     * Latency of a run of a background job. Tagged with {@link #TAG_JOB_TYPE} and {@link #TAG_EXCEPTION}.
+     */
+    String JOB = "taskana.job";
+
+    /**
+     * Latency of the acquisition of a connection from the data source. Tagged with {@link #TAG_EXCEPTION}.
+     */
+    String CONNECTION_ACQUISITION = "taskana.connection.acquisition";
+
+    String TAG_SERVICE = "service";
+    String TAG_OPERATION = "operation";
+    String TAG_STATEMENT = "statement";
+    String TAG_JOB_TYPE = "type";
+    String TAG_EXCEPTION = "exception";
+
+    /**
+     * The value of the {@link #TAG_EXCEPTION} tag of an execution that completed normally.
+     */
+    String NO_EXCEPTION = "none";
+
+    /**
+     * Records the duration of an execution.
+     *
+     * @param name
+     *            the name of the metric
+     * @param durationInNanos
+     *            the duration of the execution in nanoseconds
+     * @param tags
+     *            the tags of the execution as alternating keys and values
+     */
+    void recordTime(String name, long durationInNanos, String... tags);
+
+    /**
+     * Records an amount, e.g. the size of a bulk operation.
+     *
+     * @param name
+     *            the name of the metric
+     * @param amount
+     *            the amount
+     * @param tags
+     *            the tags of the amount as alternating keys and values
+     */
+    void recordAmount(String name, double amount, String... tags);
+}
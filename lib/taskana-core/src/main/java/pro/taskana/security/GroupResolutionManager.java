@@ -0,0 +1,221 @@
+package pro.taskana.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskanaEngine;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.security.api.GroupResolver;
+
+/**
+ * Loads GroupResolver SPI implementation(s) and resolves the groups of users and groups transitively. Each engine
+ * has its own manager with the resolvers and the cache settings of its configuration. The resolved group ids are
+ * cached per access id, the least recently used entry is evicted when the cache is full. An entry that is older than
+ * the configured time to live is still returned, but it is refreshed in the background, so that a slow directory does
+ * not delay logins and permission checks. The refreshes of all managers share one background thread.
+ */
+public final class GroupResolutionManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GroupResolutionManager.class);
+    private final List<GroupResolver> groupResolvers = new ArrayList<>();
+    private final Map<String, CacheEntry> cache;
+    private final Set<String> refreshingAccessIds = ConcurrentHashMap.newKeySet();
+    private final Duration cacheTimeToLive;
+
+    public GroupResolutionManager(TaskanaEngine taskanaEngine) {
+        cacheTimeToLive = taskanaEngine.getConfiguration().getGroupResolutionCacheTimeToLive();
+        int cacheSize = taskanaEngine.getConfiguration().getGroupResolutionCacheSize();
+        cache = Collections.synchronizedMap(new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        ServiceLoader<GroupResolver> serviceLoader = ServiceLoader.load(GroupResolver.class);
+        for (GroupResolver groupResolver : serviceLoader) {
+            groupResolver.initialize(taskanaEngine);
+            groupResolvers.add(groupResolver);
+            LOGGER.info("Registered GroupResolver: {}", groupResolver.getClass().getName());
+        }
+
+        if (groupResolvers.isEmpty()) {
+            LOGGER.info("No GroupResolver found. Using the groups of the JAAS subject only.");
+        }
+    }
+
+    public boolean isGroupResolutionEnabled() {
+        return !groupResolvers.isEmpty();
+    }
+
+    /**
+     * Returns the access ids of a user: the user id, the given groups of the user and all groups the user or these
+     * groups are a direct or indirect member of.
+     *
+     * @param userId
+     *            the id of the user
+     * @param groupIds
+     *            the group ids of the user, e.g. of the JAAS subject
+     * @return the user id followed by the group ids
+     */
+    public List<String> getAccessIds(String userId, List<String> groupIds) {
+        List<String> accessIds = new ArrayList<>();
+        accessIds.add(userId);
+        if (!isGroupResolutionEnabled()) {
+            accessIds.addAll(groupIds);
+            return accessIds;
+        }
+        Set<String> resolvedGroupIds = new LinkedHashSet<>(groupIds);
+        resolvedGroupIds.addAll(getTransitiveGroupIds(userId));
+        for (String groupId : groupIds) {
+            resolvedGroupIds.addAll(getTransitiveGroupIds(groupId));
+        }
+        LOGGER.trace("Group ids including the resolved groups: {}", resolvedGroupIds);
+        accessIds.addAll(resolvedGroupIds);
+        return accessIds;
+    }
+
+    /**
+     * Returns the ids of all groups the given user or group is a direct or indirect member of.
+     *
+     * @param accessId
+     *            the access id of a user or a group
+     * @return the group ids, never null
+     */
+    public Set<String> getTransitiveGroupIds(String accessId) {
+        if (!isGroupResolutionEnabled() || accessId == null) {
+            return Collections.emptySet();
+        }
+        CacheEntry entry = cache.get(accessId);
+        if (entry == null) {
+            try {
+                entry = new CacheEntry(resolve(accessId));
+                cache.put(accessId, entry);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not resolve the groups of {}. Using the groups of the JAAS subject only.",
+                    accessId, e);
+                return Collections.emptySet();
+            }
+        } else if (entry.isExpired(cacheTimeToLive)) {
+            refreshInBackground(accessId);
+        }
+        return entry.groupIds;
+    }
+
+    /**
+     * Removes all cached group memberships. They are resolved again on their next use.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private void refreshInBackground(String accessId) {
+        if (refreshingAccessIds.add(accessId)) {
+            RefreshExecutor.INSTANCE.execute(() -> {
+                try {
+                    cache.put(accessId, new CacheEntry(resolve(accessId)));
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Could not refresh the groups of {}. Keeping the cached groups.", accessId, e);
+                } finally {
+                    refreshingAccessIds.remove(accessId);
+                }
+            });
+        }
+    }
+
+    private Set<String> resolve(String accessId) {
+        LOGGER.debug("entry to resolve(accessId = {})", accessId);
+        Set<String> groupIds = new LinkedHashSet<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> toResolve = new ArrayDeque<>();
+        visited.add(normalize(accessId));
+        toResolve.add(accessId);
+        while (!toResolve.isEmpty()) {
+            String current = toResolve.poll();
+            for (GroupResolver groupResolver : groupResolvers) {
+                Set<String> directGroupIds = groupResolver.getDirectGroupIds(current);
+                if (directGroupIds == null) {
+                    continue;
+                }
+                for (String groupId : directGroupIds) {
+                    String normalizedGroupId = normalize(groupId);
+                    // the visited set stops the expansion of cyclic group memberships
+                    if (normalizedGroupId != null && visited.add(normalizedGroupId)) {
+                        groupIds.add(normalizedGroupId);
+                        toResolve.add(groupId);
+                    }
+                }
+            }
+        }
+        LOGGER.debug("exit from resolve(accessId = {}). Returning groups {}", accessId, groupIds);
+        return Collections.unmodifiableSet(groupIds);
+    }
+
+    private static String normalize(String accessId) {
+        if (accessId != null && TaskanaEngineConfiguration.shouldUseLowerCaseForAccessIds()) {
+            return accessId.toLowerCase();
+        }
+        return accessId;
+    }
+
+    /**
+     * The executor of the background refreshes of all managers. It is shared, because an engine has no lifecycle in
+     * which an executor of its own could be shut down. The only thread is a daemon and ends when it is idle.
+     */
+    private static final class RefreshExecutor {
+
+        private static final ExecutorService INSTANCE = createExecutor();
+
+        private RefreshExecutor() {
+        }
+
+        private static ExecutorService createExecutor() {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "taskana-group-resolution");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /**
+     * The resolved groups of one access id.
+     */
+    private static final class CacheEntry {
+
+        private final Set<String> groupIds;
+        private final Instant resolved = Instant.now();
+
+        CacheEntry(Set<String> groupIds) {
+            this.groupIds = groupIds;
+        }
+
+        boolean isExpired(Duration timeToLive) {
+            return Instant.now().isAfter(resolved.plus(timeToLive));
+        }
+    }
+}
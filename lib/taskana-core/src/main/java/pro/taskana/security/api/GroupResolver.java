@@ -0,0 +1,31 @@
+package pro.taskana.security.api;
+
+import java.util.Set;
+
+import pro.taskana.TaskanaEngine;
+
+/**
+ * Interface for TASKANA GroupResolver SPI. A GroupResolver returns the groups an access id is a direct member of,
+ * e.g. by reading the member attributes of a LDAP directory. Nested groups are expanded by TASKANA, which calls the
+ * resolver again for every group found.
+ */
+public interface GroupResolver {
+
+    /**
+     * Initialize GroupResolver service.
+     *
+     * @param taskanaEngine
+     *            {@link TaskanaEngine} The Taskana engine needed for initialization.
+     */
+    void initialize(TaskanaEngine taskanaEngine);
+
+    /**
+     * Determines the groups of which the given user or group is a direct member.
+     *
+     * @param accessId
+     *            the access id of a user or a group
+     * @return the access ids of the groups, an empty set if there are none
+     */
+    Set<String> getDirectGroupIds(String accessId);
+
+}
@@ -7,7 +7,7 @@ CREATE TABLE TASKANA_SCHEMA_VERSION(
         PRIMARY KEY (ID)
 );
 -- The VERSION value must match the value of TaskanaEngineConfiguration.TASKANA_SCHEMA_VERSION
-INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('1.1.5', CURRENT_TIMESTAMP);
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('1.1.6', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION(
     ID CHAR(40) NOT NULL,
@@ -110,6 +110,7 @@ CREATE TABLE TASK (
         CUSTOM_14 VARCHAR(255) NULL,
         CUSTOM_15 VARCHAR(255) NULL,
         CUSTOM_16 VARCHAR(255) NULL,
+        VERSION INT NOT NULL DEFAULT 0,
         PRIMARY KEY (ID),
         CONSTRAINT UC_EXTERNAL_ID UNIQUE (EXTERNAL_ID),
         CONSTRAINT TASK_WB FOREIGN KEY  (WORKBASKET_ID) REFERENCES WORKBASKET ON DELETE NO ACTION,
@@ -196,3 +197,23 @@ CREATE SEQUENCE SCHEDULED_JOB_SEQ
   INCREMENT BY 1
   CACHE 10;
 
+CREATE TABLE TASK_CHANGE(
+        SEQ             BIGINT NOT NULL,
+        TASK_ID         VARCHAR(40) NOT NULL,
+        EXTERNAL_ID     VARCHAR(64) NULL,
+        CHANGE_TYPE     VARCHAR(32) NOT NULL,
+        WORKBASKET_ID   VARCHAR(40) NULL,
+        STATE           VARCHAR(20) NULL,
+        CHANGED         TIMESTAMP NOT NULL,
+        CHANGED_BY      VARCHAR(32) NULL,
+        PRIMARY KEY (SEQ)
+);
+
+-- the changes are deleted by their age
+CREATE INDEX IDX_TASK_CHANGE_CHANGED ON TASK_CHANGE (CHANGED);
+
+CREATE SEQUENCE TASK_CHANGE_SEQ
+  MINVALUE 1
+  START WITH 1
+  INCREMENT BY 1
+  CACHE 10;
@@ -0,0 +1,29 @@
+-- this script updates the table TASKANA_SCHEMA_VERSION, creates the table TASK_CHANGE with an index
+-- on its column CHANGED and adds the column VERSION to the table TASK.
+
+SET search_path =  %schemaName%;
+
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('1.1.6', CURRENT_TIMESTAMP);
+
+CREATE TABLE TASK_CHANGE(
+        SEQ             BIGINT NOT NULL,
+        TASK_ID         VARCHAR(40) NOT NULL,
+        EXTERNAL_ID     VARCHAR(64) NULL,
+        CHANGE_TYPE     VARCHAR(32) NOT NULL,
+        WORKBASKET_ID   VARCHAR(40) NULL,
+        STATE           VARCHAR(20) NULL,
+        CHANGED         TIMESTAMP NOT NULL,
+        CHANGED_BY      VARCHAR(32) NULL,
+        PRIMARY KEY (SEQ)
+);
+
+-- the changes are deleted by their age
+CREATE INDEX IDX_TASK_CHANGE_CHANGED ON TASK_CHANGE (CHANGED);
+
+CREATE SEQUENCE TASK_CHANGE_SEQ
+  MINVALUE 1
+  START WITH 1
+  INCREMENT BY 1
+  CACHE 10;
+
+ALTER TABLE TASK ADD COLUMN VERSION INT NOT NULL DEFAULT 0;
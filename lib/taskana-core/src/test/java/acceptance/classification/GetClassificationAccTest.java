@@ -139,4 +139,15 @@ class GetClassificationAccTest extends AbstractAccTest {
         assertEquals("", classification.getDomain());
         assertEquals(999L, classification.getPriority());
     }
+
+    @Test
+    void testGetClassificationModified() throws ClassificationNotFoundException {
+        Classification classification = classificationService
+            .getClassification("CLI:100000000000000000000000000000000011");
+
+        assertEquals(classification.getModified(),
+            classificationService.getClassificationModified("CLI:100000000000000000000000000000000011"));
+        Assertions.assertThrows(ClassificationNotFoundException.class, () ->
+            classificationService.getClassificationModified("CLI:INVALID"));
+    }
 }
@@ -0,0 +1,132 @@
+package acceptance.classification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Classification;
+import pro.taskana.ClassificationImportResult;
+import pro.taskana.ClassificationService;
+import pro.taskana.exceptions.ClassificationNotFoundException;
+import pro.taskana.exceptions.DomainNotFoundException;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the import of classifications.
+ */
+@ExtendWith(JAASExtension.class)
+class ImportClassificationAccTest extends AbstractAccTest {
+
+    private ClassificationService classificationService;
+
+    ImportClassificationAccTest() {
+        super();
+        classificationService = taskanaEngine.getClassificationService();
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "businessadmin"})
+    @Test
+    void testImportCreatesClassificationsWithParentsAndMasterCopies()
+        throws ClassificationNotFoundException, NotAuthorizedException, DomainNotFoundException,
+        InvalidArgumentException {
+        long amountOfClassificationsBefore = classificationService.createClassificationQuery().count();
+        Classification child = classificationService.newClassification("ImportChild", "DOMAIN_A", "TASK");
+        child.setParentKey("ImportParent");
+        Classification parent = classificationService.newClassification("ImportParent", "DOMAIN_A", "TASK");
+        parent.setParentKey("L11010");
+
+        ClassificationImportResult result = classificationService.importClassifications(
+            Arrays.asList(child, parent), 0);
+
+        assertEquals(4, result.getCreatedCount());
+        assertEquals(0, result.getUpdatedCount());
+        assertEquals(1, result.getChunkCount());
+        assertEquals(amountOfClassificationsBefore + 4, classificationService.createClassificationQuery().count());
+
+        Classification createdParent = classificationService.getClassification("ImportParent", "DOMAIN_A");
+        Classification createdChild = classificationService.getClassification("ImportChild", "DOMAIN_A");
+        assertEquals(createdParent.getId(), createdChild.getParentId());
+        assertEquals("ImportParent", createdChild.getParentKey());
+        assertEquals("CLI:100000000000000000000000000000000004", createdParent.getParentId());
+
+        Classification masterParent = classificationService.getClassification("ImportParent", "");
+        Classification masterChild = classificationService.getClassification("ImportChild", "");
+        assertEquals(masterParent.getId(), masterChild.getParentId());
+        assertEquals("CLI:000000000000000000000000000000000004", masterParent.getParentId());
+        assertFalse(masterChild.getIsValidInDomain());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "businessadmin"})
+    @Test
+    void testImportUpdatesChangedClassificationsOnly()
+        throws ClassificationNotFoundException, NotAuthorizedException, DomainNotFoundException,
+        InvalidArgumentException {
+        Classification changed = classificationService.getClassification("L110102", "DOMAIN_A");
+        changed.setName("imported name");
+        Classification unchanged = classificationService.getClassification("L110105", "DOMAIN_A");
+
+        ClassificationImportResult result = classificationService.importClassifications(
+            Arrays.asList(changed, unchanged), 1);
+
+        assertEquals(0, result.getCreatedCount());
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(1, result.getUnchangedCount());
+        assertEquals(1, result.getChunkCount());
+
+        Classification updated = classificationService.getClassification("L110102", "DOMAIN_A");
+        assertEquals("imported name", updated.getName());
+        assertEquals("CLI:100000000000000000000000000000000004", updated.getParentId());
+        assertEquals("L11010", updated.getParentKey());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "businessadmin"})
+    @Test
+    void testImportFailsOnCycleOfParents() {
+        Classification first = classificationService.newClassification("ImportCycle1", "DOMAIN_B", "TASK");
+        first.setParentKey("ImportCycle2");
+        Classification second = classificationService.newClassification("ImportCycle2", "DOMAIN_B", "TASK");
+        second.setParentKey("ImportCycle1");
+
+        assertThrows(InvalidArgumentException.class,
+            () -> classificationService.importClassifications(Arrays.asList(first, second), 0));
+        assertThrows(ClassificationNotFoundException.class,
+            () -> classificationService.getClassification("ImportCycle1", "DOMAIN_B"));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "businessadmin"})
+    @Test
+    void testImportFailsOnChangeOfType() {
+        Classification classification = classificationService.newClassification("L10303", "DOMAIN_A", "DOCUMENT");
+
+        assertThrows(InvalidArgumentException.class,
+            () -> classificationService.importClassifications(Arrays.asList(classification), 0));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1"})
+    @Test
+    void testImportFailsWithoutBusinessAdminRole() {
+        Classification classification = classificationService.newClassification("ImportKey", "DOMAIN_A", "TASK");
+
+        assertThrows(NotAuthorizedException.class,
+            () -> classificationService.importClassifications(Arrays.asList(classification), 0));
+    }
+}
@@ -3,7 +3,9 @@ package acceptance.classification;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
@@ -11,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import acceptance.AbstractAccTest;
+import pro.taskana.BaseQuery.SortDirection;
+import pro.taskana.ClassificationQuery;
 import pro.taskana.ClassificationService;
 import pro.taskana.ClassificationSummary;
 import pro.taskana.exceptions.TaskanaRuntimeException;
@@ -161,4 +165,23 @@ class QueryClassificationWithPaginationAccTest extends AbstractAccTest {
         assertThat(count, equalTo(17L));
     }
 
+    @Test
+    void testListChunksAfterIdReturnsEachClassificationOnceInTheOrderOfTheIds() {
+        ClassificationService classificationService = taskanaEngine.getClassificationService();
+        ClassificationQuery query = classificationService.createClassificationQuery()
+            .domainIn("DOMAIN_A")
+            .orderByName(SortDirection.DESCENDING);
+        List<String> ids = new ArrayList<>();
+        List<ClassificationSummary> chunk = query.listAfterId(null, 5);
+        while (!chunk.isEmpty()) {
+            chunk.forEach(classification -> ids.add(classification.getId()));
+            chunk = query.listAfterId(ids.get(ids.size() - 1), 5);
+        }
+
+        List<String> expectedIds = query.list().stream().map(ClassificationSummary::getId).sorted().collect(
+            Collectors.toList());
+        assertThat(expectedIds.size(), equalTo(17));
+        assertThat(ids, equalTo(expectedIds));
+    }
+
 }
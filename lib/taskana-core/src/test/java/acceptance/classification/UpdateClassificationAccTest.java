@@ -7,12 +7,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -22,7 +29,14 @@ import acceptance.AbstractAccTest;
 import pro.taskana.Classification;
 import pro.taskana.ClassificationService;
 import pro.taskana.Task;
+import pro.taskana.TaskChange;
+import pro.taskana.TaskChangeFeed;
+import pro.taskana.TaskChangeType;
 import pro.taskana.TaskService;
+import pro.taskana.TaskSummary;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
 import pro.taskana.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.exceptions.ClassificationNotFoundException;
 import pro.taskana.exceptions.ConcurrencyException;
@@ -32,6 +46,7 @@ import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.TaskNotFoundException;
 import pro.taskana.impl.DaysToWorkingDaysConverter;
 import pro.taskana.impl.TaskImpl;
+import pro.taskana.impl.configuration.TaskanaEngineTestConfiguration;
 import pro.taskana.impl.report.header.TimeIntervalColumnHeader;
 import pro.taskana.jobs.JobRunner;
 import pro.taskana.security.JAASExtension;
@@ -204,6 +219,87 @@ public class UpdateClassificationAccTest extends AbstractAccTest {
             classificationService.updateClassification(classification));
     }
 
+    @WithAccessId(
+        userName = "dummy",
+        groupNames = {"admin"})
+    @Test
+    public void testCategoryChangeIsPropagatedToAllTasksOfTheClassification() throws Exception {
+        setupTest();
+        String classificationId = "CLI:100000000000000000000000000000000003";
+        TaskService taskService = taskanaEngine.getTaskService();
+        long numberOfTasks = taskService.createTaskQuery().classificationIdIn(classificationId).count();
+        assertTrue(numberOfTasks > 0);
+
+        Classification classification = classificationService.getClassification(classificationId);
+        classification.setCategory("MANUAL");
+        classificationService.updateClassification(classification);
+
+        assertEquals(numberOfTasks, taskService.createTaskQuery()
+            .classificationIdIn(classificationId)
+            .classificationCategoryIn("MANUAL")
+            .count());
+        resetDb(false);
+    }
+
+    @WithAccessId(
+        userName = "dummy",
+        groupNames = {"admin"})
+    @Test
+    void testCategoryChangeIncrementsTheVersionAndIsRecordedInTheTaskChangeFeed() throws Exception {
+        resetDb(false);
+        String classificationId = "CLI:100000000000000000000000000000000003";
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskChangeFeed taskChangeFeed = taskanaEngine.getTaskChangeFeed();
+        List<TaskSummary> tasks = taskService.createTaskQuery().classificationIdIn(classificationId).list();
+        assertTrue(tasks.size() > 0);
+        TaskSummary taskSummary = tasks.get(0);
+        int version = ((TaskImpl) taskService.getTask(taskSummary.getTaskId())).getVersion();
+        long before = taskChangeFeed.getLatestSequenceNumber();
+        Instant beforeUpdate = Instant.now();
+
+        Classification classification = classificationService.getClassification(classificationId);
+        classification.setCategory("MANUAL");
+        classificationService.updateClassification(classification);
+
+        TaskImpl updatedTask = (TaskImpl) taskService.getTask(taskSummary.getTaskId());
+        assertEquals(version + 1, updatedTask.getVersion());
+        assertTrue(!updatedTask.getModified().isBefore(beforeUpdate));
+        List<TaskChange> changes = taskChangeFeed.getChanges(before, tasks.size() + 1);
+        assertEquals(tasks.size(), changes.size());
+        assertTrue(changes.stream().allMatch(change -> change.getChangeType() == TaskChangeType.UPDATED));
+        assertTrue(changes.stream().anyMatch(change -> change.getTaskId().equals(taskSummary.getTaskId())));
+        resetDb(false);
+    }
+
+    @WithAccessId(
+        userName = "dummy",
+        groupNames = {"admin"})
+    @Test
+    void testCategoryChangeCommitsTheTasksInChunksAfterTheClassification() throws Exception {
+        resetDb(false);
+        AtomicInteger commits = new AtomicInteger();
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(
+            commitCountingDataSource(TaskanaEngineTestConfiguration.getDataSource(), commits), false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+        TaskanaEngine commitCountingEngine = configuration.buildTaskanaEngine();
+        commitCountingEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        ClassificationService service = commitCountingEngine.getClassificationService();
+        String classificationId = "CLI:100000000000000000000000000000000003";
+        long numberOfTasks = taskanaEngine.getTaskService().createTaskQuery()
+            .classificationIdIn(classificationId)
+            .count();
+        int chunkSize = configuration.getMaxNumberOfUpdatesPerTransaction();
+
+        Classification classification = service.getClassification(classificationId);
+        classification.setCategory("MANUAL");
+        commits.set(0);
+        service.updateClassification(classification);
+
+        // one commit for the classification and one for each chunk of tasks
+        assertEquals(1 + (numberOfTasks + chunkSize - 1) / chunkSize, commits.get());
+        resetDb(false);
+    }
+
     @WithAccessId(
         userName = "dummy",
         groupNames = {"admin"})
@@ -311,6 +407,32 @@ public class UpdateClassificationAccTest extends AbstractAccTest {
         classificationService.updateClassification(created);
     }
 
+    private static DataSource commitCountingDataSource(DataSource dataSource, AtomicInteger commits) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+            new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                if (!(result instanceof Connection)) {
+                    return result;
+                }
+                Connection connection = (Connection) result;
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                    (connectionProxy, connectionMethod, connectionArgs) -> {
+                        if ("commit".equals(connectionMethod.getName())) {
+                            commits.incrementAndGet();
+                        }
+                        return invoke(connection, connectionMethod, connectionArgs);
+                    });
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
     private void validateNewTaskProperties(Instant before, List<String> tasksWithP15D, TaskService taskService,
         DaysToWorkingDaysConverter converter, int serviceLevel) throws TaskNotFoundException, NotAuthorizedException {
         for (String taskId : tasksWithP15D) {
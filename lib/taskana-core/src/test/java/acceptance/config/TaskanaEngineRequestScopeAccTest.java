@@ -0,0 +1,124 @@
+package acceptance.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+
+import org.apache.ibatis.session.SqlSessionManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.ClassificationService;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.Workbasket;
+import pro.taskana.WorkbasketService;
+import pro.taskana.WorkbasketType;
+import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.impl.TaskanaEngineProxyForTest;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the request scope and the per engine session handling of the TaskanaEngine.
+ */
+@ExtendWith(JAASExtension.class)
+class TaskanaEngineRequestScopeAccTest extends AbstractAccTest {
+
+    @Test
+    void testRequestScopeKeepsOneSessionAcrossApiCalls() throws Exception {
+        TaskanaEngineProxyForTest engineProxy = new TaskanaEngineProxyForTest(taskanaEngine);
+        SqlSessionManager sessionManager = (SqlSessionManager) engineProxy.getSqlSession();
+        ClassificationService classificationService = taskanaEngine.getClassificationService();
+
+        taskanaEngine.openRequestScope();
+        try {
+            assertTrue(sessionManager.isManagedSessionStarted());
+            Connection connection = sessionManager.getConnection();
+            classificationService.getClassification("L10000", "DOMAIN_A");
+            classificationService.createClassificationQuery().domainIn("DOMAIN_A").count();
+            assertTrue(sessionManager.isManagedSessionStarted());
+            assertSame(connection, sessionManager.getConnection());
+        } finally {
+            taskanaEngine.closeRequestScope();
+        }
+        assertFalse(sessionManager.isManagedSessionStarted());
+    }
+
+    @Test
+    void testNestedRequestScopesAndUnbalancedCloseAreHandled() throws Exception {
+        TaskanaEngineProxyForTest engineProxy = new TaskanaEngineProxyForTest(taskanaEngine);
+        SqlSessionManager sessionManager = (SqlSessionManager) engineProxy.getSqlSession();
+
+        taskanaEngine.openRequestScope();
+        taskanaEngine.openRequestScope();
+        taskanaEngine.closeRequestScope();
+        assertTrue(sessionManager.isManagedSessionStarted());
+        taskanaEngine.closeRequestScope();
+        assertFalse(sessionManager.isManagedSessionStarted());
+
+        // an unbalanced close must neither fail nor close a session of a regular api call
+        taskanaEngine.closeRequestScope();
+        engineProxy.openConnection();
+        taskanaEngine.closeRequestScope();
+        assertTrue(sessionManager.isManagedSessionStarted());
+        engineProxy.returnConnection();
+        assertFalse(sessionManager.isManagedSessionStarted());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"businessadmin"})
+    @Test
+    void testRequestScopeCommitsOnCloseInAutocommitMode() throws Exception {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+        TaskanaEngine otherEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+        otherEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+
+        long before = otherEngine.getWorkbasketService().createWorkbasketQuery().keyIn("REQUEST_SCOPE_WB").count();
+        Workbasket workbasket = workbasketService.newWorkbasket("REQUEST_SCOPE_WB", "DOMAIN_A");
+        taskanaEngine.openRequestScope();
+        try {
+            workbasket.setName("Request scope workbasket");
+            workbasket.setType(WorkbasketType.GROUP);
+            workbasket = workbasketService.createWorkbasket(workbasket);
+            // the other engine uses its own session stack and is not affected by the open request scope
+            assertThrows(WorkbasketNotFoundException.class,
+                () -> otherEngine.getWorkbasketService().getWorkbasket("REQUEST_SCOPE_WB", "DOMAIN_A"));
+        } finally {
+            taskanaEngine.closeRequestScope();
+        }
+        assertEquals(before + 1,
+            otherEngine.getWorkbasketService().createWorkbasketQuery().keyIn("REQUEST_SCOPE_WB").count());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"businessadmin"})
+    @Test
+    void testRequestScopeReadsChangesCommittedBetweenApiCalls() throws Exception {
+        TaskanaEngine otherEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+        otherEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        WorkbasketService otherWorkbasketService = otherEngine.getWorkbasketService();
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+
+        taskanaEngine.openRequestScope();
+        try {
+            long before = workbasketService.createWorkbasketQuery().keyIn("REQUEST_SCOPE_WB_2").count();
+            Workbasket workbasket = otherWorkbasketService.newWorkbasket("REQUEST_SCOPE_WB_2", "DOMAIN_A");
+            workbasket.setName("Request scope workbasket 2");
+            workbasket.setType(WorkbasketType.GROUP);
+            otherWorkbasketService.createWorkbasket(workbasket);
+            // the session of the request scope must not answer the repeated query from its local cache
+            assertEquals(before + 1, workbasketService.createWorkbasketQuery().keyIn("REQUEST_SCOPE_WB_2").count());
+        } finally {
+            taskanaEngine.closeRequestScope();
+        }
+    }
+
+}
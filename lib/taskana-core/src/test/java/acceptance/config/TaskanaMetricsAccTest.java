@@ -0,0 +1,128 @@
+package acceptance.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.BulkOperationResults;
+import pro.taskana.Classification;
+import pro.taskana.ClassificationService;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.ClassificationNotFoundException;
+import pro.taskana.exceptions.TaskanaException;
+import pro.taskana.impl.configuration.TaskanaEngineTestConfiguration;
+import pro.taskana.jobs.JobRunner;
+import pro.taskana.metrics.MetricStatistics;
+import pro.taskana.metrics.SimpleTaskanaMetrics;
+import pro.taskana.metrics.TaskanaMetrics;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the metrics recorded by an engine with a metrics provider.
+ */
+@ExtendWith(JAASExtension.class)
+class TaskanaMetricsAccTest extends AbstractAccTest {
+
+    private SimpleTaskanaMetrics metrics;
+    private TaskanaEngine engine;
+
+    @BeforeEach
+    void setupEngineWithMetrics() throws Exception {
+        metrics = new SimpleTaskanaMetrics();
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(), false, TaskanaEngineTestConfiguration.getSchemaName());
+        configuration.setMetrics(metrics);
+        engine = configuration.buildTaskanaEngine();
+        engine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    }
+
+    @Test
+    void testServiceOperationStatementAndConnectionAreRecorded() throws Exception {
+        engine.getClassificationService().getClassification("L10000", "DOMAIN_A");
+
+        MetricStatistics operation = metrics.getStatistics(TaskanaMetrics.SERVICE_OPERATION,
+            TaskanaMetrics.TAG_SERVICE, "ClassificationService",
+            TaskanaMetrics.TAG_OPERATION, "getClassification",
+            TaskanaMetrics.TAG_EXCEPTION, TaskanaMetrics.NO_EXCEPTION);
+        assertNotNull(operation);
+        assertEquals(1, operation.getCount());
+        assertTrue(operation.getTotal() > 0);
+
+        assertTrue(metrics.getStatistics().keySet().stream()
+            .anyMatch(id -> TaskanaMetrics.STATEMENT.equals(id.getName())
+                && id.getTag(TaskanaMetrics.TAG_STATEMENT).startsWith("pro.taskana.mappings.ClassificationMapper.")));
+        MetricStatistics connections = metrics.getStatistics(TaskanaMetrics.CONNECTION_ACQUISITION,
+            TaskanaMetrics.TAG_EXCEPTION, TaskanaMetrics.NO_EXCEPTION);
+        assertNotNull(connections);
+        assertTrue(connections.getCount() >= 1);
+    }
+
+    @Test
+    void testExceptionOfServiceOperationIsTagged() {
+        ClassificationService classificationService = engine.getClassificationService();
+
+        assertThrows(ClassificationNotFoundException.class,
+            () -> classificationService.getClassification("NOT_EXISTING", "DOMAIN_A"));
+
+        MetricStatistics operation = metrics.getStatistics(TaskanaMetrics.SERVICE_OPERATION,
+            TaskanaMetrics.TAG_SERVICE, "ClassificationService",
+            TaskanaMetrics.TAG_OPERATION, "getClassification",
+            TaskanaMetrics.TAG_EXCEPTION, "ClassificationNotFoundException");
+        assertNotNull(operation);
+        assertEquals(1, operation.getCount());
+    }
+
+    @WithAccessId(
+        userName = "user_1_2",
+        groupNames = {"group_1"})
+    @Test
+    void testSizeOfBulkOperationIsRecorded() throws Exception {
+        List<String> taskIds = new ArrayList<>(Arrays.asList("TKI:NOT_EXISTING_1", "TKI:NOT_EXISTING_2",
+            "TKI:NOT_EXISTING_3"));
+
+        BulkOperationResults<String, TaskanaException> results = engine.getTaskService().deleteTasks(taskIds);
+
+        assertTrue(results.containsErrors());
+        MetricStatistics bulkSize = metrics.getStatistics(TaskanaMetrics.BULK_OPERATION_SIZE,
+            TaskanaMetrics.TAG_SERVICE, "TaskService",
+            TaskanaMetrics.TAG_OPERATION, "deleteTasks");
+        assertNotNull(bulkSize);
+        assertEquals(1, bulkSize.getCount());
+        assertEquals(3, bulkSize.getTotal(), 0);
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"businessadmin"})
+    @Test
+    void testRunOfJobIsRecorded() throws Exception {
+        ClassificationService classificationService = engine.getClassificationService();
+        Classification classification = classificationService
+            .getClassification("CLI:100000000000000000000000000000000003");
+        classification.setPriority(classification.getPriority() + 1);
+        classificationService.updateClassification(classification);
+        Thread.sleep(10);
+
+        new JobRunner(engine).runJobs();
+
+        MetricStatistics job = metrics.getStatistics(TaskanaMetrics.JOB,
+            TaskanaMetrics.TAG_JOB_TYPE, "CLASSIFICATIONCHANGEDJOB",
+            TaskanaMetrics.TAG_EXCEPTION, TaskanaMetrics.NO_EXCEPTION);
+        assertNotNull(job);
+        assertTrue(job.getCount() >= 1);
+    }
+
+}
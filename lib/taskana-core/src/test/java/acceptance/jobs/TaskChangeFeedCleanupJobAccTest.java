@@ -0,0 +1,56 @@
+package acceptance.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.TaskChangeFeed;
+import pro.taskana.exceptions.TaskanaException;
+import pro.taskana.jobs.TaskChangeFeedCleanupJob;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the job which deletes the changes of the task change feed after the retention period.
+ */
+@ExtendWith(JAASExtension.class)
+class TaskChangeFeedCleanupJobAccTest extends AbstractAccTest {
+
+    private static final String TASK_ID = "TKI:000000000000000000000000000000000025";
+
+    @AfterEach
+    void after() throws Exception {
+        resetDb(true);
+    }
+
+    @WithAccessId(userName = "admin")
+    @Test
+    void shouldDeleteOnlyTheChangesOlderThanTheRetention() throws Exception {
+        TaskChangeFeed taskChangeFeed = taskanaEngine.getTaskChangeFeed();
+        taskanaEngine.getTaskService().setTaskRead(TASK_ID, true);
+        assertEquals(1, taskChangeFeed.getChanges(0, 10).size());
+
+        runJobWithRetention(Duration.ofDays(7));
+        assertEquals(1, taskChangeFeed.getChanges(0, 10).size());
+
+        Thread.sleep(10);
+        runJobWithRetention(Duration.ZERO);
+        assertTrue(taskChangeFeed.getChanges(0, 10).isEmpty());
+    }
+
+    private void runJobWithRetention(Duration retention) throws TaskanaException {
+        Duration configuredRetention = taskanaEngine.getConfiguration().getTaskChangeFeedRetention();
+        taskanaEngine.getConfiguration().setTaskChangeFeedRetention(retention);
+        try {
+            new TaskChangeFeedCleanupJob(taskanaEngine, null, null).run();
+        } finally {
+            taskanaEngine.getConfiguration().setTaskChangeFeedRetention(configuredRetention);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package acceptance.jobs;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
@@ -14,8 +16,10 @@ import acceptance.AbstractAccTest;
 import pro.taskana.BaseQuery;
 import pro.taskana.TaskService;
 import pro.taskana.TaskState;
+import pro.taskana.Workbasket;
 import pro.taskana.WorkbasketService;
 import pro.taskana.WorkbasketSummary;
+import pro.taskana.WorkbasketType;
 import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.jobs.TaskCleanupJob;
 import pro.taskana.jobs.WorkbasketCleanupJob;
@@ -95,6 +99,37 @@ class WorkbasketCleanupJobAccTest extends AbstractAccTest {
         assertEquals(25, totalWorkbasketCount);
     }
 
+    @WithAccessId(userName = "admin")
+    @Test
+    void shouldCleanOnlyTheMarkedWorkbasketsWithoutTasks() throws Exception {
+        List<String> emptyWorkbasketIds = new ArrayList<>();
+        for (String key : Arrays.asList("EMPTY_1", "EMPTY_2", "EMPTY_3")) {
+            Workbasket workbasket = workbasketService.newWorkbasket(key, "DOMAIN_A");
+            workbasket.setName(key);
+            workbasket.setType(WorkbasketType.GROUP);
+            workbasket = workbasketService.createWorkbasket(workbasket);
+            workbasket.setMarkedForDeletion(true);
+            workbasketService.updateWorkbasket(workbasket);
+            emptyWorkbasketIds.add(workbasket.getId());
+        }
+        String teamleadWorkbasketId = workbasketService.getWorkbasket("TEAMLEAD_1", "DOMAIN_A").getId();
+        // the workbasket contains a completed task and is therefore only marked for deletion
+        workbasketService.deleteWorkbasket(teamleadWorkbasketId);
+        assertEquals(28, workbasketService.createWorkbasketQuery().count());
+
+        WorkbasketCleanupJob job = new WorkbasketCleanupJob(taskanaEngine, null, null);
+        job.run();
+
+        assertEquals(25, workbasketService.createWorkbasketQuery().count());
+        assertEquals(0, workbasketService.createWorkbasketQuery()
+            .idIn(emptyWorkbasketIds.toArray(new String[0]))
+            .count());
+        assertEquals(1, workbasketService.createWorkbasketQuery()
+            .idIn(teamleadWorkbasketId)
+            .markedForDeletion(true)
+            .count());
+    }
+
     private long getNumberTaskNotCompleted(String workbasketId) {
         return taskService
             .createTaskQuery()
@@ -0,0 +1,143 @@
+package acceptance.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.WorkbasketPermission;
+import pro.taskana.WorkbasketService;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.impl.InternalTaskanaEngine;
+import pro.taskana.impl.TaskanaEngineImpl;
+import pro.taskana.impl.configuration.TaskanaEngineTestConfiguration;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the resolution of nested groups by a GroupResolver. The TestGroupResolver is only registered
+ * for the engines of this test.
+ */
+@ExtendWith(JAASExtension.class)
+class GroupResolutionAccTest extends AbstractAccTest {
+
+    private static final String WORKBASKET_OF_GROUP_1 = "WBI:100000000000000000000000000000000004";
+    private static final Duration CACHE_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private static TaskanaEngine engineWithGroupResolution;
+
+    @BeforeAll
+    static void setupEngineWithGroupResolution() throws SQLException {
+        engineWithGroupResolution = buildEngineWithTestGroupResolver(1000, CACHE_TIME_TO_LIVE);
+    }
+
+    @WithAccessId(
+        userName = "nested_user")
+    @Test
+    void testNestedGroupsAreResolvedTransitivelyAndCached() throws Exception {
+        InternalTaskanaEngine internalEngine = ((TaskanaEngineImpl) engineWithGroupResolution)
+            .getInternalTaskanaEngine();
+        assertEquals(new HashSet<>(Arrays.asList("nested_user", "nested_group", "group_1", "nested_group_2")),
+            new HashSet<>(internalEngine.getAccessIds()));
+        int numberOfCalls = TestGroupResolver.NUMBER_OF_CALLS.get();
+
+        WorkbasketService workbasketService = engineWithGroupResolution.getWorkbasketService();
+        workbasketService.checkAuthorization(WORKBASKET_OF_GROUP_1, WorkbasketPermission.READ);
+
+        assertEquals(numberOfCalls, TestGroupResolver.NUMBER_OF_CALLS.get());
+    }
+
+    @WithAccessId(
+        userName = "user_without_nested_groups")
+    @Test
+    void testUserWithoutResolvedGroupsIsNotAuthorized() {
+        WorkbasketService workbasketService = engineWithGroupResolution.getWorkbasketService();
+
+        assertThrows(NotAuthorizedException.class,
+            () -> workbasketService.checkAuthorization(WORKBASKET_OF_GROUP_1, WorkbasketPermission.READ));
+    }
+
+    @WithAccessId(
+        userName = "nested_user")
+    @Test
+    void testEngineWithoutGroupResolverDoesNotResolveNestedGroups() {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+
+        assertThrows(NotAuthorizedException.class,
+            () -> workbasketService.checkAuthorization(WORKBASKET_OF_GROUP_1, WorkbasketPermission.READ));
+    }
+
+    @WithAccessId(
+        userName = "nested_user",
+        groupNames = {"other_group"})
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedIfTheCacheIsFull() throws SQLException {
+        // the user and the group of the subject need two entries, the cache of the engine holds one only
+        InternalTaskanaEngine internalEngine = ((TaskanaEngineImpl) buildEngineWithTestGroupResolver(1, CACHE_TIME_TO_LIVE))
+            .getInternalTaskanaEngine();
+        internalEngine.getAccessIds();
+        int numberOfCalls = TestGroupResolver.NUMBER_OF_CALLS.get();
+
+        assertTrue(internalEngine.getAccessIds().contains("group_1"));
+
+        assertTrue(TestGroupResolver.NUMBER_OF_CALLS.get() > numberOfCalls);
+    }
+
+    @WithAccessId(
+        userName = "nested_user")
+    @Test
+    void testExpiredEntriesOfAllEnginesAreRefreshedByOneThread() throws SQLException, InterruptedException {
+        // the engines are kept, so that none of them can be garbage collected during the test
+        List<TaskanaEngine> engines = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            engines.add(buildEngineWithTestGroupResolver(1000, Duration.ZERO));
+            InternalTaskanaEngine internalEngine = ((TaskanaEngineImpl) engines.get(i)).getInternalTaskanaEngine();
+            internalEngine.getAccessIds();
+            Thread.sleep(10);
+            // the expired entry is returned and refreshed in the background
+            assertTrue(internalEngine.getAccessIds().contains("group_1"));
+        }
+
+        long refreshThreads = Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> "taskana-group-resolution".equals(thread.getName()))
+            .count();
+        assertTrue(refreshThreads <= 1, refreshThreads + " threads refresh the cached groups of " + engines.size()
+            + " engines");
+    }
+
+    private static TaskanaEngine buildEngineWithTestGroupResolver(int cacheSize, Duration cacheTimeToLive)
+        throws SQLException {
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(), false, TaskanaEngineTestConfiguration.getSchemaName());
+        configuration.setGroupResolutionCacheSize(cacheSize);
+        configuration.setGroupResolutionCacheTimeToLive(cacheTimeToLive);
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        // the ServiceLoader of the engine finds the registration of the TestGroupResolver in this directory only
+        URL groupResolution = GroupResolutionAccTest.class.getResource("/group-resolution/");
+        thread.setContextClassLoader(new URLClassLoader(new URL[] {groupResolution}, contextClassLoader));
+        try {
+            TaskanaEngine engine = configuration.buildTaskanaEngine();
+            engine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+            return engine;
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+}
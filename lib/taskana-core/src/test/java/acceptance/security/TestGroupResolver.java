@@ -0,0 +1,40 @@
+package acceptance.security;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import pro.taskana.TaskanaEngine;
+import pro.taskana.security.api.GroupResolver;
+
+/**
+ * This is a sample implementation of GroupResolver with a nested and a cyclic group membership.
+ */
+public class TestGroupResolver implements GroupResolver {
+
+    static final AtomicInteger NUMBER_OF_CALLS = new AtomicInteger();
+
+    private static final Map<String, Set<String>> DIRECT_GROUPS = new HashMap<>();
+
+    static {
+        DIRECT_GROUPS.put("nested_user", Collections.singleton("NESTED_GROUP"));
+        DIRECT_GROUPS.put("nested_group", new HashSet<>(Arrays.asList("group_1", "nested_group_2")));
+        DIRECT_GROUPS.put("nested_group_2", Collections.singleton("nested_group"));
+    }
+
+    @Override
+    public void initialize(TaskanaEngine taskanaEngine) {
+        // nothing to initialize
+    }
+
+    @Override
+    public Set<String> getDirectGroupIds(String accessId) {
+        NUMBER_OF_CALLS.incrementAndGet();
+        return DIRECT_GROUPS.getOrDefault(accessId.toLowerCase(), Collections.emptySet());
+    }
+
+}
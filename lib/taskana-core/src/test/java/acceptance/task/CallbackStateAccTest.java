@@ -18,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import acceptance.AbstractAccTest;
 import pro.taskana.BulkOperationResults;
 import pro.taskana.CallbackState;
+import pro.taskana.CallbackStateUpdateResults;
 import pro.taskana.Task;
 import pro.taskana.TaskService;
 import pro.taskana.TaskState;
@@ -347,6 +348,52 @@ class CallbackStateAccTest extends AbstractAccTest {
 
     }
 
+    @WithAccessId(
+        userName = "admin",
+        groupNames = {"group_1"})
+    @Test
+    void testSetCallbackStateInChunks() throws Exception {
+        resetDb(false);
+        TaskService taskService = taskanaEngine.getTaskService();
+
+        List<TaskSummary> claimedTasks = taskService.createTaskQuery()
+            .stateIn(TaskState.CLAIMED)
+            .list();
+        taskService.forceCompleteTask(claimedTasks.get(0).getTaskId());
+        taskService.forceCompleteTask(claimedTasks.get(1).getTaskId());
+
+        List<String> externalIds = taskService.createTaskQuery()
+            .stateIn(TaskState.COMPLETED)
+            .list()
+            .stream()
+            .map(TaskSummary::getExternalId)
+            .collect(Collectors.toList());
+        int numberOfCompletedTasks = externalIds.size();
+        externalIds.add(1, "INVALID_EXTERNAL_ID");
+        externalIds.add("");
+
+        CallbackStateUpdateResults results = taskService.setCallbackStateForTasks(externalIds.stream().iterator(),
+            CallbackState.CALLBACK_PROCESSING_REQUIRED, 2);
+
+        assertEquals(numberOfCompletedTasks + 2, results.getProcessedCount());
+        assertEquals(numberOfCompletedTasks, results.getUpdatedCount());
+        assertEquals((numberOfCompletedTasks + 3) / 2, results.getChunkCount());
+        assertEquals(2, results.getFailedIds().size());
+        assertTrue(results.getErrorForId("INVALID_EXTERNAL_ID") instanceof TaskNotFoundException);
+        assertTrue(results.getErrorForId("") instanceof InvalidArgumentException);
+        assertEquals(numberOfCompletedTasks, taskService.createTaskQuery()
+            .stateIn(TaskState.COMPLETED)
+            .callbackStateIn(CallbackState.CALLBACK_PROCESSING_REQUIRED)
+            .count());
+
+        // claimed tasks without required callback processing cannot be set to CLAIMED
+        results = taskService.setCallbackStateForTasks(
+            Arrays.asList(claimedTasks.get(2).getExternalId()).iterator(), CallbackState.CLAIMED, 0);
+        assertEquals(1, results.getChunkCount());
+        assertEquals(0, results.getUpdatedCount());
+        assertTrue(results.getErrorForId(claimedTasks.get(2).getExternalId()) instanceof InvalidStateException);
+    }
+
     private TaskImpl createTask(TaskService taskService, CallbackState callbackState)
         throws WorkbasketNotFoundException, ClassificationNotFoundException, NotAuthorizedException,
         TaskAlreadyExistException, InvalidArgumentException {
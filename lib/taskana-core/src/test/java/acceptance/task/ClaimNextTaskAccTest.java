@@ -0,0 +1,150 @@
+package acceptance.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.BaseQuery.SortDirection;
+import pro.taskana.Task;
+import pro.taskana.TaskQuery;
+import pro.taskana.TaskService;
+import pro.taskana.TaskState;
+import pro.taskana.TaskSummary;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for claiming the next task of a work queue.
+ */
+@ExtendWith(JAASExtension.class)
+class ClaimNextTaskAccTest extends AbstractAccTest {
+
+    private static final String WORKBASKET_ID = "WBI:100000000000000000000000000000000015";
+    private static final int NUMBER_OF_CLAIMERS = 8;
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "group_2"})
+    @Test
+    void testClaimNextClaimsTasksInQueryOrder() throws Exception {
+        resetDb(false);
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<TaskSummary> readyTasks = taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .stateIn(TaskState.READY)
+            .orderByPriority(SortDirection.DESCENDING)
+            .orderByDue(SortDirection.ASCENDING)
+            .list();
+
+        Task firstTask = taskService.claimNext(taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .orderByPriority(SortDirection.DESCENDING)
+            .orderByDue(SortDirection.ASCENDING));
+        Task secondTask = taskService.claimNext(taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .orderByPriority(SortDirection.DESCENDING)
+            .orderByDue(SortDirection.ASCENDING));
+
+        assertNotNull(firstTask);
+        assertEquals(readyTasks.get(0).getTaskId(), firstTask.getId());
+        assertEquals(TaskState.CLAIMED, firstTask.getState());
+        assertEquals("teamlead_1", firstTask.getOwner());
+        assertNotNull(firstTask.getClaimed());
+        assertEquals(readyTasks.get(1).getTaskId(), secondTask.getId());
+        assertEquals(TaskState.CLAIMED, taskService.getTask(secondTask.getId()).getState());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "group_2"})
+    @Test
+    void testClaimNextReturnsNullIfNoTaskMatches() throws NotAuthorizedException {
+        TaskService taskService = taskanaEngine.getTaskService();
+
+        assertNull(taskService.claimNext(taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .nameIn("no task has this name")));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "group_2"})
+    @Test
+    void testClaimNextDoesNotChangeTheQuery() throws Exception {
+        resetDb(false);
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskQuery query = taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .orderByPriority(SortDirection.DESCENDING);
+        List<String> taskIds = query.listIds();
+
+        Task claimedTask = taskService.claimNext(query);
+
+        assertNotNull(claimedTask);
+        assertEquals(new HashSet<>(taskIds), new HashSet<>(query.listIds()));
+        assertTrue(query.list().stream().anyMatch(task -> task.getState() != TaskState.READY));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "group_2"})
+    @Test
+    void testConcurrentClaimersNeverClaimTheSameTask() throws Exception {
+        resetDb(false);
+        TaskService taskService = taskanaEngine.getTaskService();
+        long readyTasks = taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .stateIn(TaskState.READY)
+            .count();
+        List<String> claimedIds = Collections.synchronizedList(new ArrayList<>());
+
+        List<Thread> claimers = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_CLAIMERS; i++) {
+            // the threads inherit the access control context and therefore the user of the test
+            claimers.add(new Thread(() -> {
+                for (int attempt = 0; attempt < readyTasks * 2; attempt++) {
+                    try {
+                        Task task = taskService.claimNext(taskService.createTaskQuery()
+                            .workbasketIdIn(WORKBASKET_ID)
+                            .orderByPriority(SortDirection.DESCENDING));
+                        if (task == null) {
+                            break;
+                        }
+                        claimedIds.add(task.getId());
+                    } catch (NotAuthorizedException | PersistenceException e) {
+                        // e.g. a lock timeout on databases without SKIP LOCKED, the claimer just tries again
+                        continue;
+                    }
+                }
+            }));
+        }
+        for (Thread claimer : claimers) {
+            claimer.start();
+        }
+        for (Thread claimer : claimers) {
+            claimer.join();
+        }
+
+        assertEquals(claimedIds.size(), new HashSet<>(claimedIds).size());
+        assertEquals(readyTasks, claimedIds.size());
+        assertNotEquals(0, readyTasks);
+        assertEquals(0, taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .stateIn(TaskState.READY)
+            .count());
+    }
+
+}
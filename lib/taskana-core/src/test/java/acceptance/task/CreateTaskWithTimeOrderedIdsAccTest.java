@@ -0,0 +1,89 @@
+package acceptance.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.impl.configuration.TaskanaEngineTestConfiguration;
+import pro.taskana.impl.util.IdGenerationStrategy;
+import pro.taskana.impl.util.TimeOrderedIdGenerationStrategy;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the creation of tasks with time ordered ids.
+ */
+@ExtendWith(JAASExtension.class)
+class CreateTaskWithTimeOrderedIdsAccTest extends AbstractAccTest {
+
+    @Test
+    void testTimeOrderedIdsAreIncreasingAndKeepTheFormat() {
+        IdGenerationStrategy strategy = new TimeOrderedIdGenerationStrategy();
+        String previousId = null;
+        for (int i = 0; i < 10000; i++) {
+            String id = strategy.generateId();
+            assertEquals(36, id.length());
+            assertEquals('7', id.charAt(14));
+            if (previousId != null) {
+                assertTrue(previousId.compareTo(id) < 0, previousId + " is not less than " + id);
+            }
+            previousId = id;
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testCreateTasksWithTimeOrderedIds() throws Exception {
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(), false, TaskanaEngineTestConfiguration.getSchemaName());
+        configuration.setIdGenerationStrategy(new TimeOrderedIdGenerationStrategy());
+        TaskanaEngine engine = configuration.buildTaskanaEngine();
+        engine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        TaskService taskService = engine.getTaskService();
+
+        Task firstTask = taskService.createTask(newTask(taskService));
+        Task secondTask = taskService.createTask(newTask(taskService));
+
+        assertEquals(40, firstTask.getId().length());
+        assertTrue(firstTask.getId().startsWith("TKI:"));
+        assertTrue(firstTask.getId().compareTo(secondTask.getId()) < 0);
+        assertEquals(secondTask.getId(), taskService.getTask(secondTask.getId()).getId());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testStrategyOfAnEngineDoesNotAffectOtherEngines() throws Exception {
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(), false, TaskanaEngineTestConfiguration.getSchemaName());
+        configuration.setIdGenerationStrategy(() -> "00000000-0000-7000-8000-000000000001");
+        configuration.buildTaskanaEngine();
+        TaskService taskService = taskanaEngine.getTaskService();
+
+        Task task = taskService.createTask(newTask(taskService));
+
+        assertNotEquals("TKI:00000000-0000-7000-8000-000000000001", task.getId());
+        // the engine of the test uses the default strategy, i.e. random (version 4) UUIDs
+        assertEquals('4', task.getId().charAt("TKI:".length() + 14));
+    }
+
+    private Task newTask(TaskService taskService) {
+        Task newTask = taskService.newTask("USER_1_1", "DOMAIN_A");
+        newTask.setClassificationKey("T2100");
+        newTask.setPrimaryObjRef(createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+        return newTask;
+    }
+
+}
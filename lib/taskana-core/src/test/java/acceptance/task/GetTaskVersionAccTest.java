@@ -0,0 +1,139 @@
+package acceptance.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.ConcurrencyException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.exceptions.TaskNotFoundException;
+import pro.taskana.impl.configuration.TaskanaEngineTestConfiguration;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the lightweight "get task version" probe used for conditional requests.
+ */
+@ExtendWith(JAASExtension.class)
+class GetTaskVersionAccTest extends AbstractAccTest {
+
+    private static final AtomicInteger STATEMENT_COUNT = new AtomicInteger();
+    private static TaskanaEngine countingEngine;
+
+    GetTaskVersionAccTest() {
+        super();
+    }
+
+    @BeforeAll
+    static void setupCountingEngine() throws SQLException {
+        DataSource dataSource = countingDataSource(TaskanaEngineTestConfiguration.getDataSource());
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(dataSource, false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+        countingEngine = configuration.buildTaskanaEngine();
+        countingEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testGetTaskVersionNeedsFewerStatementsThanGetTask()
+        throws TaskNotFoundException, NotAuthorizedException {
+        TaskService taskService = countingEngine.getTaskService();
+
+        STATEMENT_COUNT.set(0);
+        Task task = taskService.getTask("TKI:000000000000000000000000000000000000");
+        int getTaskStatements = STATEMENT_COUNT.getAndSet(0);
+        int version = taskService.getTaskVersion("TKI:000000000000000000000000000000000000");
+        int probeStatements = STATEMENT_COUNT.get();
+
+        assertEquals(task.getVersion(), version);
+        // one statement for the task row and one for the read permission
+        assertEquals(2, probeStatements);
+        assertTrue(probeStatements < getTaskStatements,
+            "probe used " + probeStatements + " statements, getTask used " + getTaskStatements);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testGetTaskVersionChangesWithTheTask()
+        throws TaskNotFoundException, NotAuthorizedException, ConcurrencyException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        String taskId = "TKI:000000000000000000000000000000000000";
+        int version = taskService.getTaskVersion(taskId);
+
+        taskService.setTaskRead(taskId, true);
+
+        assertEquals(version + 1, taskService.getTaskVersion(taskId));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testGetTaskVersionOfNotExistingTask() {
+        TaskService taskService = taskanaEngine.getTaskService();
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskVersion("INVALID"));
+    }
+
+    @WithAccessId(
+        userName = "user_1_2")
+    @Test
+    void testGetTaskVersionWithoutReadPermission() {
+        TaskService taskService = taskanaEngine.getTaskService();
+
+        assertThrows(NotAuthorizedException.class,
+            () -> taskService.getTaskVersion("TKI:000000000000000000000000000000000000"));
+    }
+
+    private static DataSource countingDataSource(DataSource dataSource) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+            new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                if (result instanceof Connection) {
+                    return countingConnection((Connection) result);
+                }
+                return result;
+            });
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                if (method.getName().startsWith("prepare")) {
+                    STATEMENT_COUNT.incrementAndGet();
+                }
+                return invoke(connection, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static pro.taskana.BaseQuery.SortDirection.ASCENDING;
 import static pro.taskana.BaseQuery.SortDirection.DESCENDING;
 import static pro.taskana.TaskQueryColumnName.A_CHANNEL;
@@ -19,6 +20,8 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
@@ -29,10 +32,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import acceptance.AbstractAccTest;
 import pro.taskana.Attachment;
+import pro.taskana.QueryPage;
 import pro.taskana.Task;
 import pro.taskana.TaskQuery;
 import pro.taskana.TaskQueryColumnName;
+import pro.taskana.TaskQueryRow;
 import pro.taskana.TaskService;
+import pro.taskana.TaskState;
 import pro.taskana.TaskSummary;
 import pro.taskana.TimeInterval;
 import pro.taskana.exceptions.AttachmentPersistenceException;
@@ -93,6 +99,208 @@ class QueryTasksAccTest extends AbstractAccTest {
         assertEquals(3, columnValueList.size());
     }
 
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testQueryTasksExists() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        assertTrue(taskService.createTaskQuery().ownerLike("%user%").exists());
+        assertTrue(taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000015")
+            .stateIn(TaskState.READY)
+            .exists());
+        assertFalse(taskService.createTaskQuery().ownerIn("NOT_EXISTING_OWNER").exists());
+        assertFalse(taskService.createTaskQuery().attachmentChannelIn("NOT_EXISTING_CHANNEL").exists());
+        // the query can still be used for counting afterwards
+        TaskQuery query = taskService.createTaskQuery().ownerLike("%user%");
+        assertTrue(query.exists());
+        assertTrue(query.count() > 1);
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testListIdsReturnsIdsOfListedTasks() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> expectedIds = taskService.createTaskQuery()
+            .ownerLike("%user%")
+            .orderByPriority(DESCENDING)
+            .list()
+            .stream()
+            .map(TaskSummary::getTaskId)
+            .collect(Collectors.toList());
+        List<String> ids = taskService.createTaskQuery()
+            .ownerLike("%user%")
+            .orderByPriority(DESCENDING)
+            .listIds();
+        assertEquals(expectedIds.size(), ids.size());
+        assertTrue(ids.containsAll(expectedIds));
+
+        // ordering by joined columns uses the DISTINCT keyword
+        ids = taskService.createTaskQuery()
+            .ownerLike("%user%")
+            .orderByClassificationName(ASCENDING)
+            .orderByAttachmentChannel(DESCENDING)
+            .listIds();
+        assertEquals(expectedIds.size(), ids.size());
+        assertTrue(ids.containsAll(expectedIds));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testListIdsOnlyReturnsTasksOfReadableWorkbaskets() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskQuery query = taskService.createTaskQuery();
+        assertEquals(query.count(), query.listIds().size());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testListColumnsReturnsValuesOfListedTasks() throws InvalidArgumentException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Map<String, TaskSummary> summaries = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000006")
+            .list()
+            .stream()
+            .collect(Collectors.toMap(TaskSummary::getTaskId, Function.identity()));
+        List<TaskQueryRow> rows = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000006")
+            .orderByDue(ASCENDING)
+            .listColumns(TaskQueryColumnName.ID, OWNER, STATE, TaskQueryColumnName.PRIORITY, TaskQueryColumnName.DUE,
+                TaskQueryColumnName.IS_READ, TaskQueryColumnName.CLASSIFICATION_NAME);
+
+        assertEquals(summaries.size(), rows.size());
+        for (TaskQueryRow row : rows) {
+            TaskSummary summary = summaries.get(row.getString(TaskQueryColumnName.ID));
+            assertNotNull(summary);
+            assertEquals(summary.getOwner(), row.getString(OWNER));
+            assertEquals(summary.getState().name(), row.getString(STATE));
+            assertEquals(Integer.valueOf(summary.getPriority()), row.getInteger(TaskQueryColumnName.PRIORITY));
+            assertEquals(summary.getDue(), row.getInstant(TaskQueryColumnName.DUE));
+            assertEquals(Boolean.valueOf(summary.isRead()), row.getBoolean(TaskQueryColumnName.IS_READ));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> row.get(CLASSIFICATION_KEY));
+        }
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testListColumnsWithOffsetAndLimit() throws InvalidArgumentException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> allIds = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .orderByDue(ASCENDING)
+            .listColumns(TaskQueryColumnName.ID)
+            .stream()
+            .map(row -> row.getString(TaskQueryColumnName.ID))
+            .collect(Collectors.toList());
+        List<String> rangeIds = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .orderByDue(ASCENDING)
+            .listColumns(2, 3, TaskQueryColumnName.ID)
+            .stream()
+            .map(row -> row.getString(TaskQueryColumnName.ID))
+            .collect(Collectors.toList());
+
+        assertEquals(allIds.subList(2, 5), rangeIds);
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testListColumnsPageWithTotalCount() throws InvalidArgumentException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> allIds = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .orderByDue(ASCENDING)
+            .listColumns(TaskQueryColumnName.ID)
+            .stream()
+            .map(row -> row.getString(TaskQueryColumnName.ID))
+            .collect(Collectors.toList());
+        QueryPage<TaskQueryRow> page = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .orderByDue(ASCENDING)
+            .listColumnsPageWithTotalCount(2, 5, TaskQueryColumnName.ID);
+        QueryPage<TaskQueryRow> lastPage = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .orderByDue(ASCENDING)
+            .listColumnsPageWithTotalCount(5, 5, TaskQueryColumnName.ID);
+        QueryPage<TaskQueryRow> pageBehindLastPage = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .listColumnsPageWithTotalCount(6, 5, TaskQueryColumnName.ID);
+
+        assertEquals(allIds.subList(5, 10), page.getItems().stream()
+            .map(row -> row.getString(TaskQueryColumnName.ID))
+            .collect(Collectors.toList()));
+        assertEquals(allIds.size(), page.getTotalCount());
+        assertTrue(page.hasNext());
+        assertEquals(allIds.size() - 20, lastPage.getItems().size());
+        assertFalse(lastPage.hasNext());
+        assertTrue(pageBehindLastPage.getItems().isEmpty());
+        assertEquals(allIds.size(), pageBehindLastPage.getTotalCount());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testListColumnsForEveryColumn() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        assertAll(() -> Arrays.stream(TaskQueryColumnName.values()).forEach(columnName ->
+            Assertions.assertDoesNotThrow(() -> taskService.createTaskQuery().listColumns(columnName),
+                "Column is not working " + columnName)
+        ));
+        Assertions.assertThrows(InvalidArgumentException.class, () -> taskService.createTaskQuery().listColumns());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testLazyLoadedSummariesEqualFetchedSummaries() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Map<String, TaskSummary> fetchedTasks = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .list()
+            .stream()
+            .collect(Collectors.toMap(TaskSummary::getTaskId, Function.identity()));
+        List<TaskSummary> lazyTasks = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .withLazyDetails()
+            .list();
+        List<TaskSummary> tasksWithClassifications = taskService.createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .withLazyDetails()
+            .withClassificationDetails()
+            .list();
+
+        assertEquals(fetchedTasks.size(), lazyTasks.size());
+        assertEquals(fetchedTasks.size(), tasksWithClassifications.size());
+        for (TaskSummary lazyTask : lazyTasks) {
+            TaskSummary fetchedTask = fetchedTasks.get(lazyTask.getTaskId());
+            assertEquals(fetchedTask.getWorkbasketSummary(), lazyTask.getWorkbasketSummary());
+            assertNotNull(lazyTask.getWorkbasketSummary().getName());
+            assertEquals(fetchedTask.getClassificationSummary(), lazyTask.getClassificationSummary());
+            assertNotNull(lazyTask.getClassificationSummary().getName());
+            assertEquals(fetchedTask.getAttachmentSummaries().size(), lazyTask.getAttachmentSummaries().size());
+            assertTrue(lazyTask.getAttachmentSummaries().containsAll(fetchedTask.getAttachmentSummaries()));
+            assertEquals(fetchedTask, lazyTask);
+        }
+        for (TaskSummary task : tasksWithClassifications) {
+            TaskSummary fetchedTask = fetchedTasks.get(task.getTaskId());
+            assertEquals(fetchedTask.getClassificationSummary(), task.getClassificationSummary());
+            assertNotNull(task.getClassificationSummary().getName());
+        }
+    }
+
     @WithAccessId(
         userName = "teamlead_1",
         groupNames = {"admin"})
@@ -0,0 +1,184 @@
+package acceptance.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.BaseQuery.SortDirection;
+import pro.taskana.TaskService;
+import pro.taskana.TaskState;
+import pro.taskana.TaskSummary;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.DB;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.NotAuthorizedToQueryWorkbasketException;
+import pro.taskana.impl.TaskQueryImpl;
+import pro.taskana.impl.TaskSummaryImpl;
+import pro.taskana.impl.TaskanaEngineProxyForTest;
+import pro.taskana.impl.configuration.TaskanaEngineTestConfiguration;
+import pro.taskana.metrics.SimpleTaskanaMetrics;
+import pro.taskana.metrics.TaskanaMetrics;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for task queries that are executed with pre-rendered statements.
+ */
+@ExtendWith(JAASExtension.class)
+class QueryTasksFastPathAccTest extends AbstractAccTest {
+
+    private static final String DYNAMIC_QUERY = "pro.taskana.mappings.QueryMapper.queryTaskSummaries";
+    private static final String FAST_PATH_QUERY = "pro.taskana.mappings.QueryMapper.queryTaskSummariesFastPath";
+    private static final String WORKBASKET_ID = "WBI:100000000000000000000000000000000015";
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "group_2"})
+    @Test
+    void testInboxQueryReturnsSameResultAsDynamicQuery() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskQueryImpl query = (TaskQueryImpl) taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .stateIn(TaskState.READY)
+            .orderByPriority(SortDirection.DESCENDING)
+            .orderByDue(SortDirection.ASCENDING);
+        List<TaskSummary> results = query.list();
+
+        assertEquals(22, results.size());
+        TaskSummary previousSummary = null;
+        for (TaskSummary taskSummary : results) {
+            if (previousSummary != null) {
+                assertFalse(previousSummary.getPriority() < taskSummary.getPriority());
+            }
+            previousSummary = taskSummary;
+        }
+
+        TaskanaEngineProxyForTest engineProxy = new TaskanaEngineProxyForTest(taskanaEngine);
+        List<TaskSummaryImpl> dynamicResults;
+        try {
+            engineProxy.openConnection();
+            dynamicResults = engineProxy.getSqlSession().selectList(DYNAMIC_QUERY, query);
+        } finally {
+            engineProxy.returnConnection();
+        }
+        assertEquals(dynamicResults.stream().map(TaskSummary::getTaskId).collect(Collectors.toList()),
+            results.stream().map(TaskSummary::getTaskId).collect(Collectors.toList()));
+        assertEquals(WORKBASKET_ID, results.get(0).getWorkbasketSummary().getId());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "group_2"})
+    @Test
+    void testInboxQueryIsExecutedWithPreRenderedStatement() throws Exception {
+        SimpleTaskanaMetrics metrics = new SimpleTaskanaMetrics();
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(), false, TaskanaEngineTestConfiguration.getSchemaName());
+        configuration.setMetrics(metrics);
+        TaskanaEngine engineWithMetrics = configuration.buildTaskanaEngine();
+        engineWithMetrics.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        // on DB2 the permission check is part of the task query itself, therefore there are no pre-rendered statements
+        String databaseId = new TaskanaEngineProxyForTest(engineWithMetrics).getSqlSession().getConfiguration()
+            .getDatabaseId();
+        assumeFalse(DB.DB2.dbProductId.equals(databaseId));
+
+        List<TaskSummary> results = engineWithMetrics.getTaskService().createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .stateIn(TaskState.READY)
+            .orderByPriority(SortDirection.DESCENDING)
+            .orderByDue(SortDirection.ASCENDING)
+            .list();
+
+        assertEquals(22, results.size());
+        Set<String> executedStatements = metrics.getStatistics().keySet().stream()
+            .filter(id -> TaskanaMetrics.STATEMENT.equals(id.getName()))
+            .map(id -> id.getTag(TaskanaMetrics.TAG_STATEMENT))
+            .collect(Collectors.toSet());
+        assertTrue(executedStatements.stream().anyMatch(statement -> statement.startsWith(FAST_PATH_QUERY)),
+            "no pre-rendered statement was executed: " + executedStatements);
+        assertFalse(executedStatements.contains(DYNAMIC_QUERY));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "group_2"})
+    @Test
+    void testInboxQueryWithPagination() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<TaskSummary> allResults = taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .orderByDue(SortDirection.ASCENDING)
+            .orderByPriority(SortDirection.DESCENDING)
+            .list();
+        List<TaskSummary> page = taskService.createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .orderByDue(SortDirection.ASCENDING)
+            .orderByPriority(SortDirection.DESCENDING)
+            .listPage(2, 5);
+
+        assertEquals(5, page.size());
+        assertEquals(allResults.subList(5, 10).stream().map(TaskSummary::getTaskId).collect(Collectors.toList()),
+            page.stream().map(TaskSummary::getTaskId).collect(Collectors.toList()));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testInboxQueryStillChecksOpenPermission() {
+        TaskService taskService = taskanaEngine.getTaskService();
+
+        assertThrows(NotAuthorizedToQueryWorkbasketException.class, () ->
+            taskService.createTaskQuery()
+                .workbasketIdIn(WORKBASKET_ID)
+                .stateIn(TaskState.READY)
+                .orderByPriority(SortDirection.DESCENDING)
+                .list());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "group_2"})
+    @Test
+    void testInboxQueryWithReuseExecutor() {
+        List<TaskSummary> expected = taskanaEngine.getTaskService().createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .stateIn(TaskState.READY, TaskState.CLAIMED)
+            .orderByPriority(SortDirection.ASCENDING)
+            .list();
+
+        taskanaEngineConfiguration.setExecutorType(ExecutorType.REUSE);
+        TaskanaEngine reuseEngine;
+        try {
+            reuseEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+        } finally {
+            taskanaEngineConfiguration.setExecutorType(ExecutorType.SIMPLE);
+        }
+        reuseEngine.openRequestScope();
+        try {
+            for (int i = 0; i < 3; i++) {
+                List<TaskSummary> results = reuseEngine.getTaskService().createTaskQuery()
+                    .workbasketIdIn(WORKBASKET_ID)
+                    .stateIn(TaskState.READY, TaskState.CLAIMED)
+                    .orderByPriority(SortDirection.ASCENDING)
+                    .list();
+                assertEquals(expected.size(), results.size());
+            }
+        } finally {
+            reuseEngine.closeRequestScope();
+        }
+    }
+
+}
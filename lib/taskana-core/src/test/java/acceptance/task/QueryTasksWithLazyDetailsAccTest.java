@@ -0,0 +1,110 @@
+package acceptance.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.TaskSummary;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.impl.configuration.TaskanaEngineTestConfiguration;
+import pro.taskana.metrics.SimpleTaskanaMetrics;
+import pro.taskana.metrics.TaskanaMetrics;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the number of statements of task queries with and without lazy details.
+ */
+@ExtendWith(JAASExtension.class)
+class QueryTasksWithLazyDetailsAccTest extends AbstractAccTest {
+
+    private static final String WORKBASKET_ID = "WBI:100000000000000000000000000000000001";
+
+    private SimpleTaskanaMetrics metrics;
+    private TaskanaEngine engineWithMetrics;
+
+    @BeforeEach
+    void setupEngineWithMetrics() throws SQLException {
+        metrics = new SimpleTaskanaMetrics();
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(), false, TaskanaEngineTestConfiguration.getSchemaName());
+        configuration.setMetrics(metrics);
+        engineWithMetrics = configuration.buildTaskanaEngine();
+        engineWithMetrics.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        metrics.reset();
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testDefaultQueryLoadsAllDetailsWithTheResult() {
+        List<TaskSummary> tasks = engineWithMetrics.getTaskService().createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .list();
+
+        assertFalse(tasks.isEmpty());
+        // tasks, attachments, classifications and workbaskets
+        assertEquals(4, countStatements());
+        tasks.forEach(task -> {
+            task.getClassificationSummary();
+            task.getAttachmentSummaries();
+        });
+        assertEquals(4, countStatements());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testQueryWithLazyDetailsLoadsTheDetailsOnceOnFirstAccess() {
+        List<TaskSummary> tasks = engineWithMetrics.getTaskService().createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .withLazyDetails()
+            .list();
+
+        assertFalse(tasks.isEmpty());
+        // tasks and workbaskets
+        assertEquals(2, countStatements());
+        tasks.forEach(task -> assertEquals(WORKBASKET_ID, task.getWorkbasketSummary().getId()));
+        assertEquals(2, countStatements());
+        tasks.forEach(TaskSummary::getClassificationSummary);
+        assertEquals(3, countStatements());
+        tasks.forEach(TaskSummary::getAttachmentSummaries);
+        // attachments and their classifications
+        assertEquals(5, countStatements());
+        tasks.forEach(TaskSummary::getAttachmentSummaries);
+        assertEquals(5, countStatements());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"admin"})
+    @Test
+    void testEqualsDoesNotLoadLazyDetails() {
+        List<TaskSummary> tasks = engineWithMetrics.getTaskService().createTaskQuery()
+            .workbasketIdIn(WORKBASKET_ID)
+            .withLazyDetails()
+            .list();
+
+        assertEquals(tasks.get(0), tasks.get(0));
+        assertEquals(tasks.get(0).hashCode(), tasks.get(0).hashCode());
+        assertEquals(2, countStatements());
+    }
+
+    private long countStatements() {
+        return metrics.getStatistics().entrySet().stream()
+            .filter(entry -> TaskanaMetrics.STATEMENT.equals(entry.getKey().getName()))
+            .mapToLong(entry -> entry.getValue().getCount())
+            .sum();
+    }
+}
@@ -2,8 +2,12 @@ package acceptance.task;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
@@ -12,9 +16,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import acceptance.AbstractAccTest;
 import pro.taskana.KeyDomain;
+import pro.taskana.QueryPage;
 import pro.taskana.TaskService;
 import pro.taskana.TaskSummary;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.DB;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.TaskanaRuntimeException;
+import pro.taskana.impl.TaskanaEngineProxyForTest;
+import pro.taskana.impl.configuration.TaskanaEngineTestConfiguration;
+import pro.taskana.metrics.SimpleTaskanaMetrics;
+import pro.taskana.metrics.TaskanaMetrics;
 import pro.taskana.security.JAASExtension;
 import pro.taskana.security.WithAccessId;
 
@@ -196,4 +210,145 @@ class QueryTasksWithPaginationAccTest extends AbstractAccTest {
         assertThat(count, equalTo(2L));
     }
 
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1"})
+    @Test
+    void testListPageWithTotalCountOfTaskQuery() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        QueryPage<TaskSummary> firstPage = taskService.createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .listPageWithTotalCount(1, 10);
+        assertThat(firstPage.getItems().size(), equalTo(10));
+        assertThat(firstPage.getTotalCount(), equalTo(22L));
+        assertThat(firstPage.hasNext(), equalTo(true));
+
+        QueryPage<TaskSummary> lastPage = taskService.createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .listPageWithTotalCount(3, 10);
+        assertThat(lastPage.getItems().size(), equalTo(2));
+        assertThat(lastPage.getTotalCount(), equalTo(22L));
+        assertThat(lastPage.hasNext(), equalTo(false));
+
+        QueryPage<TaskSummary> emptyPage = taskService.createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .listPageWithTotalCount(4, 10);
+        assertThat(emptyPage.getItems().size(), equalTo(0));
+        assertThat(emptyPage.getTotalCount(), equalTo(22L));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1"})
+    @Test
+    void testListPageWithTotalCountSelectsTheCountWithTheRows() throws Exception {
+        SimpleTaskanaMetrics metrics = new SimpleTaskanaMetrics();
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(), false, TaskanaEngineTestConfiguration.getSchemaName());
+        configuration.setMetrics(metrics);
+        TaskanaEngine engineWithMetrics = configuration.buildTaskanaEngine();
+        engineWithMetrics.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        // COUNT(*) OVER() is only used on DB2 and PostgreSQL, H2 does not support window functions
+        assumeTrue(supportsWindowFunctions(engineWithMetrics));
+
+        QueryPage<TaskSummary> secondPage = engineWithMetrics.getTaskService().createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .listPageWithTotalCount(2, 10);
+        Set<String> executedStatements = metrics.getStatistics().keySet().stream()
+            .filter(id -> TaskanaMetrics.STATEMENT.equals(id.getName()))
+            .map(id -> id.getTag(TaskanaMetrics.TAG_STATEMENT))
+            .collect(Collectors.toSet());
+
+        assertThat(secondPage.getItems().size(), equalTo(10));
+        assertThat(secondPage.getTotalCount(), equalTo(22L));
+        assertThat(secondPage.hasNext(), equalTo(true));
+        secondPage.getItems()
+            .forEach(task -> assertThat(task.getWorkbasketSummary().getKey(), equalTo("GPK_KSC")));
+        assertThat(executedStatements.stream().anyMatch(statement -> statement.endsWith("WithTotalCount")),
+            equalTo(true));
+        assertThat(executedStatements.stream().anyMatch(statement -> statement.contains("countQueryTasks")),
+            equalTo(false));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1"})
+    @Test
+    void testListPageWithoutTotalCountOfTaskQuery() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        QueryPage<TaskSummary> firstPage = taskService.createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .listPageWithoutTotalCount(1, 10);
+        assertThat(firstPage.getItems().size(), equalTo(10));
+        assertThat(firstPage.isTotalCountKnown(), equalTo(false));
+        assertThat(firstPage.hasNext(), equalTo(true));
+
+        QueryPage<TaskSummary> lastPage = taskService.createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .listPageWithoutTotalCount(3, 10);
+        assertThat(lastPage.getItems().size(), equalTo(2));
+        assertThat(lastPage.hasNext(), equalTo(false));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1"})
+    @Test
+    void testForEachBatchOfTaskQuery() throws InvalidArgumentException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<Integer> batchSizes = new ArrayList<>();
+        List<String> taskIds = new ArrayList<>();
+        taskService.createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .forEachBatch(10, tasks -> {
+                batchSizes.add(tasks.size());
+                tasks.forEach(task -> taskIds.add(task.getTaskId()));
+            });
+
+        List<String> expectedIds = taskService.createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .list()
+            .stream()
+            .map(TaskSummary::getTaskId)
+            .sorted()
+            .collect(Collectors.toList());
+        taskIds.sort(null);
+        assertThat(batchSizes.size(), equalTo(3));
+        assertThat(batchSizes.get(2), equalTo(2));
+        assertThat(taskIds, equalTo(expectedIds));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1"})
+    @Test
+    void testForEachBatchAllowsQueriesInTheConsumer() throws InvalidArgumentException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> taskIds = new ArrayList<>();
+        taskService.createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .forEachBatch(5, tasks -> tasks.forEach(task -> taskIds.addAll(taskService.createTaskQuery()
+                .idIn(task.getTaskId())
+                .listIds())));
+
+        assertThat(taskIds.size(), equalTo(22));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1"})
+    @Test
+    void testForEachBatchWithInvalidBatchSize() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Assertions.assertThrows(InvalidArgumentException.class, () ->
+            taskService.createTaskQuery().forEachBatch(0, tasks -> {
+            }));
+    }
+
+
+    private static boolean supportsWindowFunctions(TaskanaEngine engine)
+        throws NoSuchFieldException, IllegalAccessException {
+        String databaseId = new TaskanaEngineProxyForTest(engine).getSqlSession().getConfiguration().getDatabaseId();
+        return DB.DB2.dbProductId.equals(databaseId) || DB.POSTGRESS.dbProductId.equals(databaseId);
+    }
 }
@@ -0,0 +1,147 @@
+package acceptance.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskChange;
+import pro.taskana.TaskChangeCursor;
+import pro.taskana.TaskChangeFeed;
+import pro.taskana.TaskChangeType;
+import pro.taskana.TaskService;
+import pro.taskana.TaskState;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the task change feed.
+ */
+@ExtendWith(JAASExtension.class)
+class TaskChangeFeedAccTest extends AbstractAccTest {
+
+    private static final String TASK_ID = "TKI:000000000000000000000000000000000025";
+
+    @WithAccessId(
+        userName = "user_1_2",
+        groupNames = {"group_1"})
+    @Test
+    void testClaimAndCompleteAreRecordedInOrder() throws Exception {
+        resetDb(false);
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskChangeFeed taskChangeFeed = taskanaEngine.getTaskChangeFeed();
+        long before = taskChangeFeed.getLatestSequenceNumber();
+
+        taskService.claim(TASK_ID);
+        Task completedTask = taskService.completeTask(TASK_ID);
+
+        List<TaskChange> changes = taskChangeFeed.getChanges(before, 10);
+        assertEquals(2, changes.size());
+        assertEquals(TaskChangeType.CLAIMED, changes.get(0).getChangeType());
+        assertEquals(TaskState.CLAIMED, changes.get(0).getState());
+        assertEquals(TaskChangeType.COMPLETED, changes.get(1).getChangeType());
+        assertEquals(TaskState.COMPLETED, changes.get(1).getState());
+        assertTrue(changes.get(0).getSequenceNumber() < changes.get(1).getSequenceNumber());
+        for (TaskChange change : changes) {
+            assertEquals(TASK_ID, change.getTaskId());
+            assertEquals(completedTask.getExternalId(), change.getExternalId());
+            assertEquals(completedTask.getWorkbasketSummary().getId(), change.getWorkbasketId());
+            assertEquals("user_1_2", change.getChangedBy());
+        }
+        assertEquals(changes.get(1).getSequenceNumber(), taskChangeFeed.getLatestSequenceNumber());
+
+        // paging by sequence number
+        List<TaskChange> firstChange = taskChangeFeed.getChanges(before, 1);
+        assertEquals(1, firstChange.size());
+        List<TaskChange> remainingChanges = taskChangeFeed.getChanges(firstChange.get(0).getSequenceNumber(), 10);
+        assertEquals(1, remainingChanges.size());
+        assertEquals(TaskChangeType.COMPLETED, remainingChanges.get(0).getChangeType());
+    }
+
+    @WithAccessId(
+        userName = "user_1_2",
+        groupNames = {"group_1"})
+    @Test
+    void testChangesOfNotReadableWorkbasketsAreNotReturned() throws Exception {
+        resetDb(false);
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskChangeFeed taskChangeFeed = taskanaEngine.getTaskChangeFeed();
+        long before = taskChangeFeed.getLatestSequenceNumber();
+
+        Task task = taskService.claim(TASK_ID);
+
+        assertEquals(1, taskChangeFeed.getChanges(before, 10, task.getWorkbasketSummary().getId()).size());
+        assertTrue(taskChangeFeed.getChanges(before, 10, "WBI:100000000000000000000000000000000015").isEmpty());
+        assertTrue(taskChangeFeed.getChanges(before, 0).isEmpty());
+    }
+
+    @WithAccessId(
+        userName = "user_1_2",
+        groupNames = {"group_1"})
+    @Test
+    void testCursorReturnsTheChangesAfterItsPosition() throws Exception {
+        resetDb(false);
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskChangeFeed taskChangeFeed = taskanaEngine.getTaskChangeFeed();
+        long before = taskChangeFeed.getLatestSequenceNumber();
+        TaskChangeCursor cursor = taskChangeFeed.openCursor(before);
+        TaskChangeCursor cursorOfNotReadableWorkbasket = taskChangeFeed.openCursor(before,
+            "WBI:100000000000000000000000000000000015");
+        assertTrue(cursor.fetch(10).isEmpty());
+        assertEquals(before, cursor.getSequenceNumber());
+
+        taskService.claim(TASK_ID);
+        taskService.completeTask(TASK_ID);
+
+        List<TaskChange> firstChange = cursor.fetch(1);
+        assertEquals(1, firstChange.size());
+        assertEquals(TaskChangeType.CLAIMED, firstChange.get(0).getChangeType());
+        assertEquals(firstChange.get(0).getSequenceNumber(), cursor.getSequenceNumber());
+        List<TaskChange> remainingChanges = cursor.fetch(10);
+        assertEquals(1, remainingChanges.size());
+        assertEquals(TaskChangeType.COMPLETED, remainingChanges.get(0).getChangeType());
+        assertEquals(taskChangeFeed.getLatestSequenceNumber(), cursor.getSequenceNumber());
+        assertTrue(cursor.fetch(10).isEmpty());
+        assertTrue(cursorOfNotReadableWorkbasket.fetch(10).isEmpty());
+    }
+
+    @WithAccessId(
+        userName = "user_1_2",
+        groupNames = {"group_1"})
+    @Test
+    void testDeleteChangesRequiresAdmin() {
+        TaskChangeFeed taskChangeFeed = taskanaEngine.getTaskChangeFeed();
+
+        assertThrows(NotAuthorizedException.class, () -> taskChangeFeed.deleteChangesBefore(Instant.now()));
+    }
+
+    @WithAccessId(
+        userName = "admin")
+    @Test
+    void testDeleteChangesBefore() throws Exception {
+        resetDb(false);
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskChangeFeed taskChangeFeed = taskanaEngine.getTaskChangeFeed();
+        taskService.setTaskRead(TASK_ID, true);
+        long latest = taskChangeFeed.getLatestSequenceNumber();
+
+        assertTrue(taskChangeFeed.deleteChangesBefore(Instant.now().plusSeconds(1)) > 0);
+        assertTrue(taskChangeFeed.getChanges(0, 10).isEmpty());
+        assertEquals(0, taskChangeFeed.getLatestSequenceNumber());
+
+        taskService.setTaskRead(TASK_ID, false);
+        List<TaskChange> changes = taskChangeFeed.getChanges(0, 10);
+        assertEquals(1, changes.size());
+        assertEquals(TaskChangeType.UPDATED, changes.get(0).getChangeType());
+        assertTrue(changes.get(0).getSequenceNumber() > latest);
+    }
+
+}
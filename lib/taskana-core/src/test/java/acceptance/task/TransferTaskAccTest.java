@@ -24,6 +24,7 @@ import pro.taskana.Task;
 import pro.taskana.TaskService;
 import pro.taskana.TaskState;
 import pro.taskana.Workbasket;
+import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.InvalidOwnerException;
 import pro.taskana.exceptions.InvalidStateException;
@@ -50,7 +51,7 @@ class TransferTaskAccTest extends AbstractAccTest {
     @Test
     void testTransferTaskToWorkbasketId()
         throws NotAuthorizedException, WorkbasketNotFoundException, TaskNotFoundException, InvalidStateException,
-        InvalidOwnerException {
+        InvalidOwnerException, ConcurrencyException {
         TaskService taskService = taskanaEngine.getTaskService();
         Task task = taskService.getTask("TKI:000000000000000000000000000000000003");
         taskService.claim(task.getId());
@@ -71,7 +72,7 @@ class TransferTaskAccTest extends AbstractAccTest {
     @Test
     void testTransferTaskToWorkbasketKeyDomain()
         throws NotAuthorizedException, WorkbasketNotFoundException, TaskNotFoundException, InvalidStateException,
-        InvalidOwnerException {
+        InvalidOwnerException, ConcurrencyException {
         TaskService taskService = taskanaEngine.getTaskService();
         Task task = taskService.getTask("TKI:000000000000000000000000000000000003");
         taskService.claim(task.getId());
@@ -121,7 +122,7 @@ class TransferTaskAccTest extends AbstractAccTest {
     @Test
     void testTransferDestinationWorkbasketDoesNotExist()
         throws NotAuthorizedException, TaskNotFoundException, InvalidStateException,
-        InvalidOwnerException {
+        InvalidOwnerException, ConcurrencyException {
         TaskService taskService = taskanaEngine.getTaskService();
         Task task = taskService.getTask("TKI:000000000000000000000000000000000003");
         taskService.claim(task.getId());
@@ -9,7 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pro.taskana.BaseQuery.SortDirection.ASCENDING;
 
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -24,6 +26,7 @@ import acceptance.AbstractAccTest;
 import pro.taskana.ClassificationSummary;
 import pro.taskana.ObjectReference;
 import pro.taskana.Task;
+import pro.taskana.TaskQueryColumnName;
 import pro.taskana.TaskService;
 import pro.taskana.TaskState;
 import pro.taskana.exceptions.AttachmentPersistenceException;
@@ -123,7 +126,6 @@ class UpdateTaskAccTest extends AbstractAccTest {
         taskService.updateTask(task);
 
         task2.setCustomAttribute("2", "Walter");
-        //TODO flaky test ... if speed is too high,
         Assertions.assertThrows(ConcurrencyException.class, () -> taskService.updateTask(task2),
             "The task has already been updated by another user");
 
@@ -158,7 +160,7 @@ class UpdateTaskAccTest extends AbstractAccTest {
         groupNames = {"group_1"})
     @Test
     void testUpdateReadFlagOfTask()
-        throws TaskNotFoundException, NotAuthorizedException {
+        throws TaskNotFoundException, NotAuthorizedException, ConcurrencyException {
 
         TaskService taskService = taskanaEngine.getTaskService();
 
@@ -294,6 +296,41 @@ class UpdateTaskAccTest extends AbstractAccTest {
 
     }
 
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testUpdateTasksByIdSkipsTasksOfNotReadableWorkbaskets()
+        throws InvalidArgumentException, TaskNotFoundException, NotAuthorizedException {
+        Map<String, String> customProperties = new HashMap<>();
+        customProperties.put("9", "This is modifiedValue 9");
+        TaskService taskService = taskanaEngine.getTaskService();
+
+        List<String> changedTasks = taskService.updateTasks(Arrays.asList(
+            "TKI:000000000000000000000000000000000001",
+            "TKI:000000000000000000000000000000000041",
+            "TKI:000000000000000000000000000000000999"), customProperties);
+        assertEquals(Arrays.asList("TKI:000000000000000000000000000000000001"), changedTasks);
+        assertEquals("This is modifiedValue 9",
+            taskService.getTask("TKI:000000000000000000000000000000000001").getCustomAttribute("9"));
+    }
+
+    @WithAccessId(
+        userName = "admin")
+    @Test
+    void testUpdateTasksByIdInMoreThanOneChunk() throws InvalidArgumentException, SQLException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> allTaskIds = taskService.createTaskQuery().listValues(TaskQueryColumnName.ID, ASCENDING);
+        assertTrue(allTaskIds.size() > taskanaEngineConfiguration.getMaxNumberOfUpdatesPerTransaction());
+        Map<String, String> customProperties = new HashMap<>();
+        customProperties.put("15", "bulk value");
+
+        List<String> changedTasks = taskService.updateTasks(allTaskIds, customProperties);
+        assertEquals(allTaskIds, changedTasks);
+        assertEquals(allTaskIds.size(), taskService.createTaskQuery().customAttributeIn("15", "bulk value").count());
+        resetDb(false);
+    }
+
     @WithAccessId(
         userName = "user_1_1",
         groupNames = {"group_1"})
@@ -339,4 +376,32 @@ class UpdateTaskAccTest extends AbstractAccTest {
 
     }
 
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testVersionIsIncrementedAndStaleVersionIsRejected()
+        throws NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        TaskNotFoundException, ConcurrencyException, AttachmentPersistenceException {
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.getTask("TKI:000000000000000000000000000000000000");
+        int version = task.getVersion();
+
+        task.setNote("version test");
+        Task updatedTask = taskService.updateTask(task);
+        assertEquals(version + 1, updatedTask.getVersion());
+        assertEquals(version + 1, taskService.getTask(task.getId()).getVersion());
+
+        Task readTask = taskService.setTaskRead(task.getId(), !updatedTask.isRead());
+        assertEquals(version + 2, readTask.getVersion());
+        assertEquals(version + 2, taskService.getTask(task.getId()).getVersion());
+
+        // even with identical timestamps an update based on an outdated version is rejected
+        ((TaskImpl) updatedTask).setModified(readTask.getModified());
+        updatedTask.setNote("stale update");
+        Assertions.assertThrows(ConcurrencyException.class, () -> taskService.updateTask(updatedTask));
+        assertEquals("version test", taskService.getTask(task.getId()).getNote());
+    }
+
 }
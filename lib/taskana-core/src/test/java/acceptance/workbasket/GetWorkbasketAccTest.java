@@ -1,9 +1,12 @@
 package acceptance.workbasket;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import acceptance.AbstractAccTest;
 import pro.taskana.Workbasket;
+import pro.taskana.WorkbasketAccessItem;
 import pro.taskana.WorkbasketPermission;
 import pro.taskana.WorkbasketService;
 import pro.taskana.WorkbasketSummary;
@@ -152,6 +156,29 @@ class GetWorkbasketAccTest extends AbstractAccTest {
             workbasketService.getWorkbasket("INVALID_KEY", "INVALID_DOMAIN"));
     }
 
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    void testGetWorkbasketModified()
+        throws NotAuthorizedException, WorkbasketNotFoundException {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+
+        Workbasket workbasket = workbasketService.getWorkbasket("WBI:100000000000000000000000000000000007");
+
+        assertEquals(workbasket.getModified(),
+            workbasketService.getWorkbasketModified("WBI:100000000000000000000000000000000007"));
+        Assertions.assertThrows(WorkbasketNotFoundException.class, () ->
+            workbasketService.getWorkbasketModified("INVALID_ID"));
+    }
+
+    @Test
+    void testGetModifiedNotAuthorized() {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+        Assertions.assertThrows(NotAuthorizedException.class, () ->
+            workbasketService.getWorkbasketModified("WBI:100000000000000000000000000000000001"));
+    }
+
     @Test
     void testGetByIdNotAuthorized() {
         WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
@@ -166,6 +193,38 @@ class GetWorkbasketAccTest extends AbstractAccTest {
             workbasketService.getWorkbasket("GPK_KSC", "DOMAIN_A"));
     }
 
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "businessadmin"})
+    @Test
+    void testGetWorkbasketsWithAccessItemsAndDistributionTargetsInBulk() throws NotAuthorizedException {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+        List<String> ids = Arrays.asList("WBI:100000000000000000000000000000000002",
+            "WBI:100000000000000000000000000000000001", "NOT EXISTING ID");
+
+        List<Workbasket> workbaskets = workbasketService.getWorkbaskets(ids);
+        Map<String, List<WorkbasketAccessItem>> accessItems = workbasketService.getWorkbasketAccessItems(ids);
+        Map<String, List<String>> distributionTargets = workbasketService.getDistributionTargetIds(ids);
+
+        assertEquals(2, workbaskets.size());
+        assertEquals("WBI:100000000000000000000000000000000002", workbaskets.get(0).getId());
+        assertEquals("WBI:100000000000000000000000000000000001", workbaskets.get(1).getId());
+        assertEquals(2, accessItems.get("WBI:100000000000000000000000000000000001").size());
+        assertEquals(1, accessItems.get("WBI:100000000000000000000000000000000002").size());
+        assertEquals(4, distributionTargets.get("WBI:100000000000000000000000000000000001").size());
+        assertEquals(4, distributionTargets.get("WBI:100000000000000000000000000000000002").size());
+        assertTrue(distributionTargets.get("WBI:100000000000000000000000000000000002")
+            .contains("WBI:100000000000000000000000000000000006"));
+        assertFalse(accessItems.containsKey("NOT EXISTING ID"));
+    }
+
+    @Test
+    void testGetWorkbasketsInBulkNotAuthorized() {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+        Assertions.assertThrows(NotAuthorizedException.class, () ->
+            workbasketService.getWorkbaskets(Arrays.asList("WBI:100000000000000000000000000000000001")));
+    }
+
     @WithAccessId(
         userName = "user_1_1",
         groupNames = {"group_1"})
@@ -0,0 +1,144 @@
+package acceptance.workbasket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Workbasket;
+import pro.taskana.WorkbasketAccessItem;
+import pro.taskana.WorkbasketDefinition;
+import pro.taskana.WorkbasketImportResult;
+import pro.taskana.WorkbasketService;
+import pro.taskana.WorkbasketSummary;
+import pro.taskana.WorkbasketType;
+import pro.taskana.exceptions.DomainNotFoundException;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.exceptions.InvalidWorkbasketException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.impl.WorkbasketImpl;
+import pro.taskana.security.JAASExtension;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the import of workbasket definitions.
+ */
+@ExtendWith(JAASExtension.class)
+class ImportWorkbasketAccTest extends AbstractAccTest {
+
+    private WorkbasketService workbasketService;
+
+    ImportWorkbasketAccTest() {
+        super();
+        workbasketService = taskanaEngine.getWorkbasketService();
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "businessadmin"})
+    @Test
+    void testImportCreatesWorkbasketsWithAccessItemsAndDistributionTargets()
+        throws NotAuthorizedException, DomainNotFoundException, InvalidWorkbasketException, InvalidArgumentException,
+        WorkbasketNotFoundException {
+        Workbasket source = newWorkbasket("import-1", "ImportSource");
+        Workbasket target = newWorkbasket("import-2", "ImportTarget");
+        WorkbasketAccessItem accessItem = workbasketService.newWorkbasketAccessItem("import-1", "user_1_1");
+        accessItem.setPermOpen(true);
+
+        WorkbasketImportResult result = workbasketService.importWorkbaskets(Arrays.asList(
+            new WorkbasketDefinition(source, Arrays.asList(accessItem), Arrays.asList("import-2")),
+            new WorkbasketDefinition(target, new ArrayList<>(), new ArrayList<>())), 0);
+
+        assertEquals(2, result.getCreatedWorkbasketCount());
+        assertEquals(1, result.getCreatedAccessItemCount());
+        assertEquals(1, result.getCreatedDistributionTargetCount());
+        assertEquals(1, result.getChunkCount());
+
+        Workbasket createdSource = workbasketService.getWorkbasket("ImportSource", "DOMAIN_A");
+        Workbasket createdTarget = workbasketService.getWorkbasket("ImportTarget", "DOMAIN_A");
+        assertNotEquals("import-1", createdSource.getId());
+        List<WorkbasketSummary> distributionTargets = workbasketService.getDistributionTargets(
+            createdSource.getId());
+        assertEquals(1, distributionTargets.size());
+        assertEquals(createdTarget.getId(), distributionTargets.get(0).getId());
+        List<WorkbasketAccessItem> accessItems = workbasketService.getWorkbasketAccessItems(createdSource.getId());
+        assertEquals(1, accessItems.size());
+        assertEquals("user_1_1", accessItems.get(0).getAccessId());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "businessadmin"})
+    @Test
+    void testImportWritesOnlyTheDifferences()
+        throws NotAuthorizedException, DomainNotFoundException, InvalidWorkbasketException, InvalidArgumentException,
+        WorkbasketNotFoundException {
+        Workbasket source = workbasketService.getWorkbasket("WBI:100000000000000000000000000000000002");
+        source.setName("imported name");
+        Workbasket target = workbasketService.getWorkbasket("WBI:100000000000000000000000000000000003");
+        List<WorkbasketAccessItem> sourceAccessItems = workbasketService.getWorkbasketAccessItems(source.getId());
+        WorkbasketAccessItem newAccessItem = workbasketService.newWorkbasketAccessItem(source.getId(), "user_1_2");
+        newAccessItem.setPermRead(true);
+        sourceAccessItems.add(newAccessItem);
+        List<WorkbasketAccessItem> targetAccessItems = workbasketService.getWorkbasketAccessItems(target.getId());
+
+        WorkbasketImportResult result = workbasketService.importWorkbaskets(Arrays.asList(
+            new WorkbasketDefinition(source, sourceAccessItems, Arrays.asList(target.getId())),
+            new WorkbasketDefinition(target, targetAccessItems, new ArrayList<>())), 1);
+
+        assertEquals(0, result.getCreatedWorkbasketCount());
+        assertEquals(1, result.getUpdatedWorkbasketCount());
+        assertEquals(1, result.getUnchangedWorkbasketCount());
+        assertEquals(1, result.getCreatedAccessItemCount());
+        assertEquals(0, result.getUpdatedAccessItemCount());
+        assertEquals(0, result.getDeletedAccessItemCount());
+        assertEquals(0, result.getCreatedDistributionTargetCount());
+        assertEquals(3, result.getDeletedDistributionTargetCount());
+        assertEquals(2, result.getChunkCount());
+
+        assertEquals("imported name", workbasketService.getWorkbasket(source.getId()).getName());
+        assertEquals(1, workbasketService.getDistributionTargets(source.getId()).size());
+        assertEquals(2, workbasketService.getWorkbasketAccessItems(source.getId()).size());
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1", "businessadmin"})
+    @Test
+    void testImportFailsOnDistributionTargetOutsideOfImport() {
+        Workbasket source = newWorkbasket("import-3", "ImportInvalidTarget");
+
+        assertThrows(InvalidWorkbasketException.class, () -> workbasketService.importWorkbaskets(Arrays.asList(
+            new WorkbasketDefinition(source, new ArrayList<>(), Arrays.asList("unknown"))), 0));
+        assertThrows(WorkbasketNotFoundException.class,
+            () -> workbasketService.getWorkbasket("ImportInvalidTarget", "DOMAIN_A"));
+    }
+
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1"})
+    @Test
+    void testImportFailsWithoutBusinessAdminRole() {
+        Workbasket workbasket = newWorkbasket("import-4", "ImportNotAuthorized");
+
+        assertThrows(NotAuthorizedException.class, () -> workbasketService.importWorkbaskets(
+            Collections.singletonList(new WorkbasketDefinition(workbasket, null, null)), 0));
+    }
+
+    private Workbasket newWorkbasket(String importId, String key) {
+        Workbasket workbasket = workbasketService.newWorkbasket(key, "DOMAIN_A");
+        ((WorkbasketImpl) workbasket).setId(importId);
+        workbasket.setName(key);
+        workbasket.setType(WorkbasketType.GROUP);
+        return workbasket;
+    }
+}
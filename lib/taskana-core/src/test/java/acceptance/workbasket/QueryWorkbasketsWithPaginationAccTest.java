@@ -3,7 +3,9 @@ package acceptance.workbasket;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
@@ -11,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import acceptance.AbstractAccTest;
+import pro.taskana.BaseQuery.SortDirection;
+import pro.taskana.WorkbasketQuery;
 import pro.taskana.WorkbasketService;
 import pro.taskana.WorkbasketSummary;
 import pro.taskana.exceptions.TaskanaRuntimeException;
@@ -192,4 +196,26 @@ class QueryWorkbasketsWithPaginationAccTest extends AbstractAccTest {
         assertThat(result.size(), equalTo(9));
     }
 
+    @WithAccessId(
+        userName = "teamlead_1",
+        groupNames = {"group_1"})
+    @Test
+    void testListChunksAfterIdReturnsEachWorkbasketOnceInTheOrderOfTheIds() {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+        WorkbasketQuery query = workbasketService.createWorkbasketQuery()
+            .domainIn("DOMAIN_A")
+            .orderByName(SortDirection.DESCENDING);
+        List<String> ids = new ArrayList<>();
+        List<WorkbasketSummary> chunk = query.listAfterId(null, 4);
+        while (!chunk.isEmpty()) {
+            chunk.forEach(workbasket -> ids.add(workbasket.getId()));
+            chunk = query.listAfterId(ids.get(ids.size() - 1), 4);
+        }
+
+        List<String> expectedIds = query.list().stream().map(WorkbasketSummary::getId).sorted().collect(
+            Collectors.toList());
+        assertThat(expectedIds.size(), equalTo(9));
+        assertThat(ids, equalTo(expectedIds));
+    }
+
 }
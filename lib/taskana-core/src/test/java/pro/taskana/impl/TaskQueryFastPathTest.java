@@ -0,0 +1,87 @@
+package pro.taskana.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pro.taskana.TaskState;
+import pro.taskana.TaskanaEngine;
+
+/**
+ * Test for the decision whether a TaskQueryImpl can use the pre-rendered statements of TaskQueryFastPath.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskQueryFastPathTest {
+
+    // the fields of TaskQueryImpl that are no filters which exclude a query from the fast path
+    private static final Set<String> NO_EXCLUDING_FILTERS = new HashSet<>(Arrays.asList("taskanaEngine",
+        "taskService", "columnName", "workbasketIdIn", "stateIn", "accessIdIn", "filterByAccessIdIn", "orderBy",
+        "orderColumns", "projectedColumns", "projectionOrderBy", "useDistinctKeyword", "existsOnly", "withLazyDetails",
+        "withClassificationDetails", "withAttachments", "addAttachmentColumnsToSelectClauseForOrdering",
+        "addClassificationNameToSelectClauseForOrdering", "addAttachmentClassificationNameToSelectClauseForOrdering",
+        "addTotalCountToSelectClause"));
+
+    @Mock
+    private InternalTaskanaEngine internalTaskanaEngine;
+    @Mock
+    private TaskanaEngine taskanaEngine;
+    @Mock
+    private TaskServiceImpl taskService;
+
+    @BeforeEach
+    void setup() {
+        when(internalTaskanaEngine.getEngine()).thenReturn(taskanaEngine);
+        when(taskanaEngine.getTaskService()).thenReturn(taskService);
+    }
+
+    @Test
+    void testQueryWithWorkbasketsAndStatesHasOnlyInboxFilters() {
+        TaskQueryImpl query = new TaskQueryImpl(internalTaskanaEngine);
+        query.workbasketIdIn("WBI:1").stateIn(TaskState.READY);
+
+        assertTrue(query.hasOnlyInboxFilters());
+    }
+
+    @Test
+    void testEveryOtherFilterExcludesTheQueryFromTheFastPath() throws IllegalAccessException {
+        for (Field field : TaskQueryImpl.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+                || NO_EXCLUDING_FILTERS.contains(field.getName())) {
+                continue;
+            }
+            TaskQueryImpl query = new TaskQueryImpl(internalTaskanaEngine);
+            query.workbasketIdIn("WBI:1");
+            field.setAccessible(true);
+            field.set(query, filterValue(field));
+
+            assertFalse(query.hasOnlyInboxFilters(),
+                "hasOnlyInboxFilters() ignores the field " + field.getName() + " of TaskQueryImpl");
+        }
+    }
+
+    // a value that marks the filter of the given field as set
+    private Object filterValue(Field field) {
+        Class<?> type = field.getType();
+        if (type.isArray()) {
+            return Array.newInstance(type.getComponentType(), 1);
+        } else if (type == boolean.class || type == Boolean.class) {
+            return Boolean.TRUE;
+        }
+        fail("Field " + field.getName() + " of TaskQueryImpl is neither a known filter nor listed as other field");
+        return null;
+    }
+}
@@ -24,6 +24,7 @@ import pro.taskana.WorkbasketService;
 import pro.taskana.configuration.TaskanaEngineConfiguration;
 import pro.taskana.mappings.AttachmentMapper;
 import pro.taskana.mappings.ObjectReferenceMapper;
+import pro.taskana.mappings.TaskChangeMapper;
 import pro.taskana.mappings.TaskMapper;
 
 /**
@@ -60,6 +61,9 @@ class TaskServiceImplTest {
     @Mock
     private AttachmentMapper attachmentMapperMock;
 
+    @Mock
+    private TaskChangeMapper taskChangeMapperMock;
+
     @Mock
     private ClassificationQueryImpl classificationQueryImplMock;
 
@@ -71,7 +75,8 @@ class TaskServiceImplTest {
         when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
         when(taskanaEngineMock.getWorkbasketService()).thenReturn(workbasketServiceMock);
         when(taskanaEngineMock.getClassificationService()).thenReturn(classificationServiceImplMock);
-        cut = new TaskServiceImpl(internalTaskanaEngineMock, taskMapperMock, attachmentMapperMock);
+        cut = new TaskServiceImpl(internalTaskanaEngineMock, taskMapperMock, attachmentMapperMock,
+            taskChangeMapperMock);
     }
 
     @Test
@@ -2,7 +2,6 @@ package pro.taskana.impl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -80,7 +79,8 @@ class TaskTransferrerTest {
 
         when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
         when(taskanaEngineMock.getWorkbasketService()).thenReturn(workbasketServiceMock);
-        cut = new TaskTransferrer(internalTaskanaEngineMock, taskMapperMock, taskServiceImplMock);
+        cut = new TaskTransferrer(internalTaskanaEngineMock, taskMapperMock, taskServiceImplMock,
+            new TaskChangeRecorder(null));
 
         TaskTransferrer cutSpy = Mockito.spy(cut);
         Workbasket destinationWorkbasket = TaskServiceImplTest.createWorkbasket("2", "k1");
@@ -91,6 +91,7 @@ class TaskTransferrerTest {
         task.setRead(true);
         when(workbasketServiceMock.getWorkbasket(destinationWorkbasket.getId())).thenReturn(destinationWorkbasket);
         doReturn(task).when(taskServiceImplMock).getTask(task.getId());
+        when(taskMapperMock.updateChangedColumns(task, DirtyTaskColumns.TRANSFERRED)).thenReturn(1);
 
         Task actualTask = cutSpy.transfer(task.getId(), destinationWorkbasket.getId());
 
@@ -100,7 +101,7 @@ class TaskTransferrerTest {
         verify(workbasketServiceMock, times(1)).checkAuthorization(sourceWorkbasket.getId(),
             WorkbasketPermission.TRANSFER);
         verify(workbasketServiceMock, times(1)).getWorkbasket(destinationWorkbasket.getId());
-        verify(taskMapperMock, times(1)).update(any());
+        verify(taskMapperMock, times(1)).updateChangedColumns(task, DirtyTaskColumns.TRANSFERRED);
         verify(internalTaskanaEngineMock, times(1)).returnConnection();
         verify(internalTaskanaEngineMock, times(1)).getEngine();
         verify(internalTaskanaEngineMock).getHistoryEventProducer();
@@ -131,6 +131,11 @@ public class TestClassificationQuery implements ClassificationQuery {
         return new ArrayList<>();
     }
 
+    @Override
+    public List<ClassificationSummary> listAfterId(String afterId, int chunkSize) {
+        return new ArrayList<>();
+    }
+
     @Override
     public ClassificationSummary single() {
         return null;
@@ -39,6 +39,7 @@ import pro.taskana.exceptions.InvalidWorkbasketException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.WorkbasketAlreadyExistException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.impl.util.IdGenerator;
 import pro.taskana.mappings.DistributionTargetMapper;
 import pro.taskana.mappings.WorkbasketAccessMapper;
 import pro.taskana.mappings.WorkbasketMapper;
@@ -92,6 +93,8 @@ class WorkbasketServiceImplTest {
         WorkbasketImpl expectedWb = createTestWorkbasket(null, "Key-1");
         doReturn(expectedWb).when(workbasketServiceSpy).getWorkbasket(any());
         when(internalTaskanaEngineMock.domainExists(any())).thenReturn(true);
+        when(internalTaskanaEngineMock.generateId(any()))
+            .thenAnswer(invocation -> IdGenerator.generateWithPrefix(invocation.getArgument(0)));
 
         Workbasket actualWb = workbasketServiceSpy.createWorkbasket(expectedWb);
         workbasketServiceSpy.setDistributionTargets(expectedWb.getId(),
@@ -0,0 +1,134 @@
+package pro.taskana.sampledata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.KeyDomain;
+import pro.taskana.TaskSummary;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.configuration.DbSchemaCreator;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+
+/**
+ * Test SyntheticDataGenerator.
+ */
+class SyntheticDataGeneratorTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:synthetic;IGNORECASE=TRUE;LOCK_MODE=0;"
+        + "INIT=CREATE SCHEMA IF NOT EXISTS TASKANA";
+    private static final Instant NOW = Instant.parse("2019-10-01T12:00:00Z");
+
+    private PooledDataSource dataSource;
+
+    @BeforeEach
+    void setupDb() throws SQLException {
+        dataSource = new PooledDataSource("org.h2.Driver", JDBC_URL, "sa", "sa");
+        new DbSchemaCreator(dataSource, "TASKANA").run();
+        new SampleDataGenerator(dataSource, "TASKANA").clearDb();
+    }
+
+    @AfterEach
+    void closeDb() {
+        dataSource.forceCloseAll();
+    }
+
+    @Test
+    void testGenerateConfiguredVolumes() throws SQLException {
+        long rows = newGenerator(1L).generate();
+
+        assertEquals(10, count("SELECT COUNT(*) FROM WORKBASKET"));
+        assertEquals(10, count("SELECT COUNT(*) FROM CLASSIFICATION"));
+        assertEquals(30, count("SELECT COUNT(*) FROM WORKBASKET_ACCESS_LIST"));
+        assertEquals(1000, count("SELECT COUNT(*) FROM TASK"));
+        long attachments = count("SELECT COUNT(*) FROM ATTACHMENT");
+        assertTrue(attachments > 0 && attachments <= 2000);
+        assertEquals(10 + 10 + 30 + 1000 + attachments, rows);
+    }
+
+    @Test
+    void testSameSeedGeneratesSameData() throws SQLException {
+        newGenerator(42L).generate();
+        List<String> tasks = queryTasks();
+        new SampleDataGenerator(dataSource, "TASKANA").clearDb();
+        newGenerator(42L).generate();
+
+        assertEquals(tasks, queryTasks());
+    }
+
+    @Test
+    void testWorkbasketSizesAreSkewed() throws SQLException {
+        newGenerator(1L).generate();
+
+        long largestWorkbasket = count("SELECT COUNT(*) FROM TASK WHERE WORKBASKET_KEY = 'SYN_WB_0'");
+        long smallestWorkbasket = count("SELECT COUNT(*) FROM TASK WHERE WORKBASKET_KEY = 'SYN_WB_9'");
+        assertTrue(largestWorkbasket > 3 * smallestWorkbasket,
+            "largest workbasket has " + largestWorkbasket + " tasks, smallest has " + smallestWorkbasket);
+    }
+
+    @Test
+    void testGeneratedTasksCanBeQueried() throws SQLException {
+        newGenerator(1L).generate();
+        TaskanaEngine taskanaEngine = new TaskanaEngineConfiguration(dataSource, false, false, "TASKANA")
+            .buildTaskanaEngine();
+
+        List<TaskSummary> tasks = taskanaEngine.getTaskService()
+            .createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("SYN_WB_0", "DOMAIN_A"))
+            .withAttachments()
+            .list();
+
+        assertEquals(count("SELECT COUNT(*) FROM TASK WHERE WORKBASKET_KEY = 'SYN_WB_0'"), tasks.size());
+        for (TaskSummary task : tasks) {
+            assertEquals("SYN_WB_0", task.getWorkbasketSummary().getKey());
+            assertEquals("DOMAIN_A", task.getClassificationSummary().getDomain());
+        }
+    }
+
+    private SyntheticDataGenerator newGenerator(long seed) {
+        return new SyntheticDataGenerator(dataSource, "TASKANA", seed, NOW)
+            .withWorkbaskets(10)
+            .withClassifications(5)
+            .withAccessItemsPerWorkbasket(2, 5)
+            .withTasks(1000)
+            .withMaxAttachmentsPerTask(2)
+            .withBatchSize(100);
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setSchema("TASKANA");
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private List<String> queryTasks() throws SQLException {
+        List<String> tasks = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setSchema("TASKANA");
+            try (ResultSet resultSet = statement.executeQuery(
+                "SELECT ID, WORKBASKET_KEY, CLASSIFICATION_KEY, STATE, DUE FROM TASK ORDER BY ID")) {
+                while (resultSet.next()) {
+                    tasks.add(resultSet.getString(1) + resultSet.getString(2) + resultSet.getString(3)
+                        + resultSet.getString(4) + resultSet.getTimestamp(5));
+                }
+            }
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,548 @@
+package pro.taskana.sampledata;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.jdbc.RuntimeSqlException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class generates large volumes of synthetic data for performance tests. In contrast to the
+ * {@link SampleDataGenerator}, the data is not read from scripts but generated from a seed, so the same seed and
+ * volumes always result in the same data. The rows are inserted with JDBC batches into empty tables, use
+ * {@link SampleDataGenerator#clearDb()} to remove existing data.
+ *
+ * <p>The generated data consists of workbaskets in DOMAIN_A and DOMAIN_B, their access lists, the classifications of
+ * both domains, tasks with attachments and, if the history table exists, the history events of the tasks. The number
+ * of tasks per workbasket follows a Zipf distribution, so a few workbaskets contain most of the tasks.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] DOMAINS = {"DOMAIN_A", "DOMAIN_B"};
+    private static final String[] CATEGORIES = {"EXTERNAL", "MANUAL", "AUTOMATIC", "PROCESS"};
+    private static final String[] CHANNELS = {"E-MAIL", "FAX", "LETTER", "PORTAL"};
+    private static final int MAX_AGE_OF_TASKS_IN_DAYS = 90;
+    private static final int MAX_SERVICE_LEVEL_IN_DAYS = 10;
+    private static final int NUMBER_OF_CUSTOM_VALUES = 10;
+    private static final int NUMBER_OF_PERMISSIONS = 17;
+
+    private final DataSource dataSource;
+    private final String schema;
+    private final Random random;
+    private final Instant now;
+
+    private int workbasketCount = 100;
+    private int classificationCount = 50;
+    private int accessItemsPerWorkbasket = 3;
+    private int groupCount = 20;
+    private long taskCount = 10_000;
+    private int maxAttachmentsPerTask = 2;
+    private double workbasketSkew = 1.0;
+    private boolean historyEvents = true;
+    private int batchSize = 1000;
+
+    private final List<WorkbasketRow> workbaskets = new ArrayList<>();
+    private final List<List<ClassificationRow>> classificationsOfDomains = new ArrayList<>();
+
+    public SyntheticDataGenerator(DataSource dataSource, String schema, long seed) {
+        this(dataSource, schema, seed, Instant.now());
+    }
+
+    public SyntheticDataGenerator(DataSource dataSource, String schema, long seed, Instant now) {
+        this.dataSource = dataSource;
+        this.schema = schema;
+        this.random = new Random(seed);
+        this.now = now;
+    }
+
+    public SyntheticDataGenerator withWorkbaskets(int workbasketCount) {
+        this.workbasketCount = workbasketCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of classifications that are generated per domain.
+     *
+     * @param classificationCount
+     *            the number of classifications per domain
+     * @return this generator
+     */
+    public SyntheticDataGenerator withClassifications(int classificationCount) {
+        this.classificationCount = classificationCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of groups that are permitted on each workbasket in addition to the owner of the workbasket.
+     *
+     * @param accessItemsPerWorkbasket
+     *            the number of group access items per workbasket
+     * @param groupCount
+     *            the number of groups the permitted groups are chosen from
+     * @return this generator
+     */
+    public SyntheticDataGenerator withAccessItemsPerWorkbasket(int accessItemsPerWorkbasket, int groupCount) {
+        this.accessItemsPerWorkbasket = Math.min(accessItemsPerWorkbasket, groupCount);
+        this.groupCount = groupCount;
+        return this;
+    }
+
+    public SyntheticDataGenerator withTasks(long taskCount) {
+        this.taskCount = taskCount;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of attachments of a task. The number of attachments of each task is uniformly
+     * distributed between 0 and the maximum.
+     *
+     * @param maxAttachmentsPerTask
+     *            the maximum number of attachments of a task
+     * @return this generator
+     */
+    public SyntheticDataGenerator withMaxAttachmentsPerTask(int maxAttachmentsPerTask) {
+        this.maxAttachmentsPerTask = maxAttachmentsPerTask;
+        return this;
+    }
+
+    /**
+     * Sets the exponent of the Zipf distribution of the tasks over the workbaskets.
+     *
+     * @param workbasketSkew
+     *            the exponent, 0 distributes the tasks uniformly, larger values concentrate the tasks in fewer
+     *            workbaskets
+     * @return this generator
+     */
+    public SyntheticDataGenerator withWorkbasketSkew(double workbasketSkew) {
+        this.workbasketSkew = workbasketSkew;
+        return this;
+    }
+
+    /**
+     * Sets whether the history events of the tasks are generated. The events are only generated if the history table
+     * exists.
+     *
+     * @param historyEvents
+     *            true, if the history events are generated
+     * @return this generator
+     */
+    public SyntheticDataGenerator withHistoryEvents(boolean historyEvents) {
+        this.historyEvents = historyEvents;
+        return this;
+    }
+
+    public SyntheticDataGenerator withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Generates the data and inserts it into the database.
+     *
+     * @return the number of inserted rows
+     */
+    public long generate() {
+        LOGGER.debug("entry to generate(workbaskets = {}, classifications = {}, tasks = {})", workbasketCount,
+            classificationCount, taskCount);
+        boolean withHistoryEvents = historyEvents
+            && new SampleDataGenerator(dataSource, schema).tableExists("HISTORY_EVENTS");
+        workbaskets.clear();
+        classificationsOfDomains.clear();
+        long start = System.nanoTime();
+        long rows = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setSchema(schema);
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                rows += generateClassifications(connection);
+                rows += generateWorkbaskets(connection);
+                rows += generateAccessItems(connection);
+                rows += generateTasks(connection, withHistoryEvents);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeSqlException("Failed to insert the synthetic data.", e);
+        }
+        long millis = Math.max(1, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        LOGGER.info("Inserted {} rows of synthetic data in {} ms ({} rows/s).", rows, millis, rows * 1000 / millis);
+        LOGGER.debug("exit from generate(). Returning {}", rows);
+        return rows;
+    }
+
+    private long generateClassifications(Connection connection) throws SQLException {
+        try (BatchInsert insert = new BatchInsert(connection, "CLASSIFICATION", "ID", "KEY", "PARENT_ID",
+            "PARENT_KEY", "CATEGORY", "TYPE", "DOMAIN", "VALID_IN_DOMAIN", "CREATED", "MODIFIED", "NAME",
+            "DESCRIPTION", "PRIORITY", "SERVICE_LEVEL", "APPLICATION_ENTRY_POINT")) {
+            Timestamp created = Timestamp.from(now);
+            for (String domain : DOMAINS) {
+                List<ClassificationRow> classifications = new ArrayList<>();
+                for (int i = 0; i < classificationCount; i++) {
+                    ClassificationRow classification = new ClassificationRow(newId("CLI"), "SYN_L" + i,
+                        CATEGORIES[i % CATEGORIES.length], random.nextInt(1000),
+                        1 + random.nextInt(MAX_SERVICE_LEVEL_IN_DAYS));
+                    PreparedStatement statement = insert.statement();
+                    statement.setString(1, classification.id);
+                    statement.setString(2, classification.key);
+                    statement.setString(3, "");
+                    statement.setString(4, "");
+                    statement.setString(5, classification.category);
+                    statement.setString(6, "TASK");
+                    statement.setString(7, domain);
+                    statement.setBoolean(8, true);
+                    statement.setTimestamp(9, created);
+                    statement.setTimestamp(10, created);
+                    statement.setString(11, "Classification " + i);
+                    statement.setString(12, "Synthetic classification " + i + " of " + domain);
+                    statement.setInt(13, classification.priority);
+                    statement.setString(14, "P" + classification.serviceLevelInDays + "D");
+                    statement.setString(15, "");
+                    insert.addRow();
+                    classifications.add(classification);
+                }
+                classificationsOfDomains.add(classifications);
+            }
+            return insert.getRows();
+        }
+    }
+
+    private long generateWorkbaskets(Connection connection) throws SQLException {
+        try (BatchInsert insert = new BatchInsert(connection, "WORKBASKET", "ID", "KEY", "CREATED", "MODIFIED",
+            "NAME", "DOMAIN", "TYPE", "DESCRIPTION", "OWNER", "ORG_LEVEL_1", "ORG_LEVEL_2", "MARKED_FOR_DELETION")) {
+            Timestamp created = Timestamp.from(now);
+            for (int i = 0; i < workbasketCount; i++) {
+                WorkbasketRow workbasket = new WorkbasketRow(newId("WBI"), "SYN_WB_" + i, i % DOMAINS.length,
+                    "user_" + i);
+                PreparedStatement statement = insert.statement();
+                statement.setString(1, workbasket.id);
+                statement.setString(2, workbasket.key);
+                statement.setTimestamp(3, created);
+                statement.setTimestamp(4, created);
+                statement.setString(5, "Workbasket " + i);
+                statement.setString(6, DOMAINS[workbasket.domainIndex]);
+                statement.setString(7, i % 2 == 0 ? "GROUP" : "PERSONAL");
+                statement.setString(8, "Synthetic workbasket " + i);
+                statement.setString(9, workbasket.owner);
+                statement.setString(10, "org_" + random.nextInt(NUMBER_OF_CUSTOM_VALUES));
+                statement.setString(11, "unit_" + random.nextInt(NUMBER_OF_CUSTOM_VALUES));
+                statement.setBoolean(12, false);
+                insert.addRow();
+                workbaskets.add(workbasket);
+            }
+            return insert.getRows();
+        }
+    }
+
+    private long generateAccessItems(Connection connection) throws SQLException {
+        String[] columns = new String[4 + NUMBER_OF_PERMISSIONS];
+        columns[0] = "ID";
+        columns[1] = "WORKBASKET_ID";
+        columns[2] = "ACCESS_ID";
+        columns[3] = "ACCESS_NAME";
+        String[] permissions = {"PERM_READ", "PERM_OPEN", "PERM_APPEND", "PERM_TRANSFER", "PERM_DISTRIBUTE"};
+        System.arraycopy(permissions, 0, columns, 4, permissions.length);
+        for (int i = 1; i <= NUMBER_OF_PERMISSIONS - permissions.length; i++) {
+            columns[3 + permissions.length + i] = "PERM_CUSTOM_" + i;
+        }
+        try (BatchInsert insert = new BatchInsert(connection, "WORKBASKET_ACCESS_LIST", columns)) {
+            for (WorkbasketRow workbasket : workbaskets) {
+                addAccessItem(insert, workbasket, workbasket.owner, true);
+                int firstGroup = random.nextInt(groupCount);
+                for (int i = 0; i < accessItemsPerWorkbasket; i++) {
+                    addAccessItem(insert, workbasket, "group_" + (firstGroup + i) % groupCount, false);
+                }
+            }
+            return insert.getRows();
+        }
+    }
+
+    private void addAccessItem(BatchInsert insert, WorkbasketRow workbasket, String accessId, boolean allPermissions)
+        throws SQLException {
+        PreparedStatement statement = insert.statement();
+        statement.setString(1, newId("WAI"));
+        statement.setString(2, workbasket.id);
+        statement.setString(3, accessId);
+        statement.setString(4, accessId);
+        for (int i = 0; i < NUMBER_OF_PERMISSIONS; i++) {
+            // groups may read, open and append
+            statement.setBoolean(5 + i, allPermissions || i < 3);
+        }
+        insert.addRow();
+    }
+
+    private long generateTasks(Connection connection, boolean withHistoryEvents) throws SQLException {
+        ZipfDistribution workbasketDistribution = new ZipfDistribution(workbaskets.size(), workbasketSkew);
+        try (BatchInsert taskInsert = new BatchInsert(connection, "TASK", "ID", "EXTERNAL_ID", "CREATED", "CLAIMED",
+            "COMPLETED", "MODIFIED", "PLANNED", "DUE", "NAME", "CREATOR", "PRIORITY", "STATE",
+            "CLASSIFICATION_CATEGORY", "CLASSIFICATION_KEY", "CLASSIFICATION_ID", "WORKBASKET_ID", "WORKBASKET_KEY",
+            "DOMAIN", "BUSINESS_PROCESS_ID", "OWNER", "POR_COMPANY", "POR_SYSTEM", "POR_INSTANCE", "POR_TYPE",
+            "POR_VALUE", "IS_READ", "IS_TRANSFERRED", "CUSTOM_1");
+            BatchInsert attachmentInsert = new BatchInsert(connection, "ATTACHMENT", "ID", "TASK_ID", "CREATED",
+                "MODIFIED", "CLASSIFICATION_KEY", "CLASSIFICATION_ID", "REF_COMPANY", "REF_SYSTEM", "REF_INSTANCE",
+                "REF_TYPE", "REF_VALUE", "CHANNEL", "RECEIVED");
+            BatchInsert eventInsert = withHistoryEvents
+                ? new BatchInsert(connection, "HISTORY_EVENTS", "BUSINESS_PROCESS_ID", "TASK_ID", "EVENT_TYPE",
+                    "CREATED", "USER_ID", "DOMAIN", "WORKBASKET_KEY", "POR_COMPANY", "POR_SYSTEM", "POR_INSTANCE",
+                    "POR_TYPE", "POR_VALUE", "TASK_CLASSIFICATION_KEY", "TASK_CLASSIFICATION_CATEGORY")
+                : null) {
+            for (long i = 0; i < taskCount; i++) {
+                TaskRow task = newTask(i, workbaskets.get(workbasketDistribution.sample(random)));
+                addTask(taskInsert, task);
+                int attachmentCount = random.nextInt(maxAttachmentsPerTask + 1);
+                for (int j = 0; j < attachmentCount; j++) {
+                    addAttachment(attachmentInsert, task);
+                }
+                if (eventInsert != null) {
+                    addHistoryEvent(eventInsert, task, "TASK_CREATED", task.created, "creator");
+                    if (task.claimed != null) {
+                        addHistoryEvent(eventInsert, task, "TASK_CLAIMED", task.claimed, task.owner);
+                    }
+                    if (task.completed != null) {
+                        addHistoryEvent(eventInsert, task, "TASK_COMPLETED", task.completed, task.owner);
+                    }
+                }
+            }
+            long rows = taskInsert.getRows() + attachmentInsert.getRows();
+            return eventInsert != null ? rows + eventInsert.getRows() : rows;
+        }
+    }
+
+    private TaskRow newTask(long number, WorkbasketRow workbasket) {
+        List<ClassificationRow> classifications = classificationsOfDomains.get(workbasket.domainIndex);
+        TaskRow task = new TaskRow();
+        task.number = number;
+        task.id = newId("TKI");
+        task.workbasket = workbasket;
+        task.classification = classifications.get(random.nextInt(classifications.size()));
+        task.created = now.minusSeconds(random.nextInt(MAX_AGE_OF_TASKS_IN_DAYS * 24 * 60 * 60));
+        task.modified = task.created;
+        int state = random.nextInt(10);
+        // 60 percent of the tasks are ready, 20 percent are claimed and 20 percent are completed
+        if (state >= 6) {
+            task.owner = workbasket.owner;
+            task.claimed = task.created.plusSeconds(random.nextInt(24 * 60 * 60));
+            task.modified = task.claimed;
+            if (state >= 8) {
+                task.completed = task.claimed.plusSeconds(random.nextInt(24 * 60 * 60));
+                task.modified = task.completed;
+            }
+        }
+        task.porValue = String.format("%08d", random.nextInt(100_000_000));
+        return task;
+    }
+
+    private void addTask(BatchInsert insert, TaskRow task) throws SQLException {
+        PreparedStatement statement = insert.statement();
+        statement.setString(1, task.id);
+        statement.setString(2, newId("ETI"));
+        statement.setTimestamp(3, Timestamp.from(task.created));
+        statement.setTimestamp(4, toTimestamp(task.claimed));
+        statement.setTimestamp(5, toTimestamp(task.completed));
+        statement.setTimestamp(6, Timestamp.from(task.modified));
+        statement.setTimestamp(7, Timestamp.from(task.created));
+        statement.setTimestamp(8,
+            Timestamp.from(task.created.plus(Duration.ofDays(task.classification.serviceLevelInDays))));
+        statement.setString(9, "Task " + task.number);
+        statement.setString(10, "creator");
+        statement.setInt(11, task.classification.priority);
+        statement.setString(12, task.getState());
+        statement.setString(13, task.classification.category);
+        statement.setString(14, task.classification.key);
+        statement.setString(15, task.classification.id);
+        statement.setString(16, task.workbasket.id);
+        statement.setString(17, task.workbasket.key);
+        statement.setString(18, DOMAINS[task.workbasket.domainIndex]);
+        statement.setString(19, "BPI:" + task.number);
+        statement.setString(20, task.owner);
+        statement.setString(21, "COMPANY");
+        statement.setString(22, "SYSTEM");
+        statement.setString(23, "INSTANCE");
+        statement.setString(24, "VNR");
+        statement.setString(25, task.porValue);
+        statement.setBoolean(26, task.claimed != null);
+        statement.setBoolean(27, random.nextInt(10) == 0);
+        statement.setString(28, "custom_" + random.nextInt(NUMBER_OF_CUSTOM_VALUES));
+        insert.addRow();
+    }
+
+    private void addAttachment(BatchInsert insert, TaskRow task) throws SQLException {
+        List<ClassificationRow> classifications = classificationsOfDomains.get(task.workbasket.domainIndex);
+        ClassificationRow classification = classifications.get(random.nextInt(classifications.size()));
+        Timestamp created = Timestamp.from(task.created);
+        PreparedStatement statement = insert.statement();
+        statement.setString(1, newId("TAI"));
+        statement.setString(2, task.id);
+        statement.setTimestamp(3, created);
+        statement.setTimestamp(4, created);
+        statement.setString(5, classification.key);
+        statement.setString(6, classification.id);
+        statement.setString(7, "COMPANY");
+        statement.setString(8, "SYSTEM");
+        statement.setString(9, "INSTANCE");
+        statement.setString(10, "DOCUMENT");
+        statement.setString(11, String.format("%08d", random.nextInt(100_000_000)));
+        statement.setString(12, CHANNELS[random.nextInt(CHANNELS.length)]);
+        statement.setTimestamp(13, created);
+        insert.addRow();
+    }
+
+    private void addHistoryEvent(BatchInsert insert, TaskRow task, String eventType, Instant created, String userId)
+        throws SQLException {
+        PreparedStatement statement = insert.statement();
+        statement.setString(1, "BPI:" + task.number);
+        statement.setString(2, task.id);
+        statement.setString(3, eventType);
+        statement.setTimestamp(4, Timestamp.from(created));
+        statement.setString(5, userId);
+        statement.setString(6, DOMAINS[task.workbasket.domainIndex]);
+        statement.setString(7, task.workbasket.key);
+        statement.setString(8, "COMPANY");
+        statement.setString(9, "SYSTEM");
+        statement.setString(10, "INSTANCE");
+        statement.setString(11, "VNR");
+        statement.setString(12, task.porValue);
+        statement.setString(13, task.classification.key);
+        statement.setString(14, task.classification.category);
+        insert.addRow();
+    }
+
+    private String newId(String prefix) {
+        return prefix + ":" + new UUID(random.nextLong(), random.nextLong());
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    /**
+     * Inserts the rows of a table in batches and commits each batch.
+     */
+    private final class BatchInsert implements AutoCloseable {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private int rowsInBatch;
+        private long rows;
+
+        BatchInsert(Connection connection, String table, String... columns) throws SQLException {
+            this.connection = connection;
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (")
+                .append(String.join(", ", columns))
+                .append(") VALUES (?");
+            for (int i = 1; i < columns.length; i++) {
+                sql.append(", ?");
+            }
+            this.statement = connection.prepareStatement(sql.append(')').toString());
+        }
+
+        PreparedStatement statement() {
+            return statement;
+        }
+
+        void addRow() throws SQLException {
+            statement.addBatch();
+            rows++;
+            rowsInBatch++;
+            if (rowsInBatch == batchSize) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (rowsInBatch > 0) {
+                statement.executeBatch();
+                connection.commit();
+                rowsInBatch = 0;
+            }
+        }
+
+        long getRows() {
+            return rows;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+
+    /**
+     * A generated workbasket.
+     */
+    private static final class WorkbasketRow {
+
+        private final String id;
+        private final String key;
+        private final int domainIndex;
+        private final String owner;
+
+        WorkbasketRow(String id, String key, int domainIndex, String owner) {
+            this.id = id;
+            this.key = key;
+            this.domainIndex = domainIndex;
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * A generated classification.
+     */
+    private static final class ClassificationRow {
+
+        private final String id;
+        private final String key;
+        private final String category;
+        private final int priority;
+        private final int serviceLevelInDays;
+
+        ClassificationRow(String id, String key, String category, int priority, int serviceLevelInDays) {
+            this.id = id;
+            this.key = key;
+            this.category = category;
+            this.priority = priority;
+            this.serviceLevelInDays = serviceLevelInDays;
+        }
+    }
+
+    /**
+     * A generated task, which is referenced by its attachments and history events.
+     */
+    private static final class TaskRow {
+
+        private long number;
+        private String id;
+        private WorkbasketRow workbasket;
+        private ClassificationRow classification;
+        private Instant created;
+        private Instant claimed;
+        private Instant completed;
+        private Instant modified;
+        private String owner;
+        private String porValue;
+
+        String getState() {
+            if (completed != null) {
+                return "COMPLETED";
+            }
+            return claimed != null ? "CLAIMED" : "READY";
+        }
+    }
+}
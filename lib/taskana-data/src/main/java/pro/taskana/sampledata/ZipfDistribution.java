@@ -0,0 +1,36 @@
+package pro.taskana.sampledata;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws ranks from a Zipf distribution. Rank k of n ranks is drawn with a probability proportional to
+ * 1 / (k + 1)^exponent, so rank 0 is drawn most often. An exponent of 0 results in a uniform distribution.
+ */
+class ZipfDistribution {
+
+    private final double[] cumulativeProbabilities;
+
+    ZipfDistribution(int numberOfRanks, double exponent) {
+        if (numberOfRanks < 1) {
+            throw new IllegalArgumentException("numberOfRanks must be positive, but was " + numberOfRanks);
+        }
+        cumulativeProbabilities = new double[numberOfRanks];
+        double sum = 0;
+        for (int rank = 0; rank < numberOfRanks; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulativeProbabilities[rank] = sum;
+        }
+        for (int rank = 0; rank < numberOfRanks; rank++) {
+            cumulativeProbabilities[rank] /= sum;
+        }
+    }
+
+    int sample(Random random) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulativeProbabilities.length - 1);
+    }
+}
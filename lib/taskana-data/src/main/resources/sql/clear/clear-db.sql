@@ -1,4 +1,5 @@
 -- the order is important!
+DELETE FROM TASK_CHANGE;
 DELETE FROM ATTACHMENT;
 DELETE FROM TASK;
 DELETE FROM WORKBASKET_ACCESS_LIST;
@@ -7,6 +7,8 @@ DROP TABLE DISTRIBUTION_TARGETS;
 DROP TABLE CLASSIFICATION;
 DROP TABLE OBJECT_REFERENCE;
 DROP TABLE SCHEDULED_JOB;
+DROP TABLE TASK_CHANGE;
 DROP TABLE HISTORY_EVENTS IF EXISTS;
 DROP SEQUENCE SCHEDULED_JOB_SEQ;
+DROP SEQUENCE TASK_CHANGE_SEQ;
 COMMIT;
@@ -1,78 +1,78 @@
--- TASK TABLE          (ID                                        , EXTERNAL_ID                               , CREATED             , CLAIMED              , COMPLETED            , modified             , planned              , due                  , name                      , creator                      , description                                , note                                     , priority, state       , classification_category  , classification_key, classification_id                         , workbasket_id                              , workbasket_key, domain    , business_process_id, parent_business_process_id, owner         , por_company , por_system , por_system_instance, por_type , por_value    , is_read, is_transferred, callback_info, callback_state, custom_attributes ,custom1      ,custom2,     ,custom3,    ,custom4    ,custom5      ,custom6     ,custom7     ,custom8     ,custom9     ,custom10    ,custom11,    ,custom12     ,custom13     ,custom14  ,custom15     ,custom16
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000000', 'ETI:000000000000000000000000000000000000', RELATIVE_DATE(-1)   , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Task99'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch dolor sit amet.', 'Some custom Note'                       , 1       , 'CLAIMED'   , 'MANUAL'                 , 'T2000'           , 'CLI:100000000000000000000000000000000016', 'WBI:100000000000000000000000000000000006' , 'USER_1_1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'user_1_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , 'custom1'   , 'custom2'   , 'custom3'  , 'custom4' , 'custom5'   , 'custom6'  , 'custom7'  , 'custom8'  , 'custom9'  , 'custom10' , 'custom11'  , 'custom12'  , 'custom13'  , 'abc'    , 'custom15'  , 'custom16'    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000001', 'ETI:000000000000000000000000000000000001', RELATIVE_DATE(-2)   , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Task01'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch dolor sit amet.', 'Some custom Note'                       , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L110102'         , 'CLI:100000000000000000000000000000000005', 'WBI:100000000000000000000000000000000006' , 'USER_1_1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'user_1_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , 'pqr'       , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000002', 'ETI:000000000000000000000000000000000002', RELATIVE_DATE(-2)   , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Task02'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch t. Aber stimmt.', 'Some custom Note'                       , 2       , 'CLAIMED'   , 'MANUAL'                 , 'T2000'           , 'CLI:100000000000000000000000000000000016', 'WBI:100000000000000000000000000000000006' , 'USER_1_1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'user_1_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000003', 'ETI:000000000000000000000000000000000003', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000003' , 'DOC_0000000000000000003' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , 'efg'       , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000004', 'ETI:000000000000000000000000000000000004', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-3)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000004' , 'DOC_0000000000000000004' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , 'ade'       , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000005', 'ETI:000000000000000000000000000000000005', RELATIVE_DATE(-4)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-4)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000005' , 'DOC_0000000000000000005' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000006', 'ETI:000000000000000000000000000000000006', RELATIVE_DATE(-5)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-5)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000006' , 'DOC_0000000000000000006' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000007', 'ETI:000000000000000000000000000000000007', RELATIVE_DATE(-6)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-6)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000007' , 'DOC_0000000000000000007' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , 'ffg'      , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000008', 'ETI:000000000000000000000000000000000008', RELATIVE_DATE(-6)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-6)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000008' , 'DOC_0000000000000000008' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000009', 'ETI:000000000000000000000000000000000009', RELATIVE_DATE(-7)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-7)    , RELATIVE_DATE(-4)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000009' , 'DOC_0000000000000000009' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000010', 'ETI:000000000000000000000000000000000010', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(-2)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000010' , 'DOC_0000000000000000010' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , 'rty'      , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000011', 'ETI:000000000000000000000000000000000011', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000011' , 'DOC_0000000000000000011' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000012', 'ETI:000000000000000000000000000000000012', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-7)    , RELATIVE_DATE(10)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000012' , 'DOC_0000000000000000012' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000013', 'ETI:000000000000000000000000000000000013', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-7)    , RELATIVE_DATE(10)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000013' , 'DOC_0000000000000000013' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , 'rty'      , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000014', 'ETI:000000000000000000000000000000000014', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-7)    , RELATIVE_DATE(4)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000014' , 'DOC_0000000000000000014' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '12345678'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000015', 'ETI:000000000000000000000000000000000015', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(5)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000015' , 'DOC_0000000000000000015' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '23456789'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000016', 'ETI:000000000000000000000000000000000016', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-3)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000016' , 'DOC_0000000000000000016' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '34567890'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000017', 'ETI:000000000000000000000000000000000017', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-3)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000017' , 'DOC_0000000000000000017' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '45678901'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , 'vvg'      , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000018', 'ETI:000000000000000000000000000000000018', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-3)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000018' , 'DOC_0000000000000000018' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '56789012'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000019', 'ETI:000000000000000000000000000000000019', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-4)    , RELATIVE_DATE(-9)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000019' , 'DOC_0000000000000000019' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '67890123'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000020', 'ETI:000000000000000000000000000000000020', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-4)    , RELATIVE_DATE(-9)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000020' , 'DOC_0000000000000000020' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , 'ijk'      , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000021', 'ETI:000000000000000000000000000000000021', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-4)    , RELATIVE_DATE(-9)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000021' , 'DOC_0000000000000000021' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000022', 'ETI:000000000000000000000000000000000022', RELATIVE_DATE(-10)  , null                 , null                 , RELATIVE_DATE(-4)    , RELATIVE_DATE(-10)   , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000022' , 'DOC_0000000000000000022' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000023', 'ETI:000000000000000000000000000000000023', RELATIVE_DATE(-10)  , null                 , null                 , RELATIVE_DATE(-5)    , RELATIVE_DATE(-10)   , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000023' , 'DOC_0000000000000000023' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , 'lnp'      , null       , null       , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000024', 'ETI:000000000000000000000000000000000024', RELATIVE_DATE(-10)  , null                 , null                 , RELATIVE_DATE(-5)    , RELATIVE_DATE(-10)   , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000024' , 'DOC_0000000000000000024' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , 'bbq'     , null        , null        , null        , null        , 'abc'    , null        , null    );
+-- TASK TABLE          (ID                                        , EXTERNAL_ID                               , CREATED             , CLAIMED              , COMPLETED            , modified             , planned              , due                  , name                      , creator                      , description                                , note                                     , priority, state       , classification_category  , classification_key, classification_id                         , workbasket_id                              , workbasket_key, domain    , business_process_id, parent_business_process_id, owner         , por_company , por_system , por_system_instance, por_type , por_value    , is_read, is_transferred, callback_info, callback_state, custom_attributes ,custom1      ,custom2,     ,custom3,    ,custom4    ,custom5      ,custom6     ,custom7     ,custom8     ,custom9     ,custom10    ,custom11,    ,custom12     ,custom13     ,custom14  ,custom15     ,custom16     ,version
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000000', 'ETI:000000000000000000000000000000000000', RELATIVE_DATE(-1)   , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Task99'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch dolor sit amet.', 'Some custom Note'                       , 1       , 'CLAIMED'   , 'MANUAL'                 , 'T2000'           , 'CLI:100000000000000000000000000000000016', 'WBI:100000000000000000000000000000000006' , 'USER_1_1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'user_1_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , 'custom1'   , 'custom2'   , 'custom3'  , 'custom4' , 'custom5'   , 'custom6'  , 'custom7'  , 'custom8'  , 'custom9'  , 'custom10' , 'custom11'  , 'custom12'  , 'custom13'  , 'abc'    , 'custom15'  , 'custom16'    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000001', 'ETI:000000000000000000000000000000000001', RELATIVE_DATE(-2)   , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Task01'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch dolor sit amet.', 'Some custom Note'                       , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L110102'         , 'CLI:100000000000000000000000000000000005', 'WBI:100000000000000000000000000000000006' , 'USER_1_1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'user_1_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , 'pqr'       , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000002', 'ETI:000000000000000000000000000000000002', RELATIVE_DATE(-2)   , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Task02'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch t. Aber stimmt.', 'Some custom Note'                       , 2       , 'CLAIMED'   , 'MANUAL'                 , 'T2000'           , 'CLI:100000000000000000000000000000000016', 'WBI:100000000000000000000000000000000006' , 'USER_1_1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'user_1_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000003', 'ETI:000000000000000000000000000000000003', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000003' , 'DOC_0000000000000000003' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , 'efg'       , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000004', 'ETI:000000000000000000000000000000000004', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-3)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000004' , 'DOC_0000000000000000004' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , 'ade'       , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000005', 'ETI:000000000000000000000000000000000005', RELATIVE_DATE(-4)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-4)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000005' , 'DOC_0000000000000000005' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000006', 'ETI:000000000000000000000000000000000006', RELATIVE_DATE(-5)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-5)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000006' , 'DOC_0000000000000000006' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000007', 'ETI:000000000000000000000000000000000007', RELATIVE_DATE(-6)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-6)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000007' , 'DOC_0000000000000000007' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , 'ffg'      , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000008', 'ETI:000000000000000000000000000000000008', RELATIVE_DATE(-6)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-6)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000008' , 'DOC_0000000000000000008' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000009', 'ETI:000000000000000000000000000000000009', RELATIVE_DATE(-7)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-7)    , RELATIVE_DATE(-4)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000009' , 'DOC_0000000000000000009' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000010', 'ETI:000000000000000000000000000000000010', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(-2)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000010' , 'DOC_0000000000000000010' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , 'rty'      , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000011', 'ETI:000000000000000000000000000000000011', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000011' , 'DOC_0000000000000000011' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000012', 'ETI:000000000000000000000000000000000012', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-7)    , RELATIVE_DATE(10)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000012' , 'DOC_0000000000000000012' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000013', 'ETI:000000000000000000000000000000000013', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-7)    , RELATIVE_DATE(10)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000013' , 'DOC_0000000000000000013' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , 'rty'      , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000014', 'ETI:000000000000000000000000000000000014', RELATIVE_DATE(-8)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-7)    , RELATIVE_DATE(4)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000014' , 'DOC_0000000000000000014' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '12345678'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000015', 'ETI:000000000000000000000000000000000015', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-2)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(5)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000015' , 'DOC_0000000000000000015' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '23456789'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000016', 'ETI:000000000000000000000000000000000016', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-3)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000016' , 'DOC_0000000000000000016' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '34567890'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000017', 'ETI:000000000000000000000000000000000017', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-3)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000017' , 'DOC_0000000000000000017' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '45678901'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , 'vvg'      , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000018', 'ETI:000000000000000000000000000000000018', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-3)    , RELATIVE_DATE(-8)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000018' , 'DOC_0000000000000000018' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '56789012'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000019', 'ETI:000000000000000000000000000000000019', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-4)    , RELATIVE_DATE(-9)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000019' , 'DOC_0000000000000000019' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '67890123'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000020', 'ETI:000000000000000000000000000000000020', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-4)    , RELATIVE_DATE(-9)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000020' , 'DOC_0000000000000000020' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , 'ijk'      , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000021', 'ETI:000000000000000000000000000000000021', RELATIVE_DATE(-9)   , null                 , null                 , RELATIVE_DATE(-4)    , RELATIVE_DATE(-9)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000021' , 'DOC_0000000000000000021' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000022', 'ETI:000000000000000000000000000000000022', RELATIVE_DATE(-10)  , null                 , null                 , RELATIVE_DATE(-4)    , RELATIVE_DATE(-10)   , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000022' , 'DOC_0000000000000000022' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000023', 'ETI:000000000000000000000000000000000023', RELATIVE_DATE(-10)  , null                 , null                 , RELATIVE_DATE(-5)    , RELATIVE_DATE(-10)   , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000023' , 'DOC_0000000000000000023' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , 'lnp'      , null       , null       , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000024', 'ETI:000000000000000000000000000000000024', RELATIVE_DATE(-10)  , null                 , null                 , RELATIVE_DATE(-5)    , RELATIVE_DATE(-10)   , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000001' , 'GPK_KSC'     , 'DOMAIN_A', 'PI_0000000000024' , 'DOC_0000000000000000024' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , 'bbq'     , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
 -- Tasks for WorkOnTaskAccTest
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000025', 'ETI:000000000000000000000000000000000025', RELATIVE_DATE(0)    , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000025' , 'DOC_0000000000000000025' , null        , 'abcd00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , 'ert'       , 'ert'       , 'ert'       , 'ert'       , 'ert'   , 'ert'       , 'ert'   );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000026', 'ETI:000000000000000000000000000000000026', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000026' , 'DOC_0000000000000000026' , 'user_1_1'  , 'bcde00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000027', 'ETI:000000000000000000000000000000000027', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000027' , 'DOC_0000000000000000027' , 'user_1_2'  , 'cdef00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000028', 'ETI:000000000000000000000000000000000028', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000028' , 'DOC_0000000000000000028' , 'user_1_1'  , 'efgh00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000029', 'ETI:000000000000000000000000000000000029', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000029' , 'DOC_0000000000000000029' , 'user_1_2'  , 'fghj00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , 'rew'      , null       , null       , null      , 'dde'       , 'dde'       , 'dde'       , 'dde'       , 'dde'   , 'dde'       , 'dde'   );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000030', 'ETI:000000000000000000000000000000000030', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000030' , 'DOC_0000000000000000030' , 'user_1_1'  , 'ABCD00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000031', 'ETI:000000000000000000000000000000000031', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000031' , 'DOC_0000000000000000031' , 'user_1_1'  , 'BDCE00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000032', 'ETI:000000000000000000000000000000000032', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000032' , 'DOC_0000000000000000032' , 'user_1_2'  , 'CDEF00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000033', 'ETI:000000000000000000000000000000000033', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000033' , 'DOC_0000000000000000033' , 'user_1_2'  , 'DEFG00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000034', 'ETI:000000000000000000000000000000000034', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000034' , 'DOC_0000000000000000034' , 'user_1_1'  , 'GHIJ00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000035', 'ETI:000000000000000000000000000000000035', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000035' , 'DOC_0000000000000000035' , 'user_1_1'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000100', 'ETI:000000000000000000000000000000000100', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000100' , 'DOC_0000000000000000100' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000101', 'ETI:000000000000000000000000000000000101', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000101' , 'DOC_0000000000000000101' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , 'el'       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000102', 'ETI:000000000000000000000000000000000102', RELATIVE_DATE(-2)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000102' , 'DOC_0000000000000000102' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000103', 'ETI:000000000000000000000000000000000103', RELATIVE_DATE(-2)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(3)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000103' , 'DOC_0000000000000000103' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000025', 'ETI:000000000000000000000000000000000025', RELATIVE_DATE(0)    , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000025' , 'DOC_0000000000000000025' , null        , 'abcd00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , 'ert'       , 'ert'       , 'ert'       , 'ert'       , 'ert'   , 'ert'       , 'ert'   , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000026', 'ETI:000000000000000000000000000000000026', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000026' , 'DOC_0000000000000000026' , 'user_1_1'  , 'bcde00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000027', 'ETI:000000000000000000000000000000000027', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000027' , 'DOC_0000000000000000027' , 'user_1_2'  , 'cdef00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000028', 'ETI:000000000000000000000000000000000028', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000028' , 'DOC_0000000000000000028' , 'user_1_1'  , 'efgh00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000029', 'ETI:000000000000000000000000000000000029', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000029' , 'DOC_0000000000000000029' , 'user_1_2'  , 'fghj00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , 'rew'      , null       , null       , null      , 'dde'       , 'dde'       , 'dde'       , 'dde'       , 'dde'   , 'dde'       , 'dde'   , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000030', 'ETI:000000000000000000000000000000000030', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000030' , 'DOC_0000000000000000030' , 'user_1_1'  , 'ABCD00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000031', 'ETI:000000000000000000000000000000000031', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000031' , 'DOC_0000000000000000031' , 'user_1_1'  , 'BDCE00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000032', 'ETI:000000000000000000000000000000000032', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000032' , 'DOC_0000000000000000032' , 'user_1_2'  , 'CDEF00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000033', 'ETI:000000000000000000000000000000000033', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000033' , 'DOC_0000000000000000033' , 'user_1_2'  , 'DEFG00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000034', 'ETI:000000000000000000000000000000000034', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000034' , 'DOC_0000000000000000034' , 'user_1_1'  , 'GHIJ00'    , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000035', 'ETI:000000000000000000000000000000000035', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000035' , 'DOC_0000000000000000035' , 'user_1_1'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000100', 'ETI:000000000000000000000000000000000100', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000100' , 'DOC_0000000000000000100' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000101', 'ETI:000000000000000000000000000000000101', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000101' , 'DOC_0000000000000000101' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , 'el'       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000102', 'ETI:000000000000000000000000000000000102', RELATIVE_DATE(-2)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000102' , 'DOC_0000000000000000102' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000103', 'ETI:000000000000000000000000000000000103', RELATIVE_DATE(-2)   , RELATIVE_DATE(-1)    , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(3)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000103' , 'DOC_0000000000000000103' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
 -- Tasks for DeleteTaskAccTest
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000036', 'ETI:000000000000000000000000000000000036', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000036' , 'DOC_0000000000000000036' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , 'ew'       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000037', 'ETI:000000000000000000000000000000000037', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000037' , 'DOC_0000000000000000037' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000038', 'ETI:000000000000000000000000000000000038', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000038' , 'DOC_0000000000000000038' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , 'al'       , '11'       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000039', 'ETI:000000000000000000000000000000000039', RELATIVE_DATE(-2)   , RELATIVE_DATE(-2)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000039' , 'DOC_0000000000000000039' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000040', 'ETI:000000000000000000000000000000000040', RELATIVE_DATE(-3)   , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , RELATIVE_DATE(-3)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000040' , 'DOC_0000000000000000040' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000036', 'ETI:000000000000000000000000000000000036', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000036' , 'DOC_0000000000000000036' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , 'ew'       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000037', 'ETI:000000000000000000000000000000000037', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000037' , 'DOC_0000000000000000037' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000038', 'ETI:000000000000000000000000000000000038', RELATIVE_DATE(-1)   , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000038' , 'DOC_0000000000000000038' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , 'al'       , '11'       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000039', 'ETI:000000000000000000000000000000000039', RELATIVE_DATE(-2)   , RELATIVE_DATE(-2)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000039' , 'DOC_0000000000000000039' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000040', 'ETI:000000000000000000000000000000000040', RELATIVE_DATE(-3)   , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , RELATIVE_DATE(-3)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000007' , 'USER_1_2'    , 'DOMAIN_A', 'PI_0000000000040' , 'DOC_0000000000000000040' , 'user_1_2'  , '00'        , 'PASystem' , '00'               , 'SDNR'   , '00011122'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
 -- Tasks for QueryTasksWithSortingTest
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000041', 'ETI:000000000000000000000000000000000041', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Task99'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch dolor sit amet.', 'Some custom Note'                       , 1       , 'CLAIMED'   , 'AUTOMATIC'              , 'T6310'           , 'CLI:000000000000000000000000000000000011', 'WBI:100000000000000000000000000000000011' , 'USER_3_2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'user_3_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000042', 'ETI:000000000000000000000000000000000042', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Task01'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch dolor sit amet.', 'Some custom Note'                       , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L110102'         , 'CLI:100000000000000000000000000000000005', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'user_3_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000043', 'ETI:000000000000000000000000000000000043', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Task02'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch t. Aber stimmt.', 'Some custom Note'                       , 2       , 'CLAIMED'   , 'EXTERN'                 , 'A12'             , 'CLI:200000000000000000000000000000000001', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'user_3_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000044', 'ETI:000000000000000000000000000000000044', RELATIVE_DATE(0)    , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000003' , 'DOC_0000000000000000003' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000045', 'ETI:000000000000000000000000000000000045', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000004' , 'DOC_0000000000000000004' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000046', 'ETI:000000000000000000000000000000000046', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000004' , 'DOC_0000000000000000003' , null        , '00'        , 'PASystem' , '06'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000047', 'ETI:000000000000000000000000000000000047', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000004' , 'DOC_0000000000000000003' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000048', 'ETI:000000000000000000000000000000000048', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000004' , 'DOC_0000000000000000007' , null        , '00'        , 'PASystem' , '05'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000049', 'ETI:000000000000000000000000000000000049', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id2'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000008' , 'DOC_0000000000000000003' , null        , '00'        , 'PASyste1' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000050', 'ETI:000000000000000000000000000000000050', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id2'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000009' , 'DOC_0000000000000000009' , null        , '00'        , 'PASyste1' , '05'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000051', 'ETI:000000000000000000000000000000000051', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id2'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000010' , 'DOC_0000000000000000010' , null        , '00'        , 'PASyste1' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000052', 'ETI:000000000000000000000000000000000052', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000011' , 'DOC_0000000000000000011' , null        , '00'        , 'PASystem' , '04'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000053', 'ETI:000000000000000000000000000000000053', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id3'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000012' , 'DOC_0000000000000000012' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000054', 'ETI:000000000000000000000000000000000054', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'erstellerSpezial'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000010' , 'DOC_0000000000000000011' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000055', 'ETI:000000000000000000000000000000000055', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'Ersteller1'                 , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000014' , 'DOC_0000000000000000014' , null        , '00'        , 'PASyste1' , '04'               , 'VNR'    , '12345678'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000056', 'ETI:000000000000000000000000000000000056', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'Ersteller1'                 , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000015' , 'DOC_0000000000000000015' , null        , '00'        , 'PASyste1' , '00'               , 'VNR'    , '23456789'     , false  , true          , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000057', 'ETI:000000000000000000000000000000000057', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000010' , 'DOC_0000000000000000011' , null        , '00'        , 'PASyste2' , '00'               , 'VNR'    , '34567890'     , false  , true          , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000058', 'ETI:000000000000000000000000000000000058', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000017' , 'DOC_0000000000000000017' , null        , '00'        , 'PASystem' , '03'               , 'VNR'    , '45678901'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000059', 'ETI:000000000000000000000000000000000059', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(-1)    , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000018' , 'DOC_0000000000000000018' , null        , '00'        , 'PASystem' , '02'               , 'VNR'    , '56789012'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000060', 'ETI:000000000000000000000000000000000060', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-3)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000010' , 'DOC_0000000000000000011' , null        , '00'        , 'PASyste2' , '00'               , 'VNR'    , '67890123'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000061', 'ETI:000000000000000000000000000000000061', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(3)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000020' , 'DOC_0000000000000000020' , null        , '00'        , 'PASyste2' , '01'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000062', 'ETI:000000000000000000000000000000000062', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000020' , 'DOC_0000000000000000021' , null        , '00'        , 'PASyste2' , '01'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000063', 'ETI:000000000000000000000000000000000063', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-3)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000022' , 'DOC_0000000000000000022' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000064', 'ETI:000000000000000000000000000000000064', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(4)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000020' , 'DOC_0000000000000000021' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000065', 'ETI:000000000000000000000000000000000065', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-4)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000024' , 'DOC_0000000000000000024' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    ); -- Task for TransferAccTest
-INSERT INTO TASK VALUES('TKI:100000000000000000000000000000000006', 'ETI:100000000000000000000000000000000006', RELATIVE_DATE(-3)   , RELATIVE_DATE(-2)     , RELATIVE_DATE(-2)   , RELATIVE_DATE(-2)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(5)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000004' , 'TEAMLEAD_1'  , 'DOMAIN_A', 'PI_0000000000006' , 'DOC_0000000000000000006' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
-INSERT INTO TASK VALUES('TKI:200000000000000000000000000000000006', 'ETI:200000000000000000000000000000000006', RELATIVE_DATE(-4)   , RELATIVE_DATE(-3)     , null                , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(-5)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000005' , 'TEAMLEAD_2'  , 'DOMAIN_A', 'PI_0000000000006' , 'DOC_0000000000000000006' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    );
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000041', 'ETI:000000000000000000000000000000000041', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Task99'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch dolor sit amet.', 'Some custom Note'                       , 1       , 'CLAIMED'   , 'AUTOMATIC'              , 'T6310'           , 'CLI:000000000000000000000000000000000011', 'WBI:100000000000000000000000000000000011' , 'USER_3_2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'user_3_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000042', 'ETI:000000000000000000000000000000000042', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Task01'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch dolor sit amet.', 'Some custom Note'                       , 2       , 'CLAIMED'   , 'EXTERN'                 , 'L110102'         , 'CLI:100000000000000000000000000000000005', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'user_3_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000043', 'ETI:000000000000000000000000000000000043', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Task02'                  , 'creator_user_id'            , 'Lorem ipsum was n Quatsch t. Aber stimmt.', 'Some custom Note'                       , 2       , 'CLAIMED'   , 'EXTERN'                 , 'A12'             , 'CLI:200000000000000000000000000000000001', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'user_3_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'      , 'MyType1', 'MyValue1'     , true   , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000044', 'ETI:000000000000000000000000000000000044', RELATIVE_DATE(0)    , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000003' , 'DOC_0000000000000000003' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000045', 'ETI:000000000000000000000000000000000045', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000004' , 'DOC_0000000000000000004' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000046', 'ETI:000000000000000000000000000000000046', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000004' , 'DOC_0000000000000000003' , null        , '00'        , 'PASystem' , '06'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000047', 'ETI:000000000000000000000000000000000047', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000004' , 'DOC_0000000000000000003' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000048', 'ETI:000000000000000000000000000000000048', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000004' , 'DOC_0000000000000000007' , null        , '00'        , 'PASystem' , '05'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000049', 'ETI:000000000000000000000000000000000049', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id2'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000008' , 'DOC_0000000000000000003' , null        , '00'        , 'PASyste1' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000050', 'ETI:000000000000000000000000000000000050', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(1)     , 'Widerruf'                , 'creator_user_id2'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000009' , 'DOC_0000000000000000009' , null        , '00'        , 'PASyste1' , '05'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000051', 'ETI:000000000000000000000000000000000051', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id2'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000010' , 'DOC_0000000000000000010' , null        , '00'        , 'PASyste1' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000052', 'ETI:000000000000000000000000000000000052', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000011' , 'DOC_0000000000000000011' , null        , '00'        , 'PASystem' , '04'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000053', 'ETI:000000000000000000000000000000000053', RELATIVE_DATE(-1)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-1)    , 'Widerruf'                , 'creator_user_id3'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000012' , 'DOC_0000000000000000012' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000054', 'ETI:000000000000000000000000000000000054', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'erstellerSpezial'           , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000010' , 'DOC_0000000000000000011' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '22334455'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000055', 'ETI:000000000000000000000000000000000055', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'Ersteller1'                 , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000014' , 'DOC_0000000000000000014' , null        , '00'        , 'PASyste1' , '04'               , 'VNR'    , '12345678'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000056', 'ETI:000000000000000000000000000000000056', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(2)     , 'Widerruf'                , 'Ersteller1'                 , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000015' , 'DOC_0000000000000000015' , null        , '00'        , 'PASyste1' , '00'               , 'VNR'    , '23456789'     , false  , true          , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000057', 'ETI:000000000000000000000000000000000057', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000010' , 'DOC_0000000000000000011' , null        , '00'        , 'PASyste2' , '00'               , 'VNR'    , '34567890'     , false  , true          , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000058', 'ETI:000000000000000000000000000000000058', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000017' , 'DOC_0000000000000000017' , null        , '00'        , 'PASystem' , '03'               , 'VNR'    , '45678901'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000059', 'ETI:000000000000000000000000000000000059', RELATIVE_DATE(-2)   , null                 , null                 , RELATIVE_DATE(-1)    , RELATIVE_DATE(-2)    , RELATIVE_DATE(-2)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000018' , 'DOC_0000000000000000018' , null        , '00'        , 'PASystem' , '02'               , 'VNR'    , '56789012'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000060', 'ETI:000000000000000000000000000000000060', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-3)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000010' , 'DOC_0000000000000000011' , null        , '00'        , 'PASyste2' , '00'               , 'VNR'    , '67890123'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000061', 'ETI:000000000000000000000000000000000061', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(3)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000020' , 'DOC_0000000000000000020' , null        , '00'        , 'PASyste2' , '01'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000062', 'ETI:000000000000000000000000000000000062', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-2)    , RELATIVE_DATE(0)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000020' , 'DOC_0000000000000000021' , null        , '00'        , 'PASyste2' , '01'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000063', 'ETI:000000000000000000000000000000000063', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-3)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000022' , 'DOC_0000000000000000022' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000064', 'ETI:000000000000000000000000000000000064', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(4)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000020' , 'DOC_0000000000000000021' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000065', 'ETI:000000000000000000000000000000000065', RELATIVE_DATE(-3)   , null                 , null                 , RELATIVE_DATE(0)     , RELATIVE_DATE(-1)    , RELATIVE_DATE(-4)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'READY'     , 'EXTERN'                 , 'L1060'           , 'CLI:200000000000000000000000000000000017', 'WBI:100000000000000000000000000000000015' , 'USER_3_2'    , 'DOMAIN_B', 'PI_0000000000024' , 'DOC_0000000000000000024' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0); -- Task for TransferAccTest
+INSERT INTO TASK VALUES('TKI:100000000000000000000000000000000006', 'ETI:100000000000000000000000000000000006', RELATIVE_DATE(-3)   , RELATIVE_DATE(-2)     , RELATIVE_DATE(-2)   , RELATIVE_DATE(-2)    , RELATIVE_DATE(-1)    , RELATIVE_DATE(5)     , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000004' , 'TEAMLEAD_1'  , 'DOMAIN_A', 'PI_0000000000006' , 'DOC_0000000000000000006' , null        , '00'        , 'PASystem' , '00'               , 'VNR'    , '11223344'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
+INSERT INTO TASK VALUES('TKI:200000000000000000000000000000000006', 'ETI:200000000000000000000000000000000006', RELATIVE_DATE(-4)   , RELATIVE_DATE(-3)     , null                , RELATIVE_DATE(0)     , RELATIVE_DATE(0)     , RELATIVE_DATE(-5)    , 'Widerruf'                , 'creator_user_id'            , 'Widerruf'                                 , null                                     , 2       , 'COMPLETED' , 'EXTERN'                 , 'L1050'           , 'CLI:100000000000000000000000000000000003', 'WBI:100000000000000000000000000000000005' , 'TEAMLEAD_2'  , 'DOMAIN_A', 'PI_0000000000006' , 'DOC_0000000000000000006' , null        , '00'        , 'PASystem' , '00'               , 'SDNR'   , '98765432'     , false  , false         , null         , 'NONE'        , null              , null        , null        , null       , null       , null       , null       , null       , null       , null      , null        , null        , null        , null        , 'abc'    , null        , null    , 0);
 -- Tasks for TaskControllerIntTest
-INSERT INTO TASK VALUES('TKI:100000000000000000000000000000000000', 'ETI:100000000000000000000000000000000000', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)      , RELATIVE_DATE(0)    , RELATIVE_DATE(4)     , 'Dynamikänderung'         , 'creator_user_id'            , 'Desc Dynamikänderung'                     , 'Some custom Note'                       , 1       , 'CLAIMED'   , 'AUTOMATIC'              , 'T6310'           , 'CLI:100000000000000000000000000000000004', 'WBI:100000000000000000000000000000000004' , 'TEAMLEAD_1'  , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'user_3_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'    , 'MyType1', '00000001'     , true   , false         , null         , 'NONE'        , null             , null   , null   , null   , null   , null   , null   , null   , null   , null     , null    , null    , null    , null    , 'abc'    , null    , null    );
+INSERT INTO TASK VALUES('TKI:100000000000000000000000000000000000', 'ETI:100000000000000000000000000000000000', RELATIVE_DATE(0)    , RELATIVE_DATE(0)     , null                 , RELATIVE_DATE(0)      , RELATIVE_DATE(0)    , RELATIVE_DATE(4)     , 'Dynamikänderung'         , 'creator_user_id'            , 'Desc Dynamikänderung'                     , 'Some custom Note'                       , 1       , 'CLAIMED'   , 'AUTOMATIC'              , 'T6310'           , 'CLI:100000000000000000000000000000000004', 'WBI:100000000000000000000000000000000004' , 'TEAMLEAD_1'  , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'user_3_1'  , 'MyCompany1', 'MySystem1', 'MyInstance1'    , 'MyType1', '00000001'     , true   , false         , null         , 'NONE'        , null             , null   , null   , null   , null   , null   , null   , null   , null   , null     , null    , null    , null    , null    , 'abc'    , null    , null    , 0);
@@ -39,6 +39,7 @@ public class JobScheduler {
         LOGGER.debug("Entry to scheduleCleanupJob.");
         TaskCleanupJob.initializeSchedule(taskanaEngine);
         WorkbasketCleanupJob.initializeSchedule(taskanaEngine);
+        TaskChangeFeedCleanupJob.initializeSchedule(taskanaEngine);
         LOGGER.debug("Exit from scheduleCleanupJob.");
     }
 
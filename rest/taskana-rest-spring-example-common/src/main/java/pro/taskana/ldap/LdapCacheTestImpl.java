@@ -7,16 +7,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import pro.taskana.rest.resource.AccessIdResource;
 
 /**
- * Implementation of LdapCache used for Unit tests.
+ * Implementation of LdapCache used for Unit tests. It is only registered, if LDAP is not used.
  *
  * @author bbr
  */
 @Component
+@ConditionalOnProperty(name = LdapClient.TASKANA_USE_LDAP_PROP_NAME, havingValue = "false", matchIfMissing = true)
 public class LdapCacheTestImpl implements LdapCache {
 
     /**
@@ -24,7 +24,6 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import pro.taskana.RestHelper;
-import pro.taskana.ldap.LdapCacheTestImpl;
 import pro.taskana.rest.resource.AccessIdResource;
 
 /**
@@ -47,7 +46,6 @@ class AccessIdValidationControllerIntTest {
 
     @Test
     void testGetMatches() {
-        AccessIdController.setLdapCache(new LdapCacheTestImpl());
         HttpEntity<String> request = new HttpEntity<String>(restHelper.getHeaders());
         ResponseEntity<List<AccessIdResource>> response = template.exchange(
             restHelper.toUrl(Mapping.URL_ACCESSID) + "?search-for=ali",
@@ -67,7 +65,6 @@ class AccessIdValidationControllerIntTest {
 
     @Test
     void testBadRequestWhenSearchForIsTooShort() {
-        AccessIdController.setLdapCache(new LdapCacheTestImpl());
         HttpEntity<String> request = new HttpEntity<String>(restHelper.getHeaders());
         try {
             template.exchange(
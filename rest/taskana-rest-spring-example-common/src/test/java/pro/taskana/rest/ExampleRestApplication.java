@@ -18,8 +18,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import pro.taskana.jobs.TransactionalJobsConfiguration;
-import pro.taskana.ldap.LdapCacheTestImpl;
-import pro.taskana.ldap.LdapClient;
 import pro.taskana.ldap.LdapConfiguration;
 import pro.taskana.sampledata.SampleDataGenerator;
 
@@ -41,11 +39,6 @@ public class ExampleRestApplication {
     @Autowired
     private SampleDataGenerator sampleDataGenerator;
 
-    @Autowired
-    private LdapClient ldapClient;
-
-    @Autowired private LdapCacheTestImpl ldapCacheTest;
-
     public static void main(String[] args) {
         SpringApplication.run(ExampleRestApplication.class, args);
     }
@@ -64,9 +57,6 @@ public class ExampleRestApplication {
 
     @PostConstruct
     private void init() throws SQLException {
-        if (!ldapClient.useLdap()) {
-            AccessIdController.setLdapCache(ldapCacheTest);
-        }
         if (generateSampleData) {
             sampleDataGenerator.generateSampleData();
         }
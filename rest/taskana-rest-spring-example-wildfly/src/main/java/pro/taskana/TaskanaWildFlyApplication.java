@@ -27,10 +27,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import pro.taskana.jobs.TransactionalJobsConfiguration;
-import pro.taskana.ldap.LdapCacheTestImpl;
-import pro.taskana.ldap.LdapClient;
 import pro.taskana.ldap.LdapConfiguration;
-import pro.taskana.rest.AccessIdController;
 import pro.taskana.rest.RestConfiguration;
 import pro.taskana.rest.WebMvcConfig;
 import pro.taskana.sampledata.SampleDataGenerator;
@@ -53,11 +50,6 @@ public class TaskanaWildFlyApplication extends SpringBootServletInitializer {
     @Autowired
     private SampleDataGenerator sampleDataGenerator;
 
-    @Autowired
-    private LdapClient ldapClient;
-
-    @Autowired private LdapCacheTestImpl ldapCacheTest;
-
     public static void main(String[] args) {
         SpringApplication.run(TaskanaWildFlyApplication.class, args);
     }
@@ -105,9 +97,6 @@ public class TaskanaWildFlyApplication extends SpringBootServletInitializer {
 
     @PostConstruct
     private void init() throws SQLException {
-        if (!ldapClient.useLdap()) {
-            AccessIdController.setLdapCache(ldapCacheTest);
-        }
         if (generateSampleData) {
             sampleDataGenerator.generateSampleData();
         }
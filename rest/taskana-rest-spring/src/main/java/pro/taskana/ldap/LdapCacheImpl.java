@@ -0,0 +1,311 @@
+package pro.taskana.ldap;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.rest.resource.AccessIdResource;
+
+/**
+ * LdapCache that keeps all users and groups of the directory in memory. The entries are bulk loaded by the LdapClient
+ * and kept in a sorted prefix index, so that the type-ahead search of the access id picker does not need a LDAP
+ * round trip. The entries are loaded in the background, until the first load is finished all searches are passed to
+ * the LdapClient. The cache is refreshed periodically: an incremental refresh only reads the entries whose
+ * modifyTimestamp is not before the highest modifyTimestamp of the previous refresh, a full refresh also removes
+ * deleted entries. Searches that do not find anything in the cache are passed to the LdapClient.
+ */
+public class LdapCacheImpl implements LdapCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LdapCacheImpl.class);
+
+    private final LdapClient ldapClient;
+    private final Duration refreshInterval;
+    private final Duration fullRefreshInterval;
+    private volatile Snapshot snapshot;
+    private Instant lastModifyTimestamp;
+    private Instant lastFullRefresh;
+    private ScheduledExecutorService scheduler;
+
+    public LdapCacheImpl(LdapClient ldapClient, Duration refreshInterval, Duration fullRefreshInterval) {
+        this.ldapClient = ldapClient;
+        this.refreshInterval = refreshInterval;
+        this.fullRefreshInterval = fullRefreshInterval;
+    }
+
+    /**
+     * Starts loading all users and groups in the background and schedules the periodic refresh. The method does not
+     * wait for the LDAP server.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taskana-ldap-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::refreshAndLogErrors);
+        if (!refreshInterval.isZero()) {
+            scheduler.scheduleWithFixedDelay(this::refreshAndLogErrors, refreshInterval.toMillis(),
+                refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns true, if the first load of the users and groups is finished.
+     *
+     * @return true, if the searches are answered from the cache
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Stops the periodic refresh.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Refreshes the cache. A full refresh is done on the first call, whenever the full refresh interval has elapsed
+     * and if the directory did not return any modifyTimestamp. Otherwise only the entries whose modifyTimestamp is not
+     * before the highest modifyTimestamp of the previous refresh are read. The timestamp of the directory is used, so
+     * that the refresh does not depend on the clocks of the LDAP server and of this server being in sync.
+     */
+    public synchronized void refresh() {
+        Instant now = Instant.now();
+        AtomicReference<Instant> latestModifyTimestamp = new AtomicReference<>(lastModifyTimestamp);
+        if (snapshot == null || lastModifyTimestamp == null
+            || !now.isBefore(lastFullRefresh.plus(fullRefreshInterval))) {
+            LOGGER.debug("entry to refresh(), performing a full refresh.");
+            latestModifyTimestamp.set(null);
+            List<AccessIdResource> users = ldapClient.loadUsers(null, latestModifyTimestamp);
+            Map<AccessIdResource, List<String>> groups = ldapClient.loadGroups(null, latestModifyTimestamp);
+            snapshot = new Snapshot(accessIdsByKey(users), groups);
+            lastFullRefresh = now;
+        } else {
+            LOGGER.debug("entry to refresh(), reading the entries modified since {}.", lastModifyTimestamp);
+            List<AccessIdResource> modifiedUsers = ldapClient.loadUsers(lastModifyTimestamp, latestModifyTimestamp);
+            Map<AccessIdResource, List<String>> modifiedGroups = ldapClient.loadGroups(lastModifyTimestamp,
+                latestModifyTimestamp);
+            if (!modifiedUsers.isEmpty() || !modifiedGroups.isEmpty()) {
+                snapshot = snapshot.with(modifiedUsers, modifiedGroups);
+            }
+        }
+        lastModifyTimestamp = latestModifyTimestamp.get();
+        LOGGER.debug("exit from refresh(). The cache contains {} access ids, the latest modifyTimestamp is {}.",
+            snapshot.byAccessId.size(), lastModifyTimestamp);
+    }
+
+    @Override
+    public List<AccessIdResource> findMatchingAccessId(String searchFor, int maxNumberOfReturnedAccessIds) {
+        Snapshot currentSnapshot = snapshot;
+        List<AccessIdResource> result = currentSnapshot == null
+            ? Collections.emptyList()
+            : currentSnapshot.findMatching(searchFor, maxNumberOfReturnedAccessIds);
+        if (result.isEmpty() && ldapClient.useLdap()) {
+            LOGGER.debug("No cached access id matches {}, searching in LDAP.", searchFor);
+            try {
+                return ldapClient.searchUsersAndGroups(searchFor);
+            } catch (InvalidArgumentException e) {
+                LOGGER.debug("LDAP search for {} was rejected: {}", searchFor, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<AccessIdResource> findGroupsOfUser(String searchFor, int maxNumberOfReturnedAccessIds) {
+        List<AccessIdResource> result = new ArrayList<>(findMatchingAccessId(searchFor,
+            maxNumberOfReturnedAccessIds));
+        Snapshot currentSnapshot = snapshot;
+        List<AccessIdResource> groups = currentSnapshot == null
+            ? null
+            : currentSnapshot.groupsByMember.get(searchFor.toLowerCase());
+        if (groups != null) {
+            result.addAll(groups);
+        } else if (ldapClient.useLdap()) {
+            try {
+                result.addAll(ldapClient.searchGroupsofUsersIsMember(searchFor));
+            } catch (InvalidArgumentException e) {
+                LOGGER.debug("LDAP search for the groups of {} was rejected: {}", searchFor, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<AccessIdResource> validateAccessId(String accessId) {
+        Snapshot currentSnapshot = snapshot;
+        AccessIdResource cached = currentSnapshot == null
+            ? null
+            : currentSnapshot.byAccessId.get(accessId.toLowerCase());
+        if (cached != null) {
+            return Collections.singletonList(cached);
+        }
+        if (ldapClient.useLdap()) {
+            try {
+                return ldapClient.searchUsersAndGroups(accessId);
+            } catch (InvalidArgumentException e) {
+                LOGGER.debug("LDAP search for {} was rejected: {}", accessId, e.getMessage());
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private void refreshAndLogErrors() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not refresh the LDAP cache, keeping the cached entries.", e);
+        }
+    }
+
+    private static Map<String, AccessIdResource> accessIdsByKey(List<AccessIdResource> accessIds) {
+        Map<String, AccessIdResource> result = new HashMap<>();
+        for (AccessIdResource accessId : accessIds) {
+            result.put(accessId.getAccessId().toLowerCase(), accessId);
+        }
+        return result;
+    }
+
+    /**
+     * Immutable state of the cache. A refresh creates a new snapshot, so that searches never see a partially updated
+     * index.
+     */
+    private static final class Snapshot {
+
+        private static final String SEPARATORS = " ,_-.=";
+
+        private final Map<String, AccessIdResource> users;
+        private final Map<AccessIdResource, List<String>> groups;
+        private final Map<String, AccessIdResource> byAccessId = new HashMap<>();
+        private final Map<String, List<AccessIdResource>> groupsByMember = new HashMap<>();
+        private final String[] keys;
+        private final AccessIdResource[] values;
+
+        Snapshot(Map<String, AccessIdResource> users, Map<AccessIdResource, List<String>> groups) {
+            this.users = users;
+            this.groups = groups;
+            byAccessId.putAll(users);
+            List<Map.Entry<String, AccessIdResource>> entries = new ArrayList<>();
+            for (AccessIdResource user : users.values()) {
+                addWordSuffixes(entries, user.getAccessId(), user);
+                addWordSuffixes(entries, user.getName(), user);
+            }
+            for (Map.Entry<AccessIdResource, List<String>> group : groups.entrySet()) {
+                AccessIdResource groupAccessId = group.getKey();
+                byAccessId.put(groupAccessId.getAccessId().toLowerCase(), groupAccessId);
+                // the access id of a group is its dn, only the complete dn is indexed
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(groupAccessId.getAccessId().toLowerCase(),
+                    groupAccessId));
+                addWordSuffixes(entries, groupAccessId.getName(), groupAccessId);
+                for (String member : group.getValue()) {
+                    groupsByMember.computeIfAbsent(member.toLowerCase(), key -> new ArrayList<>()).add(groupAccessId);
+                }
+            }
+            entries.sort(Map.Entry.comparingByKey());
+            keys = new String[entries.size()];
+            values = new AccessIdResource[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).getKey();
+                values[i] = entries.get(i).getValue();
+            }
+        }
+
+        Snapshot with(List<AccessIdResource> modifiedUsers, Map<AccessIdResource, List<String>> modifiedGroups) {
+            Map<String, AccessIdResource> newUsers = new HashMap<>(users);
+            newUsers.putAll(accessIdsByKey(modifiedUsers));
+            Map<String, AccessIdResource> groupsByKey = new HashMap<>();
+            Map<AccessIdResource, List<String>> newGroups = new LinkedHashMap<>();
+            for (Map.Entry<AccessIdResource, List<String>> group : groups.entrySet()) {
+                groupsByKey.put(group.getKey().getAccessId().toLowerCase(), group.getKey());
+                newGroups.put(group.getKey(), group.getValue());
+            }
+            for (Map.Entry<AccessIdResource, List<String>> group : modifiedGroups.entrySet()) {
+                AccessIdResource replaced = groupsByKey.get(group.getKey().getAccessId().toLowerCase());
+                if (replaced != null) {
+                    newGroups.remove(replaced);
+                }
+                newGroups.put(group.getKey(), group.getValue());
+            }
+            return new Snapshot(newUsers, newGroups);
+        }
+
+        List<AccessIdResource> findMatching(String searchFor, int maxNumberOfReturnedAccessIds) {
+            String[] words = searchFor.toLowerCase().trim().split("\\s+");
+            if (words[0].isEmpty()) {
+                return Collections.emptyList();
+            }
+            Set<AccessIdResource> matches = new LinkedHashSet<>();
+            int index = Arrays.binarySearch(keys, words[0]);
+            for (int i = index < 0 ? -index - 1 : index; i < keys.length && keys[i].startsWith(words[0]); i++) {
+                if (containsAll(values[i], words)) {
+                    matches.add(values[i]);
+                }
+            }
+            List<AccessIdResource> result = new ArrayList<>(matches);
+            result.sort((AccessIdResource a, AccessIdResource b) -> a.getAccessId().compareToIgnoreCase(
+                b.getAccessId()));
+            return result.subList(0, Math.min(result.size(), maxNumberOfReturnedAccessIds));
+        }
+
+        private static boolean containsAll(AccessIdResource accessId, String[] words) {
+            String text = accessId.getAccessId().toLowerCase() + " "
+                + (accessId.getName() == null ? "" : accessId.getName().toLowerCase());
+            for (int i = 1; i < words.length; i++) {
+                if (!text.contains(words[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Indexes the text from the start of every word, so that a search for "hol" finds the user "Hagen, Holger".
+         *
+         * @param entries
+         *            the index entries, the entries of the text are added
+         * @param text
+         *            the indexed text, e.g. the name of a user
+         * @param accessId
+         *            the access id that is found by the text
+         */
+        private static void addWordSuffixes(List<Map.Entry<String, AccessIdResource>> entries, String text,
+            AccessIdResource accessId) {
+            if (text == null) {
+                return;
+            }
+            String lowerCaseText = text.toLowerCase();
+            for (int i = 0; i < lowerCaseText.length(); i++) {
+                boolean wordStart = i == 0 || SEPARATORS.indexOf(lowerCaseText.charAt(i - 1)) >= 0;
+                if (wordStart && SEPARATORS.indexOf(lowerCaseText.charAt(i)) < 0) {
+                    entries.add(new AbstractMap.SimpleImmutableEntry<>(lowerCaseText.substring(i),
+                        accessId));
+                }
+            }
+        }
+    }
+}
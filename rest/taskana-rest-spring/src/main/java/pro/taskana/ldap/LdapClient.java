@@ -1,6 +1,14 @@
 package pro.taskana.ldap;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.PostConstruct;
 import javax.naming.directory.SearchControls;
@@ -9,11 +17,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
+import org.springframework.ldap.control.PagedResultsDirContextProcessor;
 import org.springframework.ldap.core.DirContextOperations;
 import org.springframework.ldap.core.LdapTemplate;
 import org.springframework.ldap.core.support.AbstractContextMapper;
+import org.springframework.ldap.core.support.SingleContextSource;
 import org.springframework.ldap.filter.AndFilter;
 import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.GreaterThanOrEqualsFilter;
 import org.springframework.ldap.filter.OrFilter;
 import org.springframework.ldap.filter.WhitespaceWildcardsFilter;
 import org.springframework.stereotype.Component;
@@ -34,6 +45,11 @@ public class LdapClient {
     public static final String TASKANA_USE_LDAP_PROP_NAME = "taskana.ldap.useLdap";
     private static final Logger LOGGER = LoggerFactory.getLogger(LdapClient.class);
     private static final String CN = "cn";
+    private static final String MODIFY_TIMESTAMP = "modifyTimestamp";
+    private static final int PAGE_SIZE = 500;
+    private static final int GENERALIZED_TIME_SECONDS = 14;
+    private static final DateTimeFormatter GENERALIZED_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'")
+        .withZone(ZoneOffset.UTC);
     private boolean active = false;
     @Autowired
     private Environment env;
@@ -232,6 +248,86 @@ public class LdapClient {
 
     }
 
+    /**
+     * Reads all users of the directory page by page. Used to fill the LdapCacheImpl.
+     *
+     * @param modifiedSince
+     *            if not null, only the users whose modifyTimestamp is not before this instant are returned
+     * @param latestModifyTimestamp
+     *            is raised to the highest modifyTimestamp of the returned users
+     * @return the users
+     */
+    public List<AccessIdResource> loadUsers(Instant modifiedSince, AtomicReference<Instant> latestModifyTimestamp) {
+        LOGGER.debug("entry to loadUsers(modifiedSince = {}).", modifiedSince);
+        if (!active) {
+            throw new SystemException(
+                "LdapClient was called but is not active due to missing configuration: " + message);
+        }
+        final AndFilter andFilter = new AndFilter();
+        andFilter.and(new EqualsFilter(getUserSearchFilterName(), getUserSearchFilterValue()));
+        if (modifiedSince != null) {
+            andFilter.and(new GreaterThanOrEqualsFilter(MODIFY_TIMESTAMP, GENERALIZED_TIME.format(modifiedSince)));
+        }
+        String[] userAttributesToReturn = {getUserFirstnameAttribute(), getUserLastnameAttribute(),
+            getUserIdAttribute(), MODIFY_TIMESTAMP};
+
+        List<AccessIdResource> users = searchAllPages(getUserSearchBase(), andFilter.encode(),
+            userAttributesToReturn, new ModifyTimestampMapper<>(new UserContextMapper(), latestModifyTimestamp));
+        LOGGER.debug("exit from loadUsers. Retrieved {} users.", users.size());
+        return users;
+    }
+
+    /**
+     * Reads all groups of the directory together with the values of their member attribute (taskana.ldap.groupsOfUser)
+     * page by page. Used to fill the LdapCacheImpl.
+     *
+     * @param modifiedSince
+     *            if not null, only the groups whose modifyTimestamp is not before this instant are returned
+     * @param latestModifyTimestamp
+     *            is raised to the highest modifyTimestamp of the returned groups
+     * @return the groups mapped to their members
+     */
+    public Map<AccessIdResource, List<String>> loadGroups(Instant modifiedSince,
+        AtomicReference<Instant> latestModifyTimestamp) {
+        LOGGER.debug("entry to loadGroups(modifiedSince = {}).", modifiedSince);
+        if (!active) {
+            throw new SystemException(
+                "LdapClient was called but is not active due to missing configuration: " + message);
+        }
+        final AndFilter andFilter = new AndFilter();
+        andFilter.and(new EqualsFilter(getGroupSearchFilterName(), getGroupSearchFilterValue()));
+        if (modifiedSince != null) {
+            andFilter.and(new GreaterThanOrEqualsFilter(MODIFY_TIMESTAMP, GENERALIZED_TIME.format(modifiedSince)));
+        }
+        String[] groupAttributesToReturn = {getGroupNameAttribute(), getGroupsOfUser(), MODIFY_TIMESTAMP};
+
+        Map<AccessIdResource, List<String>> groups = new LinkedHashMap<>();
+        for (Map.Entry<AccessIdResource, List<String>> group : searchAllPages(getGroupSearchBase(),
+            andFilter.encode(), groupAttributesToReturn,
+            new ModifyTimestampMapper<>(new GroupWithMembersContextMapper(), latestModifyTimestamp))) {
+            groups.put(group.getKey(), group.getValue());
+        }
+        LOGGER.debug("exit from loadGroups. Retrieved {} groups.", groups.size());
+        return groups;
+    }
+
+    private <T> List<T> searchAllPages(String base, String filter, String[] attributesToReturn,
+        AbstractContextMapper<T> mapper) {
+        SearchControls searchControls = new SearchControls();
+        searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+        searchControls.setReturningAttributes(attributesToReturn);
+        searchControls.setCountLimit(0);
+        // paged results require that all pages are read over the same connection
+        return SingleContextSource.doWithSingleContext(ldapTemplate.getContextSource(), operations -> {
+            List<T> result = new ArrayList<>();
+            PagedResultsDirContextProcessor processor = new PagedResultsDirContextProcessor(PAGE_SIZE);
+            do {
+                result.addAll(operations.search(base, filter, searchControls, mapper, processor));
+            } while (processor.hasMore());
+            return result;
+        });
+    }
+
     private void testMinSearchForLength(final String name) throws InvalidArgumentException {
         if (name == null || name.length() < minSearchForLength) {
             throw new InvalidArgumentException("searchFor string " + name + " is too short. Minimum Length = "
@@ -341,4 +437,57 @@ public class LdapClient {
             return accessId;
         }
     }
+
+    /**
+     * Context Mapper for group entries that also reads the members of the group.
+     */
+    private class GroupWithMembersContextMapper
+        extends AbstractContextMapper<Map.Entry<AccessIdResource, List<String>>> {
+
+        @Override
+        public Map.Entry<AccessIdResource, List<String>> doMapFromContext(final DirContextOperations context) {
+            final AccessIdResource accessId = new AccessIdResource();
+            accessId.setAccessId(context.getNameInNamespace()); // fully qualified dn
+            accessId.setName(context.getStringAttribute(getGroupNameAttribute()));
+            List<String> members = new ArrayList<>();
+            String[] memberValues = context.getStringAttributes(getGroupsOfUser());
+            if (memberValues != null) {
+                for (String member : memberValues) {
+                    members.add(member);
+                }
+            }
+            return new AbstractMap.SimpleImmutableEntry<>(accessId, members);
+        }
+    }
+
+    /**
+     * Context Mapper that records the highest modifyTimestamp of the mapped entries. The timestamp is taken from the
+     * directory, so that the next incremental refresh does not depend on the clock of this server.
+     *
+     * @param <T>
+     *            the type of the mapped entries
+     */
+    private static class ModifyTimestampMapper<T> extends AbstractContextMapper<T> {
+
+        private final AbstractContextMapper<T> mapper;
+        private final AtomicReference<Instant> latestModifyTimestamp;
+
+        ModifyTimestampMapper(AbstractContextMapper<T> mapper, AtomicReference<Instant> latestModifyTimestamp) {
+            this.mapper = mapper;
+            this.latestModifyTimestamp = latestModifyTimestamp;
+        }
+
+        @Override
+        protected T doMapFromContext(final DirContextOperations context) {
+            String modifyTimestamp = context.getStringAttribute(MODIFY_TIMESTAMP);
+            if (modifyTimestamp != null && modifyTimestamp.length() >= GENERALIZED_TIME_SECONDS) {
+                // generalized time, the fraction and the time zone are ignored, directories report it in UTC
+                Instant modified = GENERALIZED_TIME.parse(modifyTimestamp.substring(0, GENERALIZED_TIME_SECONDS) + "Z",
+                    Instant::from);
+                latestModifyTimestamp.accumulateAndGet(modified,
+                    (latest, current) -> latest == null || current.isAfter(latest) ? current : latest);
+            }
+            return mapper.mapFromContext(context);
+        }
+    }
 }
@@ -1,5 +1,10 @@
 package pro.taskana.ldap;
 
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Condition;
@@ -17,6 +22,9 @@ import org.springframework.ldap.core.support.LdapContextSource;
 @Configuration
 public class LdapConfiguration {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(LdapConfiguration.class);
+    private static final String TASKANA_LDAP_CACHE_ENABLED_PROP_NAME = "taskana.ldap.cache.enabled";
+
     @Autowired
     private Environment env;
 
@@ -51,6 +59,27 @@ public class LdapConfiguration {
         return new LdapTemplate(contextSource());
     }
 
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Conditional(WithLdapCacheCondition.class)
+    public LdapCacheImpl ldapCache(LdapClient ldapClient) {
+        return new LdapCacheImpl(ldapClient,
+            getDuration("taskana.ldap.cache.refreshInterval", Duration.ofMinutes(5)),
+            getDuration("taskana.ldap.cache.fullRefreshInterval", Duration.ofHours(1)));
+    }
+
+    private Duration getDuration(String propertyName, Duration defaultValue) {
+        String value = env.getProperty(propertyName);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Duration.parse(value);
+        } catch (DateTimeParseException e) {
+            LOGGER.warn("Could not parse {} ({}). Using default {}.", propertyName, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
     /**
      * Helper class to control conditional provision of LdapTemplate.
      */
@@ -66,4 +95,16 @@ public class LdapConfiguration {
             }
         }
     }
+
+    /**
+     * Helper class to control conditional provision of the LdapCacheImpl.
+     */
+    public static class WithLdapCacheCondition extends WithLdapCondition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return super.matches(context, metadata)
+                && Boolean.parseBoolean(context.getEnvironment().getProperty(TASKANA_LDAP_CACHE_ENABLED_PROP_NAME));
+        }
+    }
 }
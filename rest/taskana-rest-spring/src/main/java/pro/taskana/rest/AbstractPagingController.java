@@ -3,11 +3,16 @@ package pro.taskana.rest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.util.MultiValueMap;
 
 import pro.taskana.BaseQuery;
+import pro.taskana.QueryPage;
 import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.rest.resource.FieldSelection;
 import pro.taskana.rest.resource.PagedResources.PageMetadata;
 
 /**
@@ -17,6 +22,8 @@ public abstract class AbstractPagingController {
 
     private static final String PAGING_PAGE = "page";
     private static final String PAGING_PAGE_SIZE = "page-size";
+    private static final String PAGING_TOTAL_COUNT = "total-count";
+    private static final String FIELDS = "fields";
 
     protected String[] extractCommaSeparatedFields(List<String> list) {
         List<String> values = new ArrayList<>();
@@ -33,47 +40,138 @@ public abstract class AbstractPagingController {
         }
     }
 
-    protected PageMetadata getPageMetadata(MultiValueMap<String, String> params, BaseQuery<?, ?> query)
-        throws InvalidArgumentException {
-        PageMetadata pageMetadata = null;
-        if (hasPagingInformationInParams(params)) {
-            // paging
-            long totalElements = query.count();
-            pageMetadata = initPageMetadata(params, totalElements);
-            validateNoInvalidParameterIsLeft(params);
-        } else {
+    /**
+     * Runs the query for the page that is requested by the paging parameters or for all results, if no page is
+     * requested. By default the page and the total number of results are determined together, with the parameter
+     * total-count=false the results are not counted and the page metadata only reports whether there is a next page.
+     *
+     * @param <T>
+     *            the type of the results
+     * @param params
+     *            the request parameters, the paging parameters are removed from them
+     * @param query
+     *            the query with all filter and sorting parameters applied
+     * @return the results and the page metadata, which is null if no page is requested
+     * @throws InvalidArgumentException
+     *             if a paging parameter is invalid or another parameter is left
+     */
+    protected <T> PagedQueryResult<T> getPagedQueryResult(MultiValueMap<String, String> params,
+        BaseQuery<T, ?> query) throws InvalidArgumentException {
+        if (!hasPagingInformationInParams(params)) {
             // not paging
             validateNoInvalidParameterIsLeft(params);
+            return new PagedQueryResult<>(query.list(), null);
         }
-        return pageMetadata;
-    }
+        long pageSize = getPageSize(params);
+        long page = getPage(params);
+        boolean countTotal = getCountTotal(params);
+        validateNoInvalidParameterIsLeft(params);
 
-    protected <T> List<T> getQueryList(BaseQuery<T, ?> query, PageMetadata pageMetadata) {
-        List<T> resultList;
-        if (pageMetadata != null) {
-            resultList = query.listPage((int) pageMetadata.getNumber(), (int) pageMetadata.getSize());
-        } else {
-            resultList = query.list();
+        if (!countTotal) {
+            QueryPage<T> queryPage = query.listPageWithoutTotalCount((int) page, (int) pageSize);
+            return new PagedQueryResult<>(queryPage.getItems(),
+                PageMetadata.withoutTotal(pageSize, page, queryPage.hasNext()));
+        }
+        QueryPage<T> queryPage = query.listPageWithTotalCount((int) page, (int) pageSize);
+        PageMetadata pageMetadata = new PageMetadata(pageSize, page, queryPage.getTotalCount());
+        List<T> items = queryPage.getItems();
+        if (pageMetadata.getNumber() > pageMetadata.getTotalPages()) {
+            // the requested page is behind the last page, so the last page is returned instead
+            pageMetadata = new PageMetadata(pageSize, pageMetadata.getTotalPages(), queryPage.getTotalCount());
+            if (queryPage.getTotalCount() > 0) {
+                items = query.listPage((int) pageMetadata.getNumber(), (int) pageSize);
+            }
         }
-        return resultList;
+        return new PagedQueryResult<>(items, pageMetadata);
     }
 
-    private boolean hasPagingInformationInParams(MultiValueMap<String, String> params) {
-        return params.getFirst(PAGING_PAGE) != null;
+    /**
+     * Runs a query that selects its results with the given range and page queries, for the page that is requested by
+     * the paging parameters or for all results, if no page is requested. Like
+     * {@link #getPagedQueryResult(MultiValueMap, BaseQuery)} the page and the total number of results are determined
+     * together by the page query, with total-count=false the range query selects one result more than the page size
+     * to find out whether there is a next page.
+     *
+     * @param <T>
+     *            the type of the results
+     * @param params
+     *            the request parameters, the paging parameters are removed from them
+     * @param rangeQuery
+     *            selects a range of the results of the query
+     * @param pageQuery
+     *            selects a page of the results of the query together with the total number of results
+     * @return the results and the page metadata, which is null if no page is requested
+     * @throws InvalidArgumentException
+     *             if a paging parameter is invalid, another parameter is left or the query is invalid
+     */
+    protected <T> PagedQueryResult<T> getPagedQueryResult(MultiValueMap<String, String> params,
+        RangeQuery<T> rangeQuery, PageQuery<T> pageQuery) throws InvalidArgumentException {
+        if (!hasPagingInformationInParams(params)) {
+            // not paging
+            validateNoInvalidParameterIsLeft(params);
+            return new PagedQueryResult<>(rangeQuery.list(0, Integer.MAX_VALUE), null);
+        }
+        long pageSize = getPageSize(params);
+        long page = getPage(params);
+        boolean countTotal = getCountTotal(params);
+        validateNoInvalidParameterIsLeft(params);
+
+        int limit = (int) Math.max(pageSize, 0);
+        if (!countTotal) {
+            List<T> items = rangeQuery.list(getOffset(page, limit), limit == Integer.MAX_VALUE ? limit : limit + 1);
+            boolean hasNext = items.size() > limit;
+            if (hasNext) {
+                items = new ArrayList<>(items.subList(0, limit));
+            }
+            return new PagedQueryResult<>(items, PageMetadata.withoutTotal(pageSize, page, hasNext));
+        }
+        QueryPage<T> queryPage = pageQuery.listPageWithTotalCount((int) page, limit);
+        PageMetadata pageMetadata = new PageMetadata(pageSize, page, queryPage.getTotalCount());
+        List<T> items = queryPage.getItems();
+        if (pageMetadata.getNumber() > pageMetadata.getTotalPages()) {
+            // the requested page is behind the last page, so the last page is returned instead
+            pageMetadata = new PageMetadata(pageSize, pageMetadata.getTotalPages(), queryPage.getTotalCount());
+            if (queryPage.getTotalCount() > 0) {
+                items = rangeQuery.list(getOffset(pageMetadata.getNumber(), limit), limit);
+            }
+        }
+        return new PagedQueryResult<>(items, pageMetadata);
     }
 
-    protected PageMetadata initPageMetadata(MultiValueMap<String, String> param, long totalElements)
+    /**
+     * Reads the fields parameter, which selects the properties of the listed resources.
+     *
+     * @param params
+     *            the request parameters, the fields parameter is removed from them
+     * @param selectableFields
+     *            the properties of the resource that can be selected
+     * @return the selected properties or null, if the parameter is missing
+     * @throws InvalidArgumentException
+     *             if a field is not a property of the resource
+     */
+    protected FieldSelection getFieldSelection(MultiValueMap<String, String> params, Set<String> selectableFields)
         throws InvalidArgumentException {
-        long pageSize = getPageSize(param);
-        long page = getPage(param);
-
-        PageMetadata pageMetadata = new PageMetadata(pageSize, page,
-            totalElements >= 0 ? totalElements : Integer.MAX_VALUE);
-        if (pageMetadata.getNumber() > pageMetadata.getTotalPages()) {
-            // unfortunately no setter for number
-            pageMetadata = new PageMetadata(pageSize, pageMetadata.getTotalPages(), totalElements);
+        if (!params.containsKey(FIELDS)) {
+            return null;
         }
-        return pageMetadata;
+        List<String> fields = Arrays.asList(extractCommaSeparatedFields(params.get(FIELDS)));
+        params.remove(FIELDS);
+        List<String> unknownFields = fields.stream()
+            .filter(field -> !selectableFields.contains(field))
+            .collect(Collectors.toList());
+        if (fields.isEmpty() || !unknownFields.isEmpty()) {
+            throw new InvalidArgumentException("Invalid fields specified: " + unknownFields
+                + ". Selectable fields are " + selectableFields + ".");
+        }
+        return new FieldSelection(fields);
+    }
+
+    private int getOffset(long page, int pageSize) {
+        return page < 1 ? 0 : (int) ((page - 1) * pageSize);
+    }
+
+    private boolean hasPagingInformationInParams(MultiValueMap<String, String> params) {
+        return params.getFirst(PAGING_PAGE) != null;
     }
 
     // This method is deprecated please remove it after updating taskana-simple-history reference to it.
@@ -106,6 +204,17 @@ public abstract class AbstractPagingController {
         }
     }
 
+    private boolean getCountTotal(MultiValueMap<String, String> params) throws InvalidArgumentException {
+        String param = params.getFirst(PAGING_TOTAL_COUNT);
+        params.remove(PAGING_TOTAL_COUNT);
+        if (param == null || "true".equalsIgnoreCase(param)) {
+            return true;
+        } else if ("false".equalsIgnoreCase(param)) {
+            return false;
+        }
+        throw new InvalidArgumentException("total-count must be true or false.");
+    }
+
     private long getPageSize(MultiValueMap<String, String> params) throws InvalidArgumentException {
         String param = params.getFirst(PAGING_PAGE_SIZE);
         params.remove(PAGING_PAGE_SIZE);
@@ -116,4 +225,71 @@ public abstract class AbstractPagingController {
         }
     }
 
+    /**
+     * Selects a range of the results of a query.
+     *
+     * @param <T>
+     *            the type of the results
+     */
+    @FunctionalInterface
+    protected interface RangeQuery<T> {
+
+        List<T> list(int offset, int limit) throws InvalidArgumentException;
+    }
+
+    /**
+     * Selects a page of the results of a query together with the total number of results.
+     *
+     * @param <T>
+     *            the type of the results
+     */
+    @FunctionalInterface
+    protected interface PageQuery<T> {
+
+        QueryPage<T> listPageWithTotalCount(int pageNumber, int pageSize) throws InvalidArgumentException;
+    }
+
+    /**
+     * The results of a query together with the metadata of the requested page.
+     *
+     * @param <T>
+     *            the type of the results
+     */
+    protected static class PagedQueryResult<T> {
+
+        private final List<T> items;
+        private final PageMetadata pageMetadata;
+
+        PagedQueryResult(List<T> items, PageMetadata pageMetadata) {
+            this.items = items;
+            this.pageMetadata = pageMetadata;
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        /**
+         * Converts the results, for example into projections, and keeps the metadata of the page.
+         *
+         * @param converter
+         *            converts a single result
+         * @param <R>
+         *            the type of the converted results
+         * @return the converted results with the metadata of this page
+         */
+        public <R> PagedQueryResult<R> map(Function<T, R> converter) {
+            return new PagedQueryResult<>(items.stream().map(converter).collect(Collectors.toList()), pageMetadata);
+        }
+
+        /**
+         * Returns the metadata of the requested page.
+         *
+         * @return the metadata or null, if no page was requested
+         */
+        public PageMetadata getPageMetadata() {
+            return pageMetadata;
+        }
+    }
+
 }
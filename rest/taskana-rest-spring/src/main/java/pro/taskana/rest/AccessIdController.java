@@ -31,7 +31,8 @@ public class AccessIdController {
     @Autowired
     LdapClient ldapClient;
 
-    private static LdapCache ldapCache;
+    @Autowired(required = false)
+    LdapCache ldapCache;
 
     @GetMapping(path = Mapping.URL_ACCESSID)
     public ResponseEntity<List<AccessIdResource>> validateAccessIds(
@@ -43,17 +44,17 @@ public class AccessIdController {
                     + ldapClient.getMinSearchForLength());
         }
         ResponseEntity<List<AccessIdResource>> response;
-        if (ldapClient.useLdap()) {
-            List<AccessIdResource> accessIdUsers = ldapClient.searchUsersAndGroups(searchFor);
-            response = ResponseEntity.ok(accessIdUsers);
+        if (ldapCache != null) {
+            response = ResponseEntity.ok(
+                ldapCache.findMatchingAccessId(searchFor, ldapClient.getMaxNumberOfReturnedAccessIds()));
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Exit from validateAccessIds(), returning {}", response);
             }
 
             return response;
-        } else if (ldapCache != null) {
-            response = ResponseEntity.ok(
-                ldapCache.findMatchingAccessId(searchFor, ldapClient.getMaxNumberOfReturnedAccessIds()));
+        } else if (ldapClient.useLdap()) {
+            List<AccessIdResource> accessIdUsers = ldapClient.searchUsersAndGroups(searchFor);
+            response = ResponseEntity.ok(accessIdUsers);
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Exit from validateAccessIds(), returning {}", response);
             }
@@ -77,17 +78,17 @@ public class AccessIdController {
         }
         List<AccessIdResource> accessIdUsers;
         ResponseEntity<List<AccessIdResource>> response;
-        if (ldapClient.useLdap()) {
-            accessIdUsers = ldapClient.searchUsersAndGroups(accessId);
-            accessIdUsers.addAll(ldapClient.searchGroupsofUsersIsMember(accessId));
+        if (ldapCache != null) {
+            accessIdUsers = ldapCache.findGroupsOfUser(accessId, ldapClient.getMaxNumberOfReturnedAccessIds());
             response = ResponseEntity.ok(accessIdUsers);
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Exit from getGroupsByAccessId(), returning {}", response);
             }
 
             return response;
-        } else if (ldapCache != null) {
-            accessIdUsers = ldapCache.findGroupsOfUser(accessId, ldapClient.getMaxNumberOfReturnedAccessIds());
+        } else if (ldapClient.useLdap()) {
+            accessIdUsers = ldapClient.searchUsersAndGroups(accessId);
+            accessIdUsers.addAll(ldapClient.searchGroupsofUsersIsMember(accessId));
             response = ResponseEntity.ok(accessIdUsers);
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Exit from getGroupsByAccessId(), returning {}", response);
@@ -101,13 +102,11 @@ public class AccessIdController {
         }
     }
 
-    public static void setLdapCache(LdapCache cache) {
-        ldapCache = cache;
-    }
-
     private boolean validateAccessId(String accessId) throws InvalidArgumentException {
-        return (ldapClient.useLdap() && ldapClient.searchUsersAndGroups(accessId).size() == 1) || (!ldapClient.useLdap()
-            && ldapCache.validateAccessId(accessId).size() == 1);
+        if (ldapCache != null) {
+            return ldapCache.validateAccessId(accessId).size() == 1;
+        }
+        return ldapClient.searchUsersAndGroups(accessId).size() == 1;
     }
 
 }
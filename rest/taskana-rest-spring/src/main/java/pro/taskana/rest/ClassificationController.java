@@ -1,7 +1,5 @@
 package pro.taskana.rest;
 
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
@@ -18,6 +16,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import pro.taskana.BaseQuery.SortDirection;
 import pro.taskana.Classification;
@@ -33,9 +32,10 @@ import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.rest.resource.ClassificationResource;
 import pro.taskana.rest.resource.ClassificationResourceAssembler;
-import pro.taskana.rest.resource.ClassificationSummaryListResource;
 import pro.taskana.rest.resource.ClassificationSummaryResourceAssembler;
-import pro.taskana.rest.resource.PagedResources.PageMetadata;
+import pro.taskana.rest.resource.FieldSelection;
+import pro.taskana.rest.resource.PagedResources;
+import pro.taskana.rest.resource.ProjectedResource;
 
 /**
  * Controller for all {@link Classification} related endpoints.
@@ -97,23 +97,34 @@ public class ClassificationController extends AbstractPagingController {
 
     @GetMapping(path = Mapping.URL_CLASSIFICATIONS)
     @Transactional(readOnly = true, rollbackFor = Exception.class)
-    public ResponseEntity<ClassificationSummaryListResource> getClassifications(
+    public ResponseEntity<PagedResources<?>> getClassifications(
         @RequestParam MultiValueMap<String, String> params) throws InvalidArgumentException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Entry to getClassifications(params= {})", params);
         }
 
+        FieldSelection fieldSelection = getFieldSelection(params,
+            ClassificationSummaryResourceAssembler.SELECTABLE_FIELDS);
         ClassificationQuery query = classificationService.createClassificationQuery();
         query = applySortingParams(query, params);
         query = applyFilterParams(query, params);
 
-        PageMetadata pageMetadata = getPageMetadata(params, query);
-        List<ClassificationSummary> classificationSummaries = getQueryList(query, pageMetadata);
+        PagedQueryResult<ClassificationSummary> result = getPagedQueryResult(params, query);
 
-        ResponseEntity<ClassificationSummaryListResource> response = ResponseEntity.ok(
-            classificationSummaryResourceAssembler.toResources(
-                classificationSummaries,
-                pageMetadata));
+        PagedResources<?> pagedResources;
+        if (fieldSelection == null) {
+            pagedResources = classificationSummaryResourceAssembler.toResources(
+                result.getItems(),
+                result.getPageMetadata());
+        } else {
+            PagedQueryResult<ProjectedResource> projections = result.map(
+                classification -> classificationSummaryResourceAssembler.toProjectedResource(classification,
+                    fieldSelection));
+            pagedResources = classificationSummaryResourceAssembler.toProjectedResources(
+                projections.getItems(),
+                projections.getPageMetadata());
+        }
+        ResponseEntity<PagedResources<?>> response = ResponseEntity.ok(pagedResources);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Exit from getClassifications(), returning {}", response);
         }
@@ -123,15 +134,22 @@ public class ClassificationController extends AbstractPagingController {
 
     @GetMapping(path = Mapping.URL_CLASSIFICATIONS_ID)
     @Transactional(readOnly = true, rollbackFor = Exception.class)
-    public ResponseEntity<ClassificationResource> getClassification(@PathVariable String classificationId)
+    public ResponseEntity<ClassificationResource> getClassification(@PathVariable String classificationId,
+        WebRequest request)
         throws ClassificationNotFoundException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Entry to getClassification(classificationId= {})", classificationId);
         }
 
+        if (ETags.isConditional(request) && request.checkNotModified(
+            ETags.of(classificationService.getClassificationModified(classificationId)))) {
+            LOGGER.debug("Exit from getClassification(), classification {} is not modified", classificationId);
+            return null;
+        }
         Classification classification = classificationService.getClassification(classificationId);
-        ResponseEntity<ClassificationResource> response = ResponseEntity.ok(
-            classificationResourceAssembler.toResource(classification));
+        ResponseEntity<ClassificationResource> response = ResponseEntity.ok()
+            .eTag(ETags.of(classification.getModified()))
+            .body(classificationResourceAssembler.toResource(classification));
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Exit from getClassification(), returning {}", response);
         }
@@ -2,6 +2,7 @@ package pro.taskana.rest;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -9,10 +10,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,21 +25,22 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import pro.taskana.Classification;
+import pro.taskana.ClassificationImportResult;
 import pro.taskana.ClassificationQuery;
 import pro.taskana.ClassificationService;
 import pro.taskana.ClassificationSummary;
-import pro.taskana.exceptions.ClassificationAlreadyExistException;
-import pro.taskana.exceptions.ClassificationNotFoundException;
-import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.exceptions.DomainNotFoundException;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
-import pro.taskana.impl.util.LoggerUtils;
+import pro.taskana.rest.resource.ClassificationImportResultResource;
 import pro.taskana.rest.resource.ClassificationResource;
 import pro.taskana.rest.resource.ClassificationResourceAssembler;
 
@@ -47,71 +52,82 @@ import pro.taskana.rest.resource.ClassificationResourceAssembler;
 public class ClassificationDefinitionController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationDefinitionController.class);
+    private static final int EXPORT_CHUNK_SIZE = 1000;
 
     private ClassificationService classificationService;
 
     private ClassificationResourceAssembler classificationResourceAssembler;
 
+    private ObjectMapper objectMapper;
+
     ClassificationDefinitionController(
         ClassificationService classificationService,
-        ClassificationResourceAssembler classificationResourceAssembler) {
+        ClassificationResourceAssembler classificationResourceAssembler,
+        ObjectMapper objectMapper) {
         this.classificationService = classificationService;
         this.classificationResourceAssembler = classificationResourceAssembler;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping(path = Mapping.URL_CLASSIFICATIONDEFINITION)
     @Transactional(readOnly = true, rollbackFor = Exception.class)
-    public ResponseEntity<List<ClassificationResource>> exportClassifications(
-        @RequestParam(required = false) String domain)
-        throws ClassificationNotFoundException {
+    public void exportClassifications(@RequestParam(required = false) String domain, HttpServletResponse response)
+        throws IOException {
         LOGGER.debug("Entry to exportClassifications(domain= {})", domain);
         ClassificationQuery query = classificationService.createClassificationQuery();
-
-        List<ClassificationSummary> summaries = domain != null ? query.domainIn(domain).list() : query.list();
-        List<ClassificationResource> export = new ArrayList<>();
-
-        for (ClassificationSummary summary : summaries) {
-            Classification classification = classificationService.getClassification(summary.getKey(),
-                summary.getDomain());
-
-            export.add(classificationResourceAssembler.toDefinition(classification));
+        if (domain != null) {
+            query.domainIn(domain);
         }
-
-        ResponseEntity<List<ClassificationResource>> response = ResponseEntity.ok(export);
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Exit from exportClassifications(), returning {}", response);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+        int exported = 0;
+        // the chunks are flushed explicitly, not after every single definition
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            // a failed export must not be closed to a valid, but incomplete document
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartArray();
+            // only one chunk of the query is held in memory at a time, the next chunk is selected by the last id
+            List<String> chunk = Collections.emptyList();
+            do {
+                chunk = query.listAfterId(chunk.isEmpty() ? null : chunk.get(chunk.size() - 1), EXPORT_CHUNK_SIZE)
+                    .stream()
+                    .map(ClassificationSummary::getId)
+                    .collect(Collectors.toList());
+                if (!chunk.isEmpty()) {
+                    for (Classification classification : classificationService.getClassifications(chunk)) {
+                        writer.writeValue(generator, classificationResourceAssembler.toDefinition(classification));
+                    }
+                    generator.flush();
+                    exported += chunk.size();
+                }
+            } while (chunk.size() == EXPORT_CHUNK_SIZE);
+            generator.writeEndArray();
         }
-
-        return response;
+        LOGGER.debug("Exit from exportClassifications(), exported {} classifications", exported);
     }
 
     @PostMapping(path = Mapping.URL_CLASSIFICATIONDEFINITION)
     @Transactional(rollbackFor = Exception.class)
-    public ResponseEntity<Void> importClassifications(
+    public ResponseEntity<ClassificationImportResultResource> importClassifications(
         @RequestParam("file") MultipartFile file)
-        throws InvalidArgumentException, NotAuthorizedException, ConcurrencyException, ClassificationNotFoundException,
-        ClassificationAlreadyExistException, DomainNotFoundException, IOException {
+        throws InvalidArgumentException, NotAuthorizedException, DomainNotFoundException, IOException {
         LOGGER.debug("Entry to importClassifications()");
-        Map<String, String> systemIds = getSystemIds();
         List<ClassificationResource> classificationsResources = extractClassificationResourcesFromFile(file);
         checkForDuplicates(classificationsResources);
 
-        Map<Classification, String> childrenInFile = mapChildrenToParentKeys(classificationsResources, systemIds);
-        insertOrUpdateClassificationsWithoutParent(classificationsResources, systemIds);
-        updateParentChildrenRelations(childrenInFile);
-        ResponseEntity<Void> response = ResponseEntity.noContent().build();
+        mapParentIdsToParentKeys(classificationsResources);
+        List<Classification> classifications = new ArrayList<>();
+        for (ClassificationResource classificationResource : classificationsResources) {
+            classifications.add(classificationResourceAssembler.toModel(classificationResource));
+        }
+        ClassificationImportResult result = classificationService.importClassifications(classifications, 0);
+        ResponseEntity<ClassificationImportResultResource> response = ResponseEntity.ok(
+            new ClassificationImportResultResource(result));
         LOGGER.debug("Exit from importClassifications(), returning {}", response);
         return response;
     }
 
-    private Map<String, String> getSystemIds() {
-        Map<String, String> systemIds = classificationService.createClassificationQuery()
-            .list()
-            .stream()
-            .collect(Collectors.toMap(i -> i.getKey() + "|" + i.getDomain(), ClassificationSummary::getId));
-        return systemIds;
-    }
-
     private List<ClassificationResource> extractClassificationResourcesFromFile(MultipartFile file)
         throws IOException {
         ObjectMapper mapper = new ObjectMapper();
@@ -124,14 +140,12 @@ public class ClassificationDefinitionController {
     }
 
     private void checkForDuplicates(List<ClassificationResource> classificationList) {
-        List<String> identifiers = new ArrayList<>();
+        Set<String> identifiers = new HashSet<>();
         Set<String> duplicates = new HashSet<>();
         for (ClassificationResource classification : classificationList) {
             String identifier = classification.key + "|" + classification.domain;
-            if (identifiers.contains(identifier)) {
+            if (!identifiers.add(identifier)) {
                 duplicates.add(identifier);
-            } else {
-                identifiers.add(identifier);
             }
         }
         if (!duplicates.isEmpty()) {
@@ -140,111 +154,29 @@ public class ClassificationDefinitionController {
         }
     }
 
-    private Map<Classification, String> mapChildrenToParentKeys(List<ClassificationResource> classificationResources,
-        Map<String, String> systemIds) {
-        LOGGER.debug("Entry to mapChildrenToParentKeys()");
-        Map<Classification, String> childrenInFile = new HashMap<>();
-        Set<String> newKeysWithDomain = new HashSet<>();
-        classificationResources.forEach(cl -> newKeysWithDomain.add(cl.getKey() + "|" + cl.getDomain()));
-
+    /**
+     * The ids in the file are not valid in this system. Therefore a parent that is given by its id in the file only is
+     * replaced by the key of the classification with this id in the file.
+     *
+     * @param classificationResources
+     *            the classifications of the file, their parent keys are set and their ids are removed
+     */
+    private void mapParentIdsToParentKeys(List<ClassificationResource> classificationResources) {
+        Map<String, String> keysByIdInFile = new HashMap<>();
         for (ClassificationResource cl : classificationResources) {
-            cl.parentId = cl.parentId == null ? "" : cl.parentId;
-            cl.parentKey = cl.parentKey == null ? "" : cl.parentKey;
-
-            if (!cl.getParentId().equals("") && cl.getParentKey().equals("")) {
-                for (ClassificationResource parent : classificationResources) {
-                    if (cl.getParentId().equals(parent.getClassificationId())) {
-                        cl.setParentKey(parent.getKey());
-                    }
-                }
-            }
-
-            String parentKeyAndDomain = cl.parentKey + "|" + cl.domain;
-            if (!cl.getParentKey().isEmpty() && !cl.getParentKey().equals("")) {
-                if (newKeysWithDomain.contains(parentKeyAndDomain) || systemIds.containsKey(parentKeyAndDomain)) {
-                    childrenInFile.put(classificationResourceAssembler.toModel(cl), cl.getParentKey());
-                }
+            if (cl.getClassificationId() != null) {
+                keysByIdInFile.put(cl.getClassificationId(), cl.getKey());
             }
         }
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Exit from mapChildrenToParentKeys(), returning {}", LoggerUtils.mapToString(childrenInFile));
-        }
-
-        return childrenInFile;
-    }
-
-    private void insertOrUpdateClassificationsWithoutParent(List<ClassificationResource> classificationResources,
-        Map<String, String> systemIds)
-        throws ClassificationNotFoundException, NotAuthorizedException, InvalidArgumentException,
-        ClassificationAlreadyExistException, DomainNotFoundException, ConcurrencyException {
-        LOGGER.debug("Entry to insertOrUpdateClassificationsWithoutParent()");
-
-        for (ClassificationResource classificationResource : classificationResources) {
-            classificationResource.setParentKey(null);
-            classificationResource.setParentId(null);
-            classificationResource.setClassificationId(null);
-
-            String systemId = systemIds.get(classificationResource.key + "|" + classificationResource.domain);
-            if (systemId != null) {
-                updateExistingClassification(classificationResource, systemId);
-            } else {
-                classificationService.createClassification(
-                    classificationResourceAssembler.toModel(classificationResource));
+        for (ClassificationResource cl : classificationResources) {
+            if (cl.getParentId() != null && !cl.getParentId().isEmpty()
+                && (cl.getParentKey() == null || cl.getParentKey().isEmpty())
+                && keysByIdInFile.containsKey(cl.getParentId())) {
+                cl.setParentKey(keysByIdInFile.get(cl.getParentId()));
             }
+            cl.setParentId(null);
+            cl.setClassificationId(null);
         }
-        LOGGER.debug("Exit from insertOrUpdateClassificationsWithoutParent()");
-    }
-
-    private void updateParentChildrenRelations(Map<Classification, String> childrenInFile)
-        throws ClassificationNotFoundException, NotAuthorizedException, ConcurrencyException,
-        InvalidArgumentException {
-        LOGGER.debug("Entry to updateParentChildrenRelations()");
-
-        for (Map.Entry<Classification, String> entry : childrenInFile.entrySet()) {
-            Classification childRes = entry.getKey();
-            String parentKey = entry.getValue();
-            String classificationKey = childRes.getKey();
-            String classificationDomain = childRes.getDomain();
-
-            Classification child = classificationService.getClassification(classificationKey, classificationDomain);
-            String parentId = (parentKey == null) ? ""
-                : classificationService.getClassification(parentKey, classificationDomain).getId();
-
-            child.setParentKey(parentKey);
-            child.setParentId(parentId);
-
-            classificationService.updateClassification(child);
-        }
-        LOGGER.debug("Exit from updateParentChildrenRelations()");
-    }
-
-    private void updateExistingClassification(ClassificationResource cl,
-        String systemId) throws ClassificationNotFoundException, NotAuthorizedException,
-        ConcurrencyException, InvalidArgumentException {
-        LOGGER.debug("Entry to updateExistingClassification()");
-        Classification currentClassification = classificationService.getClassification(systemId);
-        if (cl.getType() != null && !cl.getType().equals(currentClassification.getType())) {
-            throw new InvalidArgumentException("Can not change the type of a classification.");
-        }
-        currentClassification.setCategory(cl.category);
-        currentClassification.setIsValidInDomain(cl.isValidInDomain);
-        currentClassification.setName(cl.name);
-        currentClassification.setParentId(cl.parentId);
-        currentClassification.setParentKey(cl.parentKey);
-        currentClassification.setDescription(cl.description);
-        currentClassification.setPriority(cl.priority);
-        currentClassification.setServiceLevel(cl.serviceLevel);
-        currentClassification.setApplicationEntryPoint(cl.applicationEntryPoint);
-        currentClassification.setCustom1(cl.custom1);
-        currentClassification.setCustom2(cl.custom2);
-        currentClassification.setCustom3(cl.custom3);
-        currentClassification.setCustom4(cl.custom4);
-        currentClassification.setCustom5(cl.custom5);
-        currentClassification.setCustom6(cl.custom6);
-        currentClassification.setCustom7(cl.custom7);
-        currentClassification.setCustom8(cl.custom8);
-        classificationService.updateClassification(currentClassification);
-        LOGGER.debug("Exit from updateExistingClassification()");
     }
 
 }
@@ -0,0 +1,56 @@
+package pro.taskana.rest;
+
+import java.time.Instant;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Builds the ETags of the task, workbasket and classification resources. The ETags of tasks are derived from their
+ * version, the ETags of workbaskets and classifications from their modification timestamp, since they have no version.
+ * The ETags are weak, because the resources also contain data of referenced entities whose changes do not touch the
+ * entity itself.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Returns the weak ETag for an entity with the given version, i.e. a task.
+     *
+     * @param version
+     *            the version of the entity
+     * @return the ETag
+     */
+    public static String of(int version) {
+        return "W/\"" + Integer.toHexString(version) + "\"";
+    }
+
+    /**
+     * Returns the weak ETag for an entity with the given modification timestamp.
+     *
+     * @param modified
+     *            the modification timestamp of the entity, may be null
+     * @return the ETag or null, if the timestamp is null
+     */
+    public static String of(Instant modified) {
+        if (modified == null) {
+            return null;
+        }
+        return "W/\"" + Long.toHexString(modified.getEpochSecond()) + "." + Integer.toHexString(modified.getNano())
+            + "\"";
+    }
+
+    /**
+     * Returns true, if the request is a conditional request whose If-None-Match header has to be compared against the
+     * current ETag of the resource.
+     *
+     * @param request
+     *            the current request
+     * @return true, if the request contains an If-None-Match header
+     */
+    public static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+}
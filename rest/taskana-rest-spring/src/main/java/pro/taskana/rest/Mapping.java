@@ -32,10 +32,15 @@ public final class Mapping {
 
     public static final String URL_TASKS = PRE + "tasks";
     public static final String URL_TASKS_ID = URL_TASKS + "/{taskId}";
+    public static final String URL_TASKS_CLAIM_NEXT = URL_TASKS + "/claim-next";
+    public static final String URL_TASKS_IDS = URL_TASKS + "/ids";
+    public static final String URL_TASKS_STREAM = URL_TASKS + "/stream";
     public static final String URL_TASKS_ID_CLAIM = URL_TASKS_ID + "/claim";
     public static final String URL_TASKS_ID_COMPLETE = URL_TASKS_ID + "/complete";
     public static final String URL_TASKS_ID_TRANSFER_WORKBASKETID = URL_TASKS_ID + "/transfer/{workbasketId}";
 
+    public static final String URL_TASK_CHANGES = PRE + "task-changes";
+
     public static final String URL_WORKBASKETACCESSITEMS = PRE + "workbasket-access-items";
 
     public static final String URL_WORKBASKET = PRE + "workbaskets";
@@ -13,10 +13,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.http.converter.json.SpringHandlerInstantiator;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.util.ClassUtils;
 
 import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
 
 import pro.taskana.ClassificationService;
+import pro.taskana.TaskChangeFeed;
 import pro.taskana.TaskMonitorService;
 import pro.taskana.TaskService;
 import pro.taskana.TaskanaEngine;
@@ -24,6 +26,8 @@ import pro.taskana.WorkbasketService;
 import pro.taskana.configuration.SpringTaskanaEngineConfiguration;
 import pro.taskana.configuration.TaskanaEngineConfiguration;
 import pro.taskana.ldap.LdapClient;
+import pro.taskana.metrics.TaskanaMetrics;
+import pro.taskana.rest.metrics.MicrometerTaskanaMetrics;
 
 /**
  * Configuration for REST service.
@@ -33,9 +37,16 @@ import pro.taskana.ldap.LdapClient;
 @EnableTransactionManagement
 public class RestConfiguration {
 
+    // Micrometer is an optional dependency, the metrics of the engine are only recorded if it is on the classpath
+    private static final boolean MICROMETER_PRESENT = ClassUtils.isPresent(
+        "io.micrometer.core.instrument.MeterRegistry", RestConfiguration.class.getClassLoader());
+
     @Value("${taskana.schemaName:TASKANA}")
     private String schemaName;
 
+    @Value("${taskana.metrics.percentileHistogram:false}")
+    private boolean publishPercentileHistogram;
+
     @Bean
     public ClassificationService getClassificationService(TaskanaEngine taskanaEngine) {
         return taskanaEngine.getClassificationService();
@@ -46,6 +57,11 @@ public class RestConfiguration {
         return taskanaEngine.getTaskService();
     }
 
+    @Bean
+    public TaskChangeFeed getTaskChangeFeed(TaskanaEngine taskanaEngine) {
+        return taskanaEngine.getTaskChangeFeed();
+    }
+
     @Bean
     public TaskMonitorService getTaskMonitorService(TaskanaEngine taskanaEngine) {
         return taskanaEngine.getTaskMonitorService();
@@ -64,8 +80,19 @@ public class RestConfiguration {
 
     @Bean
     @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
-    public TaskanaEngineConfiguration taskanaEngineConfiguration(DataSource dataSource) throws SQLException {
-        return new SpringTaskanaEngineConfiguration(dataSource, true, true, schemaName);
+    public TaskanaEngineConfiguration taskanaEngineConfiguration(DataSource dataSource, ApplicationContext context)
+        throws SQLException {
+        TaskanaEngineConfiguration taskanaEngineConfiguration = new SpringTaskanaEngineConfiguration(dataSource, true,
+            true, schemaName);
+        // record the metrics of the engine if the application provides a meter registry
+        if (MICROMETER_PRESENT) {
+            TaskanaMetrics metrics = MicrometerTaskanaMetrics.forMeterRegistryOf(
+                context.getAutowireCapableBeanFactory(), publishPercentileHistogram);
+            if (metrics != null) {
+                taskanaEngineConfiguration.setMetrics(metrics);
+            }
+        }
+        return taskanaEngineConfiguration;
     }
 
     @Bean
@@ -0,0 +1,151 @@
+package pro.taskana.rest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import pro.taskana.TaskChange;
+import pro.taskana.TaskChangeCursor;
+import pro.taskana.TaskChangeFeed;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.rest.resource.TaskChangeListResource;
+import pro.taskana.rest.resource.TaskChangeResource;
+
+/**
+ * Controller for the task change feed. Clients poll for the changes after the last sequence number they know. With the
+ * parameter wait, the request is held open until changes are available or the wait time has elapsed (long polling).
+ * A waiting request does not block a servlet thread: the permissions of the user are resolved once when the request
+ * arrives, then a scheduler polls the feed with a growing interval and completes the request asynchronously. The
+ * endpoint is deliberately not transactional, so that every poll sees the changes committed in the meantime.
+ */
+@RestController
+@EnableHypermediaSupport(type = HypermediaType.HAL)
+public class TaskChangeFeedController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeFeedController.class);
+
+    private static final String AFTER = "after";
+    private static final String MAX_RESULTS = "max-results";
+    private static final String WAIT = "wait";
+    private static final String WORKBASKET_ID = "workbasket-id";
+    private static final int MAX_RESULTS_LIMIT = 1000;
+    private static final long MAX_WAIT_SECONDS = 30;
+    private static final long MIN_POLL_INTERVAL_MILLIS = 250;
+    private static final long MAX_POLL_INTERVAL_MILLIS = 2000;
+
+    private TaskChangeFeed taskChangeFeed;
+    private ScheduledExecutorService scheduler;
+
+    TaskChangeFeedController(TaskChangeFeed taskChangeFeed) {
+        this.taskChangeFeed = taskChangeFeed;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taskana-task-change-poll");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @GetMapping(path = Mapping.URL_TASK_CHANGES)
+    public DeferredResult<ResponseEntity<TaskChangeListResource>> getTaskChanges(
+        @RequestParam(value = AFTER, defaultValue = "0") long after,
+        @RequestParam(value = MAX_RESULTS, defaultValue = "100") int maxResults,
+        @RequestParam(value = WAIT, defaultValue = "0") long waitSeconds,
+        @RequestParam(value = WORKBASKET_ID, required = false) String[] workbasketIds)
+        throws InvalidArgumentException {
+        LOGGER.debug("Entry to getTaskChanges(after= {}, max-results= {}, wait= {}, workbasket-id= {})", after,
+            maxResults, waitSeconds, workbasketIds);
+        if (maxResults < 1 || maxResults > MAX_RESULTS_LIMIT) {
+            throw new InvalidArgumentException(
+                "max-results must be between 1 and " + MAX_RESULTS_LIMIT + ", but was " + maxResults);
+        }
+        if (waitSeconds < 0 || waitSeconds > MAX_WAIT_SECONDS) {
+            throw new InvalidArgumentException(
+                "wait must be between 0 and " + MAX_WAIT_SECONDS + " seconds, but was " + waitSeconds);
+        }
+
+        TaskChangeCursor cursor = taskChangeFeed.openCursor(after, workbasketIds);
+        List<TaskChange> changes = cursor.fetch(maxResults);
+        DeferredResult<ResponseEntity<TaskChangeListResource>> result = new DeferredResult<>(
+            waitSeconds * 1000 + MAX_POLL_INTERVAL_MILLIS);
+        if (!changes.isEmpty() || waitSeconds == 0) {
+            result.setResult(toResponse(changes, cursor));
+        } else {
+            result.onTimeout(() -> result.setResult(toResponse(Collections.emptyList(), cursor)));
+            new Poll(cursor, maxResults, System.currentTimeMillis() + waitSeconds * 1000, result)
+                .schedule(MIN_POLL_INTERVAL_MILLIS);
+        }
+        LOGGER.debug("Exit from getTaskChanges(), returning {}", result);
+        return result;
+    }
+
+    private ResponseEntity<TaskChangeListResource> toResponse(List<TaskChange> changes, TaskChangeCursor cursor) {
+        TaskChangeListResource resource = new TaskChangeListResource();
+        resource.setChanges(changes.stream().map(TaskChangeResource::new).collect(Collectors.toList()));
+        resource.setLastSequenceNumber(cursor.getSequenceNumber());
+        return ResponseEntity.ok(resource);
+    }
+
+    /**
+     * The polls of a waiting request. The interval between the polls doubles up to MAX_POLL_INTERVAL_MILLIS, so that a
+     * request that waits for a long time does not query the feed more often than necessary.
+     */
+    private class Poll implements Runnable {
+
+        private final TaskChangeCursor cursor;
+        private final int maxResults;
+        private final long deadline;
+        private final DeferredResult<ResponseEntity<TaskChangeListResource>> result;
+        private long interval;
+
+        Poll(TaskChangeCursor cursor, int maxResults, long deadline,
+            DeferredResult<ResponseEntity<TaskChangeListResource>> result) {
+            this.cursor = cursor;
+            this.maxResults = maxResults;
+            this.deadline = deadline;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            if (result.isSetOrExpired()) {
+                return;
+            }
+            try {
+                List<TaskChange> changes = cursor.fetch(maxResults);
+                if (!changes.isEmpty() || System.currentTimeMillis() >= deadline) {
+                    result.setResult(toResponse(changes, cursor));
+                } else {
+                    schedule(Math.min(interval * 2, MAX_POLL_INTERVAL_MILLIS));
+                }
+            } catch (RuntimeException e) {
+                result.setErrorResult(e);
+            }
+        }
+
+        void schedule(long delay) {
+            interval = delay;
+            scheduler.schedule(this, Math.min(delay, Math.max(0, deadline - System.currentTimeMillis())),
+                TimeUnit.MILLISECONDS);
+        }
+    }
+}
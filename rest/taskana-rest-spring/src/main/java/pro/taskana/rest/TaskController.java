@@ -1,10 +1,15 @@
 package pro.taskana.rest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.http.HttpStatus;
@@ -20,11 +25,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import pro.taskana.BaseQuery.SortDirection;
 import pro.taskana.KeyDomain;
 import pro.taskana.Task;
 import pro.taskana.TaskQuery;
+import pro.taskana.TaskQueryColumnName;
 import pro.taskana.TaskService;
 import pro.taskana.TaskState;
 import pro.taskana.TaskSummary;
@@ -38,11 +50,16 @@ import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.TaskAlreadyExistException;
 import pro.taskana.exceptions.TaskNotFoundException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
-import pro.taskana.rest.resource.PagedResources.PageMetadata;
+import pro.taskana.impl.TaskImpl;
+import pro.taskana.rest.resource.FieldSelection;
+import pro.taskana.rest.resource.PagedResources;
+import pro.taskana.rest.resource.ProjectedResource;
 import pro.taskana.rest.resource.TaskResource;
 import pro.taskana.rest.resource.TaskResourceAssembler;
-import pro.taskana.rest.resource.TaskSummaryListResource;
+import pro.taskana.rest.resource.TaskSummaryProjectionListResource;
+import pro.taskana.rest.resource.TaskSummaryResource;
 import pro.taskana.rest.resource.TaskSummaryResourceAssembler;
+import pro.taskana.rest.serialization.ResourceWithoutLinksMixIn;
 
 /**
  * Controller for all {@link Task} related endpoints.
@@ -75,42 +92,61 @@ public class TaskController extends AbstractPagingController {
     private static final String DUE = "due";
     private static final String PLANNED = "planned";
 
+    private static final String MAX_RESULTS = "max-results";
+    private static final int MAX_RESULTS_LIMIT = 10000;
+
     private static final String SORT_BY = "sort-by";
     private static final String SORT_DIRECTION = "order";
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private TaskService taskService;
 
     private TaskResourceAssembler taskResourceAssembler;
 
     private TaskSummaryResourceAssembler taskSummaryResourceAssembler;
 
+    // writes the task summaries of a stream like the resources of the other endpoints, but without their links; the
+    // line breaks replace the root value separator
+    private ObjectWriter taskSummaryStreamWriter;
+
     TaskController(
         TaskService taskService,
         TaskResourceAssembler taskResourceAssembler,
-        TaskSummaryResourceAssembler taskSummaryResourceAssembler) {
+        TaskSummaryResourceAssembler taskSummaryResourceAssembler,
+        ObjectMapper objectMapper) {
         this.taskService = taskService;
         this.taskResourceAssembler = taskResourceAssembler;
         this.taskSummaryResourceAssembler = taskSummaryResourceAssembler;
+        this.taskSummaryStreamWriter = objectMapper.copy()
+            .addMixIn(ResourceSupport.class, ResourceWithoutLinksMixIn.class)
+            .writerFor(TaskSummaryResource.class)
+            .withRootValueSeparator((String) null)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @GetMapping(path = Mapping.URL_TASKS)
     @Transactional(readOnly = true, rollbackFor = Exception.class)
-    public ResponseEntity<TaskSummaryListResource> getTasks(
+    public ResponseEntity<PagedResources<?>> getTasks(
         @RequestParam MultiValueMap<String, String> params) throws InvalidArgumentException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Entry to getTasks(params= {})", params);
         }
 
+        FieldSelection fieldSelection = getFieldSelection(params, TaskSummaryResourceAssembler.SELECTABLE_FIELDS);
         TaskQuery query = taskService.createTaskQuery();
         query = applyFilterParams(query, params);
         query = applySortingParams(query, params);
 
-        PageMetadata pageMetadata = getPageMetadata(params, query);
-        List<TaskSummary> taskSummaries = getQueryList(query, pageMetadata);
-
-        TaskSummaryListResource pagedResources = taskSummaryResourceAssembler.toResources(taskSummaries,
-            pageMetadata);
-        ResponseEntity<TaskSummaryListResource> response = ResponseEntity.ok(pagedResources);
+        PagedResources<?> pagedResources;
+        if (fieldSelection == null) {
+            PagedQueryResult<TaskSummary> result = getPagedQueryResult(params, query);
+            pagedResources = taskSummaryResourceAssembler.toResources(result.getItems(), result.getPageMetadata());
+        } else {
+            pagedResources = getProjectedTasks(params, query, fieldSelection);
+        }
+        ResponseEntity<PagedResources<?>> response = ResponseEntity.ok(pagedResources);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Exit from getTasks(), returning {}", response);
         }
@@ -118,13 +154,127 @@ public class TaskController extends AbstractPagingController {
         return response;
     }
 
+    /**
+     * Lists the ids of the tasks that match the filter and sorting parameters, e.g. to select all tasks of a list. The
+     * number of ids is limited by the parameter max-results, which defaults to its maximum of 10000.
+     *
+     * @param params
+     *            the filter and sorting parameters and the optional parameter max-results
+     * @return the ids of the first matching tasks in the order of the sorting parameters
+     * @throws InvalidArgumentException
+     *             if a parameter is invalid or max-results is not between 1 and 10000
+     */
+    @GetMapping(path = Mapping.URL_TASKS_IDS)
+    @Transactional(readOnly = true, rollbackFor = Exception.class)
+    public ResponseEntity<List<String>> getTaskIds(
+        @RequestParam MultiValueMap<String, String> params) throws InvalidArgumentException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Entry to getTaskIds(params= {})", params);
+        }
+
+        int maxResults = getMaxResults(params);
+        TaskQuery query = taskService.createTaskQuery();
+        query = applyFilterParams(query, params);
+        query = applySortingParams(query, params);
+        validateNoInvalidParameterIsLeft(params);
+
+        ResponseEntity<List<String>> response = ResponseEntity.ok(query.listIds(0, maxResults));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Exit from getTaskIds(), returning {}", response);
+        }
+
+        return response;
+    }
+
+    private int getMaxResults(MultiValueMap<String, String> params) throws InvalidArgumentException {
+        if (!params.containsKey(MAX_RESULTS)) {
+            return MAX_RESULTS_LIMIT;
+        }
+        String value = params.getFirst(MAX_RESULTS);
+        params.remove(MAX_RESULTS);
+        try {
+            int maxResults = Integer.parseInt(value);
+            if (maxResults >= 1 && maxResults <= MAX_RESULTS_LIMIT) {
+                return maxResults;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new InvalidArgumentException(
+            "max-results must be between 1 and " + MAX_RESULTS_LIMIT + ", but was " + value);
+    }
+
+    /**
+     * Streams the tasks that match the filter and sorting parameters as newline delimited JSON, one task summary per
+     * line. The summaries are written while the query result is read, without resource wrappers and links. Paging is
+     * not supported.
+     *
+     * @param params
+     *            the filter and sorting parameters
+     * @param response
+     *            the response the task summaries are written to
+     * @throws InvalidArgumentException
+     *             if a parameter is invalid. It is thrown before anything is written to the response.
+     * @throws IOException
+     *             if the task summaries could not be written to the response
+     */
+    @GetMapping(path = Mapping.URL_TASKS_STREAM)
+    @Transactional(readOnly = true, rollbackFor = Exception.class)
+    public void streamTasks(@RequestParam MultiValueMap<String, String> params, HttpServletResponse response)
+        throws InvalidArgumentException, IOException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Entry to streamTasks(params= {})", params);
+        }
+
+        TaskQuery query = taskService.createTaskQuery();
+        query = applyFilterParams(query, params);
+        query = applySortingParams(query, params);
+        validateNoInvalidParameterIsLeft(params);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        long[] count = {0};
+        JsonGenerator generator = taskSummaryStreamWriter.getFactory().createGenerator(response.getOutputStream());
+        // a task that fails to serialize must not be closed to a valid line
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        try {
+            query.forEachBatch(STREAM_BATCH_SIZE, tasks -> {
+                try {
+                    for (TaskSummary task : tasks) {
+                        taskSummaryStreamWriter.writeValue(generator, taskSummaryResourceAssembler.toResource(task));
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+                    count[0] += tasks.size();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        // the generator is only closed on success, so that errors before the first batch still lead to an error
+        // response
+        generator.close();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Exit from streamTasks(), streamed {} tasks", count[0]);
+        }
+    }
+
     @GetMapping(path = Mapping.URL_TASKS_ID)
     @Transactional(readOnly = true, rollbackFor = Exception.class)
-    public ResponseEntity<TaskResource> getTask(@PathVariable String taskId)
+    public ResponseEntity<TaskResource> getTask(@PathVariable String taskId, WebRequest request)
         throws TaskNotFoundException, NotAuthorizedException {
         LOGGER.debug("Entry to getTask(taskId= {})", taskId);
+        if (ETags.isConditional(request)
+            && request.checkNotModified(ETags.of(taskService.getTaskVersion(taskId)))) {
+            LOGGER.debug("Exit from getTask(), task {} is not modified", taskId);
+            return null;
+        }
         Task task = taskService.getTask(taskId);
-        ResponseEntity<TaskResource> result = ResponseEntity.ok(taskResourceAssembler.toResource(task));
+        ResponseEntity<TaskResource> result = ResponseEntity.ok()
+            .eTag(ETags.of(task.getVersion()))
+            .body(taskResourceAssembler.toResource(task));
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Exit from getTask(), returning {}", result);
         }
@@ -148,6 +298,32 @@ public class TaskController extends AbstractPagingController {
         return result;
     }
 
+    @PostMapping(path = Mapping.URL_TASKS_CLAIM_NEXT)
+    @Transactional(rollbackFor = Exception.class)
+    public ResponseEntity<TaskResource> claimNextTask(@RequestParam MultiValueMap<String, String> params)
+        throws InvalidArgumentException, NotAuthorizedException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Entry to claimNextTask(params= {})", params);
+        }
+
+        TaskQuery query = taskService.createTaskQuery();
+        query = applyFilterParams(query, params);
+        query = applySortingParams(query, params);
+        Task claimedTask = taskService.claimNext(query);
+
+        ResponseEntity<TaskResource> result;
+        if (claimedTask == null) {
+            result = ResponseEntity.noContent().build();
+        } else {
+            result = ResponseEntity.ok(taskResourceAssembler.toResource(claimedTask));
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Exit from claimNextTask(), returning {}", result);
+        }
+
+        return result;
+    }
+
     @PostMapping(path = Mapping.URL_TASKS_ID_COMPLETE)
     @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<TaskResource> completeTask(@PathVariable String taskId)
@@ -220,6 +396,10 @@ public class TaskController extends AbstractPagingController {
         ResponseEntity<TaskResource> result;
         if (taskId.equals(taskResource.getTaskId())) {
             Task task = taskResourceAssembler.toModel(taskResource);
+            if (taskResource.getVersion() == null) {
+                // the version is only checked if the client sent it, the modified timestamp is checked anyway
+                ((TaskImpl) task).setVersion(taskService.getTaskVersion(taskId));
+            }
             task = taskService.updateTask(task);
             result = ResponseEntity.ok(taskResourceAssembler.toResource(task));
         } else {
@@ -236,6 +416,31 @@ public class TaskController extends AbstractPagingController {
         return result;
     }
 
+    private TaskSummaryProjectionListResource getProjectedTasks(MultiValueMap<String, String> params,
+        TaskQuery query, FieldSelection fieldSelection) throws InvalidArgumentException {
+        TaskQueryColumnName[] columns = taskSummaryResourceAssembler.getColumnsOf(fieldSelection);
+        PagedQueryResult<ProjectedResource> result;
+        if (columns != null) {
+            // only the columns of the selected fields are read
+            result = getPagedQueryResult(params,
+                (offset, limit) -> query.listColumns(offset, limit, columns),
+                (page, size) -> query.listColumnsPageWithTotalCount(page, size, columns))
+                .map(row -> taskSummaryResourceAssembler.toProjectedResource(row, fieldSelection));
+        } else {
+            // only the selected summaries are fetched together with the tasks
+            query.withLazyDetails();
+            if (fieldSelection.contains(TaskSummaryResourceAssembler.CLASSIFICATION_SUMMARY_FIELD)) {
+                query.withClassificationDetails();
+            }
+            if (fieldSelection.contains(TaskSummaryResourceAssembler.ATTACHMENT_SUMMARIES_FIELD)) {
+                query.withAttachments();
+            }
+            result = getPagedQueryResult(params, query)
+                .map(task -> taskSummaryResourceAssembler.toProjectedResource(task, fieldSelection));
+        }
+        return taskSummaryResourceAssembler.toProjectedResources(result.getItems(), result.getPageMetadata());
+    }
+
     private TaskQuery applyFilterParams(TaskQuery taskQuery, MultiValueMap<String, String> params)
         throws InvalidArgumentException {
         if (LOGGER.isDebugEnabled()) {
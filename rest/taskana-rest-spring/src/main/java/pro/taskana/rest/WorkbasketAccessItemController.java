@@ -22,7 +22,6 @@ import pro.taskana.WorkbasketService;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.ldap.LdapClient;
-import pro.taskana.rest.resource.PagedResources.PageMetadata;
 import pro.taskana.rest.resource.WorkbasketAccessItemPaginatedListResource;
 import pro.taskana.rest.resource.WorkbasketAccessItemResourceAssembler;
 
@@ -78,12 +77,11 @@ public class WorkbasketAccessItemController extends AbstractPagingController {
         query = applyFilterParams(query, params);
         query = applySortingParams(query, params);
 
-        PageMetadata pageMetadata = getPageMetadata(params, query);
-        List<WorkbasketAccessItem> workbasketAccessItems = getQueryList(query, pageMetadata);
+        PagedQueryResult<WorkbasketAccessItem> result = getPagedQueryResult(params, query);
 
         WorkbasketAccessItemPaginatedListResource pagedResources = workbasketAccessItemResourceAssembler.toResources(
-            workbasketAccessItems,
-            pageMetadata);
+            result.getItems(),
+            result.getPageMetadata());
 
         ResponseEntity<WorkbasketAccessItemPaginatedListResource> response = ResponseEntity.ok(pagedResources);
         if (LOGGER.isDebugEnabled()) {
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import pro.taskana.BaseQuery.SortDirection;
 import pro.taskana.Workbasket;
@@ -41,13 +42,14 @@ import pro.taskana.impl.util.LoggerUtils;
 import pro.taskana.rest.resource.DistributionTargetListResource;
 import pro.taskana.rest.resource.DistributionTargetResource;
 import pro.taskana.rest.resource.DistributionTargetResourceAssembler;
-import pro.taskana.rest.resource.PagedResources.PageMetadata;
+import pro.taskana.rest.resource.FieldSelection;
+import pro.taskana.rest.resource.PagedResources;
+import pro.taskana.rest.resource.ProjectedResource;
 import pro.taskana.rest.resource.WorkbasketAccessItemListResource;
 import pro.taskana.rest.resource.WorkbasketAccessItemResource;
 import pro.taskana.rest.resource.WorkbasketAccessItemResourceAssembler;
 import pro.taskana.rest.resource.WorkbasketResource;
 import pro.taskana.rest.resource.WorkbasketResourceAssembler;
-import pro.taskana.rest.resource.WorkbasketSummaryListResource;
 import pro.taskana.rest.resource.WorkbasketSummaryResourceAssembler;
 
 /**
@@ -100,23 +102,33 @@ public class WorkbasketController extends AbstractPagingController {
 
     @GetMapping(path = Mapping.URL_WORKBASKET)
     @Transactional(readOnly = true, rollbackFor = Exception.class)
-    public ResponseEntity<WorkbasketSummaryListResource> getWorkbaskets(
+    public ResponseEntity<PagedResources<?>> getWorkbaskets(
         @RequestParam MultiValueMap<String, String> params) throws InvalidArgumentException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Entry to getWorkbaskets(params= {})", params);
         }
 
+        FieldSelection fieldSelection = getFieldSelection(params,
+            WorkbasketSummaryResourceAssembler.SELECTABLE_FIELDS);
         WorkbasketQuery query = workbasketService.createWorkbasketQuery();
         query = applySortingParams(query, params);
         query = applyFilterParams(query, params);
 
-        PageMetadata pageMetadata = getPageMetadata(params, query);
-        List<WorkbasketSummary> workbasketSummaries = getQueryList(query, pageMetadata);
-        WorkbasketSummaryListResource pagedResources = workbasketSummaryResourceAssembler.toResources(
-            workbasketSummaries,
-            pageMetadata);
+        PagedQueryResult<WorkbasketSummary> result = getPagedQueryResult(params, query);
+        PagedResources<?> pagedResources;
+        if (fieldSelection == null) {
+            pagedResources = workbasketSummaryResourceAssembler.toResources(
+                result.getItems(),
+                result.getPageMetadata());
+        } else {
+            PagedQueryResult<ProjectedResource> projections = result.map(
+                workbasket -> workbasketSummaryResourceAssembler.toProjectedResource(workbasket, fieldSelection));
+            pagedResources = workbasketSummaryResourceAssembler.toProjectedResources(
+                projections.getItems(),
+                projections.getPageMetadata());
+        }
 
-        ResponseEntity<WorkbasketSummaryListResource> response = ResponseEntity.ok(pagedResources);
+        ResponseEntity<PagedResources<?>> response = ResponseEntity.ok(pagedResources);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Exit from getWorkbaskets(), returning {}", response);
         }
@@ -126,12 +138,20 @@ public class WorkbasketController extends AbstractPagingController {
 
     @GetMapping(path = Mapping.URL_WORKBASKET_ID)
     @Transactional(readOnly = true, rollbackFor = Exception.class)
-    public ResponseEntity<WorkbasketResource> getWorkbasket(@PathVariable(value = "workbasketId") String workbasketId)
+    public ResponseEntity<WorkbasketResource> getWorkbasket(@PathVariable(value = "workbasketId") String workbasketId,
+        WebRequest request)
         throws WorkbasketNotFoundException, NotAuthorizedException {
         LOGGER.debug("Entry to getWorkbasket(workbasketId= {})", workbasketId);
+        if (ETags.isConditional(request)
+            && request.checkNotModified(ETags.of(workbasketService.getWorkbasketModified(workbasketId)))) {
+            LOGGER.debug("Exit from getWorkbasket(), workbasket {} is not modified", workbasketId);
+            return null;
+        }
         ResponseEntity<WorkbasketResource> result;
         Workbasket workbasket = workbasketService.getWorkbasket(workbasketId);
-        result = ResponseEntity.ok(workbasketResourceAssembler.toResource(workbasket));
+        result = ResponseEntity.ok()
+            .eTag(ETags.of(workbasket.getModified()))
+            .body(workbasketResourceAssembler.toResource(workbasket));
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Exit from getWorkbasket(), returning {}", result);
         }
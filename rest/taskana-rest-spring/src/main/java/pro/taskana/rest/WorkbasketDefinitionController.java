@@ -2,17 +2,20 @@ package pro.taskana.rest;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,13 +24,17 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import pro.taskana.Workbasket;
 import pro.taskana.WorkbasketAccessItem;
+import pro.taskana.WorkbasketDefinition;
+import pro.taskana.WorkbasketImportResult;
 import pro.taskana.WorkbasketQuery;
 import pro.taskana.WorkbasketService;
 import pro.taskana.WorkbasketSummary;
@@ -35,11 +42,8 @@ import pro.taskana.exceptions.DomainNotFoundException;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.InvalidWorkbasketException;
 import pro.taskana.exceptions.NotAuthorizedException;
-import pro.taskana.exceptions.WorkbasketAlreadyExistException;
-import pro.taskana.exceptions.WorkbasketNotFoundException;
 import pro.taskana.rest.resource.WorkbasketDefinitionResource;
 import pro.taskana.rest.resource.WorkbasketDefinitionResourceAssembler;
-import pro.taskana.rest.resource.WorkbasketResource;
 
 /**
  * Controller for all {@link WorkbasketDefinitionResource} related endpoints.
@@ -50,40 +54,93 @@ import pro.taskana.rest.resource.WorkbasketResource;
 public class WorkbasketDefinitionController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketDefinitionController.class);
+    private static final int EXPORT_CHUNK_SIZE = 1000;
 
     private WorkbasketService workbasketService;
 
     private WorkbasketDefinitionResourceAssembler workbasketDefinitionAssembler;
 
+    private ObjectMapper objectMapper;
+
     WorkbasketDefinitionController(
         WorkbasketService workbasketService,
-        WorkbasketDefinitionResourceAssembler workbasketDefinitionAssembler) {
+        WorkbasketDefinitionResourceAssembler workbasketDefinitionAssembler,
+        ObjectMapper objectMapper) {
         this.workbasketService = workbasketService;
         this.workbasketDefinitionAssembler = workbasketDefinitionAssembler;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping(path = Mapping.URL_WORKBASKETDEFIITIONS)
     @Transactional(readOnly = true, rollbackFor = Exception.class)
-    public ResponseEntity<List<WorkbasketDefinitionResource>> exportWorkbaskets(
-        @RequestParam(required = false) String domain)
-        throws NotAuthorizedException, WorkbasketNotFoundException {
+    public void exportWorkbaskets(@RequestParam(required = false) String domain, HttpServletResponse response)
+        throws NotAuthorizedException, IOException {
         LOGGER.debug("Entry to exportWorkbaskets(domain= {})", domain);
         WorkbasketQuery workbasketQuery = workbasketService.createWorkbasketQuery();
-        List<WorkbasketSummary> workbasketSummaryList = domain != null
-            ? workbasketQuery.domainIn(domain).list()
-            : workbasketQuery.list();
-        List<WorkbasketDefinitionResource> basketExports = new ArrayList<>();
-        for (WorkbasketSummary summary : workbasketSummaryList) {
-            Workbasket workbasket = workbasketService.getWorkbasket(summary.getId());
-            basketExports.add(workbasketDefinitionAssembler.toResource(workbasket));
+        if (domain != null) {
+            workbasketQuery.domainIn(domain);
         }
-
-        ResponseEntity<List<WorkbasketDefinitionResource>> response = ResponseEntity.ok(basketExports);
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Exit from exportWorkbaskets(), returning {}", response);
+        // the first chunk is loaded before anything is written, so that errors still lead to an error response
+        List<String> chunk = listWorkbasketIds(workbasketQuery, null);
+        List<WorkbasketDefinitionResource> definitions = loadWorkbasketDefinitions(chunk);
+        int exported = 0;
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+        // the chunks are flushed explicitly, not after every single definition
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            // a failed export must not be closed to a valid, but incomplete document
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartArray();
+            while (!chunk.isEmpty()) {
+                for (WorkbasketDefinitionResource definition : definitions) {
+                    writer.writeValue(generator, definition);
+                }
+                generator.flush();
+                exported += definitions.size();
+                // the next chunk is selected by the last id of this one, not by an offset
+                chunk = chunk.size() < EXPORT_CHUNK_SIZE
+                    ? Collections.emptyList()
+                    : listWorkbasketIds(workbasketQuery, chunk.get(chunk.size() - 1));
+                definitions = loadWorkbasketDefinitions(chunk);
+            }
+            generator.writeEndArray();
         }
+        LOGGER.debug("Exit from exportWorkbaskets(), exported {} workbaskets", exported);
+    }
 
-        return response;
+    private List<String> listWorkbasketIds(WorkbasketQuery workbasketQuery, String afterId) {
+        return workbasketQuery.listAfterId(afterId, EXPORT_CHUNK_SIZE)
+            .stream()
+            .map(WorkbasketSummary::getId)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the definitions of one chunk of the exported workbaskets, with one query each for the workbaskets, their
+     * access items and their distribution targets. Only one chunk is held in memory at a time.
+     *
+     * @param chunk
+     *            the ids of the workbaskets of the chunk
+     * @return the definitions of the chunk, which are empty if the chunk is empty
+     * @throws NotAuthorizedException
+     *             if the current user is not authorized to read the workbaskets
+     */
+    private List<WorkbasketDefinitionResource> loadWorkbasketDefinitions(List<String> chunk)
+        throws NotAuthorizedException {
+        List<WorkbasketDefinitionResource> definitions = new ArrayList<>();
+        if (chunk.isEmpty()) {
+            return definitions;
+        }
+        List<Workbasket> workbaskets = workbasketService.getWorkbaskets(chunk);
+        Map<String, List<WorkbasketAccessItem>> accessItems = workbasketService.getWorkbasketAccessItems(chunk);
+        Map<String, List<String>> distributionTargets = workbasketService.getDistributionTargetIds(chunk);
+        for (Workbasket workbasket : workbaskets) {
+            definitions.add(workbasketDefinitionAssembler.toResource(workbasket,
+                accessItems.getOrDefault(workbasket.getId(), Collections.emptyList()),
+                distributionTargets.getOrDefault(workbasket.getId(), Collections.emptyList())));
+        }
+        return definitions;
     }
 
     /**
@@ -103,10 +160,6 @@ public class WorkbasketDefinitionController {
      *             if domain information is incorrect.
      * @throws InvalidWorkbasketException
      *             if workbasket has invalid information.
-     * @throws WorkbasketAlreadyExistException
-     *             if workbasket already exists when trying to create a new one.
-     * @throws WorkbasketNotFoundException
-     *             if do not exists a workbasket in the system with the used id.
      * @throws InvalidArgumentException
      *             if authorization information in workbaskets definitions is incorrect.
      */
@@ -114,89 +167,40 @@ public class WorkbasketDefinitionController {
     @Transactional(rollbackFor = Exception.class)
     public ResponseEntity<Void> importWorkbaskets(@RequestParam("file") MultipartFile file)
         throws IOException, NotAuthorizedException, DomainNotFoundException, InvalidWorkbasketException,
-        WorkbasketAlreadyExistException, WorkbasketNotFoundException, InvalidArgumentException {
+        InvalidArgumentException {
         LOGGER.debug("Entry to importWorkbaskets()");
         ObjectMapper mapper = new ObjectMapper();
         mapper.enable(SerializationFeature.INDENT_OUTPUT);
         mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        List<WorkbasketDefinitionResource> definitions = mapper.readValue(file.getInputStream(),
+        List<WorkbasketDefinitionResource> definitionResources = mapper.readValue(file.getInputStream(),
             new TypeReference<List<WorkbasketDefinitionResource>>() {
 
             });
+        checkForDuplicates(definitionResources);
 
-        // key: logical ID
-        // value: system ID (in database)
-        Map<String, String> systemIds = workbasketService.createWorkbasketQuery()
-            .list()
-            .stream()
-            .collect(Collectors.toMap(this::logicalId, WorkbasketSummary::getId));
-        checkForDuplicates(definitions);
-
-        // key: old system ID
-        // value: system ID
-        Map<String, String> idConversion = new HashMap<>();
-
-        // STEP 1: update or create workbaskets from the import
-        for (WorkbasketDefinitionResource definition : definitions) {
-            Workbasket importedWb = workbasketDefinitionAssembler.toModel(definition.getWorkbasket());
-            Workbasket workbasket;
-            if (systemIds.containsKey(logicalId(importedWb))) {
-                workbasket = workbasketService.updateWorkbasket(importedWb);
-            } else {
-                Workbasket wbWithoutId = removeId(importedWb);
-                workbasket = workbasketService.createWorkbasket(wbWithoutId);
-            }
-
-            // Since we would have a n² runtime when doing a lookup and updating the access items we decided to
-            // simply delete all existing accessItems and create new ones.
-            for (WorkbasketAccessItem accessItem : workbasketService.getWorkbasketAccessItems(workbasket.getId())) {
-                workbasketService.deleteWorkbasketAccessItem(accessItem.getId());
+        List<WorkbasketDefinition> definitions = new ArrayList<>();
+        for (WorkbasketDefinitionResource definitionResource : definitionResources) {
+            List<WorkbasketAccessItem> accessItems = new ArrayList<>();
+            if (definitionResource.getAuthorizations() != null) {
+                accessItems.addAll(definitionResource.getAuthorizations());
             }
-            for (WorkbasketAccessItem authorization : definition.getAuthorizations()) {
-                workbasketService.createWorkbasketAccessItem(authorization);
-            }
-            idConversion.put(importedWb.getId(), workbasket.getId());
-        }
-
-        // STEP 2: update distribution targets
-        // This can not be done in step 1 because the system IDs are only known after step 1
-        for (WorkbasketDefinitionResource definition : definitions) {
-            List<String> distributionTargets = new ArrayList<>();
-            for (String oldId : definition.getDistributionTargets()) {
-                if (idConversion.containsKey(oldId)) {
-                    distributionTargets.add(idConversion.get(oldId));
-                } else {
-                    throw new InvalidWorkbasketException(
-                        String.format(
-                            "invalid import state: Workbasket '%s' does not exist in the given import list",
-                            oldId));
-                }
-            }
-
-            workbasketService.setDistributionTargets(
-                // no verification necessary since the workbasket was already imported in step 1.
-                idConversion.get(definition.getWorkbasket().getWorkbasketId()), distributionTargets);
+            definitions.add(new WorkbasketDefinition(
+                workbasketDefinitionAssembler.toModel(definitionResource.getWorkbasket()), accessItems,
+                definitionResource.getDistributionTargets()));
         }
+        WorkbasketImportResult result = workbasketService.importWorkbaskets(definitions, 0);
         ResponseEntity<Void> response = ResponseEntity.noContent().build();
-        LOGGER.debug("Exit from importWorkbaskets(), returning {}", response);
+        LOGGER.debug("Exit from importWorkbaskets() after {}, returning {}", result, response);
         return response;
     }
 
-    private Workbasket removeId(Workbasket importedWb) {
-        WorkbasketResource wbRes = new WorkbasketResource(importedWb);
-        wbRes.setWorkbasketId(null);
-        return workbasketDefinitionAssembler.toModel(wbRes);
-    }
-
     private void checkForDuplicates(List<WorkbasketDefinitionResource> definitions) {
-        List<String> identifiers = new ArrayList<>();
+        Set<String> identifiers = new HashSet<>();
         Set<String> duplicates = new HashSet<>();
         for (WorkbasketDefinitionResource definition : definitions) {
             String identifier = logicalId(workbasketDefinitionAssembler.toModel(definition.getWorkbasket()));
-            if (identifiers.contains(identifier)) {
+            if (!identifiers.add(identifier)) {
                 duplicates.add(identifier);
-            } else {
-                identifiers.add(identifier);
             }
         }
         if (!duplicates.isEmpty()) {
@@ -205,10 +209,6 @@ public class WorkbasketDefinitionController {
         }
     }
 
-    private String logicalId(WorkbasketSummary workbasket) {
-        return logicalId(workbasket.getKey(), workbasket.getDomain());
-    }
-
     private String logicalId(Workbasket workbasket) {
         return logicalId(workbasket.getKey(), workbasket.getDomain());
     }
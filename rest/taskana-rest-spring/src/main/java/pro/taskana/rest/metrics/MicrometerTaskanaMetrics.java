@@ -0,0 +1,79 @@
+package pro.taskana.rest.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import pro.taskana.metrics.MetricId;
+import pro.taskana.metrics.TaskanaMetrics;
+
+/**
+ * Passes the metrics of the engine on to a Micrometer registry. Latencies are recorded by timers and amounts by
+ * distribution summaries. The meters are registered once per name and tags and reused afterwards, so that recording
+ * a value does not build and look up the meter in the registry again. A percentile histogram is only published if it
+ * is enabled, because it adds a time series per bucket to every meter.
+ */
+public class MicrometerTaskanaMetrics implements TaskanaMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean publishPercentileHistogram;
+    private final ConcurrentMap<MetricId, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MetricId, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public MicrometerTaskanaMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, false);
+    }
+
+    public MicrometerTaskanaMetrics(MeterRegistry meterRegistry, boolean publishPercentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.publishPercentileHistogram = publishPercentileHistogram;
+    }
+
+    /**
+     * Creates the metrics for the meter registry of the application, if there is one. Micrometer is an optional
+     * dependency, so this method must only be called if it is on the classpath.
+     *
+     * @param beanFactory
+     *            the bean factory of the application
+     * @param publishPercentileHistogram
+     *            whether the meters publish a percentile histogram
+     * @return the metrics or null, if the application has no meter registry
+     */
+    public static TaskanaMetrics forMeterRegistryOf(AutowireCapableBeanFactory beanFactory,
+        boolean publishPercentileHistogram) {
+        try {
+            return new MicrometerTaskanaMetrics(beanFactory.resolveNamedBean(MeterRegistry.class).getBeanInstance(),
+                publishPercentileHistogram);
+        } catch (NoUniqueBeanDefinitionException e) {
+            throw e;
+        } catch (NoSuchBeanDefinitionException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void recordTime(String name, long durationInNanos, String... tags) {
+        timers.computeIfAbsent(new MetricId(name, tags), id -> Timer.builder(name)
+            .tags(tags)
+            .publishPercentileHistogram(publishPercentileHistogram)
+            .register(meterRegistry))
+            .record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordAmount(String name, double amount, String... tags) {
+        summaries.computeIfAbsent(new MetricId(name, tags), id -> DistributionSummary.builder(name)
+            .tags(tags)
+            .publishPercentileHistogram(publishPercentileHistogram)
+            .register(meterRegistry))
+            .record(amount);
+    }
+}
@@ -0,0 +1,39 @@
+package pro.taskana.rest.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration of the actuator endpoint of the metrics of the engine. Micrometer and the Spring Boot actuator are
+ * optional dependencies, so the endpoint is only registered if both are on the classpath.
+ */
+@Configuration
+@Conditional(TaskanaMetricsConfiguration.WithActuatorCondition.class)
+public class TaskanaMetricsConfiguration {
+
+    @Bean
+    public TaskanaMetricsEndpoint taskanaMetricsEndpoint(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TaskanaMetricsEndpoint(meterRegistry);
+    }
+
+    /**
+     * Helper class to control conditional provision of the TaskanaMetricsEndpoint.
+     */
+    public static class WithActuatorCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry", context.getClassLoader())
+                && ClassUtils.isPresent("org.springframework.boot.actuate.endpoint.annotation.Endpoint",
+                    context.getClassLoader());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package pro.taskana.rest.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Actuator endpoint that summarizes the metrics of the engine, i.e. all meters with a name starting with "taskana.".
+ * Each meter is listed with its tags, its count and the total, mean and maximum of the recorded values. Times are
+ * given in milliseconds. It is registered by {@link TaskanaMetricsConfiguration}.
+ */
+@Endpoint(id = "taskana")
+public class TaskanaMetricsEndpoint {
+
+    private static final String TASKANA_METRICS_PREFIX = "taskana.";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public TaskanaMetricsEndpoint(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, List<Map<String, Object>>> metrics() {
+        return summarize(name -> name.startsWith(TASKANA_METRICS_PREFIX));
+    }
+
+    @ReadOperation
+    public Map<String, List<Map<String, Object>>> metric(@Selector String name) {
+        return summarize(name::equals);
+    }
+
+    private Map<String, List<Map<String, Object>>> summarize(Predicate<String> nameFilter) {
+        Map<String, List<Map<String, Object>>> metrics = new TreeMap<>();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return metrics;
+        }
+        for (Meter meter : registry.getMeters()) {
+            String name = meter.getId().getName();
+            if (!name.startsWith(TASKANA_METRICS_PREFIX) || !nameFilter.test(name)) {
+                continue;
+            }
+            Map<String, Object> summary = summarize(meter);
+            if (summary != null) {
+                metrics.computeIfAbsent(name, key -> new ArrayList<>()).add(summary);
+            }
+        }
+        return metrics;
+    }
+
+    private Map<String, Object> summarize(Meter meter) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        Map<String, String> tags = new TreeMap<>();
+        for (Tag tag : meter.getId().getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        summary.put("tags", tags);
+        if (meter instanceof Timer) {
+            Timer timer = (Timer) meter;
+            summary.put("count", timer.count());
+            summary.put("total", timer.totalTime(TimeUnit.MILLISECONDS));
+            summary.put("mean", timer.mean(TimeUnit.MILLISECONDS));
+            summary.put("max", timer.max(TimeUnit.MILLISECONDS));
+        } else if (meter instanceof DistributionSummary) {
+            DistributionSummary distributionSummary = (DistributionSummary) meter;
+            summary.put("count", distributionSummary.count());
+            summary.put("total", distributionSummary.totalAmount());
+            summary.put("mean", distributionSummary.mean());
+            summary.put("max", distributionSummary.max());
+        } else {
+            return null;
+        }
+        return summary;
+    }
+}
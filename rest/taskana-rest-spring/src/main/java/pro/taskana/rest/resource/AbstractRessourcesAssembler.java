@@ -43,16 +43,18 @@ public abstract class AbstractRessourcesAssembler {
         UriComponentsBuilder original = getBuilderForOriginalUri();
         pagedResources.add(
             (new Link(original.replaceQueryParam("page", 1).toUriString())).withRel("first"));
-        pagedResources.add((new Link(
-            original.replaceQueryParam("page", pageMetadata.getTotalPages()).toUriString())).withRel(
-                "last"));
+        if (pageMetadata.hasTotal()) {
+            pagedResources.add((new Link(
+                original.replaceQueryParam("page", pageMetadata.getTotalPages()).toUriString())).withRel(
+                    "last"));
+        }
         if (pageMetadata.getNumber() > 1L) {
             pagedResources.add((new Link(
                 original.replaceQueryParam("page", pageMetadata.getNumber() - 1L)
                     .toUriString())).withRel("prev"));
         }
 
-        if (pageMetadata.getNumber() < pageMetadata.getTotalPages()) {
+        if (pageMetadata.hasNext()) {
             pagedResources.add((new Link(
                 original.replaceQueryParam("page", pageMetadata.getNumber() + 1L)
                     .toUriString())).withRel("next"));
@@ -0,0 +1,82 @@
+package pro.taskana.rest.resource;
+
+import pro.taskana.ClassificationImportResult;
+
+/**
+ * Resource class for the {@link ClassificationImportResult} of an import of classification definitions.
+ */
+public class ClassificationImportResultResource {
+
+    private long createdCount;
+    private long updatedCount;
+    private long unchangedCount;
+    private int chunkCount;
+    private String duration;
+    private double classificationsPerSecond;
+
+    public ClassificationImportResultResource() {
+    }
+
+    public ClassificationImportResultResource(ClassificationImportResult result) {
+        this.createdCount = result.getCreatedCount();
+        this.updatedCount = result.getUpdatedCount();
+        this.unchangedCount = result.getUnchangedCount();
+        this.chunkCount = result.getChunkCount();
+        this.duration = result.getDuration() == null ? null : result.getDuration().toString();
+        this.classificationsPerSecond = result.getClassificationsPerSecond();
+    }
+
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(long createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public void setUpdatedCount(long updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+
+    public long getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    public void setUnchangedCount(long unchangedCount) {
+        this.unchangedCount = unchangedCount;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+
+    public String getDuration() {
+        return duration;
+    }
+
+    public void setDuration(String duration) {
+        this.duration = duration;
+    }
+
+    public double getClassificationsPerSecond() {
+        return classificationsPerSecond;
+    }
+
+    public void setClassificationsPerSecond(double classificationsPerSecond) {
+        this.classificationsPerSecond = classificationsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassificationImportResultResource [createdCount=" + createdCount + ", updatedCount=" + updatedCount
+            + ", unchangedCount=" + unchangedCount + ", chunkCount=" + chunkCount + ", duration=" + duration + "]";
+    }
+}
@@ -0,0 +1,26 @@
+package pro.taskana.rest.resource;
+
+import java.util.Collection;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Resource class for projections of {@link ClassificationSummaryResource} to the selected fields, with pagination.
+ */
+public class ClassificationSummaryProjectionListResource extends PagedResources<ProjectedResource> {
+
+    public ClassificationSummaryProjectionListResource() {
+        super();
+    }
+
+    public ClassificationSummaryProjectionListResource(Collection<ProjectedResource> content, PageMetadata metadata) {
+        super(content, metadata);
+    }
+
+    @Override
+    @JsonProperty("classifications")
+    public Collection<ProjectedResource> getContent() {
+        return super.getContent();
+    }
+
+}
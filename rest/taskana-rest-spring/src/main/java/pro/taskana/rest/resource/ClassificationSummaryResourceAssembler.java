@@ -1,6 +1,8 @@
 package pro.taskana.rest.resource;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +24,9 @@ import pro.taskana.rest.resource.links.PageLinks;
 public class ClassificationSummaryResourceAssembler
     extends ResourceAssemblerSupport<ClassificationSummary, ClassificationSummaryResource> {
 
+    public static final Set<String> SELECTABLE_FIELDS = FieldSelection.selectablePropertiesOf(
+        ClassificationSummaryResource.class);
+
     @Autowired
     private ClassificationService classificationService;
 
@@ -49,4 +54,15 @@ public class ClassificationSummaryResourceAssembler
         PageMetadata pageMetadata) {
         return new ClassificationSummaryListResource(toResources(entities), pageMetadata);
     }
+
+    public ProjectedResource toProjectedResource(ClassificationSummary classificationSummary,
+        FieldSelection fieldSelection) {
+        return fieldSelection.project(toResource(classificationSummary));
+    }
+
+    @PageLinks(Mapping.URL_CLASSIFICATIONS)
+    public ClassificationSummaryProjectionListResource toProjectedResources(List<ProjectedResource> projections,
+        PageMetadata pageMetadata) {
+        return new ClassificationSummaryProjectionListResource(projections, pageMetadata);
+    }
 }
@@ -37,7 +37,7 @@ public class DistributionTargetResourceAssembler extends
             .add(linkTo(methodOn(WorkbasketController.class).getDistributionTargets(workbasketId))
                 .withSelfRel());
         distributionTargetListResource
-            .add(linkTo(methodOn(WorkbasketController.class).getWorkbasket(workbasketId))
+            .add(linkTo(methodOn(WorkbasketController.class).getWorkbasket(workbasketId, null))
                 .withRel("workbasket"));
 
         return distributionTargetListResource;
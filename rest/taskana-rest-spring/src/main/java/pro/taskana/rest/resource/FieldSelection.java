@@ -0,0 +1,73 @@
+package pro.taskana.rest.resource;
+
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+/**
+ * The properties of a resource that were selected with the fields parameter of a list request. A resource that is
+ * projected to a selection only contains the selected properties and no links.
+ */
+public class FieldSelection {
+
+    private static final List<String> NOT_SELECTABLE_PROPERTIES = Arrays.asList("class", "id", "links");
+
+    private final Set<String> fields;
+
+    public FieldSelection(Collection<String> fields) {
+        this.fields = Collections.unmodifiableSet(new LinkedHashSet<>(fields));
+    }
+
+    /**
+     * Returns the names of the properties of a resource class that can be selected.
+     *
+     * @param resourceClass
+     *            the class of the resource
+     * @return the names of the readable properties without the links
+     */
+    public static Set<String> selectablePropertiesOf(Class<?> resourceClass) {
+        return Arrays.stream(BeanUtils.getPropertyDescriptors(resourceClass))
+            .filter(descriptor -> descriptor.getReadMethod() != null)
+            .map(PropertyDescriptor::getName)
+            .filter(name -> !NOT_SELECTABLE_PROPERTIES.contains(name))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    public boolean contains(String field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * Copies the selected properties of a resource into a {@link ProjectedResource}.
+     *
+     * @param resource
+     *            the complete resource
+     * @return the projection of the resource
+     */
+    public ProjectedResource project(Object resource) {
+        BeanWrapper wrapper = new BeanWrapperImpl(resource);
+        ProjectedResource projection = new ProjectedResource();
+        for (String field : fields) {
+            projection.setProperty(field, wrapper.getPropertyValue(field));
+        }
+        return projection;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldSelection [fields=" + fields + "]";
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -100,6 +101,10 @@ public class PagedResources<T> extends ResourceSupport {
         @XmlAttribute
         @JsonProperty
         private long number;
+        @XmlAttribute
+        @JsonProperty
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Boolean hasNext;
 
         protected PageMetadata() {
 
@@ -143,6 +148,30 @@ public class PagedResources<T> extends ResourceSupport {
             this(size, number, totalElements, size == 0 ? 0 : (long) Math.ceil((double) totalElements / (double) size));
         }
 
+        /**
+         * Creates a new {@link PageMetadata} for a page whose total number of elements was not counted. The total
+         * elements and total pages are reported as -1.
+         *
+         * @param size
+         *            the size of the page
+         * @param number
+         *            the number of the page
+         * @param hasNext
+         *            whether there are elements after this page
+         * @return the metadata of the page
+         */
+        public static PageMetadata withoutTotal(long size, long number, boolean hasNext) {
+            Assert.isTrue(size > -1, "Size must not be negative!");
+            Assert.isTrue(number > -1, "Number must not be negative!");
+            PageMetadata pageMetadata = new PageMetadata();
+            pageMetadata.size = size;
+            pageMetadata.number = number;
+            pageMetadata.totalElements = -1;
+            pageMetadata.totalPages = -1;
+            pageMetadata.hasNext = hasNext;
+            return pageMetadata;
+        }
+
         /**
          * Returns the requested size of the page.
          *
@@ -179,6 +208,24 @@ public class PagedResources<T> extends ResourceSupport {
             return number;
         }
 
+        /**
+         * Returns whether the total number of elements is known.
+         *
+         * @return false, if the page was requested without counting the elements
+         */
+        public boolean hasTotal() {
+            return hasNext == null;
+        }
+
+        /**
+         * Returns whether there are elements after this page.
+         *
+         * @return true, if there is a next page
+         */
+        public boolean hasNext() {
+            return hasNext != null ? hasNext : number < totalPages;
+        }
+
         /*
          * (non-Javadoc)
          * @see java.lang.Object#toString()
@@ -0,0 +1,35 @@
+package pro.taskana.rest.resource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+
+/**
+ * Resource that only contains the properties of a {@link FieldSelection}. The properties are serialized like the ones
+ * of the complete resource, in the order in which they were selected.
+ */
+public class ProjectedResource {
+
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+
+    @JsonAnyGetter
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    public Object getProperty(String name) {
+        return properties.get(name);
+    }
+
+    @JsonAnySetter
+    public void setProperty(String name, Object value) {
+        properties.put(name, value);
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectedResource [properties=" + properties + "]";
+    }
+}
@@ -0,0 +1,38 @@
+package pro.taskana.rest.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.hateoas.ResourceSupport;
+
+/**
+ * Resource class for a batch of task changes. The sequence number of the last change in the batch is the position
+ * from which the next batch has to be requested.
+ */
+public class TaskChangeListResource extends ResourceSupport {
+
+    private List<TaskChangeResource> changes = new ArrayList<>();
+    private long lastSequenceNumber;
+
+    public List<TaskChangeResource> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<TaskChangeResource> changes) {
+        this.changes = changes;
+    }
+
+    public long getLastSequenceNumber() {
+        return lastSequenceNumber;
+    }
+
+    public void setLastSequenceNumber(long lastSequenceNumber) {
+        this.lastSequenceNumber = lastSequenceNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskChangeListResource [changes=" + changes.size() + ", lastSequenceNumber=" + lastSequenceNumber
+            + "]";
+    }
+}
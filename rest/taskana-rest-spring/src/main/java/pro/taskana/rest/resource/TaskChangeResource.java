@@ -0,0 +1,102 @@
+package pro.taskana.rest.resource;
+
+import pro.taskana.TaskChange;
+
+/**
+ * Resource class for a single {@link TaskChange}.
+ */
+public class TaskChangeResource {
+
+    private long sequenceNumber;
+    private String taskId;
+    private String externalId;
+    private String changeType;
+    private String workbasketId;
+    private String state;
+    private String changed;
+    private String changedBy;
+
+    public TaskChangeResource() {
+    }
+
+    public TaskChangeResource(TaskChange taskChange) {
+        this.sequenceNumber = taskChange.getSequenceNumber();
+        this.taskId = taskChange.getTaskId();
+        this.externalId = taskChange.getExternalId();
+        this.changeType = taskChange.getChangeType() == null ? null : taskChange.getChangeType().name();
+        this.workbasketId = taskChange.getWorkbasketId();
+        this.state = taskChange.getState() == null ? null : taskChange.getState().name();
+        this.changed = taskChange.getChanged() == null ? null : taskChange.getChanged().toString();
+        this.changedBy = taskChange.getChangedBy();
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getExternalId() {
+        return externalId;
+    }
+
+    public void setExternalId(String externalId) {
+        this.externalId = externalId;
+    }
+
+    public String getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(String changeType) {
+        this.changeType = changeType;
+    }
+
+    public String getWorkbasketId() {
+        return workbasketId;
+    }
+
+    public void setWorkbasketId(String workbasketId) {
+        this.workbasketId = workbasketId;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getChanged() {
+        return changed;
+    }
+
+    public void setChanged(String changed) {
+        this.changed = changed;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskChangeResource [sequenceNumber=" + sequenceNumber + ", taskId=" + taskId + ", changeType="
+            + changeType + ", workbasketId=" + workbasketId + ", state=" + state + "]";
+    }
+}
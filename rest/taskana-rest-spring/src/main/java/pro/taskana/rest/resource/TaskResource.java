@@ -59,6 +59,7 @@ public class TaskResource extends ResourceSupport {
     private String custom14;
     private String custom15;
     private String custom16;
+    private Integer version;
 
     public TaskResource() {
     }
@@ -115,6 +116,7 @@ public class TaskResource extends ResourceSupport {
         custom14 = task.getCustomAttribute("14");
         custom15 = task.getCustomAttribute("15");
         custom16 = task.getCustomAttribute("16");
+        version = task.getVersion();
 
     }
 
@@ -446,6 +448,14 @@ public class TaskResource extends ResourceSupport {
         this.custom16 = custom16;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "TaskResource ["
@@ -462,6 +472,7 @@ public class TaskResource extends ResourceSupport {
             + "description= " + this.description
             + "priority= " + this.priority
             + "owner= " + this.owner
+            + "version= " + this.version
             + "]";
     }
 
@@ -58,7 +58,10 @@ public class TaskResourceAssembler
         TaskImpl task = (TaskImpl) taskService.newTask(resource.getWorkbasketSummaryResource().getWorkbasketId());
         task.setId(resource.getTaskId());
         task.setExternalId(resource.getExternalId());
-        BeanUtils.copyProperties(resource, task);
+        BeanUtils.copyProperties(resource, task, "version");
+        if (resource.getVersion() != null) {
+            task.setVersion(resource.getVersion());
+        }
         if (resource.getCreated() != null) {
             task.setCreated(Instant.parse(resource.getCreated()));
         }
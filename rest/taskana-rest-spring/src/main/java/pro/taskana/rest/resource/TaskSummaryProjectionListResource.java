@@ -0,0 +1,26 @@
+package pro.taskana.rest.resource;
+
+import java.util.Collection;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Resource class for projections of {@link TaskSummaryResource} to the selected fields, with pagination.
+ */
+public class TaskSummaryProjectionListResource extends PagedResources<ProjectedResource> {
+
+    public TaskSummaryProjectionListResource() {
+        super();
+    }
+
+    public TaskSummaryProjectionListResource(Collection<ProjectedResource> content, PageMetadata metadata) {
+        super(content, metadata);
+    }
+
+    @Override
+    @JsonProperty("tasks")
+    public Collection<ProjectedResource> getContent() {
+        return super.getContent();
+    }
+
+}
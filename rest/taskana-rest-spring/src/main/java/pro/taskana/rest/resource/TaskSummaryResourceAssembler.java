@@ -1,10 +1,45 @@
 package pro.taskana.rest.resource;
 
+import static pro.taskana.TaskQueryColumnName.BUSINESS_PROCESS_ID;
+import static pro.taskana.TaskQueryColumnName.CLAIMED;
+import static pro.taskana.TaskQueryColumnName.COMPLETED;
+import static pro.taskana.TaskQueryColumnName.CREATED;
+import static pro.taskana.TaskQueryColumnName.CREATOR;
+import static pro.taskana.TaskQueryColumnName.DUE;
+import static pro.taskana.TaskQueryColumnName.EXTERNAL_ID;
+import static pro.taskana.TaskQueryColumnName.ID;
+import static pro.taskana.TaskQueryColumnName.IS_READ;
+import static pro.taskana.TaskQueryColumnName.IS_TRANSFERRED;
+import static pro.taskana.TaskQueryColumnName.MODIFIED;
+import static pro.taskana.TaskQueryColumnName.NAME;
+import static pro.taskana.TaskQueryColumnName.NOTE;
+import static pro.taskana.TaskQueryColumnName.OWNER;
+import static pro.taskana.TaskQueryColumnName.PARENT_BUSINESS_PROCESS_ID;
+import static pro.taskana.TaskQueryColumnName.PLANNED;
+import static pro.taskana.TaskQueryColumnName.POR_COMPANY;
+import static pro.taskana.TaskQueryColumnName.POR_INSTANCE;
+import static pro.taskana.TaskQueryColumnName.POR_SYSTEM;
+import static pro.taskana.TaskQueryColumnName.POR_TYPE;
+import static pro.taskana.TaskQueryColumnName.POR_VALUE;
+import static pro.taskana.TaskQueryColumnName.PRIORITY;
+import static pro.taskana.TaskQueryColumnName.STATE;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.hateoas.mvc.ResourceAssemblerSupport;
 import org.springframework.stereotype.Component;
 
+import pro.taskana.ObjectReference;
+import pro.taskana.TaskQueryColumnName;
+import pro.taskana.TaskQueryRow;
 import pro.taskana.TaskSummary;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.SystemException;
@@ -20,6 +55,54 @@ import pro.taskana.rest.resource.links.PageLinks;
 public class TaskSummaryResourceAssembler
     extends ResourceAssemblerSupport<TaskSummary, TaskSummaryResource> {
 
+    public static final String CLASSIFICATION_SUMMARY_FIELD = "classificationSummaryResource";
+    public static final String WORKBASKET_SUMMARY_FIELD = "workbasketSummaryResource";
+    public static final String ATTACHMENT_SUMMARIES_FIELD = "attachmentSummaries";
+    public static final Set<String> SELECTABLE_FIELDS = FieldSelection.selectablePropertiesOf(
+        TaskSummaryResource.class);
+
+    // the fields of the resource with the task columns they are read from and how their values are projected
+    private static final Map<String, Field> FIELDS = new HashMap<>();
+
+    static {
+        addField("taskId", ID, TaskSummary::getTaskId);
+        addField("externalId", EXTERNAL_ID, TaskSummary::getExternalId);
+        addInstantField("created", CREATED, TaskSummary::getCreated);
+        addInstantField("claimed", CLAIMED, TaskSummary::getClaimed);
+        addInstantField("completed", COMPLETED, TaskSummary::getCompleted);
+        addInstantField("modified", MODIFIED, TaskSummary::getModified);
+        addInstantField("planned", PLANNED, TaskSummary::getPlanned);
+        addInstantField("due", DUE, TaskSummary::getDue);
+        addField("name", NAME, TaskSummary::getName);
+        addField("creator", CREATOR, TaskSummary::getCreator);
+        addField("note", NOTE, TaskSummary::getNote);
+        FIELDS.put("priority", new Field(new TaskQueryColumnName[] {PRIORITY},
+            row -> row.getInteger(PRIORITY) != null ? row.getInteger(PRIORITY) : 0, TaskSummary::getPriority));
+        addField("state", STATE, TaskSummary::getState);
+        addField("businessProcessId", BUSINESS_PROCESS_ID, TaskSummary::getBusinessProcessId);
+        addField("parentBusinessProcessId", PARENT_BUSINESS_PROCESS_ID, TaskSummary::getParentBusinessProcessId);
+        addField("owner", OWNER, TaskSummary::getOwner);
+        FIELDS.put("primaryObjRef", new Field(
+            new TaskQueryColumnName[] {POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE},
+            TaskSummaryResourceAssembler::toObjectReference, TaskSummary::getPrimaryObjRef));
+        addBooleanField("read", IS_READ, TaskSummary::isRead);
+        addBooleanField("transferred", IS_TRANSFERRED, TaskSummary::isTransferred);
+        for (int i = 1; i <= 16; i++) {
+            String num = String.valueOf(i);
+            addField("custom" + i, TaskQueryColumnName.valueOf("CUSTOM_" + i),
+                taskSummary -> getCustomAttribute(taskSummary, num));
+        }
+        // the summaries of other entities are not part of the task row
+        FIELDS.put(CLASSIFICATION_SUMMARY_FIELD, new Field(null, null,
+            taskSummary -> new ClassificationSummaryResource(taskSummary.getClassificationSummary())));
+        FIELDS.put(WORKBASKET_SUMMARY_FIELD, new Field(null, null,
+            taskSummary -> new WorkbasketSummaryResource(taskSummary.getWorkbasketSummary())));
+        FIELDS.put(ATTACHMENT_SUMMARIES_FIELD, new Field(null, null,
+            taskSummary -> taskSummary.getAttachmentSummaries().stream()
+                .map(AttachmentSummaryResource::new)
+                .collect(Collectors.toList())));
+    }
+
     public TaskSummaryResourceAssembler() {
         super(TaskController.class, TaskSummaryResource.class);
     }
@@ -40,4 +123,120 @@ public class TaskSummaryResourceAssembler
         return new TaskSummaryListResource(toResources(taskSummaries), pageMetadata);
     }
 
+    @PageLinks(Mapping.URL_TASKS)
+    public TaskSummaryProjectionListResource toProjectedResources(List<ProjectedResource> projections,
+        PageMetadata pageMetadata) {
+        return new TaskSummaryProjectionListResource(projections, pageMetadata);
+    }
+
+    /**
+     * Returns the task columns that contain all selected fields.
+     *
+     * @param fieldSelection
+     *            the selected fields
+     * @return the columns or null, if a summary of the workbasket, the classification or the attachments is selected
+     */
+    public TaskQueryColumnName[] getColumnsOf(FieldSelection fieldSelection) {
+        Set<TaskQueryColumnName> columns = new LinkedHashSet<>();
+        for (String field : fieldSelection.getFields()) {
+            Field selectedField = FIELDS.get(field);
+            if (selectedField == null || selectedField.columns == null) {
+                return null;
+            }
+            columns.addAll(Arrays.asList(selectedField.columns));
+        }
+        return columns.toArray(new TaskQueryColumnName[0]);
+    }
+
+    /**
+     * Projects a task row that was selected with the columns of {@link #getColumnsOf(FieldSelection)}.
+     *
+     * @param row
+     *            the task row
+     * @param fieldSelection
+     *            the selected fields
+     * @return the projection with the selected fields
+     */
+    public ProjectedResource toProjectedResource(TaskQueryRow row, FieldSelection fieldSelection) {
+        ProjectedResource projection = new ProjectedResource();
+        for (String field : fieldSelection.getFields()) {
+            projection.setProperty(field, FIELDS.get(field).fromRow.apply(row));
+        }
+        return projection;
+    }
+
+    /**
+     * Projects a task summary. Only the summaries of other entities that are selected are accessed.
+     *
+     * @param taskSummary
+     *            the task summary
+     * @param fieldSelection
+     *            the selected fields
+     * @return the projection with the selected fields
+     */
+    public ProjectedResource toProjectedResource(TaskSummary taskSummary, FieldSelection fieldSelection) {
+        ProjectedResource projection = new ProjectedResource();
+        for (String field : fieldSelection.getFields()) {
+            projection.setProperty(field, FIELDS.get(field).fromSummary.apply(taskSummary));
+        }
+        return projection;
+    }
+
+    private static void addField(String field, TaskQueryColumnName column,
+        Function<TaskSummary, Object> fromSummary) {
+        FIELDS.put(field, new Field(new TaskQueryColumnName[] {column}, row -> row.getString(column), fromSummary));
+    }
+
+    private static void addInstantField(String field, TaskQueryColumnName column,
+        Function<TaskSummary, Instant> fromSummary) {
+        FIELDS.put(field, new Field(new TaskQueryColumnName[] {column}, row -> toIsoString(row.getInstant(column)),
+            taskSummary -> toIsoString(fromSummary.apply(taskSummary))));
+    }
+
+    private static void addBooleanField(String field, TaskQueryColumnName column,
+        Function<TaskSummary, Boolean> fromSummary) {
+        FIELDS.put(field, new Field(new TaskQueryColumnName[] {column},
+            row -> Boolean.TRUE.equals(row.getBoolean(column)), fromSummary::apply));
+    }
+
+    private static ObjectReference toObjectReference(TaskQueryRow row) {
+        ObjectReference objectReference = new ObjectReference();
+        objectReference.setCompany(row.getString(POR_COMPANY));
+        objectReference.setSystem(row.getString(POR_SYSTEM));
+        objectReference.setSystemInstance(row.getString(POR_INSTANCE));
+        objectReference.setType(row.getString(POR_TYPE));
+        objectReference.setValue(row.getString(POR_VALUE));
+        return objectReference;
+    }
+
+    private static String getCustomAttribute(TaskSummary taskSummary, String num) {
+        try {
+            return taskSummary.getCustomAttribute(num);
+        } catch (InvalidArgumentException e) {
+            throw new SystemException("caught unexpected Exception.", e.getCause());
+        }
+    }
+
+    private static String toIsoString(Instant instant) {
+        return instant != null ? instant.toString() : null;
+    }
+
+    /**
+     * A selectable field of the resource.
+     */
+    private static final class Field {
+
+        // the task columns the field is read from, null if it is not part of the task row
+        private final TaskQueryColumnName[] columns;
+        private final Function<TaskQueryRow, Object> fromRow;
+        private final Function<TaskSummary, Object> fromSummary;
+
+        Field(TaskQueryColumnName[] columns, Function<TaskQueryRow, Object> fromRow,
+            Function<TaskSummary, Object> fromSummary) {
+            this.columns = columns;
+            this.fromRow = fromRow;
+            this.fromSummary = fromSummary;
+        }
+    }
+
 }
@@ -63,7 +63,7 @@ public class WorkbasketAccessItemResourceAssembler extends
             .add(linkTo(methodOn(WorkbasketController.class).getWorkbasketAccessItems(workbasketId))
                 .withSelfRel());
         accessItemListResource
-            .add(linkTo(methodOn(WorkbasketController.class).getWorkbasket(workbasketId))
+            .add(linkTo(methodOn(WorkbasketController.class).getWorkbasket(workbasketId, null))
                 .withRel("workbasket"));
         return accessItemListResource;
     }
@@ -2,6 +2,8 @@ package pro.taskana.rest.resource;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -43,17 +45,36 @@ public class WorkbasketDefinitionResourceAssembler {
      */
     public WorkbasketDefinitionResource toResource(Workbasket workbasket)
         throws NotAuthorizedException, WorkbasketNotFoundException {
+        List<String> distroTargets = workbasketService.getDistributionTargets(workbasket.getId())
+            .stream()
+            .map(WorkbasketSummary::getId)
+            .collect(Collectors.toList());
+        return toResource(workbasket, workbasketService.getWorkbasketAccessItems(workbasket.getId()), distroTargets);
+    }
+
+    /**
+     * maps a workbasket whose access items and distribution targets have already been loaded, e.g. in bulk for an
+     * export, without accessing the database.
+     *
+     * @param workbasket
+     *            {@link Workbasket} which will be converted
+     * @param accessItems
+     *            the access items of the {@code workbasket}
+     * @param distroTargetIds
+     *            the ids of the distribution targets of the {@code workbasket}
+     * @return a {@link WorkbasketDefinitionResource}, containing the {@code basket}, its distribution targets and its
+     *         authorizations
+     */
+    public WorkbasketDefinitionResource toResource(Workbasket workbasket, List<WorkbasketAccessItem> accessItems,
+        Collection<String> distroTargetIds) {
 
         WorkbasketResourceWithoutLinks basket = new WorkbasketResourceWithoutLinks(workbasket);
 
         List<WorkbasketAccessItemImpl> authorizations = new ArrayList<>();
-        for (WorkbasketAccessItem accessItem : workbasketService.getWorkbasketAccessItems(basket.getWorkbasketId())) {
+        for (WorkbasketAccessItem accessItem : accessItems) {
             authorizations.add((WorkbasketAccessItemImpl) accessItem);
         }
-        Set<String> distroTargets = workbasketService.getDistributionTargets(workbasket.getId())
-            .stream()
-            .map(WorkbasketSummary::getId)
-            .collect(Collectors.toSet());
+        Set<String> distroTargets = new HashSet<>(distroTargetIds);
         return new WorkbasketDefinitionResource(basket, distroTargets, authorizations);
     }
 
@@ -46,7 +46,7 @@ public class WorkbasketResourceAssembler {
 
     private WorkbasketResource addLinks(WorkbasketResource resource, Workbasket wb)
         throws NotAuthorizedException, WorkbasketNotFoundException {
-        resource.add(linkTo(methodOn(WorkbasketController.class).getWorkbasket(wb.getId())).withSelfRel());
+        resource.add(linkTo(methodOn(WorkbasketController.class).getWorkbasket(wb.getId(), null)).withSelfRel());
         resource.add(linkTo(methodOn(WorkbasketController.class).getDistributionTargets(wb.getId()))
             .withRel("distributionTargets"));
         resource.add(linkTo(methodOn(WorkbasketController.class).getWorkbasketAccessItems(wb.getId()))
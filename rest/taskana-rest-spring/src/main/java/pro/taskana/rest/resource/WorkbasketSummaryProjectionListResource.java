@@ -0,0 +1,26 @@
+package pro.taskana.rest.resource;
+
+import java.util.Collection;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Resource class for projections of {@link WorkbasketSummaryResource} to the selected fields, with pagination.
+ */
+public class WorkbasketSummaryProjectionListResource extends PagedResources<ProjectedResource> {
+
+    public WorkbasketSummaryProjectionListResource() {
+        super();
+    }
+
+    public WorkbasketSummaryProjectionListResource(Collection<ProjectedResource> content, PageMetadata metadata) {
+        super(content, metadata);
+    }
+
+    @Override
+    @JsonProperty("workbaskets")
+    public Collection<ProjectedResource> getContent() {
+        return super.getContent();
+    }
+
+}
@@ -1,6 +1,7 @@
 package pro.taskana.rest.resource;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +23,9 @@ import pro.taskana.rest.resource.links.PageLinks;
 public class WorkbasketSummaryResourceAssembler
     extends ResourceAssemblerSupport<WorkbasketSummary, WorkbasketSummaryResource> {
 
+    public static final Set<String> SELECTABLE_FIELDS = FieldSelection.selectablePropertiesOf(
+        WorkbasketSummaryResource.class);
+
     @Autowired
     private WorkbasketService workbasketService;
 
@@ -40,6 +44,16 @@ public class WorkbasketSummaryResourceAssembler
         return new WorkbasketSummaryListResource(toResources(entities), pageMetadata);
     }
 
+    public ProjectedResource toProjectedResource(WorkbasketSummary workbasketSummary, FieldSelection fieldSelection) {
+        return fieldSelection.project(toResource(workbasketSummary));
+    }
+
+    @PageLinks(Mapping.URL_WORKBASKET)
+    public WorkbasketSummaryProjectionListResource toProjectedResources(List<ProjectedResource> projections,
+        PageMetadata pageMetadata) {
+        return new WorkbasketSummaryProjectionListResource(projections, pageMetadata);
+    }
+
     public WorkbasketSummary toModel(WorkbasketSummaryResource resource) {
         WorkbasketImpl workbasket = (WorkbasketImpl) workbasketService
             .newWorkbasket(resource.getKey(), resource.getDomain());
@@ -41,14 +41,16 @@ public class PageLinksAspect {
         resourceSupport.add(new Link(original.toUriString()).withSelfRel());
         if (page != null) {
             resourceSupport.add(new Link(original.replaceQueryParam("page", 1).toUriString()).withRel(Link.REL_FIRST));
-            resourceSupport.add(new Link(original.replaceQueryParam("page", page.getTotalPages()).toUriString())
-                .withRel(Link.REL_LAST));
+            if (page.hasTotal()) {
+                resourceSupport.add(new Link(original.replaceQueryParam("page", page.getTotalPages()).toUriString())
+                    .withRel(Link.REL_LAST));
+            }
             if (page.getNumber() > 1) {
                 resourceSupport
                     .add(new Link(original.replaceQueryParam("page", page.getNumber() - 1).toUriString())
                         .withRel(Link.REL_PREVIOUS));
             }
-            if (page.getNumber() < page.getTotalPages()) {
+            if (page.hasNext()) {
                 resourceSupport
                     .add(new Link(original.replaceQueryParam("page", page.getNumber() + 1).toUriString())
                         .withRel(Link.REL_NEXT));
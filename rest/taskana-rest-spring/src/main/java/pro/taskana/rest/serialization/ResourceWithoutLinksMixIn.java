@@ -0,0 +1,11 @@
+package pro.taskana.rest.serialization;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * This class is used to write resources without their links, e.g. the task summaries of a stream.
+ */
+@JsonIgnoreProperties({"links", "_links"})
+public abstract class ResourceWithoutLinksMixIn {
+
+}
@@ -1,11 +1,15 @@
 package pro.taskana;
 
+import java.nio.charset.StandardCharsets;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.hateoas.hal.Jackson2HalModule;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -71,6 +75,9 @@ public class RestHelper {
         RestTemplate template = new RestTemplate();
         //important to add first to ensure priority
         template.getMessageConverters().add(0, converter);
+        // raw bodies are read as they are, the HAL converter would expect a JSON string
+        template.getMessageConverters().add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+        template.getMessageConverters().add(0, new ByteArrayHttpMessageConverter());
         return template;
     }
 }
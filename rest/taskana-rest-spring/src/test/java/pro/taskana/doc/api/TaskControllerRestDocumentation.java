@@ -90,6 +90,9 @@ class TaskControllerRestDocumentation extends BaseRestDocumentation {
         taskFieldDescriptionsMap.put("custom14", "A custom property with name \"14\"");
         taskFieldDescriptionsMap.put("custom15", "A custom property with name \"15\"");
         taskFieldDescriptionsMap.put("custom16", "A custom property with name \"16\"");
+        taskFieldDescriptionsMap.put("version",
+            "The version of the task. It is incremented with every update. If it is sent with an update, the update "
+                + "fails when the task has been changed in the meantime.");
         taskFieldDescriptionsMap.put("read", "Indicator if the task has been read");
         taskFieldDescriptionsMap.put("transferred", "Indicator if the task has been transferred");
 
@@ -155,6 +158,7 @@ class TaskControllerRestDocumentation extends BaseRestDocumentation {
             fieldWithPath("custom14").description(taskFieldDescriptionsMap.get("custom14")).type("String"),
             fieldWithPath("custom15").description(taskFieldDescriptionsMap.get("custom15")).type("String"),
             fieldWithPath("custom16").description(taskFieldDescriptionsMap.get("custom16")).type("String"),
+            fieldWithPath("version").description(taskFieldDescriptionsMap.get("version")).type("Number"),
             fieldWithPath("_links.self.href").ignored()
         };
 
@@ -211,6 +215,7 @@ class TaskControllerRestDocumentation extends BaseRestDocumentation {
             fieldWithPath("custom14").description(taskFieldDescriptionsMap.get("custom14")),
             fieldWithPath("custom15").description(taskFieldDescriptionsMap.get("custom15")),
             fieldWithPath("custom16").description(taskFieldDescriptionsMap.get("custom16")),
+            fieldWithPath("version").description(taskFieldDescriptionsMap.get("version")),
             fieldWithPath("_links.self.href").ignored()
         };
 
@@ -282,6 +287,7 @@ class TaskControllerRestDocumentation extends BaseRestDocumentation {
             fieldWithPath("custom14").description(taskFieldDescriptionsMap.get("custom14")).type("String").optional(),
             fieldWithPath("custom15").description(taskFieldDescriptionsMap.get("custom15")).type("String").optional(),
             fieldWithPath("custom16").description(taskFieldDescriptionsMap.get("custom16")).type("String").optional(),
+            fieldWithPath("version").description(taskFieldDescriptionsMap.get("version")).type("Number").optional(),
             fieldWithPath("read").description(taskFieldDescriptionsMap.get("read")).type("Boolean").optional(),
             fieldWithPath("transferred").description(taskFieldDescriptionsMap.get("transferred"))
                 .type("Boolean")
@@ -0,0 +1,141 @@
+package pro.taskana.ldap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.rest.resource.AccessIdResource;
+
+/**
+ * Test for the LdapCacheImpl, the LdapClient is replaced by a mock.
+ */
+class LdapCacheImplTest {
+
+    private static final String GROUP_DN = "cn=developersgroup,ou=groups,o=taskanatest";
+    private static final Instant MODIFY_TIMESTAMP = Instant.parse("2019-03-01T10:15:30Z");
+
+    private LdapClient ldapClient;
+    private LdapCacheImpl ldapCache;
+
+    @BeforeEach
+    void setup() {
+        ldapClient = mock(LdapClient.class);
+        when(ldapClient.useLdap()).thenReturn(true);
+        when(ldapClient.loadUsers(isNull(), any())).thenAnswer(invocation -> {
+            invocation.<AtomicReference<Instant>>getArgument(1).set(MODIFY_TIMESTAMP);
+            return Arrays.asList(
+                new AccessIdResource("Hagen, Holger", "teamlead_3"),
+                new AccessIdResource("Behrendt, Maximilian", "max"),
+                new AccessIdResource("Mente, Maximilian", "max_mente"),
+                new AccessIdResource("Martin, Rojas Miguel Angel", "user_1_1"));
+        });
+        Map<AccessIdResource, List<String>> groups = new LinkedHashMap<>();
+        groups.put(new AccessIdResource("developersgroup", GROUP_DN), Arrays.asList("max", "user_1_1"));
+        when(ldapClient.loadGroups(isNull(), any())).thenReturn(groups);
+        ldapCache = new LdapCacheImpl(ldapClient, Duration.ZERO, Duration.ofHours(1));
+    }
+
+    @Test
+    void testStartLoadsTheCacheInTheBackground() throws Exception {
+        ldapCache.start();
+
+        for (int i = 0; i < 100 && !ldapCache.isLoaded(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(ldapCache.isLoaded());
+        assertEquals(Collections.singletonList("teamlead_3"), accessIds(ldapCache.findMatchingAccessId("hol", 50)));
+        ldapCache.stop();
+    }
+
+    @Test
+    void testSearchesArePassedToLdapClientUntilTheCacheIsLoaded() throws Exception {
+        when(ldapClient.searchUsersAndGroups("teamlead_3")).thenReturn(
+            Collections.singletonList(new AccessIdResource("Hagen, Holger", "teamlead_3")));
+
+        assertFalse(ldapCache.isLoaded());
+        assertEquals(Collections.singletonList("teamlead_3"), accessIds(ldapCache.validateAccessId("teamlead_3")));
+        assertEquals(Collections.singletonList("teamlead_3"),
+            accessIds(ldapCache.findMatchingAccessId("teamlead_3", 50)));
+        verify(ldapClient, times(2)).searchUsersAndGroups("teamlead_3");
+    }
+
+    @Test
+    void testFindMatchingAccessIdUsesPrefixesOfWords() throws Exception {
+        ldapCache.refresh();
+        assertEquals(Arrays.asList("max", "max_mente"), accessIds(ldapCache.findMatchingAccessId("maxi", 50)));
+        assertEquals(Collections.singletonList("teamlead_3"), accessIds(ldapCache.findMatchingAccessId("HOL", 50)));
+        assertEquals(Collections.singletonList("max_mente"),
+            accessIds(ldapCache.findMatchingAccessId("maximilian mente", 50)));
+        assertEquals(Collections.singletonList(GROUP_DN), accessIds(ldapCache.findMatchingAccessId("develop", 50)));
+        assertEquals(1, ldapCache.findMatchingAccessId("max", 1).size());
+        verify(ldapClient, never()).searchUsersAndGroups(any());
+    }
+
+    @Test
+    void testMissIsPassedToLdapClient() throws Exception {
+        ldapCache.refresh();
+        when(ldapClient.searchUsersAndGroups("unknown")).thenReturn(
+            Collections.singletonList(new AccessIdResource("Known, Un", "unknown")));
+
+        assertEquals(Collections.singletonList("unknown"), accessIds(ldapCache.findMatchingAccessId("unknown", 50)));
+        verify(ldapClient).searchUsersAndGroups("unknown");
+    }
+
+    @Test
+    void testValidateAccessIdAndFindGroupsOfUser() throws Exception {
+        ldapCache.refresh();
+        assertEquals(1, ldapCache.validateAccessId("USER_1_1").size());
+        assertEquals(1, ldapCache.validateAccessId(GROUP_DN).size());
+
+        List<String> groupsOfUser = accessIds(ldapCache.findGroupsOfUser("user_1_1", 50));
+        assertEquals(Arrays.asList("user_1_1", GROUP_DN), groupsOfUser);
+        verify(ldapClient, never()).searchGroupsofUsersIsMember(any());
+    }
+
+    @Test
+    void testIncrementalRefreshReplacesModifiedEntries() {
+        ldapCache.refresh();
+        doReturn(Collections.singletonList(new AccessIdResource("Hagen-Schulz, Holger", "teamlead_3")))
+            .when(ldapClient).loadUsers(eq(MODIFY_TIMESTAMP), any());
+        Map<AccessIdResource, List<String>> modifiedGroups = new LinkedHashMap<>();
+        modifiedGroups.put(new AccessIdResource("developersgroup", GROUP_DN), Collections.singletonList("max"));
+        when(ldapClient.loadGroups(eq(MODIFY_TIMESTAMP), any())).thenReturn(modifiedGroups);
+
+        // the entries modified since the highest modifyTimestamp of the directory are read, not the local clock
+        ldapCache.refresh();
+
+        assertEquals("Hagen-Schulz, Holger", ldapCache.validateAccessId("teamlead_3").get(0).getName());
+        assertEquals(Collections.singletonList("teamlead_3"), accessIds(ldapCache.findMatchingAccessId("schulz", 50)));
+        assertEquals(1, ldapCache.findMatchingAccessId("develop", 50).size());
+        assertTrue(accessIds(ldapCache.findGroupsOfUser("max", 50)).contains(GROUP_DN));
+        when(ldapClient.useLdap()).thenReturn(false);
+        assertTrue(accessIds(ldapCache.findGroupsOfUser("user_1_1", 50)).stream()
+            .noneMatch(GROUP_DN::equals));
+    }
+
+    private static List<String> accessIds(List<AccessIdResource> resources) {
+        return resources.stream().map(AccessIdResource::getAccessId).collect(Collectors.toList());
+    }
+}
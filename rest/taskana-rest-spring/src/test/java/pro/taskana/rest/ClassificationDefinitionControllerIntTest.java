@@ -38,6 +38,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import pro.taskana.RestHelper;
 import pro.taskana.TaskanaSpringBootTest;
+import pro.taskana.rest.resource.ClassificationImportResultResource;
 import pro.taskana.rest.resource.ClassificationResource;
 import pro.taskana.rest.resource.ClassificationSummaryListResource;
 import pro.taskana.rest.resource.ClassificationSummaryResource;
@@ -113,8 +114,8 @@ class ClassificationDefinitionControllerIntTest {
         List<String> clList = new ArrayList<>();
         clList.add(objMapper.writeValueAsString(classification));
 
-        ResponseEntity<Void> response = importRequest(clList);
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        ResponseEntity<ClassificationImportResultResource> response = importRequest(clList);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
     @Test
@@ -182,8 +183,8 @@ class ClassificationDefinitionControllerIntTest {
         clList.add(c1);
         clList.add(c2);
 
-        ResponseEntity<Void> response = importRequest(clList);
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        ResponseEntity<ClassificationImportResultResource> response = importRequest(clList);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
     @Test
@@ -212,15 +213,17 @@ class ClassificationDefinitionControllerIntTest {
         List<String> clList = new ArrayList<>();
         clList.add(objMapper.writeValueAsString(existingClassification));
 
-        ResponseEntity<Void> response = importRequest(clList);
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        ResponseEntity<ClassificationImportResultResource> response = importRequest(clList);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(0, response.getBody().getCreatedCount());
+        assertEquals(1, response.getBody().getUpdatedCount());
 
         existingClassification.setName("second new Name");
         clList = new ArrayList<>();
         clList.add(objMapper.writeValueAsString(existingClassification));
 
         response = importRequest(clList);
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
 
         ClassificationSummaryResource testClassification = this.getClassificationWithKeyAndDomain("L110107",
             "DOMAIN_A");
@@ -239,8 +242,8 @@ class ClassificationDefinitionControllerIntTest {
         clList.add(objMapper.writeValueAsString(existingClassification));
         clList.add(objMapper.writeValueAsString(newClassification));
 
-        ResponseEntity<Void> response = importRequest(clList);
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        ResponseEntity<ClassificationImportResultResource> response = importRequest(clList);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
 
         ClassificationSummaryResource parentCl = getClassificationWithKeyAndDomain("L11010", "DOMAIN_A");
         ClassificationSummaryResource testNewCl = getClassificationWithKeyAndDomain("newClass", "DOMAIN_A");
@@ -278,8 +281,8 @@ class ClassificationDefinitionControllerIntTest {
         clList.add(c22);
         clList.add(c1);
 
-        ResponseEntity<Void> response = importRequest(clList);
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        ResponseEntity<ClassificationImportResultResource> response = importRequest(clList);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
 
         ClassificationSummaryResource parentCl = getClassificationWithKeyAndDomain("ImportKey6", "DOMAIN_A");
         ClassificationSummaryResource childCl = getClassificationWithKeyAndDomain("ImportKey7", "DOMAIN_A");
@@ -309,8 +312,8 @@ class ClassificationDefinitionControllerIntTest {
         clList.add(parent);
         clList.add(child);
 
-        ResponseEntity<Void> response = importRequest(clList);
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        ResponseEntity<ClassificationImportResultResource> response = importRequest(clList);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
 
         ClassificationSummaryResource rightParentCl = getClassificationWithKeyAndDomain("ImportKey11", "DOMAIN_A");
         ClassificationSummaryResource wrongParentCl = getClassificationWithKeyAndDomain("ImportKey11", "DOMAIN_B");
@@ -341,8 +344,8 @@ class ClassificationDefinitionControllerIntTest {
         clList.add(withNewParent);
         clList.add(withoutParent);
 
-        ResponseEntity<Void> response = importRequest(clList);
-        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        ResponseEntity<ClassificationImportResultResource> response = importRequest(clList);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
         Thread.sleep(10);
         LOGGER.debug("Wait 10 ms to give the system a chance to update");
 
@@ -395,7 +398,7 @@ class ClassificationDefinitionControllerIntTest {
         return response.getBody().getContent().toArray(new ClassificationSummaryResource[1])[0];
     }
 
-    private ResponseEntity<Void> importRequest(List<String> clList) throws IOException {
+    private ResponseEntity<ClassificationImportResultResource> importRequest(List<String> clList) throws IOException {
         LOGGER.debug("Start Import");
         File tmpFile = File.createTempFile("test", ".tmp");
         OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(tmpFile), StandardCharsets.UTF_8);
@@ -411,7 +414,7 @@ class ClassificationDefinitionControllerIntTest {
         HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
         String serverUrl = restHelper.toUrl(Mapping.URL_CLASSIFICATIONDEFINITION);
 
-        return template.postForEntity(serverUrl, requestEntity, Void.class);
+        return template.postForEntity(serverUrl, requestEntity, ClassificationImportResultResource.class);
     }
 
 }
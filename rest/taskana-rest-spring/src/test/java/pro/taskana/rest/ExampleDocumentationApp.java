@@ -20,6 +20,7 @@ import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import pro.taskana.ldap.LdapCache;
 import pro.taskana.ldap.LdapCacheTestImpl;
 import pro.taskana.sampledata.SampleDataGenerator;
 
@@ -68,9 +69,13 @@ public class ExampleDocumentationApp {
         return sampleDataGenerator;
     }
 
+    @Bean
+    public LdapCache ldapCache() {
+        return new LdapCacheTestImpl();
+    }
+
     @PostConstruct
     private void init() throws SQLException {
-        AccessIdController.setLdapCache(new LdapCacheTestImpl());
         sampleDataGenerator.generateSampleData();
     }
 }
@@ -27,7 +27,7 @@ class MappingTest {
         String id = "25";
 
         String mapUrl = UriComponentsBuilder.fromPath(Mapping.URL_TASKS_ID).buildAndExpand(id).toUriString();
-        String buildUrl = linkTo(methodOn(TaskController.class).getTask(id)).toString();
+        String buildUrl = linkTo(methodOn(TaskController.class).getTask(id, null)).toString();
         Assertions.assertEquals(mapUrl, buildUrl);
     }
 }
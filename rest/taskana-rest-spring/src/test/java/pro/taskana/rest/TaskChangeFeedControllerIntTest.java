@@ -0,0 +1,132 @@
+package pro.taskana.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import pro.taskana.RestHelper;
+import pro.taskana.TaskanaSpringBootTest;
+import pro.taskana.rest.resource.TaskChangeListResource;
+import pro.taskana.rest.resource.TaskResource;
+import pro.taskana.sampledata.SampleDataGenerator;
+
+/**
+ * Test TaskChangeFeedController.
+ */
+@TaskanaSpringBootTest
+class TaskChangeFeedControllerIntTest {
+
+    private static final String WORKBASKET_ID = "WBI:100000000000000000000000000000000001";
+
+    @Value("${taskana.schemaName:TASKANA}")
+    public String schemaName;
+
+    @Autowired RestHelper restHelper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private static RestTemplate template;
+
+    @BeforeAll
+    static void init() {
+        template = RestHelper.getRestTemplate();
+    }
+
+    @AfterEach
+    void resetDb() {
+        SampleDataGenerator sampleDataGenerator = new SampleDataGenerator(dataSource, schemaName);
+        sampleDataGenerator.generateSampleData();
+    }
+
+    @Test
+    void testGetChangesReturnsTheChangesAfterTheSequenceNumber() {
+        long latest = getLatestSequenceNumber();
+        TaskResource claimedTask = claimNextTask();
+
+        ResponseEntity<TaskChangeListResource> response = getChanges(latest, 0);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getChanges().size());
+        assertEquals(claimedTask.getTaskId(), response.getBody().getChanges().get(0).getTaskId());
+        assertEquals(response.getBody().getChanges().get(0).getSequenceNumber(),
+            response.getBody().getLastSequenceNumber());
+    }
+
+    @Test
+    void testLongPollReturnsWhenAChangeArrives() throws Exception {
+        long latest = getLatestSequenceNumber();
+        CompletableFuture<ResponseEntity<TaskChangeListResource>> poll = CompletableFuture.supplyAsync(
+            () -> getChanges(latest, 10));
+        Thread.sleep(500);
+        TaskResource claimedTask = claimNextTask();
+
+        ResponseEntity<TaskChangeListResource> response = poll.get(5, TimeUnit.SECONDS);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getChanges().size());
+        assertEquals(claimedTask.getTaskId(), response.getBody().getChanges().get(0).getTaskId());
+    }
+
+    @Test
+    void testLongPollReturnsNoChangesAfterTheWaitTime() {
+        long latest = getLatestSequenceNumber();
+
+        ResponseEntity<TaskChangeListResource> response = getChanges(latest, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().getChanges().isEmpty());
+        assertEquals(latest, response.getBody().getLastSequenceNumber());
+    }
+
+    @Test
+    void testInvalidWaitIsBadRequest() {
+        HttpClientErrorException e = Assertions.assertThrows(HttpClientErrorException.class,
+            () -> getChanges(0, 31));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    private long getLatestSequenceNumber() {
+        long latest = 0;
+        TaskChangeListResource changes;
+        do {
+            changes = getChanges(latest, 0).getBody();
+            latest = changes.getLastSequenceNumber();
+        } while (!changes.getChanges().isEmpty());
+        return latest;
+    }
+
+    private ResponseEntity<TaskChangeListResource> getChanges(long after, long waitSeconds) {
+        return template.exchange(
+            restHelper.toUrl(Mapping.URL_TASK_CHANGES) + "?after=" + after + "&max-results=1000&wait=" + waitSeconds
+                + "&workbasket-id=" + WORKBASKET_ID,
+            HttpMethod.GET, restHelper.defaultRequest(),
+            ParameterizedTypeReference.forType(TaskChangeListResource.class));
+    }
+
+    private TaskResource claimNextTask() {
+        ResponseEntity<TaskResource> response = template.exchange(
+            restHelper.toUrl(Mapping.URL_TASKS_CLAIM_NEXT) + "?workbasket-id=" + WORKBASKET_ID,
+            HttpMethod.POST, restHelper.defaultRequest(),
+            ParameterizedTypeReference.forType(TaskResource.class));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody();
+    }
+}
@@ -1,6 +1,7 @@
 package pro.taskana.rest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -23,7 +24,9 @@ import pro.taskana.RestHelper;
 import pro.taskana.TaskanaSpringBootTest;
 import pro.taskana.rest.resource.DistributionTargetListResource;
 import pro.taskana.rest.resource.DistributionTargetResource;
+import pro.taskana.rest.resource.ProjectedResource;
 import pro.taskana.rest.resource.WorkbasketSummaryListResource;
+import pro.taskana.rest.resource.WorkbasketSummaryProjectionListResource;
 
 /**
  * Test WorkbasketController.
@@ -49,6 +52,21 @@ class WorkbasketControllerIntTest {
         assertNotNull(response.getBody().getLink(Link.REL_SELF));
     }
 
+    @Test
+    void testGetWorkbasketsWithSelectedFields() {
+        ResponseEntity<WorkbasketSummaryProjectionListResource> response = template.exchange(
+            restHelper.toUrl(Mapping.URL_WORKBASKET) + "?fields=workbasketId,key,name", HttpMethod.GET,
+            restHelper.defaultRequest(),
+            ParameterizedTypeReference.forType(WorkbasketSummaryProjectionListResource.class));
+        assertNotNull(response.getBody().getLink(Link.REL_SELF));
+        assertFalse(response.getBody().getContent().isEmpty());
+        for (ProjectedResource workbasket : response.getBody().getContent()) {
+            assertEquals(3, workbasket.getProperties().size());
+            assertNotNull(workbasket.getProperty("workbasketId"));
+            assertNotNull(workbasket.getProperty("key"));
+        }
+    }
+
     @Test
     void testGetAllWorkbasketsBusinessAdminHasOpenPermission() {
         ResponseEntity<WorkbasketSummaryListResource> response = template.exchange(
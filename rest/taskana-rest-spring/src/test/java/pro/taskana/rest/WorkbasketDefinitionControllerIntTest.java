@@ -98,10 +98,12 @@ class WorkbasketDefinitionControllerIntTest {
 
             restHelper.toUrl(Mapping.URL_WORKBASKETDEFIITIONS) + "?domain=DOMAIN_A", HttpMethod.GET,
             restHelper.defaultRequest(),
-            ParameterizedTypeReference.forType(List.class));
+            new ParameterizedTypeReference<List<WorkbasketDefinitionResource>>() {
+
+            });
 
         List<String> list = new ArrayList<>();
-        list.add(objMapper.writeValueAsString(response.getBody().get(0)));
+        list.add(objMapper.writeValueAsString(withoutDistributionTargets(response.getBody())));
         ResponseEntity<Void> responseImport = importRequest(list);
         assertEquals(HttpStatus.NO_CONTENT, responseImport.getStatusCode());
     }
@@ -138,7 +140,7 @@ class WorkbasketDefinitionControllerIntTest {
             });
 
         List<String> list = new ArrayList<>();
-        WorkbasketDefinitionResource wbDef = response.getBody().get(0);
+        WorkbasketDefinitionResource wbDef = withoutDistributionTargets(response.getBody());
         list.add(objMapper.writeValueAsString(wbDef));
         wbDef.getWorkbasket().setKey("new Key for this WB");
         list.add(objMapper.writeValueAsString(wbDef));
@@ -146,6 +148,14 @@ class WorkbasketDefinitionControllerIntTest {
         assertEquals(HttpStatus.NO_CONTENT, responseImport.getStatusCode());
     }
 
+    // the export is ordered by id, a single workbasket can only be imported if it has no distribution targets
+    private WorkbasketDefinitionResource withoutDistributionTargets(List<WorkbasketDefinitionResource> definitions) {
+        return definitions.stream()
+            .filter(definition -> definition.getDistributionTargets().isEmpty())
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("every exported workbasket has distribution targets"));
+    }
+
     private ResponseEntity<Void> importRequest(List<String> clList) throws IOException {
         File tmpFile = File.createTempFile("test", ".tmp");
         FileWriter writer = new FileWriter(tmpFile);
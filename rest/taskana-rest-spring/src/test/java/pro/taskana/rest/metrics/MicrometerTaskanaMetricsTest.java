@@ -0,0 +1,69 @@
+package pro.taskana.rest.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import pro.taskana.metrics.TaskanaMetrics;
+
+/**
+ * Test MicrometerTaskanaMetrics.
+ */
+class MicrometerTaskanaMetricsTest {
+
+    @Test
+    void testMeterIsRegisteredOncePerNameAndTags() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TaskanaMetrics metrics = new MicrometerTaskanaMetrics(registry);
+
+        metrics.recordTime(TaskanaMetrics.STATEMENT, 1000, TaskanaMetrics.TAG_STATEMENT, "findById",
+            TaskanaMetrics.TAG_EXCEPTION, TaskanaMetrics.NO_EXCEPTION);
+        metrics.recordTime(TaskanaMetrics.STATEMENT, 3000, TaskanaMetrics.TAG_EXCEPTION,
+            TaskanaMetrics.NO_EXCEPTION, TaskanaMetrics.TAG_STATEMENT, "findById");
+        metrics.recordTime(TaskanaMetrics.STATEMENT, 2000, TaskanaMetrics.TAG_STATEMENT, "update",
+            TaskanaMetrics.TAG_EXCEPTION, TaskanaMetrics.NO_EXCEPTION);
+        metrics.recordAmount(TaskanaMetrics.BULK_OPERATION_SIZE, 10, TaskanaMetrics.TAG_OPERATION, "deleteTasks");
+        metrics.recordAmount(TaskanaMetrics.BULK_OPERATION_SIZE, 20, TaskanaMetrics.TAG_OPERATION, "deleteTasks");
+
+        Timer timer = registry.get(TaskanaMetrics.STATEMENT).tag(TaskanaMetrics.TAG_STATEMENT, "findById").timer();
+        assertEquals(2, timer.count());
+        assertEquals(2, registry.get(TaskanaMetrics.STATEMENT).timers().size());
+        DistributionSummary summary = registry.get(TaskanaMetrics.BULK_OPERATION_SIZE).summary();
+        assertEquals(2, summary.count());
+        assertEquals(30, summary.totalAmount(), 0.0);
+    }
+
+    @Test
+    void testPercentileHistogramIsOnlyPublishedIfEnabled() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Map<String, Boolean> percentileHistograms = new HashMap<>();
+        registry.config().meterFilter(new MeterFilter() {
+
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                percentileHistograms.put(id.getTag(TaskanaMetrics.TAG_JOB_TYPE), config.isPercentileHistogram());
+                return config;
+            }
+        });
+
+        new MicrometerTaskanaMetrics(registry).recordTime(TaskanaMetrics.JOB, 1000, TaskanaMetrics.TAG_JOB_TYPE,
+            "without");
+        MicrometerTaskanaMetrics metricsWithHistogram = new MicrometerTaskanaMetrics(registry, true);
+        metricsWithHistogram.recordTime(TaskanaMetrics.JOB, 1000, TaskanaMetrics.TAG_JOB_TYPE, "with");
+        metricsWithHistogram.recordTime(TaskanaMetrics.JOB, 1000, TaskanaMetrics.TAG_JOB_TYPE, "with");
+
+        assertEquals(Boolean.FALSE, percentileHistograms.get("without"));
+        assertEquals(Boolean.TRUE, percentileHistograms.get("with"));
+        assertEquals(2, registry.get(TaskanaMetrics.JOB).tag(TaskanaMetrics.TAG_JOB_TYPE, "with").timer().count());
+    }
+}
@@ -0,0 +1,60 @@
+package pro.taskana.rest.metrics;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import pro.taskana.RestHelper;
+import pro.taskana.TaskanaSpringBootTest;
+import pro.taskana.metrics.TaskanaMetrics;
+import pro.taskana.rest.Mapping;
+
+/**
+ * Test TaskanaMetricsEndpoint.
+ */
+@TaskanaSpringBootTest
+class TaskanaMetricsEndpointIntTest {
+
+    private static final String URL_METRICS_ENDPOINT = "/actuator/taskana";
+
+    @Autowired RestHelper restHelper;
+
+    static RestTemplate template = RestHelper.getRestTemplate();
+
+    @Test
+    void testEndpointListsMetricsOfTheEngine() {
+        template.exchange(restHelper.toUrl(Mapping.URL_CLASSIFICATIONS) + "?domain=DOMAIN_A", HttpMethod.GET,
+            restHelper.defaultRequest(), String.class);
+
+        ResponseEntity<Map<String, List<Map<String, Object>>>> response = template.exchange(
+            restHelper.toUrl(URL_METRICS_ENDPOINT), HttpMethod.GET, restHelper.defaultRequest(),
+            new ParameterizedTypeReference<Map<String, List<Map<String, Object>>>>() {
+            });
+        Map<String, List<Map<String, Object>>> metrics = response.getBody();
+        assertNotNull(metrics);
+
+        List<Map<String, Object>> operations = metrics.get(TaskanaMetrics.SERVICE_OPERATION);
+        assertNotNull("service operations are recorded", operations);
+        assertTrue(operations.stream()
+            .map(operation -> (Map<?, ?>) operation.get("tags"))
+            .anyMatch(tags -> "ClassificationService".equals(tags.get(TaskanaMetrics.TAG_SERVICE))));
+        assertFalse("statements are recorded", metrics.get(TaskanaMetrics.STATEMENT).isEmpty());
+        assertNotNull("connection acquisitions are recorded", metrics.get(TaskanaMetrics.CONNECTION_ACQUISITION));
+        for (List<Map<String, Object>> meters : metrics.values()) {
+            for (Map<String, Object> meter : meters) {
+                assertTrue(((Number) meter.get("count")).longValue() > 0);
+            }
+        }
+    }
+
+}